@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2018 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,8 +14,10 @@
 package org.eclipse.pde.api.tools.builder.tests.compatibility;
 
 import org.eclipse.core.runtime.IPath;
+import org.eclipse.pde.api.tools.builder.tests.ApiProblem;
 import org.eclipse.pde.api.tools.internal.problems.ApiProblemFactory;
 import org.eclipse.pde.api.tools.internal.provisional.comparator.IDelta;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IElementDescriptor;
 import org.eclipse.pde.api.tools.internal.provisional.problems.IApiProblem;
 
 import junit.framework.Test;
@@ -88,6 +90,46 @@ public class MissingSinceTagTests extends SinceTagTest {
 		xAddNonVisibleMethod2(false);
 	}
 
+	/**
+	 * Tests adding several members to one compilation unit and an unsupported
+	 * tag to another, so that the since tags and the tags of both units are
+	 * checked in the same pass
+	 */
+	private void xAddMembersAndInvalidTag(boolean incremental) throws Exception {
+		enableUnsupportedTagOptions(true);
+		IPath membersPath = WORKSPACE_CLASSES_PACKAGE_A.append("AddMultipleMembers.java"); //$NON-NLS-1$
+		IPath tagPath = WORKSPACE_CLASSES_PACKAGE_A.append("AddInvalidTag.java"); //$NON-NLS-1$
+		setExpectedProblemIds(new int[] {
+				ApiProblemFactory.createProblemId(IApiProblem.CATEGORY_SINCETAGS, IDelta.FIELD_ELEMENT_TYPE, IApiProblem.SINCE_TAG_MISSING, 0),
+				ApiProblemFactory.createProblemId(IApiProblem.CATEGORY_SINCETAGS, IDelta.METHOD_ELEMENT_TYPE, IApiProblem.SINCE_TAG_MISSING, 0),
+				ApiProblemFactory.createProblemId(IApiProblem.CATEGORY_SINCETAGS, IDelta.METHOD_ELEMENT_TYPE, IApiProblem.SINCE_TAG_MISSING, 0),
+				ApiProblemFactory.createProblemId(IApiProblem.CATEGORY_USAGE, IElementDescriptor.TYPE, IApiProblem.UNSUPPORTED_TAG_USE, IApiProblem.NO_FLAGS) });
+		setExpectedMessageArgs(null);
+		updateWorkspaceFile(membersPath, getUpdateFilePath(membersPath.lastSegment()));
+		updateWorkspaceFile(tagPath, getUpdateFilePath(tagPath.lastSegment()));
+		if (incremental) {
+			incrementalBuild();
+		} else {
+			fullBuild();
+		}
+		expectingNoJDTProblemsFor(membersPath);
+		expectingNoJDTProblemsFor(tagPath);
+		ApiProblem[] memberProblems = getEnv().getProblemsFor(membersPath, null);
+		ApiProblem[] tagProblems = getEnv().getProblemsFor(tagPath, null);
+		ApiProblem[] problems = new ApiProblem[memberProblems.length + tagProblems.length];
+		System.arraycopy(memberProblems, 0, problems, 0, memberProblems.length);
+		System.arraycopy(tagProblems, 0, problems, memberProblems.length, tagProblems.length);
+		assertProblems(problems);
+	}
+
+	public void testAddMembersAndInvalidTagI() throws Exception {
+		xAddMembersAndInvalidTag(true);
+	}
+
+	public void testAddMembersAndInvalidTagF() throws Exception {
+		xAddMembersAndInvalidTag(false);
+	}
+
 	/**
 	 * Tests adding a field
 	 */
@@ -0,0 +1,123 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.builder.tests.performance;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.URIUtil;
+import org.eclipse.pde.api.tools.internal.ApiBaselineManager;
+import org.eclipse.pde.api.tools.internal.BaselineDescription;
+import org.eclipse.pde.api.tools.internal.model.ApiBaseline;
+import org.eclipse.pde.api.tools.internal.model.ApiModelFactory;
+import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
+import org.eclipse.pde.core.target.ITargetDefinition;
+import org.eclipse.pde.core.target.ITargetPlatformService;
+import org.eclipse.pde.core.target.TargetBundle;
+import org.eclipse.test.performance.PerformanceTestCase;
+
+import junit.framework.Test;
+import junit.framework.TestSuite;
+
+/**
+ * Measures the time to restore a persisted API baseline of the bundles of the
+ * workspace target from its XML and from its binary description
+ */
+public class BaselineRestoreTests extends PerformanceTestCase {
+
+	private byte[] fXmlDescription;
+	private byte[] fBinaryDescription;
+
+	public BaselineRestoreTests(String name) {
+		super(name);
+	}
+
+	public static Test suite() {
+		return new TestSuite(BaselineRestoreTests.class);
+	}
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		IApiBaseline baseline = createBaseline();
+		try {
+			Path xml = Files.createTempFile("restore", ".profile"); //$NON-NLS-1$ //$NON-NLS-2$
+			try {
+				ApiBaselineManager.getManager().exportBaselineDescription(baseline, xml);
+				fXmlDescription = Files.readAllBytes(xml);
+			} finally {
+				Files.deleteIfExists(xml);
+			}
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			BaselineDescription.of(baseline).write(out);
+			fBinaryDescription = out.toByteArray();
+		} finally {
+			baseline.dispose();
+		}
+	}
+
+	public void testRestoreXmlDescription() throws Exception {
+		restore(fXmlDescription);
+	}
+
+	public void testRestoreBinaryDescription() throws Exception {
+		restore(fBinaryDescription);
+	}
+
+	private void restore(byte[] description) throws CoreException {
+		// warm up
+		restoreOnce(description);
+		for (int i = 0; i < 10; i++) {
+			startMeasuring();
+			ApiBaseline baseline = restoreOnce(description);
+			stopMeasuring();
+			baseline.dispose();
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	private ApiBaseline restoreOnce(byte[] description) throws CoreException {
+		ApiBaseline baseline = new ApiBaseline("restore"); //$NON-NLS-1$
+		baseline.restoreFrom(new ByteArrayInputStream(description));
+		assertTrue("the baseline should have been restored", baseline.getApiComponents().length > 0); //$NON-NLS-1$
+		return baseline;
+	}
+
+	private IApiBaseline createBaseline() throws CoreException {
+		ITargetPlatformService service = ApiPlugin.getDefault().acquireService(ITargetPlatformService.class);
+		ITargetDefinition definition = service.getWorkspaceTargetDefinition();
+		definition.resolve(new NullProgressMonitor());
+		List<IApiComponent> components = new ArrayList<>();
+		IApiBaseline baseline = ApiModelFactory.newApiBaseline(definition.getName());
+		for (TargetBundle bundle : definition.getBundles()) {
+			if (bundle.getStatus().isOK() && !bundle.isSourceBundle()) {
+				IApiComponent component = ApiModelFactory.newApiComponent(baseline, URIUtil.toFile(bundle.getBundleInfo().getLocation()).getAbsolutePath());
+				if (component != null) {
+					components.add(component);
+				}
+			}
+		}
+		baseline.addApiComponents(components.toArray(new IApiComponent[components.size()]));
+		return baseline;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2018 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -28,6 +28,7 @@ import java.util.stream.Collectors;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.pde.api.tools.internal.BundleVersionRange;
 import org.eclipse.pde.api.tools.internal.RequiredComponentDescription;
+import org.eclipse.pde.api.tools.internal.model.ApiBaseline;
 import org.eclipse.pde.api.tools.internal.provisional.Factory;
 import org.eclipse.pde.api.tools.internal.provisional.IApiAnnotations;
 import org.eclipse.pde.api.tools.internal.provisional.IApiDescription;
@@ -313,4 +314,21 @@ public class ApiBaselineTests {
 		fBaseline.setLocation("new_loc"); //$NON-NLS-1$
 		assertNotNull("The location must not be null", fBaseline.getLocation()); //$NON-NLS-1$
 	}
+
+	/**
+	 * Tests that idle components release their content and create it again
+	 * when they are used
+	 */
+	@Test
+	public void testReleaseIdleComponents() throws Exception {
+		ApiBaseline baseline = (ApiBaseline) fBaseline;
+		IApiComponent component = baseline.getApiComponent(COMPONENT_A);
+		assertNotNull("Missing component.a.A", component.findTypeRoot("component.a.A")); //$NON-NLS-1$ //$NON-NLS-2$
+		long used = System.currentTimeMillis();
+		assertEquals("Nothing should be released when all components were used since", 0, baseline.releaseIdleComponents(0)); //$NON-NLS-1$
+		assertTrue("The component should be released", baseline.releaseIdleComponents(used + 1000) > 0); //$NON-NLS-1$
+		assertEquals("Released components should not be released again", 0, baseline.releaseIdleComponents(used + 1000)); //$NON-NLS-1$
+		assertNotNull("Missing component.a.A after release", component.findTypeRoot("component.a.A")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertNotNull("Missing API description after release", component.getApiDescription()); //$NON-NLS-1$
+	}
 }
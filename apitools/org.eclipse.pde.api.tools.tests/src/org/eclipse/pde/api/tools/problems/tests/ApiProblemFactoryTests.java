@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2013 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -19,6 +19,13 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 import org.eclipse.pde.api.tools.internal.builder.BuilderMessages;
 import org.eclipse.pde.api.tools.internal.problems.ApiProblemFactory;
 import org.eclipse.pde.api.tools.internal.problems.ApiProblemFilter;
@@ -176,6 +183,43 @@ public class ApiProblemFactoryTests extends AbstractApiTest {
 		validateProblem(2, problem);
 	}
 
+	/**
+	 * Tests that messages formatted concurrently with the shared message
+	 * formats are the same as messages formatted sequentially, including the
+	 * type conversion message with its choice format
+	 */
+	@Test
+	public void testGetLocalizedMessageConcurrently() throws Exception {
+		int usageId = ApiProblemFactory.getProblemMessageId(IApiProblem.CATEGORY_USAGE, IElementDescriptor.TYPE, IApiProblem.ILLEGAL_EXTEND, IApiProblem.NO_FLAGS);
+		String[] conversionArgs = new String[] {
+				"x.y.Foo", Integer.toString(IDelta.CLASS_ELEMENT_TYPE), Integer.toString(IDelta.INTERFACE_ELEMENT_TYPE) }; //$NON-NLS-1$
+		String conversion = ApiProblemFactory.getLocalizedMessage(ApiProblemFactory.TYPE_CONVERSION_ID, conversionArgs);
+		assertFalse("the conversion message should be correct", conversion.startsWith(this.fDefaultMessage)); //$NON-NLS-1$
+		assertFalse("the element types should be formatted", conversion.contains("{1}")); //$NON-NLS-1$ //$NON-NLS-2$
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Callable<Boolean>> tasks = new ArrayList<>();
+			for (int i = 0; i < 16; i++) {
+				String arg = "type" + i; //$NON-NLS-1$
+				String expected = ApiProblemFactory.getLocalizedMessage(usageId, new String[] { arg });
+				tasks.add(() -> {
+					for (int j = 0; j < 200; j++) {
+						if (!expected.equals(ApiProblemFactory.getLocalizedMessage(usageId, new String[] { arg }))
+								|| !conversion.equals(ApiProblemFactory.getLocalizedMessage(ApiProblemFactory.TYPE_CONVERSION_ID, conversionArgs))) {
+							return Boolean.FALSE;
+						}
+					}
+					return Boolean.TRUE;
+				});
+			}
+			for (Future<Boolean> result : executor.invokeAll(tasks)) {
+				assertTrue("concurrent messages should be the same as sequential messages", result.get().booleanValue()); //$NON-NLS-1$
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+
 	private void validateProblem(int argumentsSize, IApiProblem apiProblem) {
 		String message = apiProblem.getMessage();
 		assertNotNull("the message should not be null", message); //$NON-NLS-1$
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2018 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -19,11 +19,25 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.pde.api.tools.internal.ApiBaselineManager;
+import org.eclipse.pde.api.tools.internal.BaselineDescription;
+import org.eclipse.pde.api.tools.internal.BaselineDescription.ComponentEntry;
+import org.eclipse.pde.api.tools.internal.model.ApiBaseline;
 import org.eclipse.pde.api.tools.internal.model.ApiModelFactory;
 import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
+import org.eclipse.pde.api.tools.model.tests.TestSuiteHelper;
 import org.eclipse.pde.api.tools.tests.AbstractApiTest;
 import org.junit.After;
 import org.junit.Test;
@@ -199,4 +213,70 @@ public class HeadlessApiBaselineManagerTests extends AbstractApiTest {
 		// stop it again to free the memory from the map
 		fManager.stop();
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Tests that a binary baseline description can be read back with all of
+	 * its entries, including entries without a parent directory
+	 */
+	@Test
+	public void testBinaryDescriptionRoundTrip() throws Exception {
+		List<ComponentEntry> entries = List.of(new ComponentEntry("a", "1.0.0", "/plugins/a_1.0.0.jar"), //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				new ComponentEntry("b", "1.0.0", "/plugins/b_1.0.0"), //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				new ComponentEntry("c", "2.0.0", "c_2.0.0.jar")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		new BaselineDescription("roundtrip", null, entries).write(out); //$NON-NLS-1$
+		ByteArrayInputStream in = new ByteArrayInputStream(out.toByteArray());
+		assertTrue("the description should be recognized as binary", BaselineDescription.isBinary(in)); //$NON-NLS-1$
+		BaselineDescription description = BaselineDescription.read(in);
+		assertEquals("the name should be restored", "roundtrip", description.getName()); //$NON-NLS-1$ //$NON-NLS-2$
+		assertNull("the location should be restored", description.getLocation()); //$NON-NLS-1$
+		assertEquals("the entries should be restored", entries, description.getComponents()); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests that a baseline persisted as XML by an earlier version is restored
+	 * with the same components once migrated to the binary description
+	 */
+	@Test
+	public void testMigrateXmlDescription() throws Exception {
+		File plugins = TestSuiteHelper.getPluginDirectoryPath().append("test-plugins").toFile(); //$NON-NLS-1$
+		IApiBaseline original = TestSuiteHelper.createBaseline("migration", plugins); //$NON-NLS-1$
+		Path xml = Files.createTempFile("migration", ".profile"); //$NON-NLS-1$ //$NON-NLS-2$
+		ApiBaseline fromXml = new ApiBaseline("migration"); //$NON-NLS-1$
+		ApiBaseline fromBinary = new ApiBaseline("migration"); //$NON-NLS-1$
+		try {
+			fManager.exportBaselineDescription(original, xml);
+			try (InputStream stream = Files.newInputStream(xml)) {
+				assertFalse("the XML description should not be recognized as binary", BaselineDescription.isBinary(new BufferedInputStream(stream))); //$NON-NLS-1$
+			}
+			try (InputStream stream = Files.newInputStream(xml)) {
+				fromXml.restoreFrom(stream);
+			}
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			BaselineDescription.of(fromXml).write(out);
+			fromBinary.restoreFrom(new ByteArrayInputStream(out.toByteArray()));
+
+			assertComponentsEqual(original, fromXml);
+			assertComponentsEqual(fromXml, fromBinary);
+		} finally {
+			Files.deleteIfExists(xml);
+			original.dispose();
+			fromXml.dispose();
+			fromBinary.dispose();
+		}
+	}
+
+	private void assertComponentsEqual(IApiBaseline expected, IApiBaseline actual) {
+		IApiComponent[] expectedComponents = expected.getApiComponents();
+		assertTrue("the baseline should not be empty", expectedComponents.length > 0); //$NON-NLS-1$
+		for (IApiComponent component : expectedComponents) {
+			if (component.isSystemComponent()) {
+				continue;
+			}
+			IApiComponent restored = actual.getApiComponent(component.getSymbolicName());
+			assertNotNull("the component " + component.getSymbolicName() + " should be restored", restored); //$NON-NLS-1$ //$NON-NLS-2$
+			assertEquals("the version should be restored", component.getVersion(), restored.getVersion()); //$NON-NLS-1$
+			assertEquals("the location should be restored", component.getLocation(), restored.getLocation()); //$NON-NLS-1$
+		}
+	}
+}
@@ -0,0 +1,22 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package a.since;
+
+/**
+ * @noextend This class is not intended to be subclassed by clients.
+ * @noimplement This tag is not supported on a class.
+ */
+public class AddInvalidTag {
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2021 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,17 +13,19 @@
  *******************************************************************************/
 package org.eclipse.pde.api.tools.internal;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.FileFilter;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -52,6 +54,7 @@ import org.eclipse.core.runtime.preferences.IPreferencesService;
 import org.eclipse.core.runtime.preferences.IScopeContext;
 import org.eclipse.core.runtime.preferences.InstanceScope;
 import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.pde.api.tools.internal.BaselineDescription.ComponentEntry;
 import org.eclipse.pde.api.tools.internal.builder.ApiAnalysisBuilder;
 import org.eclipse.pde.api.tools.internal.builder.ApiAnalysisBuilder.ApiAnalysisJob;
 import org.eclipse.pde.api.tools.internal.builder.ApiAnalysisBuilder.ApiAnalysisJobRule;
@@ -318,8 +321,9 @@ public final class ApiBaselineManager implements IApiBaselineManager, ISaveParti
 	}
 
 	/**
-	 * Persists all of the cached elements to individual xml files named with
-	 * the id of the API baseline
+	 * Persists all of the cached elements to individual binary description
+	 * files named with the id of the API baseline. Baselines restored from an
+	 * XML description are migrated to the binary format when they are saved.
 	 */
 	private void persistStateCache() throws CoreException {
 		if (savelocation == null) {
@@ -349,10 +353,30 @@ public final class ApiBaselineManager implements IApiBaselineManager, ISaveParti
 	}
 
 	/**
-	 * Writes the current state of the {@link IApiBaseline} as XML to the given file
+	 * Writes the current state of the {@link IApiBaseline} as a binary
+	 * {@link BaselineDescription} to the given file
 	 */
 	private void writeBaselineDescription(IApiBaseline baseline, Path file) throws CoreException {
-		Document xml = getProfileXML(baseline);
+		BaselineDescription description = BaselineDescription.of(baseline);
+		try (OutputStream stream = new BufferedOutputStream(Files.newOutputStream(file))) {
+			description.write(stream);
+		} catch (IOException e) {
+			throw new CoreException(Status.error("Error writing profile descrition", e)); //$NON-NLS-1$
+		}
+	}
+
+	/**
+	 * Writes the current state of the {@link IApiBaseline} as XML to the given
+	 * file. The XML description can be read by
+	 * {@link #readBaselineComponents(ApiBaseline, InputStream)} and by earlier
+	 * versions of the API tools.
+	 *
+	 * @param baseline the given API baseline
+	 * @param file the file to write
+	 * @throws CoreException if the description cannot be written
+	 */
+	public void exportBaselineDescription(IApiBaseline baseline, Path file) throws CoreException {
+		Document xml = getProfileXML(BaselineDescription.of(baseline));
 		try {
 			Util.writeDocumentToFile(xml, file);
 		} catch (IOException e) {
@@ -361,52 +385,37 @@ public final class ApiBaselineManager implements IApiBaselineManager, ISaveParti
 	}
 
 	/**
-	 * Returns an XML description of the given baseline.
+	 * Returns an XML description of the given baseline description.
 	 *
-	 * @param baseline the given API baseline
+	 * @param description the description of an API baseline
 	 * @return XML string representation of the given baseline
 	 * @throws CoreException if an exception occurs while retrieving the xml
 	 *             string representation
 	 */
-	private Document getProfileXML(IApiBaseline baseline) throws CoreException {
+	private Document getProfileXML(BaselineDescription description) throws CoreException {
 		Document document = Util.newDocument();
 		Element root = document.createElement(IApiXmlConstants.ELEMENT_APIPROFILE);
 		document.appendChild(root);
-		root.setAttribute(IApiXmlConstants.ATTR_NAME, baseline.getName());
+		root.setAttribute(IApiXmlConstants.ATTR_NAME, description.getName());
 		root.setAttribute(IApiXmlConstants.ATTR_VERSION, IApiXmlConstants.API_PROFILE_CURRENT_VERSION);
-		String location = baseline.getLocation();
+		String location = description.getLocation();
 		if (location != null) {
 			root.setAttribute(IApiXmlConstants.ATTR_LOCATION, location);
 		}
-		Element celement = null;
-		IApiComponent[] components = baseline.getApiComponents();
-		for (IApiComponent component : components) {
-			Set<IApiComponent> allComponentSet = new HashSet<>();
-			// if the baseline has multiple versions, persist all versions
-			Set<IApiComponent> multipleComponents = baseline.getAllApiComponents(component.getSymbolicName());
-			if (multipleComponents.isEmpty()) {
-				// no multiple version - add the current component
-				allComponentSet.add(component);
-			} else {
-				allComponentSet.addAll(multipleComponents);
-			}
-			for (IApiComponent iApiComponent : allComponentSet) {
-				if (!iApiComponent.isSystemComponent()) {
-					celement = document.createElement(IApiXmlConstants.ELEMENT_APICOMPONENT);
-					celement.setAttribute(IApiXmlConstants.ATTR_ID, iApiComponent.getSymbolicName());
-					celement.setAttribute(IApiXmlConstants.ATTR_VERSION, iApiComponent.getVersion());
-					celement.setAttribute(IApiXmlConstants.ATTR_LOCATION, IPath.fromOSString(iApiComponent.getLocation()).toPortableString());
-					root.appendChild(celement);
-				}
-			}
-			// clear the temporary hashset
-			allComponentSet.clear();
+		for (ComponentEntry entry : description.getComponents()) {
+			Element celement = document.createElement(IApiXmlConstants.ELEMENT_APICOMPONENT);
+			celement.setAttribute(IApiXmlConstants.ATTR_ID, entry.id());
+			celement.setAttribute(IApiXmlConstants.ATTR_VERSION, entry.version());
+			celement.setAttribute(IApiXmlConstants.ATTR_LOCATION, entry.location());
+			root.appendChild(celement);
 		}
 		return document;
 	}
 
 	/**
-	 * Restore a baseline from the given input stream (persisted baseline).
+	 * Restore a baseline from the given input stream (persisted baseline). The
+	 * stream may contain a binary {@link BaselineDescription} or an XML
+	 * description.
 	 *
 	 * @param baseline the given baseline to restore
 	 * @param stream   the given input stream
@@ -415,6 +424,47 @@ public final class ApiBaselineManager implements IApiBaselineManager, ISaveParti
 	 */
 	public IApiComponent[] readBaselineComponents(ApiBaseline baseline, InputStream stream) throws CoreException {
 		long start = System.currentTimeMillis();
+		IApiComponent[] restored = null;
+		try {
+			InputStream buffered = new BufferedInputStream(stream);
+			if (BaselineDescription.isBinary(buffered)) {
+				restored = readBaselineComponents(baseline, BaselineDescription.read(buffered));
+			} else {
+				restored = readBaselineXml(baseline, buffered);
+			}
+		} catch (IOException e) {
+			throw new CoreException(Status.error("Error restoring API baseline", e)); //$NON-NLS-1$
+		}
+		if (ApiPlugin.DEBUG_BASELINE_MANAGER) {
+			System.out.println("Time to restore a persisted baseline : " + (System.currentTimeMillis() - start) + "ms"); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		return restored;
+	}
+
+	/**
+	 * Creates the components of the given binary baseline description
+	 */
+	private IApiComponent[] readBaselineComponents(ApiBaseline baseline, BaselineDescription description) throws CoreException {
+		if (description.getLocation() != null) {
+			baseline.setLocation(IPath.fromPortableString(description.getLocation()).toOSString());
+		}
+		List<IApiComponent> components = new ArrayList<>(description.getComponents().size());
+		for (ComponentEntry entry : description.getComponents()) {
+			IApiComponent component = ApiModelFactory.newApiComponent(baseline, IPath.fromPortableString(entry.location()).toOSString());
+			if (component != null) {
+				components.add(component);
+			}
+		}
+		IApiComponent[] restored = components.toArray(new IApiComponent[components.size()]);
+		// Avoid unstable bundle traversal order to simplify our life
+		Arrays.sort(restored, (o1, o2) -> o1.getName().compareTo(o2.getName()));
+		return restored;
+	}
+
+	/**
+	 * Restores the components of a baseline from an XML description
+	 */
+	private IApiComponent[] readBaselineXml(ApiBaseline baseline, InputStream stream) throws CoreException, IOException {
 		DocumentBuilder parser = getConfiguredParser();
 		IApiComponent[] restored = null;
 		try {
@@ -471,12 +521,9 @@ public final class ApiBaselineManager implements IApiBaselineManager, ISaveParti
 				// Avoid unstable bundle traversal order to simplify our life
 				Arrays.sort(restored, (o1, o2) -> o1.getName().compareTo(o2.getName()));
 			}
-		} catch (IOException | SAXException e) {
+		} catch (SAXException e) {
 			throw new CoreException(Status.error("Error restoring API baseline", e)); //$NON-NLS-1$
 		}
-		if (ApiPlugin.DEBUG_BASELINE_MANAGER) {
-			System.out.println("Time to restore a persisted baseline : " + (System.currentTimeMillis() - start) + "ms"); //$NON-NLS-1$ //$NON-NLS-2$
-		}
 		return restored;
 	}
 
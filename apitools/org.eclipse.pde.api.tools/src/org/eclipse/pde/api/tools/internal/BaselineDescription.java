@@ -0,0 +1,239 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
+
+/**
+ * Compact binary description of a persisted API baseline: its name, its
+ * location and the id, version and location of each of its components.
+ * <p>
+ * All strings are stored once in a string table and referenced by index.
+ * Component locations are split into their parent directory and their file
+ * name, so the directory shared by all bundles of a baseline is only stored
+ * once. The description is decoded into plain {@link ComponentEntry} records,
+ * the components themselves are created by the {@link ApiBaselineManager}.
+ * </p>
+ * <p>
+ * The format starts with {@link #MAGIC} followed by {@link #VERSION}, which
+ * allows the manager to tell it apart from the XML description written by
+ * earlier versions.
+ * </p>
+ */
+public final class BaselineDescription {
+
+	/**
+	 * Header of a binary baseline description, <code>APIB</code>
+	 */
+	public static final int MAGIC = 0x41504942;
+
+	/**
+	 * The current version of the format
+	 */
+	public static final int VERSION = 1;
+
+	private static final int NO_STRING = -1;
+
+	/**
+	 * A component of a persisted baseline
+	 *
+	 * @param id the symbolic name of the component
+	 * @param version the version of the component
+	 * @param location the portable path of the component
+	 */
+	public record ComponentEntry(String id, String version, String location) {
+	}
+
+	private final String fName;
+	private final String fLocation;
+	private final List<ComponentEntry> fComponents;
+
+	/**
+	 * Constructor
+	 *
+	 * @param name the name of the baseline
+	 * @param location the portable location of the baseline or
+	 *            <code>null</code>
+	 * @param components the components of the baseline
+	 */
+	public BaselineDescription(String name, String location, List<ComponentEntry> components) {
+		fName = name;
+		fLocation = location;
+		fComponents = components;
+	}
+
+	public String getName() {
+		return fName;
+	}
+
+	/**
+	 * @return the portable location of the baseline or <code>null</code>
+	 */
+	public String getLocation() {
+		return fLocation;
+	}
+
+	public List<ComponentEntry> getComponents() {
+		return fComponents;
+	}
+
+	/**
+	 * Returns the description of the given baseline to persist. All versions
+	 * of the components of the baseline are described, except for system
+	 * components.
+	 *
+	 * @param baseline the given API baseline
+	 * @return the description of the given baseline
+	 */
+	public static BaselineDescription of(IApiBaseline baseline) {
+		List<ComponentEntry> entries = new ArrayList<>();
+		IApiComponent[] components = baseline.getApiComponents();
+		for (IApiComponent component : components) {
+			Set<IApiComponent> allComponentSet = new HashSet<>();
+			// if the baseline has multiple versions, persist all versions
+			Set<IApiComponent> multipleComponents = baseline.getAllApiComponents(component.getSymbolicName());
+			if (multipleComponents.isEmpty()) {
+				// no multiple version - add the current component
+				allComponentSet.add(component);
+			} else {
+				allComponentSet.addAll(multipleComponents);
+			}
+			for (IApiComponent iApiComponent : allComponentSet) {
+				if (!iApiComponent.isSystemComponent()) {
+					entries.add(new ComponentEntry(iApiComponent.getSymbolicName(), iApiComponent.getVersion(), IPath.fromOSString(iApiComponent.getLocation()).toPortableString()));
+				}
+			}
+		}
+		String location = baseline.getLocation();
+		return new BaselineDescription(baseline.getName(), location != null ? IPath.fromOSString(location).toPortableString() : null, entries);
+	}
+
+	/**
+	 * Returns if the given stream starts with a binary baseline description.
+	 * The stream must support {@link InputStream#mark(int)}, it is reset to
+	 * its current position.
+	 */
+	public static boolean isBinary(InputStream stream) throws IOException {
+		stream.mark(4);
+		try {
+			byte[] header = stream.readNBytes(4);
+			return header.length == 4 && ((header[0] & 0xff) << 24 | (header[1] & 0xff) << 16 | (header[2] & 0xff) << 8 | (header[3] & 0xff)) == MAGIC;
+		} finally {
+			stream.reset();
+		}
+	}
+
+	/**
+	 * Writes this description to the given stream. The stream is not closed.
+	 */
+	public void write(OutputStream stream) throws IOException {
+		List<String> strings = new ArrayList<>();
+		Map<String, Integer> indexes = new HashMap<>();
+		int[] entries = new int[fComponents.size() * 4];
+		int i = 0;
+		for (ComponentEntry component : fComponents) {
+			String location = component.location();
+			int separator = location.lastIndexOf('/');
+			entries[i++] = index(component.id(), strings, indexes);
+			entries[i++] = index(component.version(), strings, indexes);
+			entries[i++] = index(separator < 0 ? null : location.substring(0, separator), strings, indexes);
+			entries[i++] = index(location.substring(separator + 1), strings, indexes);
+		}
+		int name = index(fName, strings, indexes);
+		int location = index(fLocation, strings, indexes);
+		DataOutputStream out = new DataOutputStream(stream);
+		out.writeInt(MAGIC);
+		out.writeInt(VERSION);
+		out.writeInt(strings.size());
+		for (String string : strings) {
+			out.writeUTF(string);
+		}
+		out.writeInt(name);
+		out.writeInt(location);
+		out.writeInt(fComponents.size());
+		for (int entry : entries) {
+			out.writeInt(entry);
+		}
+		out.flush();
+	}
+
+	private static int index(String string, List<String> strings, Map<String, Integer> indexes) {
+		if (string == null) {
+			return NO_STRING;
+		}
+		return indexes.computeIfAbsent(string, s -> {
+			strings.add(s);
+			return strings.size() - 1;
+		});
+	}
+
+	/**
+	 * Reads a binary description from the given stream. The stream is not
+	 * closed.
+	 *
+	 * @throws IOException if the stream does not contain a supported binary
+	 *             description
+	 */
+	public static BaselineDescription read(InputStream stream) throws IOException {
+		DataInputStream in = new DataInputStream(stream instanceof BufferedInputStream ? stream : new BufferedInputStream(stream));
+		if (in.readInt() != MAGIC) {
+			throw new IOException("Not a binary baseline description"); //$NON-NLS-1$
+		}
+		int version = in.readInt();
+		if (version != VERSION) {
+			throw new IOException("Unsupported baseline description version: " + version); //$NON-NLS-1$
+		}
+		String[] strings = new String[in.readInt()];
+		for (int i = 0; i < strings.length; i++) {
+			strings[i] = in.readUTF();
+		}
+		String name = string(strings, in.readInt());
+		String location = string(strings, in.readInt());
+		int count = in.readInt();
+		List<ComponentEntry> components = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			String id = string(strings, in.readInt());
+			String componentVersion = string(strings, in.readInt());
+			String directory = string(strings, in.readInt());
+			String file = string(strings, in.readInt());
+			components.add(new ComponentEntry(id, componentVersion, directory == null ? file : directory + '/' + file));
+		}
+		return new BaselineDescription(name, location, components);
+	}
+
+	private static String string(String[] strings, int index) throws IOException {
+		if (index == NO_STRING) {
+			return null;
+		}
+		if (index < 0 || index >= strings.length) {
+			throw new IOException("Corrupt baseline description"); //$NON-NLS-1$
+		}
+		return strings[index];
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2023 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -27,10 +27,19 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.jar.JarFile;
 
 import org.eclipse.core.resources.IFile;
@@ -129,6 +138,42 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 	 */
 	static final String[] NO_TYPES = new String[0];
 
+	/**
+	 * Maximum number of threads used to parse compilation units
+	 */
+	private static final int PARSER_THREADS = Math.min(4, Runtime.getRuntime().availableProcessors());
+
+	/**
+	 * Maximum number of compilation unit ASTs kept at a time. The units are
+	 * parsed and checked in batches of this size, so a large build does not
+	 * hold the ASTs of all of its units.
+	 */
+	private static final int PARSE_BATCH_SIZE = PARSER_THREADS * 2;
+
+	/**
+	 * The worker threads shared by all analyzers to parse compilation units,
+	 * created on first use. Idle threads terminate after a while.
+	 */
+	private static final class ParserExecutor {
+		static final ExecutorService INSTANCE = createParserExecutor();
+
+		private static ExecutorService createParserExecutor() {
+			ThreadPoolExecutor executor = new ThreadPoolExecutor(PARSER_THREADS, PARSER_THREADS, 30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+				Thread thread = new Thread(runnable, "API Analysis Parser"); //$NON-NLS-1$
+				thread.setDaemon(true);
+				return thread;
+			});
+			executor.allowCoreThreadTimeOut(true);
+			return executor;
+		}
+	}
+
+	private record SinceTagCheck(Delta delta, IMember member, IApiComponent component, int nameStart) {
+	}
+
+	private record ParsedUnit(ICompilationUnit unit, CompilationUnit ast, Map<Integer, SinceTagChecker> sinceTagCheckers) {
+	}
+
 	private static class ReexportedBundleVersionInfo {
 		String componentID;
 		int kind;
@@ -149,6 +194,18 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 	 */
 	private List<IDelta> fPendingDeltaInfos = new ArrayList<>(3);
 
+	/**
+	 * The @since tag checks waiting for the AST of their compilation unit
+	 */
+	private Map<ICompilationUnit, List<SinceTagCheck>> fPendingSinceTagChecks = new LinkedHashMap<>();
+
+	/**
+	 * The compilation units waiting for tag validation
+	 */
+	private Set<ICompilationUnit> fPendingTagValidation = new LinkedHashSet<>();
+	private boolean fValidateTags;
+	private boolean fValidateAnnotations;
+
 	/**
 	 * The current build state to use
 	 */
@@ -183,7 +240,7 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 
 	@Override
 	public void analyzeComponent(final BuildState state, final IApiFilterStore filterStore, final Properties preferences, final IApiBaseline baseline, final IApiComponent component, final IBuildContext context, IProgressMonitor monitor) {
-		SubMonitor localMonitor = SubMonitor.convert(monitor, BuilderMessages.BaseApiAnalyzer_analyzing_api, 6);
+		SubMonitor localMonitor = SubMonitor.convert(monitor, BuilderMessages.BaseApiAnalyzer_analyzing_api, 7);
 		try {
 			this.fJavaProject = getJavaProject(component);
 			this.fFilterStore = filterStore;
@@ -288,6 +345,8 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 			checkApiUsage(bcontext, component, localMonitor.split(1));
 			// tag validation
 			checkTagValidation(bcontext, localMonitor.split(1));
+			// pending @since tag checks and tag validation, one AST per unit
+			checkCompilationUnits(localMonitor.split(1));
 			if (checkfilters) {
 				// check for unused filters only if the scans have been done
 				checkUnusedProblemFilters(bcontext, component, localMonitor.split(1));
@@ -305,6 +364,8 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 			if (ApiPlugin.DEBUG_API_ANALYZER) {
 				System.out.println("Trapped OperationCanceledException"); //$NON-NLS-1$
 			}
+		} finally {
+			clearPendingChecks();
 		}
 	}
 
@@ -884,22 +945,144 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 	}
 
 	/**
-	 * Creates and AST for the given {@link ITypeRoot} at the given offset
+	 * Creates an AST for the given {@link ITypeRoot} with Javadoc support.
+	 * Method bodies are not needed by any of the checks run on the AST and are
+	 * not parsed.
 	 */
-	private CompilationUnit createAST(ITypeRoot root, int offset) {
-		if (fJavaProject == null) {
-			return null;
-		}
+	private static CompilationUnit createAST(ITypeRoot root, Map<String, String> options) {
 		ASTParser parser = ASTParser.newParser(AST.getJLSLatest());
-		parser.setFocalPosition(offset);
+		parser.setIgnoreMethodBodies(true);
 		parser.setResolveBindings(false);
 		parser.setSource(root);
-		Map<String, String> options = fJavaProject.getOptions(true);
-		options.put(JavaCore.COMPILER_DOC_COMMENT_SUPPORT, JavaCore.ENABLED);
 		parser.setCompilerOptions(options);
 		return (CompilationUnit) parser.createAST(new NullProgressMonitor());
 	}
 
+	/**
+	 * Parses each compilation unit with pending @since tag checks or tag
+	 * validation once and runs all of its checks on that AST. Independent
+	 * compilation units are parsed on a bounded pool of worker threads, the
+	 * problems are created on the calling thread. The units are processed in
+	 * batches of {@link #PARSE_BATCH_SIZE}, and the ASTs of a batch are dropped
+	 * before the next one is parsed.
+	 */
+	private void checkCompilationUnits(IProgressMonitor monitor) {
+		try {
+			checkPendingCompilationUnits(monitor);
+		} finally {
+			clearPendingChecks();
+		}
+	}
+
+	private void checkPendingCompilationUnits(IProgressMonitor monitor) {
+		Set<ICompilationUnit> units = new LinkedHashSet<>(fPendingSinceTagChecks.keySet());
+		units.addAll(fPendingTagValidation);
+		if (units.isEmpty() || fJavaProject == null) {
+			return;
+		}
+		SubMonitor subMonitor = SubMonitor.convert(monitor, BuilderMessages.BaseApiAnalyzer_checking_since_tags, units.size());
+		Map<String, String> options = fJavaProject.getOptions(true);
+		options.put(JavaCore.COMPILER_DOC_COMMENT_SUPPORT, JavaCore.ENABLED);
+		List<Callable<ParsedUnit>> tasks = new ArrayList<>(units.size());
+		for (ICompilationUnit unit : units) {
+			List<SinceTagCheck> checks = fPendingSinceTagChecks.getOrDefault(unit, Collections.emptyList());
+			List<Integer> nameStarts = new ArrayList<>(checks.size());
+			for (SinceTagCheck check : checks) {
+				nameStarts.add(check.nameStart());
+			}
+			tasks.add(() -> {
+				if (subMonitor.isCanceled()) {
+					return null;
+				}
+				CompilationUnit ast = createAST(unit, options);
+				Map<Integer, SinceTagChecker> checkers = nameStarts.isEmpty() ? Collections.emptyMap() : SinceTagChecker.check(ast, nameStarts);
+				return new ParsedUnit(unit, ast, checkers);
+			});
+		}
+		for (int start = 0; start < tasks.size(); start += PARSE_BATCH_SIZE) {
+			List<ParsedUnit> parsed = parseUnits(tasks.subList(start, Math.min(start + PARSE_BATCH_SIZE, tasks.size())));
+			checkParsedUnits(parsed, subMonitor);
+		}
+	}
+
+	/**
+	 * Reports the @since tag problems of the given parsed units, then validates
+	 * their tags
+	 */
+	private void checkParsedUnits(List<ParsedUnit> parsed, SubMonitor subMonitor) {
+		for (ParsedUnit unit : parsed) {
+			for (SinceTagCheck check : fPendingSinceTagChecks.getOrDefault(unit.unit(), Collections.emptyList())) {
+				SinceTagChecker checker = unit.sinceTagCheckers().get(check.nameStart());
+				if (checker != null) {
+					reportSinceTag(check, checker);
+				}
+			}
+		}
+		for (ParsedUnit unit : parsed) {
+			if (fPendingTagValidation.contains(unit.unit())) {
+				TagValidator tv = new TagValidator(unit.unit(), fValidateTags, fValidateAnnotations);
+				unit.ast().accept(tv);
+				for (IApiProblem tagProblem : tv.getProblems()) {
+					addProblem(tagProblem);
+				}
+			}
+			subMonitor.split(1);
+		}
+	}
+
+	/**
+	 * Forgets the pending @since tag checks and tag validation, so that a
+	 * failed or canceled analysis does not leave them to the next one
+	 */
+	private void clearPendingChecks() {
+		if (fPendingSinceTagChecks != null) {
+			fPendingSinceTagChecks.clear();
+		}
+		if (fPendingTagValidation != null) {
+			fPendingTagValidation.clear();
+		}
+	}
+
+	/**
+	 * Runs the given parse tasks, on worker threads if there is more than one
+	 *
+	 * @return the parsed units in the order of the tasks, without the ones that
+	 *         failed
+	 */
+	private static List<ParsedUnit> parseUnits(List<Callable<ParsedUnit>> tasks) {
+		List<ParsedUnit> parsed = new ArrayList<>(tasks.size());
+		int threads = Math.min(PARSER_THREADS, tasks.size());
+		if (threads <= 1) {
+			for (Callable<ParsedUnit> task : tasks) {
+				try {
+					ParsedUnit unit = task.call();
+					if (unit != null) {
+						parsed.add(unit);
+					}
+				} catch (Exception e) {
+					ApiPlugin.log(e);
+				}
+			}
+			return parsed;
+		}
+		try {
+			for (Future<ParsedUnit> future : ParserExecutor.INSTANCE.invokeAll(tasks)) {
+				try {
+					ParsedUnit unit = future.get();
+					if (unit != null) {
+						parsed.add(unit);
+					}
+				} catch (ExecutionException e) {
+					ApiPlugin.log(e.getCause());
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new OperationCanceledException();
+		}
+		return parsed;
+	}
+
 	/**
 	 * @return the build state to use.
 	 */
@@ -973,6 +1156,14 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 			fPendingDeltaInfos.clear();
 			fPendingDeltaInfos = null;
 		}
+		if (fPendingSinceTagChecks != null) {
+			fPendingSinceTagChecks.clear();
+			fPendingSinceTagChecks = null;
+		}
+		if (fPendingTagValidation != null) {
+			fPendingTagValidation.clear();
+			fPendingTagValidation = null;
+		}
 		if (fBuildState != null) {
 			fBuildState = null;
 		}
@@ -1201,19 +1392,14 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 	}
 
 	/**
-	 * Processes the given {@link ICompilationUnit} for invalid tags
+	 * Queues the given {@link ICompilationUnit} to be processed for invalid
+	 * tags
 	 */
 	private void processType(ICompilationUnit cunit, boolean tags, boolean annotations) {
-		CompilationUnit comp = createAST(cunit, 0);
-		if (comp == null) {
-			return;
-		}
-		TagValidator tv = new TagValidator(cunit, tags, annotations);
-		comp.accept(tv);
-		IApiProblem[] tagProblems = tv.getProblems();
-		for (IApiProblem tagProblem : tagProblems) {
-			addProblem(tagProblem);
-		}
+		// validated together with the pending @since tag checks of the unit
+		fValidateTags = tags;
+		fValidateAnnotations = annotations;
+		fPendingTagValidation.add(cunit);
 	}
 
 	/**
@@ -1533,9 +1719,9 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 	}
 
 	/**
-	 * Processes delta to determine if it needs an @since tag. If it does and
-	 * one is not present or the version of the tag is incorrect, a marker is
-	 * created
+	 * Processes delta to determine if it needs an @since tag. If it does, the
+	 * check is queued until the AST of its compilation unit is available, see
+	 * {@link #checkCompilationUnits(IProgressMonitor)}
 	 */
 	private void checkSinceTags(final Delta delta, final IApiComponent component) {
 		if (ignoreSinceTagCheck(null)) {
@@ -1556,7 +1742,6 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 		} catch (JavaModelException e) {
 			e.printStackTrace();
 		}
-		IApiProblem problem = null;
 		ISourceRange nameRange = null;
 		try {
 			nameRange = member.getNameRange();
@@ -1567,14 +1752,19 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 		if (nameRange == null) {
 			return;
 		}
+		fPendingSinceTagChecks.computeIfAbsent(cunit, unit -> new ArrayList<>()).add(new SinceTagCheck(delta, member, component, nameRange.getOffset()));
+	}
+
+	/**
+	 * Creates a marker if the @since tag found by the given visitor is missing
+	 * or incorrect for the given check
+	 */
+	private void reportSinceTag(SinceTagCheck check, SinceTagChecker visitor) {
+		Delta delta = check.delta();
+		IMember member = check.member();
+		IApiComponent component = check.component();
+		IApiProblem problem = null;
 		try {
-			int offset = nameRange.getOffset();
-			CompilationUnit comp = createAST(cunit, offset);
-			if (comp == null) {
-				return;
-			}
-			SinceTagChecker visitor = new SinceTagChecker(offset);
-			comp.accept(visitor);
 			// we must retrieve the component version from the delta component
 			// id
 			String componentVersionId = delta.getComponentVersionId();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2020 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,7 +13,10 @@
  *******************************************************************************/
 package org.eclipse.pde.api.tools.internal.builder;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.jdt.core.dom.ASTNode;
 import org.eclipse.jdt.core.dom.ASTVisitor;
@@ -29,6 +32,7 @@ import org.eclipse.jdt.core.dom.Initializer;
 import org.eclipse.jdt.core.dom.Javadoc;
 import org.eclipse.jdt.core.dom.MethodDeclaration;
 import org.eclipse.jdt.core.dom.RecordDeclaration;
+import org.eclipse.jdt.core.dom.SimpleName;
 import org.eclipse.jdt.core.dom.TagElement;
 import org.eclipse.jdt.core.dom.TextElement;
 import org.eclipse.jdt.core.dom.TypeDeclaration;
@@ -58,6 +62,90 @@ public class SinceTagChecker extends ASTVisitor {
 		this.nameStart = nameStart;
 	}
 
+	/**
+	 * Checks the declarations whose names start at the given positions in a
+	 * single visit of the given AST.
+	 *
+	 * @param unit the AST of the compilation unit
+	 * @param nameStarts the start positions of the declaration names
+	 * @return the checker holding the result for each of the given positions
+	 */
+	public static Map<Integer, SinceTagChecker> check(CompilationUnit unit, Collection<Integer> nameStarts) {
+		Map<Integer, SinceTagChecker> checkers = new HashMap<>();
+		for (Integer nameStart : nameStarts) {
+			checkers.put(nameStart, new SinceTagChecker(nameStart));
+		}
+		unit.accept(new ASTVisitor() {
+			private int remaining = checkers.size();
+
+			/**
+			 * @return if there are declarations left to check
+			 */
+			private boolean check(BodyDeclaration declaration, SimpleName name) {
+				SinceTagChecker checker = checkers.get(name.getStartPosition());
+				if (checker != null && (checker.bits & ABORT) == 0) {
+					checker.bits |= ABORT;
+					checker.processJavadoc(declaration);
+					remaining--;
+				}
+				return remaining > 0;
+			}
+
+			@Override
+			public boolean visit(TypeDeclaration node) {
+				return check(node, node.getName());
+			}
+
+			@Override
+			public boolean visit(EnumDeclaration node) {
+				return check(node, node.getName());
+			}
+
+			@Override
+			public boolean visit(RecordDeclaration node) {
+				return check(node, node.getName());
+			}
+
+			@Override
+			public boolean visit(AnnotationTypeDeclaration node) {
+				return check(node, node.getName());
+			}
+
+			@Override
+			public boolean visit(FieldDeclaration node) {
+				List<VariableDeclarationFragment> fragments = node.fragments();
+				for (VariableDeclarationFragment fragment : fragments) {
+					check(node, fragment.getName());
+				}
+				return false;
+			}
+
+			@Override
+			public boolean visit(MethodDeclaration node) {
+				check(node, node.getName());
+				return false;
+			}
+
+			@Override
+			public boolean visit(AnnotationTypeMemberDeclaration node) {
+				check(node, node.getName());
+				return false;
+			}
+
+			@Override
+			public boolean visit(EnumConstantDeclaration node) {
+				check(node, node.getName());
+				return false;
+			}
+
+			@Override
+			public boolean visit(Initializer node) {
+				return false;
+			}
+		});
+		return checkers;
+	}
+
 	@Override
 	public boolean visit(CompilationUnit compilationUnit) {
 		return true;
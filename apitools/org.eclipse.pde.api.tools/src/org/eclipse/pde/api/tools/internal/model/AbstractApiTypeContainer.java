@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2017 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -168,6 +168,21 @@ public abstract class AbstractApiTypeContainer extends ApiElement implements IAp
 		return names.toArray(String[]::new);
 	}
 
+	/**
+	 * Closes and drops the {@link IApiTypeContainer}s of this container, they
+	 * are created again the next time they are requested.
+	 */
+	protected synchronized void releaseApiTypeContainers() throws CoreException {
+		if (fApiTypeContainers == null) {
+			return;
+		}
+		try {
+			close();
+		} finally {
+			fApiTypeContainers = null;
+		}
+	}
+
 	/**
 	 * Returns the {@link IApiTypeContainer}s in this container. Creates the
 	 * containers if they are not yet created.
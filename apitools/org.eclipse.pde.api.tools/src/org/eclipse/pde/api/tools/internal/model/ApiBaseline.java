@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2024 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,6 +16,7 @@ package org.eclipse.pde.api.tools.internal.model;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.lang.ref.SoftReference;
 import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -172,6 +173,19 @@ public class ApiBaseline extends ApiElement implements IApiBaseline, IVMInstallC
 
 	private volatile boolean restored;
 
+	/**
+	 * Softly reachable object that is cleared by the garbage collector when
+	 * memory runs low, or after the baseline has been idle for a while. When
+	 * it is found cleared, the components not used since it was created are
+	 * released, see {@link #releaseIdleComponents(long)}.
+	 */
+	private volatile SoftReference<Object> fIdleSentinel = new SoftReference<>(new Object());
+
+	/**
+	 * Creation time of {@link #fIdleSentinel}
+	 */
+	private volatile long fIdleSentinelTime = System.currentTimeMillis();
+
 	/**
 	 * Constructs a new API baseline with the given name.
 	 *
@@ -667,9 +681,56 @@ public class ApiBaseline extends ApiElement implements IApiBaseline, IVMInstallC
 		if (disposed) {
 			return null;
 		}
+		checkIdleComponents();
 		return fComponentsById.get(id);
 	}
 
+	/**
+	 * Releases the components that were not used since the idle sentinel was
+	 * created if the garbage collector has cleared it
+	 */
+	private void checkIdleComponents() {
+		if (fIdleSentinel.get() != null) {
+			return;
+		}
+		long since;
+		synchronized (this) {
+			if (fIdleSentinel.get() != null) {
+				return;
+			}
+			since = fIdleSentinelTime;
+			fIdleSentinelTime = System.currentTimeMillis();
+			fIdleSentinel = new SoftReference<>(new Object());
+		}
+		int released = releaseIdleComponents(since);
+		if (ApiPlugin.DEBUG_BASELINE_MANAGER && released > 0) {
+			System.out.println("Released " + released + " idle components of baseline " + getName()); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+	}
+
+	/**
+	 * Releases the type containers and API descriptions of the binary
+	 * components of this baseline that were not used since the given time.
+	 * The components stay in the baseline and create their content again on
+	 * next use.
+	 *
+	 * @param since time in milliseconds
+	 * @return the number of released components
+	 * @noreference This method is not intended to be referenced by clients.
+	 */
+	public int releaseIdleComponents(long since) {
+		int released = 0;
+		for (IApiComponent component : getAlreadyLoadedApiComponents()) {
+			Set<IApiComponent> versions = fAllComponentsById.get(component.getSymbolicName());
+			for (IApiComponent version : versions != null ? versions : Set.of(component)) {
+				if (version instanceof BundleComponent bundle && bundle.releaseIfIdle(since)) {
+					released++;
+				}
+			}
+		}
+		return released;
+	}
+
 	@Override
 	public Set<IApiComponent> getAllApiComponents(String id) {
 		loadBaselineInfos();
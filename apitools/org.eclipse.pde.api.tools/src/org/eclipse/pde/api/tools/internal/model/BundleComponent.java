@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2024 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -161,6 +161,15 @@ public class BundleComponent extends Component {
 	 */
 	private volatile List<String> fdeclaredRequiredEE;
 
+	/**
+	 * Time of the last request for the API description or the type containers
+	 * of this component, <code>0</code> if they were not requested since they
+	 * were last released
+	 *
+	 * @see #releaseIfIdle(long)
+	 */
+	private volatile long fLastAccess;
+
 	/**
 	 * Constructs a new API component from the specified location in the file
 	 * system in the given baseline.
@@ -899,6 +908,49 @@ public class BundleComponent extends Component {
 		return super.getName();
 	}
 
+	@Override
+	public IApiDescription getApiDescription() throws CoreException {
+		fLastAccess = System.currentTimeMillis();
+		return super.getApiDescription();
+	}
+
+	@Override
+	public IApiTypeContainer[] getApiTypeContainers() throws CoreException {
+		fLastAccess = System.currentTimeMillis();
+		return super.getApiTypeContainers();
+	}
+
+	@Override
+	public IApiTypeContainer[] getApiTypeContainers(String id) throws CoreException {
+		fLastAccess = System.currentTimeMillis();
+		return super.getApiTypeContainers(id);
+	}
+
+	/**
+	 * Releases the type containers and the API description of a binary
+	 * component that was not used since the given time. Only the handle of the
+	 * component (its manifest headers and bundle description) is kept, the
+	 * released content is created again on next use.
+	 *
+	 * @param since time in milliseconds
+	 * @return whether the content of the component was released
+	 */
+	boolean releaseIfIdle(long since) {
+		if (!isBinary() || isDisposed() || fLastAccess == 0 || fLastAccess >= since) {
+			return false;
+		}
+		synchronized (this) {
+			try {
+				releaseApiTypeContainers();
+			} catch (CoreException e) {
+				ApiPlugin.log(e);
+			}
+			releaseApiDescription();
+			fLastAccess = 0;
+		}
+		return true;
+	}
+
 	/**
 	 * Returns this component's bundle description.
 	 *
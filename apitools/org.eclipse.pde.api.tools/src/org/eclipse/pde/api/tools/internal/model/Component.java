@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2010 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -108,6 +108,14 @@ public abstract class Component extends AbstractApiTypeContainer implements IApi
 		return fApiDescription;
 	}
 
+	/**
+	 * Drops the API description of this component, it is created again the
+	 * next time it is requested.
+	 */
+	protected synchronized void releaseApiDescription() {
+		fApiDescription = null;
+	}
+
 	/**
 	 * Returns whether this component has created an API description.
 	 *
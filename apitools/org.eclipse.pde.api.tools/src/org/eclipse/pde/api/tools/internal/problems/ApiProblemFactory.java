@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2021 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -21,8 +21,10 @@ import java.util.Enumeration;
 import java.util.Hashtable;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.MissingResourceException;
 import java.util.ResourceBundle;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.core.resources.IMarker;
 import org.eclipse.jdt.core.IJavaElement;
@@ -45,9 +47,55 @@ public class ApiProblemFactory {
 	public static final int TYPE_CONVERSION_ID = 76;
 
 	/**
-	 * The current mapping of problem id to message
+	 * The message templates of a locale. The template table is immutable, the
+	 * {@link MessageFormat} of a template is parsed the first time a message
+	 * with its id is created and then reused. {@link MessageFormat} is not
+	 * thread-safe, callers synchronize on a format while using it.
 	 */
-	private static Hashtable<Comparable<? extends Object>, String> fMessages = null;
+	private static final class MessageTemplates {
+
+		private final Map<Object, String> fTemplates;
+		private final Map<Integer, MessageFormat> fFormats = new ConcurrentHashMap<>();
+
+		MessageTemplates(Locale locale) {
+			fTemplates = Map.copyOf(loadMessageTemplates(locale));
+		}
+
+		/**
+		 * Returns the parsed format of the given message id or
+		 * <code>null</code> if there is no template for the id
+		 */
+		MessageFormat getFormat(int messageid) {
+			return fFormats.computeIfAbsent(Integer.valueOf(messageid), this::createFormat);
+		}
+
+		private MessageFormat createFormat(Integer messageid) {
+			String pattern = fTemplates.get(messageid);
+			if (pattern == null) {
+				return null;
+			}
+			MessageFormat messageFormat = new MessageFormat(pattern);
+			if (messageid.intValue() == TYPE_CONVERSION_ID) {
+				double[] typeElementTypes = {
+						IDelta.ANNOTATION_ELEMENT_TYPE, IDelta.CLASS_ELEMENT_TYPE,
+						IDelta.ENUM_ELEMENT_TYPE, IDelta.INTERFACE_ELEMENT_TYPE, };
+				String[] typeElementTypesStrings = {
+						fTemplates.get(Util.getDeltaElementType(IDelta.ANNOTATION_ELEMENT_TYPE)),
+						fTemplates.get(Util.getDeltaElementType(IDelta.CLASS_ELEMENT_TYPE)),
+						fTemplates.get(Util.getDeltaElementType(IDelta.ENUM_ELEMENT_TYPE)),
+						fTemplates.get(Util.getDeltaElementType(IDelta.INTERFACE_ELEMENT_TYPE)), };
+				ChoiceFormat choiceFormat = new ChoiceFormat(typeElementTypes, typeElementTypesStrings);
+				messageFormat.setFormatByArgumentIndex(1, choiceFormat);
+				messageFormat.setFormatByArgumentIndex(2, choiceFormat);
+			}
+			return messageFormat;
+		}
+	}
+
+	/**
+	 * The message templates loaded so far, by locale
+	 */
+	private static final Map<Locale, MessageTemplates> fMessages = new ConcurrentHashMap<>(2);
 
 	/**
 	 * Creates a new {@link IApiProblemFilter}
@@ -387,33 +435,20 @@ public class ApiProblemFactory {
 	 *         message
 	 */
 	public static String getLocalizedMessage(int messageid, String[] messageargs) {
-		if (fMessages == null) {
-			fMessages = loadMessageTemplates(Locale.getDefault());
-		}
-		String pattern = fMessages.get(Integer.valueOf(messageid));
-		if (pattern == null) {
+		MessageFormat messageFormat = fMessages.computeIfAbsent(Locale.getDefault(), MessageTemplates::new).getFormat(messageid);
+		if (messageFormat == null) {
 			return MessageFormat.format(BuilderMessages.ApiProblemFactory_problem_message_not_found, Integer.toString(messageid));
 		}
+		Object[] args = messageargs;
 		if (messageid == TYPE_CONVERSION_ID) {
-			MessageFormat messageFormat = new MessageFormat(pattern);
-			double[] typeElementTypes = {
-					IDelta.ANNOTATION_ELEMENT_TYPE, IDelta.CLASS_ELEMENT_TYPE,
-					IDelta.ENUM_ELEMENT_TYPE, IDelta.INTERFACE_ELEMENT_TYPE, };
-			String[] typeElementTypesStrings = {
-					fMessages.get(Util.getDeltaElementType(IDelta.ANNOTATION_ELEMENT_TYPE)),
-					fMessages.get(Util.getDeltaElementType(IDelta.CLASS_ELEMENT_TYPE)),
-					fMessages.get(Util.getDeltaElementType(IDelta.ENUM_ELEMENT_TYPE)),
-					fMessages.get(Util.getDeltaElementType(IDelta.INTERFACE_ELEMENT_TYPE)), };
-			ChoiceFormat choiceFormat = new ChoiceFormat(typeElementTypes, typeElementTypesStrings);
-			messageFormat.setFormatByArgumentIndex(1, choiceFormat);
-			messageFormat.setFormatByArgumentIndex(2, choiceFormat);
-			Object[] args = new Object[messageargs.length];
+			args = new Object[messageargs.length];
 			args[0] = messageargs[0];
 			args[1] = Integer.decode(messageargs[1]);
 			args[2] = Integer.decode(messageargs[2]);
+		}
+		synchronized (messageFormat) {
 			return messageFormat.format(args);
 		}
-		return MessageFormat.format(pattern, (Object[]) messageargs);
 	}
 
 	/**
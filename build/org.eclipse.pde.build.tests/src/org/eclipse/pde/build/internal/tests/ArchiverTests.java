@@ -0,0 +1,228 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which accompanies this distribution,
+ * and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors: Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.pde.build.internal.tests;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.apache.tools.ant.Project;
+import org.apache.tools.ant.taskdefs.Tar;
+import org.apache.tools.ant.taskdefs.Zip;
+import org.apache.tools.tar.TarEntry;
+import org.apache.tools.tar.TarInputStream;
+import org.eclipse.core.resources.IFolder;
+import org.eclipse.pde.build.tests.PDETestCase;
+import org.eclipse.pde.internal.build.packager.ArchiveEngine;
+import org.junit.Test;
+
+/**
+ * Checks that the in-process archiver creates archives with the same content
+ * as the Ant tasks.
+ */
+public class ArchiverTests extends PDETestCase {
+
+	private static final String LONG_NAME = "eclipse/plugins/org.eclipse.long.name_1.0.0/"
+			+ "a/very/long/path/that/does/not/fit/in/the/name/field/of/a/tar/header/file.txt";
+
+	private File createContent(IFolder folder) throws IOException {
+		File root = new File(folder.getLocation().toFile(), "content");
+		write(root, "eclipse/eclipse.ini", "-vmargs\n-Xmx1g\n".getBytes(StandardCharsets.UTF_8));
+		write(root, "eclipse/features/f_1.0.0/feature.xml", "<feature id=\"f\"/>".repeat(500).getBytes(StandardCharsets.UTF_8));
+		byte[] jar = new byte[100000];
+		new Random(42).nextBytes(jar);
+		write(root, "eclipse/plugins/a_1.0.0.jar", jar);
+		write(root, "eclipse/plugins/b_1.0.0/plugin.xml", "<plugin/>".getBytes(StandardCharsets.UTF_8));
+		write(root, "eclipse/plugins/b_1.0.0/empty.txt", new byte[0]);
+		write(root, LONG_NAME, "long".getBytes(StandardCharsets.UTF_8));
+		new File(root, "eclipse/dropins").mkdirs();
+		return root;
+	}
+
+	private static void write(File root, String name, byte[] content) throws IOException {
+		File file = new File(root, name);
+		file.getParentFile().mkdirs();
+		Files.write(file.toPath(), content);
+	}
+
+	private static Map<String, byte[]> readZip(File archive) throws IOException {
+		Map<String, byte[]> entries = new TreeMap<>();
+		try (ZipFile zip = new ZipFile(archive)) {
+			for (Enumeration<? extends ZipEntry> e = zip.entries(); e.hasMoreElements();) {
+				ZipEntry entry = e.nextElement();
+				try (InputStream in = zip.getInputStream(entry)) {
+					entries.put(entry.getName(), in.readAllBytes());
+				}
+			}
+		}
+		return entries;
+	}
+
+	private static Map<String, byte[]> readTarGz(File archive) throws IOException {
+		Map<String, byte[]> entries = new TreeMap<>();
+		try (TarInputStream in = new TarInputStream(new GZIPInputStream(Files.newInputStream(archive.toPath())))) {
+			TarEntry entry;
+			while ((entry = in.getNextEntry()) != null) {
+				String name = entry.getName();
+				if (name.startsWith("./"))
+					name = name.substring(2);
+				if (name.isEmpty())
+					continue;
+				entries.put(name, in.readAllBytes());
+			}
+		}
+		return entries;
+	}
+
+	private static void assertSameContent(Map<String, byte[]> expected, Map<String, byte[]> actual) {
+		assertEquals(expected.keySet(), actual.keySet());
+		for (Map.Entry<String, byte[]> entry : expected.entrySet()) {
+			assertArrayEquals(entry.getKey(), entry.getValue(), actual.get(entry.getKey()));
+		}
+	}
+
+	private static Project newProject() {
+		Project project = new Project();
+		project.init();
+		return project;
+	}
+
+	@Test
+	public void testZipMatchesAntZip() throws Exception {
+		IFolder buildFolder = newTest("archiverZip");
+		File root = createContent(buildFolder);
+		File antArchive = new File(buildFolder.getLocation().toFile(), "ant.zip");
+		File archive = new File(buildFolder.getLocation().toFile(), "inProcess.zip");
+
+		Zip zip = new Zip();
+		zip.setProject(newProject());
+		zip.setDestFile(antArchive);
+		zip.setBasedir(root);
+		zip.execute();
+
+		ArchiveEngine.zip(archive, root, List.of("."));
+
+		assertSameContent(readZip(antArchive), readZip(archive));
+	}
+
+	@Test
+	public void testZipLargeFiles() throws Exception {
+		IFolder buildFolder = newTest("archiverZipLarge");
+		File root = new File(buildFolder.getLocation().toFile(), "content");
+		// larger than the files compressed in memory
+		write(root, "eclipse/large.txt", "<plugin id=\"large\"/>\n".repeat(300000).getBytes(StandardCharsets.UTF_8));
+		byte[] jar = new byte[5 << 20];
+		new Random(42).nextBytes(jar);
+		write(root, "eclipse/plugins/large_1.0.0.jar", jar);
+		write(root, "eclipse/plugins/small.txt", "small".getBytes(StandardCharsets.UTF_8));
+		File antArchive = new File(buildFolder.getLocation().toFile(), "ant.zip");
+		File archive = new File(buildFolder.getLocation().toFile(), "inProcess.zip");
+
+		Zip zip = new Zip();
+		zip.setProject(newProject());
+		zip.setDestFile(antArchive);
+		zip.setBasedir(root);
+		zip.execute();
+
+		ArchiveEngine.zip(archive, root, List.of("."));
+
+		assertSameContent(readZip(antArchive), readZip(archive));
+		try (ZipFile zipFile = new ZipFile(archive)) {
+			assertEquals(ZipEntry.DEFLATED, zipFile.getEntry("eclipse/large.txt").getMethod());
+			assertEquals(ZipEntry.STORED, zipFile.getEntry("eclipse/plugins/large_1.0.0.jar").getMethod());
+		}
+		// the temporary files are deleted
+		assertEquals(List.of("ant.zip", "content", "inProcess.zip"), List.of(buildFolder.getLocation().toFile().list()).stream().sorted().toList());
+	}
+
+	@Test
+	public void testZipUpdate() throws Exception {
+		IFolder buildFolder = newTest("archiverZipUpdate");
+		File root = createContent(buildFolder);
+		File archive = new File(buildFolder.getLocation().toFile(), "inProcess.zip");
+
+		ArchiveEngine.zip(archive, root, List.of("eclipse/plugins"));
+		write(root, "eclipse/plugins/b_1.0.0/plugin.xml", "<plugin id=\"b\"/>".getBytes(StandardCharsets.UTF_8));
+		ArchiveEngine.zip(archive, root, List.of("eclipse/features", "eclipse/plugins/b_1.0.0"));
+
+		Map<String, byte[]> entries = readZip(archive);
+		// the entries of the first zip are copied, the changed file is replaced
+		assertArrayEquals(Files.readAllBytes(new File(root, "eclipse/plugins/a_1.0.0.jar").toPath()), entries.get("eclipse/plugins/a_1.0.0.jar"));
+		assertEquals("<plugin id=\"b\"/>", new String(entries.get("eclipse/plugins/b_1.0.0/plugin.xml"), StandardCharsets.UTF_8));
+		assertTrue(entries.containsKey("eclipse/features/f_1.0.0/feature.xml"));
+		assertFalse(entries.containsKey("eclipse/eclipse.ini"));
+	}
+
+	@Test
+	public void testTarGZipMatchesAntTar() throws Exception {
+		IFolder buildFolder = newTest("archiverTar");
+		File root = createContent(buildFolder);
+		File antArchive = new File(buildFolder.getLocation().toFile(), "ant.tar.gz");
+		File tar = new File(buildFolder.getLocation().toFile(), "inProcess.tar");
+		File archive = new File(buildFolder.getLocation().toFile(), "inProcess.tar.gz");
+
+		Tar antTar = new Tar();
+		antTar.setProject(newProject());
+		antTar.setDestFile(antArchive);
+		antTar.setBasedir(root);
+		Tar.TarLongFileMode longFileMode = new Tar.TarLongFileMode();
+		longFileMode.setValue(Tar.TarLongFileMode.POSIX);
+		antTar.setLongfile(longFileMode);
+		Tar.TarCompressionMethod compression = new Tar.TarCompressionMethod();
+		compression.setValue("gzip");
+		antTar.setCompression(compression);
+		antTar.execute();
+
+		// the packager appends to the archive created by the assembler
+		ArchiveEngine.tar(tar, root, List.of("eclipse/plugins"), false);
+		ArchiveEngine.tar(tar, root, List.of("eclipse/features", "eclipse/dropins", "eclipse/eclipse.ini", "eclipse"), true);
+		ArchiveEngine.gzip(tar, archive);
+
+		Map<String, byte[]> expected = readTarGz(antArchive);
+		Map<String, byte[]> actual = readTarGz(archive);
+		assertSameContent(expected, actual);
+		assertArrayEquals("long".getBytes(StandardCharsets.UTF_8), actual.get(LONG_NAME));
+	}
+
+	@Test
+	public void testUnzip() throws Exception {
+		IFolder buildFolder = newTest("archiverUnzip");
+		File root = createContent(buildFolder);
+		File archive = new File(buildFolder.getLocation().toFile(), "inProcess.zip");
+		File destination = new File(buildFolder.getLocation().toFile(), "extracted");
+
+		ArchiveEngine.zip(archive, root, List.of("."));
+		ArchiveEngine.unzip(archive, destination, List.of("eclipse/features/*", "eclipse/plugins/*"));
+
+		assertArrayEquals(Files.readAllBytes(new File(root, "eclipse/eclipse.ini").toPath()), Files.readAllBytes(new File(destination, "eclipse/eclipse.ini").toPath()));
+		assertTrue(new File(destination, "eclipse/dropins").isDirectory());
+		assertFalse(new File(destination, "eclipse/plugins/a_1.0.0.jar").exists());
+		assertFalse(new File(destination, "eclipse/features/f_1.0.0/feature.xml").exists());
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2020 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which accompanies this distribution,
@@ -16,6 +16,7 @@ package org.eclipse.pde.build.internal.tests;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.junit.Assume.assumeFalse;
@@ -27,6 +28,7 @@ import java.io.FileOutputStream;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.URL;
+import java.nio.file.Files;
 import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -71,7 +73,9 @@ import org.eclipse.pde.internal.build.builder.BuildDirector;
 import org.eclipse.pde.internal.build.site.BuildTimeFeature;
 import org.eclipse.pde.internal.build.site.BuildTimeFeatureFactory;
 import org.eclipse.pde.internal.build.site.BuildTimeSiteFactory;
+import org.eclipse.pde.internal.build.site.FeatureCache;
 import org.eclipse.pde.internal.build.site.QualifierReplacer;
+import org.eclipse.pde.internal.build.tasks.JNLPGeneratorTask;
 import org.junit.Ignore;
 import org.junit.Test;
 import org.osgi.framework.Version;
@@ -2452,4 +2456,148 @@ public class ScriptGenerationTests extends PDETestCase {
 		Utils.storeBuildProperties(second, properties);
 		runBuild(second);
 	}
+
+	@Test
+	public void testFeatureCache() throws Exception {
+		IFolder buildFolder = newTest("featureCache");
+		Utils.generateFeature(buildFolder, "f", null, new String[] { "a", "b" });
+		java.nio.file.Path featureXml = buildFolder.getFile("features/f/feature.xml").getLocation().toPath();
+		File cacheFile = buildFolder.getFile(FeatureCache.CACHE_FILE).getLocation().toFile();
+
+		FeatureCache cache = FeatureCache.getDefault();
+		BuildTimeFeatureFactory factory = new BuildTimeFeatureFactory();
+		cache.open(cacheFile);
+		try {
+			BuildTimeFeature first = factory.parseBuildFeature(featureXml);
+			BuildTimeFeature second = factory.parseBuildFeature(featureXml);
+			// every request gets its own model, the build modifies them
+			assertNotSame(first, second);
+			assertEquals(1, cache.size());
+			assertEquals("f", second.getId());
+			assertEquals(2, second.getRawPluginEntries().length);
+			assertEquals(first.getLocation(), second.getLocation());
+		} finally {
+			cache.close();
+		}
+		assertTrue(cacheFile.isFile());
+
+		// the next build reads the features from the build directory
+		cache.open(cacheFile);
+		try {
+			assertEquals(1, cache.size());
+			BuildTimeFeature restored = factory.parseBuildFeature(featureXml);
+			assertEquals("f", restored.getId());
+			assertEquals(2, restored.getRawPluginEntries().length);
+			assertEquals(1, cache.size());
+		} finally {
+			cache.close();
+		}
+
+		// removed features are dropped from the cache file
+		Files.delete(featureXml);
+		cache.open(cacheFile);
+		try {
+			assertEquals(0, cache.size());
+		} finally {
+			cache.close();
+		}
+		cache.open(cacheFile);
+		try {
+			assertEquals(0, cache.size());
+		} finally {
+			cache.close();
+		}
+	}
+
+	@Test
+	public void testPersistFeatureCacheProperty() throws Exception {
+		IFolder buildFolder = newTest("persistFeatureCache");
+		Utils.generateFeature(buildFolder, "f", null, new String[] { OSGI });
+
+		Properties properties = BuildConfiguration.getScriptGenerationProperties(buildFolder, "feature", "f");
+		generateScripts(buildFolder, properties);
+		assertFalse(buildFolder.getFile(FeatureCache.CACHE_FILE).getLocation().toFile().exists());
+
+		properties.put(IBuildPropertiesConstants.PROPERTY_PERSIST_FEATURE_CACHE, "true");
+		generateScripts(buildFolder, properties);
+		assertTrue(buildFolder.getFile(FeatureCache.CACHE_FILE).getLocation().toFile().isFile());
+	}
+
+	@Test
+	public void testInProcessArchiverProperty() throws Exception {
+		IFolder buildFolder = newTest("inProcessArchiver");
+		Utils.generateFeature(buildFolder, "f", null, new String[] { OSGI });
+
+		Properties properties = BuildConfiguration.getScriptGenerationProperties(buildFolder, "feature", "f");
+		properties.put("configs", "win32,win32,x86");
+		properties.put("archivesFormat", "win32,win32,x86 - zip");
+		generateScripts(buildFolder, properties);
+		IFile assembleScript = buildFolder.getFile("assemble.f.win32.win32.x86.xml");
+		String script = Files.readString(assembleScript.getLocation().toPath());
+		assertTrue(script.contains("<exec executable=\"zip\""));
+		assertFalse(script.contains("<eclipse.archiver"));
+
+		properties.put(IBuildPropertiesConstants.PROPERTY_IN_PROCESS_ARCHIVER, "true");
+		generateScripts(buildFolder, properties);
+		script = Files.readString(assembleScript.getLocation().toPath());
+		assertTrue(script.contains("<eclipse.archiver action=\"zip\""));
+		assertFalse(script.contains("<exec executable=\"zip\""));
+	}
+
+	@Test
+	public void testJNLPGeneratorIncremental() throws Exception {
+		IFolder buildFolder = newTest("jnlpIncremental");
+		File features = buildFolder.getFolder("features").getLocation().toFile();
+		File featureXml = new File(features, "f_1.0.0/feature.xml");
+		featureXml.getParentFile().mkdirs();
+		Files.writeString(featureXml.toPath(),
+				"<feature id=\"f\" version=\"1.0.0\" label=\"F\"><plugin id=\"a\" version=\"1.0.0\"/></feature>");
+		File gSource = buildFolder.getFolder("g").getLocation().toFile();
+		gSource.mkdirs();
+		Files.writeString(new File(gSource, "feature.xml").toPath(),
+				"<feature id=\"g\" version=\"2.0.0\"><includes id=\"f\" version=\"1.0.0\"/></feature>");
+		try (ZipOutputStream jar = new ZipOutputStream(new FileOutputStream(new File(features, "g_2.0.0.jar")))) {
+			jar.putNextEntry(new ZipEntry("feature.xml"));
+			Files.copy(new File(gSource, "feature.xml").toPath(), jar);
+		}
+
+		runJNLPGenerator(features);
+		File fJnlp = new File(features, "f_1.0.0.jnlp");
+		File gJnlp = new File(features, "g_2.0.0.jnlp");
+		assertTrue(Files.readString(fJnlp.toPath()).contains("plugins/a_1.0.0.jar"));
+		assertTrue(Files.readString(gJnlp.toPath()).contains("features/f_1.0.0.jnlp"));
+		assertTrue(new File(features, "jnlpGenerator.state").isFile());
+
+		// unchanged features are skipped
+		Files.writeString(fJnlp.toPath(), "unchanged");
+		runJNLPGenerator(features);
+		assertEquals("unchanged", Files.readString(fJnlp.toPath()));
+
+		// changed features are generated again
+		Files.writeString(featureXml.toPath(),
+				"<feature id=\"f\" version=\"1.0.0\" label=\"F\"><plugin id=\"b\" version=\"1.0.0\"/></feature>");
+		runJNLPGenerator(features);
+		assertTrue(Files.readString(fJnlp.toPath()).contains("plugins/b_1.0.0.jar"));
+
+		// a malformed feature leaves no jnlp file and is not recorded as up to date
+		Files.writeString(featureXml.toPath(), "<feature id=\"f\" version=\"1.0.0\"><plugin id=\"c\" version=\"1.0.0\"");
+		runJNLPGenerator(features);
+		assertFalse(fJnlp.exists());
+		Files.writeString(featureXml.toPath(),
+				"<feature id=\"f\" version=\"1.0.0\" label=\"F\"><plugin id=\"b\" version=\"1.0.0\"/></feature>");
+		runJNLPGenerator(features);
+		assertTrue(Files.readString(fJnlp.toPath()).contains("plugins/b_1.0.0.jar"));
+	}
+
+	private void runJNLPGenerator(File features) {
+		JNLPGeneratorTask task = new JNLPGeneratorTask();
+		Project project = new Project();
+		project.init();
+		task.setProject(project);
+		task.setFeatures(features.getAbsolutePath());
+		task.setIncremental(true);
+		task.setJ2SE("17");
+		task.setCodebase("http://localhost/");
+		task.execute();
+	}
 }
@@ -13,6 +13,7 @@
 
 package org.eclipse.pde.build.tests;
 
+import org.eclipse.pde.build.internal.tests.ArchiverTests;
 import org.eclipse.pde.build.internal.tests.AssembleTests;
 import org.eclipse.pde.build.internal.tests.FetchTests;
 import org.eclipse.pde.build.internal.tests.ProductTests;
@@ -24,6 +25,6 @@ import org.junit.runners.Suite;
 
 @RunWith(Suite.class)
 @Suite.SuiteClasses({ SourceTests.class, ScriptGenerationTests.class, ProductTests.class, LicenseTests.class,
-		AssembleTests.class, P2TestSuite.class, FetchTests.class })
+		AssembleTests.class, ArchiverTests.class, P2TestSuite.class, FetchTests.class })
 public class PDEBuildTestSuite {
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2021 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -57,6 +57,7 @@ import org.eclipse.pde.internal.build.builder.BuildDirector;
 import org.eclipse.pde.internal.build.site.BuildTimeFeature;
 import org.eclipse.pde.internal.build.site.BuildTimeSite;
 import org.eclipse.pde.internal.build.site.BuildTimeSiteFactory;
+import org.eclipse.pde.internal.build.site.FeatureCache;
 import org.eclipse.pde.internal.build.site.PDEState;
 import org.eclipse.pde.internal.build.site.compatibility.SiteManager;
 import org.osgi.framework.Version;
@@ -119,8 +120,13 @@ public abstract class AbstractScriptGenerator implements IXMLConstants, IPDEBuil
 		if (properties == null) {
 			immutableAntProperties = new Properties();
 			BuildDirector.p2Gathering = false;
-		} else
+			FeatureCache.getDefault().close();
+		} else {
 			immutableAntProperties = properties;
+			//the features parsed during the build are cached, and optionally kept in the build directory for the next build
+			boolean persist = getPropertyAsBoolean(IBuildPropertiesConstants.PROPERTY_PERSIST_FEATURE_CACHE) && workingDirectory != null;
+			FeatureCache.getDefault().open(persist ? new File(workingDirectory, FeatureCache.CACHE_FILE) : null);
+		}
 		if (getImmutableAntProperty(IBuildPropertiesConstants.PROPERTY_PACKAGER_MODE) == null) {
 			immutableAntProperties.setProperty(IBuildPropertiesConstants.PROPERTY_PACKAGER_MODE, "false"); //$NON-NLS-1$
 		}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2017 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -23,6 +23,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -526,8 +527,14 @@ public class AssembleConfigScriptGenerator extends AbstractScriptGenerator {
 		script.println("<move file=\"" //$NON-NLS-1$
 				+ Utils.getPropertyFormat(PROPERTY_ARCHIVE_FULLPATH) + "\" tofile=\"" //$NON-NLS-1$
 				+ Utils.getPropertyFormat(PROPERTY_ASSEMBLY_TMP) + '/' + Utils.getPropertyFormat(PROPERTY_COLLECTING_FOLDER) + "/tmp.tar\"/>"); //$NON-NLS-1$
-		script.printGZip(Utils.getPropertyFormat(PROPERTY_ASSEMBLY_TMP) + '/' + Utils.getPropertyFormat(PROPERTY_COLLECTING_FOLDER) + "/tmp.tar", //$NON-NLS-1$ 
-				Utils.getPropertyFormat(PROPERTY_ARCHIVE_FULLPATH));
+		String tarFile = Utils.getPropertyFormat(PROPERTY_ASSEMBLY_TMP) + '/' + Utils.getPropertyFormat(PROPERTY_COLLECTING_FOLDER) + "/tmp.tar"; //$NON-NLS-1$
+		if (useInProcessArchiver()) {
+			Map<String, String> attributes = new LinkedHashMap<>();
+			attributes.put("src", tarFile); //$NON-NLS-1$
+			script.printArchiverTask("gzip", Utils.getPropertyFormat(PROPERTY_ARCHIVE_FULLPATH), attributes); //$NON-NLS-1$
+		} else {
+			script.printGZip(tarFile, Utils.getPropertyFormat(PROPERTY_ARCHIVE_FULLPATH));
+		}
 		script.printTargetEnd();
 	}
 
@@ -848,7 +855,19 @@ public class AssembleConfigScriptGenerator extends AbstractScriptGenerator {
 		return p2Bundles.booleanValue();
 	}
 
+	/**
+	 * Returns whether the archives are created by the <code>eclipse.archiver</code> task
+	 * instead of the zip, tar and gzip commands.
+	 */
+	protected boolean useInProcessArchiver() {
+		return AbstractScriptGenerator.getPropertyAsBoolean(IBuildPropertiesConstants.PROPERTY_IN_PROCESS_ARCHIVER);
+	}
+
 	private void generateZipTarget() {
+		if (useInProcessArchiver()) {
+			generateInProcessZipTarget();
+			return;
+		}
 		final int parameterSize = 15;
 		List<String> parameters = new ArrayList<>(parameterSize + 1);
 
@@ -890,6 +909,31 @@ public class AssembleConfigScriptGenerator extends AbstractScriptGenerator {
 		createZipRootFileCommand();
 	}
 
+	private void generateInProcessZipTarget() {
+		List<String> includes = new ArrayList<>();
+		if (BuildDirector.p2Gathering) {
+			includes.add(Utils.getPropertyFormat(PROPERTY_ARCHIVE_PREFIX));
+		} else {
+			for (BundleDescription plugin : plugins) {
+				includes.add(Utils.getPropertyFormat(PROPERTY_PLUGIN_ARCHIVE_PREFIX) + '/' + (String) shapeAdvisor.getFinalShape(plugin)[0]);
+			}
+			for (BuildTimeFeature feature : features) {
+				includes.add(Utils.getPropertyFormat(PROPERTY_FEATURE_ARCHIVE_PREFIX) + '/' + (String) shapeAdvisor.getFinalShape(feature)[0]);
+			}
+		}
+		Map<String, String> attributes = new LinkedHashMap<>();
+		attributes.put("baseDir", Utils.getPropertyFormat(PROPERTY_ASSEMBLY_TMP)); //$NON-NLS-1$
+		attributes.put("includes", Utils.getStringFromCollection(includes, ",")); //$NON-NLS-1$ //$NON-NLS-2$
+		script.printArchiverTask("zip", Utils.getPropertyFormat(PROPERTY_ARCHIVE_FULLPATH), attributes); //$NON-NLS-1$
+
+		if (!BuildDirector.p2Gathering && rootFileProviders.size() > 0) {
+			attributes.clear();
+			attributes.put("baseDir", Utils.getPropertyFormat(PROPERTY_ECLIPSE_BASE) + '/' + configInfo.toStringReplacingAny(".", ANY_STRING)); //$NON-NLS-1$ //$NON-NLS-2$
+			attributes.put("includes", "."); //$NON-NLS-1$ //$NON-NLS-2$
+			script.printArchiverTask("zip", Utils.getPropertyFormat(PROPERTY_ARCHIVE_FULLPATH), attributes); //$NON-NLS-1$
+		}
+	}
+
 	/**
 	 *  Zip the root files
 	 */
@@ -925,10 +969,19 @@ public class AssembleConfigScriptGenerator extends AbstractScriptGenerator {
 			script.printExecTask("rm", Utils.getPropertyFormat(PROPERTY_BASEDIR), parameters, null); //$NON-NLS-1$
 		}
 		parameters.clear();
-		String tarArgs = assembling ? "-cvf '" : "-rvf '"; //$NON-NLS-1$//$NON-NLS-2$
-		parameters.add(Utils.getPropertyFormat(PROPERTY_TAR_ARGS) + tarArgs + Utils.getPropertyFormat(PROPERTY_ARCHIVE_FULLPATH) + "' " + ((BuildDirector.p2Gathering && productFile == null) ? "." : Utils.getPropertyFormat(PROPERTY_ARCHIVE_PREFIX)) + ' '); //$NON-NLS-1$ //$NON-NLS-2$
+		String content = (BuildDirector.p2Gathering && productFile == null) ? "." : Utils.getPropertyFormat(PROPERTY_ARCHIVE_PREFIX); //$NON-NLS-1$
 		String folder = (BuildDirector.p2Gathering && productFile == null) ? Utils.getPropertyFormat(PROPERTY_ECLIPSE_BASE) : Utils.getPropertyFormat(PROPERTY_ASSEMBLY_TMP);
-		script.printExecTask("tar", folder, parameters, null); //$NON-NLS-1$ 
+		if (useInProcessArchiver()) {
+			Map<String, String> attributes = new LinkedHashMap<>();
+			attributes.put("baseDir", folder); //$NON-NLS-1$
+			attributes.put("includes", content); //$NON-NLS-1$
+			attributes.put("append", Boolean.toString(!assembling)); //$NON-NLS-1$
+			script.printArchiverTask("tar", Utils.getPropertyFormat(PROPERTY_ARCHIVE_FULLPATH), attributes); //$NON-NLS-1$
+		} else {
+			String tarArgs = assembling ? "-cvf '" : "-rvf '"; //$NON-NLS-1$//$NON-NLS-2$
+			parameters.add(Utils.getPropertyFormat(PROPERTY_TAR_ARGS) + tarArgs + Utils.getPropertyFormat(PROPERTY_ARCHIVE_FULLPATH) + "' " + content + ' ');
+			script.printExecTask("tar", folder, parameters, null); //$NON-NLS-1$ 
+		}
 
 		script.printAntCallTask(TARGET_GZIP_RESULTS, true, null);
 
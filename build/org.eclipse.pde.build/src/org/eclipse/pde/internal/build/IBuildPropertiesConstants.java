@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2004, 2011 IBM Corporation and others.
+ * Copyright (c) 2004, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -158,4 +158,6 @@ public interface IBuildPropertiesConstants {
 	public static final String PROPERTY_GENERATE_ECLIPSEPRODUCT = "generateEclipseProduct"; //$NON-NLS-1$
 	public static final String PROPERTY_GENERATED_FEATURE_LABEL = "generatedFeatureLabel"; //$NON-NLS-1$
 	public static final String PROPERTY_FETCH_CACHE = "fetchCacheLocation"; //$NON-NLS-1$
+	public static final String PROPERTY_PERSIST_FEATURE_CACHE = "persistFeatureCache"; //$NON-NLS-1$
+	public static final String PROPERTY_IN_PROCESS_ARCHIVER = "inProcessArchiver"; //$NON-NLS-1$
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2021 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -961,6 +961,25 @@ public class AntScript implements IAntScript {
 		output.println("<gzip src=\"" + getEscaped(source) + "\" zipfile=\"" + getEscaped(destination) + "\"/>"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
 	}
 
+	/**
+	 * Print an <code>eclipse.archiver</code> task to the script. This task creates and
+	 * extracts archives in process instead of running the zip, tar, gzip and unzip commands.
+	 *
+	 * @param action one of <code>zip</code>, <code>tar</code>, <code>gzip</code> or <code>unzip</code>
+	 * @param archive the archive to create, update or extract
+	 * @param attributes the other attributes of the task, <code>null</code> values are not printed
+	 */
+	public void printArchiverTask(String action, String archive, Map<String, String> attributes) {
+		printTab();
+		output.print("<eclipse.archiver"); //$NON-NLS-1$
+		printAttribute("action", action, true); //$NON-NLS-1$
+		printAttribute("archive", archive, true); //$NON-NLS-1$
+		for (Entry<String, String> entry : attributes.entrySet()) {
+			printAttribute(entry.getKey(), entry.getValue(), false);
+		}
+		output.println("/>"); //$NON-NLS-1$
+	}
+
 	/**
 	 * Print a <code> eclipse.convertTask</code> task to the script. This task convert a file path to 
 	 * an Eclipse resource or vice-versa. 
@@ -0,0 +1,697 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 Eclipse contributors and others.
+ *
+ *  This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *      Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.build.packager;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitOption;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * In-process replacement for the <code>zip</code>, <code>tar</code>,
+ * <code>gzip</code> and <code>unzip</code> commands run by the packager
+ * scripts. The archives have the same entries and content as the ones created
+ * by the commands, the work is spread over all processors:
+ * <ul>
+ * <li>the entries of a zip archive are deflated in parallel, files that are
+ * already compressed, like jars, are stored without being deflated again,
+ * large files are deflated to temporary files instead of memory,</li>
+ * <li>when files are added to an existing zip archive, its entries are copied
+ * without being inflated,</li>
+ * <li>gzip compresses blocks of the input in parallel and writes them as
+ * consecutive gzip members, which every gzip reader accepts,</li>
+ * <li>the entries of a zip archive are extracted in parallel.</li>
+ * </ul>
+ * Unix modes and symbolic links are kept where the platform supports them.
+ */
+public final class ArchiveEngine {
+
+	private static final int PARALLELISM = Runtime.getRuntime().availableProcessors();
+	// number of entries or blocks compressed ahead of the writer
+	private static final int WINDOW = PARALLELISM * 4;
+	// bytes of the files compressed in memory ahead of the writer, bounds the memory used
+	private static final long MAX_BUFFERED_BYTES = 64L << 20;
+	// files above this size are not read into memory
+	private static final long LARGE_FILE_SIZE = 4L << 20;
+	private static final int BUFFER_SIZE = 8192;
+	private static final int GZIP_BLOCK_SIZE = 1 << 20;
+	private static final int TAR_BLOCK_SIZE = 512;
+	private static final int TAR_RECORD_SIZE = TAR_BLOCK_SIZE * 20;
+	private static final Set<String> COMPRESSED_EXTENSIONS = Set.of("jar", "zip", "gz", "tgz", "png", "gif", "jpg", "jpeg"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$ //$NON-NLS-7$ //$NON-NLS-8$
+
+	private static final int TYPE_MASK = 0170000;
+	private static final int TYPE_DIRECTORY = 0040000;
+	private static final int TYPE_FILE = 0100000;
+	private static final int TYPE_LINK = 0120000;
+
+	/**
+	 * A file or directory to add to an archive
+	 */
+	private record Source(String name, Path file, int mode) {
+		boolean isDirectory() {
+			return (mode & TYPE_MASK) == TYPE_DIRECTORY;
+		}
+
+		boolean isLink() {
+			return (mode & TYPE_MASK) == TYPE_LINK;
+		}
+	}
+
+	/**
+	 * The data of an entry, either in memory or in a file
+	 *
+	 * @param temporary whether the file is to be deleted once written
+	 */
+	private record Compressed(ZipFormat.Entry entry, byte[] data, int length, Path file, boolean temporary) {
+		Compressed(ZipFormat.Entry entry, byte[] data, int length) {
+			this(entry, data, length, null, false);
+		}
+	}
+
+	private ArchiveEngine() {
+	}
+
+	/**
+	 * Adds files and directories to a zip archive, like
+	 * <code>zip -r archive includes</code> run in the base directory. The
+	 * entries of an existing archive are kept, except the ones replaced by an
+	 * added file.
+	 *
+	 * @param archive the zip archive to create or update
+	 * @param baseDir the directory the included paths are relative to
+	 * @param includes the relative paths of the files and directories to add,
+	 *            <code>.</code> adds the whole content of the base directory
+	 */
+	public static void zip(File archive, File baseDir, Collection<String> includes) throws IOException {
+		List<Source> sources = collect(baseDir.toPath(), includes, true);
+		Set<String> names = new HashSet<>();
+		for (Source source : sources) {
+			names.add(source.name());
+		}
+		Path target = archive.toPath().toAbsolutePath();
+		Files.createDirectories(target.getParent());
+		Path temp = Files.createTempFile(target.getParent(), archive.getName(), ".tmp"); //$NON-NLS-1$
+		Path spillDir = null;
+		ExecutorService executor = Executors.newFixedThreadPool(PARALLELISM);
+		try {
+			spillDir = Files.createTempDirectory(target.getParent(), archive.getName());
+			Path spill = spillDir;
+			try (ZipFormat.Writer writer = new ZipFormat.Writer(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+				if (Files.isRegularFile(target)) {
+					try (FileChannel existing = FileChannel.open(target)) {
+						for (ZipFormat.Entry entry : ZipFormat.readEntries(existing)) {
+							if (!names.contains(entry.name())) {
+								writer.copy(entry, existing);
+							}
+						}
+					}
+				}
+				Deque<Future<Compressed>> pending = new ArrayDeque<>();
+				Deque<Long> pendingSizes = new ArrayDeque<>();
+				long buffered = 0;
+				for (Source source : sources) {
+					long size = source.isDirectory() ? 0 : Files.size(source.file());
+					long bufferedSize = size > LARGE_FILE_SIZE ? 0 : size;
+					while (!pending.isEmpty() && (pending.size() >= WINDOW || buffered + bufferedSize > MAX_BUFFERED_BYTES)) {
+						buffered -= pendingSizes.poll();
+						write(writer, get(pending.poll()));
+					}
+					pending.add(executor.submit(() -> compress(source, size, spill)));
+					pendingSizes.add(bufferedSize);
+					buffered += bufferedSize;
+				}
+				while (!pending.isEmpty()) {
+					write(writer, get(pending.poll()));
+				}
+			}
+			Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+		} finally {
+			executor.shutdownNow();
+			try {
+				// running tasks may still create temporary files
+				executor.awaitTermination(1, TimeUnit.MINUTES);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			if (spillDir != null) {
+				deleteDirectory(spillDir);
+			}
+			Files.deleteIfExists(temp);
+		}
+	}
+
+	private static void write(ZipFormat.Writer writer, Compressed compressed) throws IOException {
+		if (compressed.file() == null) {
+			writer.write(compressed.entry(), compressed.data(), compressed.length());
+			return;
+		}
+		try (InputStream in = Files.newInputStream(compressed.file())) {
+			writer.write(compressed.entry(), in);
+		} finally {
+			if (compressed.temporary()) {
+				Files.deleteIfExists(compressed.file());
+			}
+		}
+	}
+
+	private static void deleteDirectory(Path directory) throws IOException {
+		try (Stream<Path> walk = Files.walk(directory)) {
+			for (Path path : walk.sorted(Comparator.reverseOrder()).toList()) {
+				Files.deleteIfExists(path);
+			}
+		}
+	}
+
+	private static Compressed compress(Source source, long size, Path spillDir) throws IOException {
+		int dosTime = ZipFormat.toDosTime(Files.getLastModifiedTime(source.file()).toMillis());
+		if (source.isDirectory()) {
+			return new Compressed(new ZipFormat.Entry(source.name(), ZipFormat.METHOD_STORED, 0, 0, 0, dosTime, source.mode(), 0), new byte[0], 0);
+		}
+		if (size > LARGE_FILE_SIZE) {
+			return compressLarge(source, dosTime, spillDir);
+		}
+		byte[] content = Files.readAllBytes(source.file());
+		CRC32 crc = new CRC32();
+		crc.update(content);
+		if (!isCompressed(source.name())) {
+			byte[] deflated = deflate(content, 0, content.length);
+			if (deflated.length < content.length) {
+				return new Compressed(new ZipFormat.Entry(source.name(), ZipFormat.METHOD_DEFLATED, crc.getValue(), deflated.length, content.length, dosTime, source.mode(), 0), deflated, deflated.length);
+			}
+		}
+		return new Compressed(new ZipFormat.Entry(source.name(), ZipFormat.METHOD_STORED, crc.getValue(), content.length, content.length, dosTime, source.mode(), 0), content, content.length);
+	}
+
+	/**
+	 * Compresses a file without reading it into memory. The deflated data is
+	 * written to a temporary file, stored data is read from the file itself
+	 * when the entry is written.
+	 */
+	private static Compressed compressLarge(Source source, int dosTime, Path spillDir) throws IOException {
+		boolean deflate = !isCompressed(source.name());
+		Path deflated = deflate ? Files.createTempFile(spillDir, "entry", ".tmp") : null; //$NON-NLS-1$ //$NON-NLS-2$
+		Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+		CRC32 crc = new CRC32();
+		long size = 0;
+		try (InputStream in = Files.newInputStream(source.file()); OutputStream out = deflate ? new DeflaterOutputStream(new BufferedOutputStream(Files.newOutputStream(deflated)), deflater, BUFFER_SIZE) : OutputStream.nullOutputStream()) {
+			byte[] buffer = new byte[BUFFER_SIZE];
+			int count;
+			while ((count = in.read(buffer)) > 0) {
+				crc.update(buffer, 0, count);
+				out.write(buffer, 0, count);
+				size += count;
+			}
+		} finally {
+			deflater.end();
+		}
+		if (deflate) {
+			long compressedSize = Files.size(deflated);
+			if (compressedSize < size) {
+				return new Compressed(new ZipFormat.Entry(source.name(), ZipFormat.METHOD_DEFLATED, crc.getValue(), compressedSize, size, dosTime, source.mode(), 0), null, 0, deflated, true);
+			}
+			Files.delete(deflated);
+		}
+		return new Compressed(new ZipFormat.Entry(source.name(), ZipFormat.METHOD_STORED, crc.getValue(), size, size, dosTime, source.mode(), 0), null, 0, source.file(), false);
+	}
+
+	private static boolean isCompressed(String name) {
+		int dot = name.lastIndexOf('.');
+		return dot > name.lastIndexOf('/') && COMPRESSED_EXTENSIONS.contains(name.substring(dot + 1).toLowerCase(Locale.ENGLISH));
+	}
+
+	private static byte[] deflate(byte[] content, int offset, int length) {
+		Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+		try {
+			deflater.setInput(content, offset, length);
+			deflater.finish();
+			ByteArrayOutputStream out = new ByteArrayOutputStream(length / 2 + 64);
+			byte[] buffer = new byte[8192];
+			while (!deflater.finished()) {
+				int count = deflater.deflate(buffer);
+				out.write(buffer, 0, count);
+			}
+			return out.toByteArray();
+		} finally {
+			deflater.end();
+		}
+	}
+
+	/**
+	 * Adds files and directories to an uncompressed tar archive, like
+	 * <code>tar -cf archive includes</code> run in the base directory, or
+	 * <code>tar -rf</code> when appending. Symbolic links are stored as links.
+	 *
+	 * @param archive the tar archive to create or append to
+	 * @param baseDir the directory the included paths are relative to
+	 * @param includes the relative paths of the files and directories to add,
+	 *            <code>.</code> adds the whole content of the base directory
+	 * @param append whether to append to an existing archive
+	 */
+	public static void tar(File archive, File baseDir, Collection<String> includes, boolean append) throws IOException {
+		List<Source> sources = collect(baseDir.toPath(), includes, false);
+		Files.createDirectories(archive.toPath().toAbsolutePath().getParent());
+		long start = append && archive.isFile() ? findTarEnd(archive) : 0;
+		try (FileChannel channel = FileChannel.open(archive.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+			channel.truncate(start);
+			channel.position(start);
+			OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel));
+			long written = start;
+			for (Source source : sources) {
+				written += writeTarEntry(out, source);
+			}
+			// two empty blocks end the archive, padded to a full record like tar does
+			long end = written + 2 * TAR_BLOCK_SIZE;
+			long padded = (end + TAR_RECORD_SIZE - 1) / TAR_RECORD_SIZE * TAR_RECORD_SIZE;
+			out.write(new byte[(int) (padded - written)]);
+			out.flush();
+		}
+	}
+
+	private static long findTarEnd(File archive) throws IOException {
+		try (RandomAccessFile file = new RandomAccessFile(archive, "r")) { //$NON-NLS-1$
+			byte[] header = new byte[TAR_BLOCK_SIZE];
+			long position = 0;
+			while (position + TAR_BLOCK_SIZE <= file.length()) {
+				file.seek(position);
+				file.readFully(header);
+				if (isZero(header)) {
+					return position;
+				}
+				long size = parseOctal(header, 124, 12);
+				position += TAR_BLOCK_SIZE + (size + TAR_BLOCK_SIZE - 1) / TAR_BLOCK_SIZE * TAR_BLOCK_SIZE;
+			}
+			return Math.min(position, file.length());
+		}
+	}
+
+	private static boolean isZero(byte[] block) {
+		for (byte b : block) {
+			if (b != 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static long parseOctal(byte[] header, int offset, int length) {
+		long value = 0;
+		for (int i = offset; i < offset + length; i++) {
+			byte b = header[i];
+			if (b >= '0' && b <= '7') {
+				value = value * 8 + (b - '0');
+			} else if (b != ' ' || value != 0) {
+				break;
+			}
+		}
+		return value;
+	}
+
+	private static long writeTarEntry(OutputStream out, Source source) throws IOException {
+		long mtime = Files.getLastModifiedTime(source.file(), LinkOption.NOFOLLOW_LINKS).toMillis() / 1000;
+		String name = source.name();
+		String link = source.isLink() ? Files.readSymbolicLink(source.file()).toString().replace(File.separatorChar, '/') : ""; //$NON-NLS-1$
+		long size = source.isDirectory() || source.isLink() ? 0 : Files.size(source.file());
+		char type = source.isDirectory() ? '5' : source.isLink() ? '2' : '0';
+		long written = 0;
+		byte[] nameBytes = name.getBytes(StandardCharsets.UTF_8);
+		byte[] linkBytes = link.getBytes(StandardCharsets.UTF_8);
+		if (nameBytes.length > 100 || linkBytes.length > 100) {
+			// long names are stored in a pax extended header
+			StringBuilder records = new StringBuilder();
+			if (nameBytes.length > 100) {
+				records.append(paxRecord("path", name)); //$NON-NLS-1$
+			}
+			if (linkBytes.length > 100) {
+				records.append(paxRecord("linkpath", link)); //$NON-NLS-1$
+			}
+			byte[] data = records.toString().getBytes(StandardCharsets.UTF_8);
+			// like ant and gnu tar, the name of the pax header must not look like a directory
+			String paxName = truncateEnd("./PaxHeaders.X/" + name, 100); //$NON-NLS-1$
+			while (paxName.endsWith("/")) { //$NON-NLS-1$
+				paxName = paxName.substring(0, paxName.length() - 1);
+			}
+			written += writeTarHeader(out, paxName, 'x', data.length, mtime, 0644, ""); //$NON-NLS-1$
+			out.write(data);
+			written += pad(out, data.length);
+		}
+		written += writeTarHeader(out, truncate(name, 100), type, size, mtime, source.mode() & 07777, truncate(link, 100));
+		if (size > 0) {
+			try (InputStream in = Files.newInputStream(source.file())) {
+				long copied = in.transferTo(out);
+				if (copied != size) {
+					throw new IOException("File changed while archiving: " + source.file()); //$NON-NLS-1$
+				}
+			}
+			written += size + pad(out, size);
+		}
+		return written;
+	}
+
+	private static String paxRecord(String key, String value) {
+		// the length of a record includes the digits of the length itself
+		int length = (" " + key + '=' + value + '\n').getBytes(StandardCharsets.UTF_8).length; //$NON-NLS-1$
+		int total = length + Integer.toString(length).length();
+		if (Integer.toString(total).length() != Integer.toString(length).length()) {
+			total = length + Integer.toString(total).length();
+		}
+		return total + " " + key + '=' + value + '\n'; //$NON-NLS-1$
+	}
+
+	private static String truncate(String value, int maxBytes) {
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		if (bytes.length <= maxBytes) {
+			return value;
+		}
+		return new String(bytes, bytes.length - maxBytes, maxBytes, StandardCharsets.UTF_8);
+	}
+
+	private static String truncateEnd(String value, int maxBytes) {
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		if (bytes.length <= maxBytes) {
+			return value;
+		}
+		return new String(bytes, 0, maxBytes, StandardCharsets.UTF_8);
+	}
+
+	private static int writeTarHeader(OutputStream out, String name, char type, long size, long mtime, int mode, String link) throws IOException {
+		byte[] header = new byte[TAR_BLOCK_SIZE];
+		putString(header, 0, 100, name);
+		putOctal(header, 100, 8, mode);
+		putOctal(header, 108, 8, 0);
+		putOctal(header, 116, 8, 0);
+		putOctal(header, 124, 12, size);
+		putOctal(header, 136, 12, mtime);
+		for (int i = 148; i < 156; i++) {
+			header[i] = ' ';
+		}
+		header[156] = (byte) type;
+		putString(header, 157, 100, link);
+		putString(header, 257, 6, "ustar"); //$NON-NLS-1$
+		header[263] = '0';
+		header[264] = '0';
+		int checksum = 0;
+		for (byte b : header) {
+			checksum += b & 0xFF;
+		}
+		putOctal(header, 148, 7, checksum);
+		out.write(header);
+		return TAR_BLOCK_SIZE;
+	}
+
+	private static void putString(byte[] header, int offset, int length, String value) {
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		System.arraycopy(bytes, 0, header, offset, Math.min(bytes.length, length));
+	}
+
+	private static void putOctal(byte[] header, int offset, int length, long value) throws IOException {
+		String octal = Long.toOctalString(value);
+		if (octal.length() > length - 1) {
+			throw new IOException("Value too large for a tar header: " + value); //$NON-NLS-1$
+		}
+		int padding = length - 1 - octal.length();
+		for (int i = 0; i < padding; i++) {
+			header[offset + i] = '0';
+		}
+		putString(header, offset + padding, octal.length(), octal);
+		header[offset + length - 1] = 0;
+	}
+
+	private static int pad(OutputStream out, long size) throws IOException {
+		int padding = (int) ((TAR_BLOCK_SIZE - size % TAR_BLOCK_SIZE) % TAR_BLOCK_SIZE);
+		out.write(new byte[padding]);
+		return padding;
+	}
+
+	/**
+	 * Compresses a file with gzip, like the Ant <code>gzip</code> task. Blocks
+	 * of the file are compressed in parallel and written as consecutive gzip
+	 * members.
+	 */
+	public static void gzip(File source, File target) throws IOException {
+		ExecutorService executor = Executors.newFixedThreadPool(PARALLELISM);
+		try (InputStream in = Files.newInputStream(source.toPath()); OutputStream out = new BufferedOutputStream(Files.newOutputStream(target.toPath()))) {
+			Deque<Future<byte[]>> pending = new ArrayDeque<>();
+			boolean empty = true;
+			byte[] block;
+			while ((block = in.readNBytes(GZIP_BLOCK_SIZE)).length > 0) {
+				byte[] data = block;
+				empty = false;
+				pending.add(executor.submit(() -> gzipMember(data)));
+				if (pending.size() >= WINDOW) {
+					out.write(get(pending.poll()));
+				}
+			}
+			while (!pending.isEmpty()) {
+				out.write(get(pending.poll()));
+			}
+			if (empty) {
+				out.write(gzipMember(new byte[0]));
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private static byte[] gzipMember(byte[] data) {
+		byte[] deflated = deflate(data, 0, data.length);
+		CRC32 crc = new CRC32();
+		crc.update(data);
+		byte[] member = new byte[10 + deflated.length + 8];
+		member[0] = (byte) 0x1f;
+		member[1] = (byte) 0x8b;
+		member[2] = Deflater.DEFLATED;
+		member[9] = (byte) 0xff; // unknown operating system
+		System.arraycopy(deflated, 0, member, 10, deflated.length);
+		putInt(member, 10 + deflated.length, (int) crc.getValue());
+		putInt(member, 14 + deflated.length, data.length);
+		return member;
+	}
+
+	private static void putInt(byte[] bytes, int offset, int value) {
+		bytes[offset] = (byte) value;
+		bytes[offset + 1] = (byte) (value >> 8);
+		bytes[offset + 2] = (byte) (value >> 16);
+		bytes[offset + 3] = (byte) (value >> 24);
+	}
+
+	/**
+	 * Extracts a zip archive, like <code>unzip -o archive -x excludes</code>
+	 * run in the destination directory. Existing files are overwritten.
+	 *
+	 * @param archive the zip archive to extract
+	 * @param destDir the directory to extract to
+	 * @param excludes patterns of entries not to extract, <code>*</code>
+	 *            matches any sequence of characters including <code>/</code>
+	 */
+	public static void unzip(File archive, File destDir, Collection<String> excludes) throws IOException {
+		List<Pattern> excluded = new ArrayList<>(excludes.size());
+		for (String exclude : excludes) {
+			excluded.add(Pattern.compile(Pattern.quote(exclude).replace("*", "\\E.*\\Q").replace("?", "\\E.\\Q"))); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+		}
+		Path destination = destDir.toPath().toAbsolutePath().normalize();
+		List<ZipFormat.Entry> entries;
+		try (FileChannel channel = FileChannel.open(archive.toPath())) {
+			entries = ZipFormat.readEntries(channel);
+		}
+		ExecutorService executor = Executors.newFixedThreadPool(PARALLELISM);
+		try (ZipFile zip = new ZipFile(archive)) {
+			List<Future<Void>> tasks = new ArrayList<>();
+			for (ZipFormat.Entry entry : entries) {
+				if (isExcluded(entry.name(), excluded)) {
+					continue;
+				}
+				Path target = destination.resolve(entry.name()).normalize();
+				if (!target.startsWith(destination)) {
+					throw new IOException("Entry outside of the destination: " + entry.name()); //$NON-NLS-1$
+				}
+				if (entry.isDirectory()) {
+					Files.createDirectories(target);
+					continue;
+				}
+				tasks.add(executor.submit(() -> {
+					extract(zip, entry, target);
+					return null;
+				}));
+			}
+			for (Future<Void> task : tasks) {
+				get(task);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+		// directory modes last, a read-only directory could not be filled
+		for (ZipFormat.Entry entry : entries) {
+			if (entry.isDirectory() && entry.mode() != 0 && !isExcluded(entry.name(), excluded)) {
+				setMode(destination.resolve(entry.name()), entry.mode());
+			}
+		}
+	}
+
+	private static boolean isExcluded(String name, List<Pattern> excluded) {
+		for (Pattern pattern : excluded) {
+			if (pattern.matcher(name).matches()) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static void extract(ZipFile zip, ZipFormat.Entry entry, Path target) throws IOException {
+		ZipEntry zipEntry = zip.getEntry(entry.name());
+		if (zipEntry == null) {
+			throw new FileNotFoundException(entry.name());
+		}
+		Files.createDirectories(target.getParent());
+		try (InputStream in = zip.getInputStream(zipEntry)) {
+			if ((entry.mode() & TYPE_MASK) == TYPE_LINK && supportsPosix(target.getParent())) {
+				Path link = Path.of(new String(in.readAllBytes(), StandardCharsets.UTF_8));
+				Files.deleteIfExists(target);
+				Files.createSymbolicLink(target, link);
+				return;
+			}
+			Files.copy(in, target, StandardCopyOption.REPLACE_EXISTING);
+		}
+		if (entry.mode() != 0) {
+			setMode(target, entry.mode());
+		}
+	}
+
+	private static boolean supportsPosix(Path path) {
+		return Files.getFileAttributeView(path, PosixFileAttributeView.class) != null;
+	}
+
+	private static void setMode(Path path, int mode) throws IOException {
+		if (!supportsPosix(path)) {
+			return;
+		}
+		Set<PosixFilePermission> permissions = new HashSet<>();
+		PosixFilePermission[] values = PosixFilePermission.values();
+		// OWNER_READ is 0400, values are ordered from the highest bit down
+		for (int i = 0; i < values.length; i++) {
+			if ((mode & (1 << (values.length - 1 - i))) != 0) {
+				permissions.add(values[i]);
+			}
+		}
+		Files.setPosixFilePermissions(path, permissions);
+	}
+
+	private static int getMode(Path path, boolean followLinks) throws IOException {
+		LinkOption[] options = followLinks ? new LinkOption[0] : new LinkOption[] {LinkOption.NOFOLLOW_LINKS};
+		int type;
+		if (!followLinks && Files.isSymbolicLink(path)) {
+			type = TYPE_LINK;
+		} else {
+			type = Files.isDirectory(path, options) ? TYPE_DIRECTORY : TYPE_FILE;
+		}
+		if (!supportsPosix(path)) {
+			return type | (type == TYPE_FILE ? 0644 : 0755);
+		}
+		if (type == TYPE_LINK) {
+			return type | 0777;
+		}
+		int mode = 0;
+		PosixFilePermission[] values = PosixFilePermission.values();
+		Set<PosixFilePermission> permissions = Files.getPosixFilePermissions(path, options);
+		for (int i = 0; i < values.length; i++) {
+			if (permissions.contains(values[i])) {
+				mode |= 1 << (values.length - 1 - i);
+			}
+		}
+		return type | mode;
+	}
+
+	/**
+	 * Returns the files and directories to archive, in a stable order
+	 */
+	private static List<Source> collect(Path baseDir, Collection<String> includes, boolean followLinks) throws IOException {
+		List<Source> sources = new ArrayList<>();
+		Set<String> names = new HashSet<>();
+		FileVisitOption[] options = followLinks ? new FileVisitOption[] {FileVisitOption.FOLLOW_LINKS} : new FileVisitOption[0];
+		for (String include : includes) {
+			Path root = baseDir.resolve(include).normalize();
+			if (!Files.exists(root, LinkOption.NOFOLLOW_LINKS)) {
+				continue;
+			}
+			List<Path> paths;
+			try (Stream<Path> walk = Files.walk(root, options)) {
+				paths = walk.sorted().toList();
+			}
+			for (Path path : paths) {
+				String name = baseDir.relativize(path).toString().replace(File.separatorChar, '/');
+				if (name.isEmpty()) {
+					// the base directory itself is not an entry
+					continue;
+				}
+				int mode = getMode(path, followLinks);
+				if ((mode & TYPE_MASK) == TYPE_DIRECTORY) {
+					name += '/';
+				}
+				if (names.add(name)) {
+					sources.add(new Source(name, path, mode));
+				}
+			}
+		}
+		return sources;
+	}
+
+	private static <T> T get(Future<T> future) throws IOException {
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException(e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof IOException ioException) {
+				throw ioException;
+			}
+			throw new IOException(e.getCause());
+		}
+	}
+}
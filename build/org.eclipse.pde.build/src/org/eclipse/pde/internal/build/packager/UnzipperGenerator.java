@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2000, 2021 IBM Corporation and others.
+ *  Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -19,7 +19,9 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 
 import org.eclipse.core.runtime.CoreException;
@@ -43,6 +45,8 @@ public class UnzipperGenerator extends AbstractScriptGenerator {
 	private String packagingPropertiesLocation;
 
 	private String[] unzipOrder = new String[0];
+	// Whether zip archives are extracted by the eclipse.archiver task instead of the unzip command
+	private boolean inProcessArchiver = false;
 
 	@Override
 	public void generate() throws CoreException {
@@ -162,6 +166,12 @@ public class UnzipperGenerator extends AbstractScriptGenerator {
 	}
 
 	private void generateUnzipArchive(String[] entryDetail) {
+		if (inProcessArchiver) {
+			Map<String, String> attributes = new LinkedHashMap<>();
+			attributes.put("destDir", "${tempDirectory}/" + entryDetail[FOLDER]); //$NON-NLS-1$ //$NON-NLS-2$
+			script.printArchiverTask("unzip", Utils.getPropertyFormat("downloadDirectory") + '/' + entryDetail[ARCHIVE_NAME], attributes); //$NON-NLS-1$ //$NON-NLS-2$
+			return;
+		}
 		List<String> parameters = new ArrayList<>(1);
 		parameters.add("-o -X ${unzipArgs} "); //$NON-NLS-1$
 		parameters.add(Utils.getPropertyFormat("downloadDirectory") + '/' + entryDetail[ARCHIVE_NAME]); //$NON-NLS-1$ 
@@ -175,6 +185,14 @@ public class UnzipperGenerator extends AbstractScriptGenerator {
 			List<String> parameters = new ArrayList<>(3);
 			String rootFilesFolder = "${tempDirectory}/" + config.toString(".") + '/' + entryDetail[FOLDER]; //$NON-NLS-1$ //$NON-NLS-2$
 			script.printMkdirTask(rootFilesFolder);
+			if (inProcessArchiver) {
+				String prefix = entryDetail[FOLDER].equals(".") ? "eclipse/" : ""; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				Map<String, String> attributes = new LinkedHashMap<>();
+				attributes.put("destDir", rootFilesFolder); //$NON-NLS-1$
+				attributes.put("excludes", prefix + "features/*," + prefix + "plugins/*"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				script.printArchiverTask("unzip", Utils.getPropertyFormat("downloadDirectory") + '/' + entryDetail[ARCHIVE_NAME], attributes); //$NON-NLS-1$ //$NON-NLS-2$
+				continue;
+			}
 			parameters.add("-o -X ${unzipArgs} "); //$NON-NLS-1$
 			parameters.add(Utils.getPropertyFormat("downloadDirectory") + '/' + entryDetail[ARCHIVE_NAME]); //$NON-NLS-1$ 
 			parameters.add("-x " + (entryDetail[FOLDER].equals(".") ? "eclipse/" : "") + "features/*" + " " + (entryDetail[FOLDER].equals(".") ? "eclipse/" : "") + "plugins/*"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$ //$NON-NLS-7$ //$NON-NLS-8$ //$NON-NLS-9$ //$NON-NLS-10$
@@ -214,4 +232,13 @@ public class UnzipperGenerator extends AbstractScriptGenerator {
 	public void setPropertyFile(String propertyFile) {
 		packagingPropertiesLocation = propertyFile;
 	}
+
+	/**
+	 * Set whether zip archives are extracted in process instead of by the unzip command.
+	 * Tar archives are always extracted by the tar command.
+	 * @param inProcess <code>true</code> to extract zip archives in process
+	 */
+	public void setInProcessArchiver(boolean inProcess) {
+		inProcessArchiver = inProcess;
+	}
 }
@@ -0,0 +1,293 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 Eclipse contributors and others.
+ *
+ *  This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *      Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.build.packager;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads the central directory of zip archives and writes zip archives from
+ * entries whose data is already compressed, which allows the
+ * {@link ArchiveEngine} to compress entries in parallel and to copy the
+ * entries of an existing archive without inflating them.
+ * <p>
+ * Zip64 archives are not supported.
+ * </p>
+ */
+final class ZipFormat {
+
+	static final int METHOD_STORED = 0;
+	static final int METHOD_DEFLATED = 8;
+
+	private static final int LOCAL_HEADER = 0x04034b50;
+	private static final int CENTRAL_HEADER = 0x02014b50;
+	private static final int END_OF_CENTRAL_DIRECTORY = 0x06054b50;
+	private static final int END_OF_CENTRAL_DIRECTORY_SIZE = 22;
+	private static final int FLAG_ENCRYPTED = 0x1;
+	private static final int FLAG_UTF8 = 0x800;
+	private static final int VERSION = 20;
+	private static final int PLATFORM_UNIX = 3;
+	private static final long MAX_SIZE = 0xFFFFFFFFL;
+	private static final int MAX_ENTRIES = 0xFFFF;
+	private static final int MAX_COMMENT_SIZE = 0xFFFF;
+
+	/**
+	 * An entry of a zip archive.
+	 *
+	 * @param name the name of the entry, ending with <code>/</code> for
+	 *            directories
+	 * @param method {@link #METHOD_STORED} or {@link #METHOD_DEFLATED}
+	 * @param crc the CRC-32 of the uncompressed data
+	 * @param compressedSize the size of the data in the archive
+	 * @param size the uncompressed size
+	 * @param dosTime the modification time in MS-DOS format
+	 * @param mode the unix mode including the file type, <code>0</code> if
+	 *            unknown
+	 * @param headerOffset the position of the local header in the archive
+	 */
+	record Entry(String name, int method, long crc, long compressedSize, long size, int dosTime, int mode, long headerOffset) {
+		boolean isDirectory() {
+			return name.endsWith("/"); //$NON-NLS-1$
+		}
+	}
+
+	private ZipFormat() {
+	}
+
+	/**
+	 * Returns the entries of the zip archive read by the given channel, in
+	 * the order of its central directory.
+	 */
+	static List<Entry> readEntries(FileChannel channel) throws IOException {
+		long size = channel.size();
+		int tail = (int) Math.min(size, END_OF_CENTRAL_DIRECTORY_SIZE + MAX_COMMENT_SIZE);
+		ByteBuffer end = read(channel, size - tail, tail);
+		int position = tail - END_OF_CENTRAL_DIRECTORY_SIZE;
+		while (position >= 0 && end.getInt(position) != END_OF_CENTRAL_DIRECTORY) {
+			position--;
+		}
+		if (position < 0) {
+			throw new IOException("Not a zip archive"); //$NON-NLS-1$
+		}
+		int count = end.getShort(position + 10) & 0xFFFF;
+		long directorySize = end.getInt(position + 12) & MAX_SIZE;
+		long directoryOffset = end.getInt(position + 16) & MAX_SIZE;
+		if (directoryOffset + directorySize > size) {
+			throw new IOException("Corrupt zip archive"); //$NON-NLS-1$
+		}
+		ByteBuffer directory = read(channel, directoryOffset, (int) directorySize);
+		List<Entry> entries = new ArrayList<>(count);
+		int offset = 0;
+		for (int i = 0; i < count; i++) {
+			if (directory.getInt(offset) != CENTRAL_HEADER) {
+				throw new IOException("Corrupt zip archive"); //$NON-NLS-1$
+			}
+			int madeBy = directory.getShort(offset + 4) & 0xFFFF;
+			int flags = directory.getShort(offset + 8) & 0xFFFF;
+			if ((flags & FLAG_ENCRYPTED) != 0) {
+				throw new IOException("Encrypted zip entries are not supported"); //$NON-NLS-1$
+			}
+			int method = directory.getShort(offset + 10) & 0xFFFF;
+			int dosTime = directory.getInt(offset + 12);
+			long crc = directory.getInt(offset + 16) & MAX_SIZE;
+			long compressedSize = directory.getInt(offset + 20) & MAX_SIZE;
+			long uncompressedSize = directory.getInt(offset + 24) & MAX_SIZE;
+			int nameLength = directory.getShort(offset + 28) & 0xFFFF;
+			int extraLength = directory.getShort(offset + 30) & 0xFFFF;
+			int commentLength = directory.getShort(offset + 32) & 0xFFFF;
+			int externalAttributes = directory.getInt(offset + 38);
+			long headerOffset = directory.getInt(offset + 42) & MAX_SIZE;
+			byte[] name = new byte[nameLength];
+			directory.get(offset + 46, name);
+			int mode = (madeBy >> 8) == PLATFORM_UNIX ? externalAttributes >>> 16 : 0;
+			entries.add(new Entry(new String(name, (flags & FLAG_UTF8) != 0 ? StandardCharsets.UTF_8 : StandardCharsets.ISO_8859_1), method, crc, compressedSize, uncompressedSize, dosTime, mode, headerOffset));
+			offset += 46 + nameLength + extraLength + commentLength;
+		}
+		return entries;
+	}
+
+	/**
+	 * Returns the position of the data of the given entry in the archive
+	 */
+	static long dataOffset(FileChannel channel, Entry entry) throws IOException {
+		ByteBuffer header = read(channel, entry.headerOffset(), 30);
+		if (header.getInt(0) != LOCAL_HEADER) {
+			throw new IOException("Corrupt zip archive"); //$NON-NLS-1$
+		}
+		return entry.headerOffset() + 30 + (header.getShort(26) & 0xFFFF) + (header.getShort(28) & 0xFFFF);
+	}
+
+	private static ByteBuffer read(FileChannel channel, long position, int length) throws IOException {
+		ByteBuffer buffer = ByteBuffer.allocate(length).order(ByteOrder.LITTLE_ENDIAN);
+		while (buffer.hasRemaining()) {
+			if (channel.read(buffer, position + buffer.position()) < 0) {
+				throw new IOException("Truncated zip archive"); //$NON-NLS-1$
+			}
+		}
+		buffer.flip();
+		return buffer;
+	}
+
+	/**
+	 * Returns the given time in MS-DOS format, times before 1980 are stored as
+	 * 1980-01-01.
+	 */
+	static int toDosTime(long millis) {
+		LocalDateTime time = LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneId.systemDefault());
+		if (time.getYear() < 1980) {
+			return (1 << 21) | (1 << 16);
+		}
+		return (time.getYear() - 1980) << 25 | time.getMonthValue() << 21 | time.getDayOfMonth() << 16 | time.getHour() << 11 | time.getMinute() << 5 | time.getSecond() >> 1;
+	}
+
+	/**
+	 * Writes a zip archive from entries whose data is already compressed
+	 */
+	static final class Writer implements Closeable {
+		private final OutputStream out;
+		private final WritableByteChannel channel;
+		private final List<Entry> entries = new ArrayList<>();
+		private long offset;
+
+		Writer(OutputStream out) {
+			this.out = out;
+			this.channel = Channels.newChannel(out);
+		}
+
+		/**
+		 * Writes an entry whose data is given in the method of the entry
+		 */
+		void write(Entry entry, byte[] data, int length) throws IOException {
+			Entry written = writeHeader(entry);
+			out.write(data, 0, length);
+			offset += length;
+			entries.add(written);
+		}
+
+		/**
+		 * Writes an entry whose data in the method of the entry is read from
+		 * the given stream
+		 */
+		void write(Entry entry, InputStream data) throws IOException {
+			Entry written = writeHeader(entry);
+			long copied = data.transferTo(out);
+			if (copied != entry.compressedSize()) {
+				throw new IOException("File changed while archiving: " + entry.name()); //$NON-NLS-1$
+			}
+			offset += copied;
+			entries.add(written);
+		}
+
+		/**
+		 * Copies an entry of another archive without inflating its data
+		 */
+		void copy(Entry entry, FileChannel source) throws IOException {
+			Entry written = writeHeader(entry);
+			out.flush();
+			long position = dataOffset(source, entry);
+			long remaining = entry.compressedSize();
+			while (remaining > 0) {
+				long transferred = source.transferTo(position, remaining, channel);
+				if (transferred <= 0) {
+					throw new IOException("Truncated zip archive"); //$NON-NLS-1$
+				}
+				position += transferred;
+				remaining -= transferred;
+			}
+			offset += entry.compressedSize();
+			entries.add(written);
+		}
+
+		private Entry writeHeader(Entry entry) throws IOException {
+			if (offset > MAX_SIZE || entry.compressedSize() > MAX_SIZE || entry.size() > MAX_SIZE || entries.size() >= MAX_ENTRIES) {
+				throw new IOException("Archive too large for the in-process archiver, use the Ant archiver"); //$NON-NLS-1$
+			}
+			byte[] name = entry.name().getBytes(StandardCharsets.UTF_8);
+			ByteBuffer header = ByteBuffer.allocate(30 + name.length).order(ByteOrder.LITTLE_ENDIAN);
+			header.putInt(LOCAL_HEADER);
+			header.putShort((short) VERSION);
+			header.putShort((short) FLAG_UTF8);
+			header.putShort((short) entry.method());
+			header.putInt(entry.dosTime());
+			header.putInt((int) entry.crc());
+			header.putInt((int) entry.compressedSize());
+			header.putInt((int) entry.size());
+			header.putShort((short) name.length);
+			header.putShort((short) 0);
+			header.put(name);
+			out.write(header.array());
+			Entry written = new Entry(entry.name(), entry.method(), entry.crc(), entry.compressedSize(), entry.size(), entry.dosTime(), entry.mode(), offset);
+			offset += header.capacity();
+			return written;
+		}
+
+		@Override
+		public void close() throws IOException {
+			try {
+				long directoryOffset = offset;
+				for (Entry entry : entries) {
+					byte[] name = entry.name().getBytes(StandardCharsets.UTF_8);
+					ByteBuffer header = ByteBuffer.allocate(46 + name.length).order(ByteOrder.LITTLE_ENDIAN);
+					header.putInt(CENTRAL_HEADER);
+					header.putShort((short) (entry.mode() != 0 ? PLATFORM_UNIX << 8 | VERSION : VERSION));
+					header.putShort((short) VERSION);
+					header.putShort((short) FLAG_UTF8);
+					header.putShort((short) entry.method());
+					header.putInt(entry.dosTime());
+					header.putInt((int) entry.crc());
+					header.putInt((int) entry.compressedSize());
+					header.putInt((int) entry.size());
+					header.putShort((short) name.length);
+					header.putShort((short) 0);
+					header.putShort((short) 0);
+					header.putShort((short) 0);
+					header.putShort((short) 0);
+					header.putInt(entry.mode() << 16 | (entry.isDirectory() ? 0x10 : 0));
+					header.putInt((int) entry.headerOffset());
+					header.put(name);
+					out.write(header.array());
+					offset += header.capacity();
+				}
+				if (offset > MAX_SIZE) {
+					throw new IOException("Archive too large for the in-process archiver, use the Ant archiver"); //$NON-NLS-1$
+				}
+				ByteBuffer end = ByteBuffer.allocate(END_OF_CENTRAL_DIRECTORY_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+				end.putInt(END_OF_CENTRAL_DIRECTORY);
+				end.putShort((short) 0);
+				end.putShort((short) 0);
+				end.putShort((short) entries.size());
+				end.putShort((short) entries.size());
+				end.putInt((int) (offset - directoryOffset));
+				end.putInt((int) directoryOffset);
+				end.putShort((short) 0);
+				out.write(end.array());
+			} finally {
+				out.close();
+			}
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2021 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which accompanies this distribution,
@@ -16,8 +16,6 @@
 package org.eclipse.pde.internal.build.site;
 
 import java.io.IOException;
-import java.io.InputStream;
-import java.nio.file.Files;
 import java.nio.file.Path;
 
 import org.eclipse.equinox.internal.p2.publisher.eclipse.FeatureManifestParser;
@@ -26,14 +24,25 @@ import org.xml.sax.SAXException;
 
 public class BuildTimeFeatureParser extends FeatureManifestParser {
 
+	private BuildTimeFeature feature;
+
 	@Override
 	protected Feature createFeature(String id, String version) {
-		return new BuildTimeFeature(id, version);
+		feature = new BuildTimeFeature(id, version);
+		return feature;
 	}
 
+	/**
+	 * Creates a new model of the given <code>feature.xml</code>. The file is
+	 * only parsed if it is not in the {@link FeatureCache} of the build.
+	 */
 	public Feature parse(Path featurePath) throws SAXException, IOException {
-		try (InputStream in = Files.newInputStream(featurePath)) {
-			return super.parse(in, featurePath.toUri().toURL());
+		FeatureDocument document = FeatureCache.getDefault().getDocument(featurePath);
+		feature = null;
+		document.replay(this);
+		if (feature != null) {
+			feature.setLocation(featurePath.toAbsolutePath().getParent().toString());
 		}
+		return feature;
 	}
 }
@@ -0,0 +1,181 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 Eclipse contributors and others.
+ *
+ *  This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *      Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.build.site;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.pde.internal.build.BundleHelper;
+import org.eclipse.pde.internal.build.IPDEBuildConstants;
+import org.xml.sax.SAXException;
+
+/**
+ * Build scoped cache of parsed <code>feature.xml</code> files, keyed by the
+ * path and the content hash of the file. The sites created for the generate,
+ * assemble and package phases of a build all create their feature models from
+ * this cache, so each feature is only parsed once per build.
+ * <p>
+ * The cache is opened and closed with the build, outside of a build every
+ * request parses the file. When a cache file is given, the parsed features
+ * are read from it when the build starts and written back when it ends, so
+ * unchanged features are not parsed again by the next build in the same build
+ * directory. Features whose <code>feature.xml</code> no longer exists are
+ * dropped from the cache file.
+ * </p>
+ */
+public class FeatureCache implements IPDEBuildConstants {
+	/**
+	 * Name of the cache file in the build directory
+	 */
+	public static final String CACHE_FILE = "featureCache.bin"; //$NON-NLS-1$
+
+	private static final int VERSION = 1;
+
+	private static final FeatureCache INSTANCE = new FeatureCache();
+
+	private record Entry(byte[] hash, FeatureDocument document) {
+	}
+
+	private final Map<Path, Entry> entries = new ConcurrentHashMap<>();
+	private File cacheFile;
+	private volatile boolean active;
+	private volatile boolean dirty;
+
+	public static FeatureCache getDefault() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Starts a build, discarding the features of a previous build.
+	 *
+	 * @param file the file to read the cache from and write it to at the end
+	 * of the build, or <code>null</code> to keep the cache in memory only
+	 */
+	public synchronized void open(File file) {
+		entries.clear();
+		dirty = false;
+		cacheFile = file;
+		if (file != null && file.isFile()) {
+			load(file);
+		}
+		active = true;
+	}
+
+	/**
+	 * Ends a build, writing the cache file if one was given to
+	 * {@link #open(File)}.
+	 */
+	public synchronized void close() {
+		if (cacheFile != null && dirty) {
+			save(cacheFile);
+		}
+		active = false;
+		entries.clear();
+		cacheFile = null;
+	}
+
+	/**
+	 * Returns the parsed content of the given <code>feature.xml</code>,
+	 * parsing it if it is not cached or changed since it was cached. Outside of
+	 * a build nothing is cached.
+	 */
+	FeatureDocument getDocument(Path featurePath) throws SAXException, IOException {
+		byte[] content = Files.readAllBytes(featurePath);
+		if (!active) {
+			return FeatureDocument.parse(content);
+		}
+		byte[] hash = hash(content);
+		Path key = featurePath.toAbsolutePath().normalize();
+		Entry entry = entries.get(key);
+		if (entry == null || !Arrays.equals(entry.hash(), hash)) {
+			entry = new Entry(hash, FeatureDocument.parse(content));
+			entries.put(key, entry);
+			dirty = true;
+		}
+		return entry.document();
+	}
+
+	/**
+	 * Returns the number of cached features
+	 */
+	public int size() {
+		return entries.size();
+	}
+
+	private static byte[] hash(byte[] content) {
+		try {
+			return MessageDigest.getInstance("SHA-256").digest(content); //$NON-NLS-1$
+		} catch (NoSuchAlgorithmException e) {
+			// every Java platform supports SHA-256
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private void load(File file) {
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+			if (in.readInt() != VERSION) {
+				return;
+			}
+			int count = in.readInt();
+			for (int i = 0; i < count; i++) {
+				Path path = Path.of(in.readUTF());
+				byte[] hash = new byte[in.readInt()];
+				in.readFully(hash);
+				FeatureDocument document = FeatureDocument.read(in);
+				if (Files.isRegularFile(path)) {
+					entries.put(path, new Entry(hash, document));
+				} else {
+					// the feature was removed, write the cache file without it
+					dirty = true;
+				}
+			}
+		} catch (IOException | RuntimeException e) {
+			// a corrupt cache is ignored, the features are parsed again
+			entries.clear();
+			BundleHelper.getDefault().getLog().log(new Status(IStatus.WARNING, PI_PDEBUILD, e.getMessage(), e));
+		}
+	}
+
+	private void save(File file) {
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+			Map<Path, Entry> snapshot = Map.copyOf(entries);
+			out.writeInt(VERSION);
+			out.writeInt(snapshot.size());
+			for (Map.Entry<Path, Entry> entry : snapshot.entrySet()) {
+				out.writeUTF(entry.getKey().toString());
+				out.writeInt(entry.getValue().hash().length);
+				out.write(entry.getValue().hash());
+				entry.getValue().document().write(out);
+			}
+			dirty = false;
+		} catch (IOException e) {
+			BundleHelper.getDefault().getLog().log(new Status(IStatus.WARNING, PI_PDEBUILD, e.getMessage(), e));
+		}
+	}
+}
@@ -0,0 +1,231 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 Eclipse contributors and others.
+ *
+ *  This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *      Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.build.site;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.xml.XMLConstants;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.parsers.SAXParser;
+import javax.xml.parsers.SAXParserFactory;
+
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.AttributesImpl;
+import org.xml.sax.helpers.DefaultHandler;
+
+/**
+ * The SAX events of a parsed <code>feature.xml</code>. A document is parsed
+ * once and replayed into a new {@link BuildTimeFeatureParser} each time a
+ * feature model is needed, every replay creates a new feature model that can
+ * be modified by the build without affecting the other models of the same
+ * file.
+ */
+final class FeatureDocument {
+
+	private static final byte START = 0;
+	private static final byte END = 1;
+	private static final byte TEXT = 2;
+
+	private static SAXParserFactory parserFactory;
+
+	private sealed interface Event permits Start, End, Text {
+	}
+
+	private record Start(String uri, String localName, String qName, String[] attributes) implements Event {
+	}
+
+	private record End(String uri, String localName, String qName) implements Event {
+	}
+
+	private record Text(char[] text) implements Event {
+	}
+
+	private final List<Event> events;
+
+	private FeatureDocument(List<Event> events) {
+		this.events = events;
+	}
+
+	/**
+	 * Parses the given content of a <code>feature.xml</code>
+	 */
+	static FeatureDocument parse(byte[] content) throws SAXException, IOException {
+		Recorder recorder = new Recorder();
+		newParser().parse(new InputSource(new ByteArrayInputStream(content)), recorder);
+		recorder.flushText();
+		return new FeatureDocument(recorder.events);
+	}
+
+	private static SAXParser newParser() throws SAXException {
+		synchronized (FeatureDocument.class) {
+			try {
+				if (parserFactory == null) {
+					SAXParserFactory factory = SAXParserFactory.newInstance();
+					factory.setNamespaceAware(true);
+					factory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+					try {
+						factory.setFeature("http://apache.org/xml/features/nonvalidating/load-external-dtd", false); //$NON-NLS-1$
+					} catch (SAXException e) {
+						// not supported by this parser
+					}
+					parserFactory = factory;
+				}
+				return parserFactory.newSAXParser();
+			} catch (ParserConfigurationException e) {
+				throw new SAXException(e);
+			}
+		}
+	}
+
+	/**
+	 * Sends the recorded events to the given handler
+	 */
+	void replay(DefaultHandler handler) throws SAXException {
+		handler.startDocument();
+		for (Event event : events) {
+			if (event instanceof Start start) {
+				AttributesImpl attributes = new AttributesImpl();
+				String[] values = start.attributes();
+				for (int i = 0; i < values.length; i += 5) {
+					attributes.addAttribute(values[i], values[i + 1], values[i + 2], values[i + 3], values[i + 4]);
+				}
+				handler.startElement(start.uri(), start.localName(), start.qName(), attributes);
+			} else if (event instanceof End end) {
+				handler.endElement(end.uri(), end.localName(), end.qName());
+			} else if (event instanceof Text text) {
+				char[] chars = text.text();
+				handler.characters(chars, 0, chars.length);
+			}
+		}
+		handler.endDocument();
+	}
+
+	void write(DataOutputStream out) throws IOException {
+		out.writeInt(events.size());
+		for (Event event : events) {
+			if (event instanceof Start start) {
+				out.writeByte(START);
+				writeString(out, start.uri());
+				writeString(out, start.localName());
+				writeString(out, start.qName());
+				out.writeInt(start.attributes().length);
+				for (String value : start.attributes()) {
+					writeString(out, value);
+				}
+			} else if (event instanceof End end) {
+				out.writeByte(END);
+				writeString(out, end.uri());
+				writeString(out, end.localName());
+				writeString(out, end.qName());
+			} else if (event instanceof Text text) {
+				out.writeByte(TEXT);
+				writeString(out, new String(text.text()));
+			}
+		}
+	}
+
+	static FeatureDocument read(DataInputStream in) throws IOException {
+		int count = in.readInt();
+		List<Event> events = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			byte kind = in.readByte();
+			switch (kind) {
+				case START :
+					String uri = readString(in);
+					String localName = readString(in);
+					String qName = readString(in);
+					String[] attributes = new String[in.readInt()];
+					for (int j = 0; j < attributes.length; j++) {
+						attributes[j] = readString(in);
+					}
+					events.add(new Start(uri, localName, qName, attributes));
+					break;
+				case END :
+					events.add(new End(readString(in), readString(in), readString(in)));
+					break;
+				case TEXT :
+					events.add(new Text(readString(in).toCharArray()));
+					break;
+				default :
+					throw new IOException("Corrupt feature cache"); //$NON-NLS-1$
+			}
+		}
+		return new FeatureDocument(events);
+	}
+
+	// license texts can exceed the size supported by writeUTF
+	private static void writeString(DataOutputStream out, String value) throws IOException {
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	private static String readString(DataInputStream in) throws IOException {
+		int length = in.readInt();
+		if (length < 0) {
+			throw new IOException("Corrupt feature cache"); //$NON-NLS-1$
+		}
+		return new String(in.readNBytes(length), StandardCharsets.UTF_8);
+	}
+
+	private static class Recorder extends DefaultHandler {
+		final List<Event> events = new ArrayList<>();
+		private StringBuilder text;
+
+		@Override
+		public void startElement(String uri, String localName, String qName, Attributes attributes) {
+			flushText();
+			String[] values = new String[attributes.getLength() * 5];
+			for (int i = 0, j = 0; i < attributes.getLength(); i++) {
+				values[j++] = attributes.getURI(i);
+				values[j++] = attributes.getLocalName(i);
+				values[j++] = attributes.getQName(i);
+				values[j++] = attributes.getType(i);
+				values[j++] = attributes.getValue(i);
+			}
+			events.add(new Start(uri, localName, qName, values));
+		}
+
+		@Override
+		public void endElement(String uri, String localName, String qName) {
+			flushText();
+			events.add(new End(uri, localName, qName));
+		}
+
+		@Override
+		public void characters(char[] ch, int start, int length) {
+			if (text == null) {
+				text = new StringBuilder(length);
+			}
+			text.append(ch, start, length);
+		}
+
+		void flushText() {
+			if (text != null) {
+				char[] chars = new char[text.length()];
+				text.getChars(0, chars.length, chars, 0);
+				events.add(new Text(chars));
+				text = null;
+			}
+		}
+	}
+}
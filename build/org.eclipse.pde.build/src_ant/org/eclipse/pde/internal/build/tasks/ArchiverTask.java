@@ -0,0 +1,143 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.build.tasks;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.tools.ant.BuildException;
+import org.apache.tools.ant.Task;
+import org.eclipse.pde.internal.build.packager.ArchiveEngine;
+
+/**
+ * Internal task.
+ * Creates and extracts the archives of the packager in process, see
+ * {@link ArchiveEngine}. Used by the generated scripts instead of the
+ * <code>zip</code>, <code>tar</code>, <code>gzip</code> and <code>unzip</code>
+ * commands when the <code>inProcessArchiver</code> property is set.
+ */
+public class ArchiverTask extends Task {
+	private String action;
+	private File archive;
+	private File baseDir;
+	private File destDir;
+	private File src;
+	private List<String> includes = List.of("."); //$NON-NLS-1$
+	private List<String> excludes = List.of();
+	private boolean append;
+
+	/**
+	 * Set the operation to run: <code>zip</code>, <code>tar</code>,
+	 * <code>gzip</code> or <code>unzip</code>.
+	 */
+	public void setAction(String action) {
+		this.action = action;
+	}
+
+	/**
+	 * Set the archive to create, update or extract.
+	 */
+	public void setArchive(File archive) {
+		this.archive = archive;
+	}
+
+	/**
+	 * Set the directory the included paths are relative to.
+	 */
+	public void setBaseDir(File baseDir) {
+		this.baseDir = baseDir;
+	}
+
+	/**
+	 * Set the directory to extract to.
+	 */
+	public void setDestDir(File destDir) {
+		this.destDir = destDir;
+	}
+
+	/**
+	 * Set the file to compress with gzip.
+	 */
+	public void setSrc(File src) {
+		this.src = src;
+	}
+
+	/**
+	 * Set the comma separated paths to archive, relative to the base directory.
+	 */
+	public void setIncludes(String includes) {
+		this.includes = split(includes);
+	}
+
+	/**
+	 * Set the comma separated patterns of the entries not to extract.
+	 */
+	public void setExcludes(String excludes) {
+		this.excludes = split(excludes);
+	}
+
+	/**
+	 * Set whether files are appended to an existing tar archive.
+	 */
+	public void setAppend(boolean append) {
+		this.append = append;
+	}
+
+	private static List<String> split(String value) {
+		List<String> result = new ArrayList<>();
+		for (String element : value.split(",")) { //$NON-NLS-1$
+			String trimmed = element.trim();
+			if (trimmed.length() > 0) {
+				result.add(trimmed);
+			}
+		}
+		return result;
+	}
+
+	@Override
+	public void execute() throws BuildException {
+		if (action == null || archive == null) {
+			throw new BuildException("The action and archive attributes are required", getLocation()); //$NON-NLS-1$
+		}
+		try {
+			switch (action) {
+				case "zip" : //$NON-NLS-1$
+					ArchiveEngine.zip(archive, required(baseDir, "baseDir"), includes); //$NON-NLS-1$
+					break;
+				case "tar" : //$NON-NLS-1$
+					ArchiveEngine.tar(archive, required(baseDir, "baseDir"), includes, append); //$NON-NLS-1$
+					break;
+				case "gzip" : //$NON-NLS-1$
+					ArchiveEngine.gzip(required(src, "src"), archive); //$NON-NLS-1$
+					break;
+				case "unzip" : //$NON-NLS-1$
+					ArchiveEngine.unzip(archive, required(destDir, "destDir"), excludes); //$NON-NLS-1$
+					break;
+				default :
+					throw new BuildException("Unknown archiver action: " + action, getLocation()); //$NON-NLS-1$
+			}
+		} catch (IOException e) {
+			throw new BuildException(e.getMessage(), e, getLocation());
+		}
+	}
+
+	private File required(File value, String attribute) {
+		if (value == null) {
+			throw new BuildException("The " + attribute + " attribute is required for " + action, getLocation()); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		return value;
+	}
+}
@@ -0,0 +1,169 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 Eclipse contributors and others.
+ *
+ *  This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.build.tasks;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.Properties;
+import java.util.Set;
+
+/**
+ * The features processed by the last successful runs of the
+ * {@link JNLPGeneratorTask}, stored in a properties file beside the generated
+ * jnlp files. Each entry maps the path of a feature to the hash of its
+ * content, the hash of the generator settings and the generated file, a
+ * feature is only processed again when one of them changed.
+ */
+class JNLPGenerationState {
+	/**
+	 * Default name of the state file
+	 */
+	static final String STATE_FILE = "jnlpGenerator.state"; //$NON-NLS-1$
+
+	private static final String SEPARATOR = "|"; //$NON-NLS-1$
+
+	private final File file;
+	private final Properties entries = new Properties();
+	private boolean dirty = false;
+
+	private JNLPGenerationState(File file) {
+		this.file = file;
+	}
+
+	/**
+	 * Reads the state from the given file, a missing or unreadable file is an
+	 * empty state.
+	 */
+	static JNLPGenerationState load(File file) {
+		JNLPGenerationState state = new JNLPGenerationState(file);
+		if (file.isFile()) {
+			try (InputStream in = new BufferedInputStream(new FileInputStream(file))) {
+				state.entries.load(in);
+			} catch (IOException | IllegalArgumentException e) {
+				// everything is generated again
+				state.entries.clear();
+			}
+		}
+		return state;
+	}
+
+	/**
+	 * Returns whether the given feature was generated by a previous run from
+	 * the same content with the same settings, and its output still exists.
+	 */
+	synchronized boolean isUpToDate(File feature, String hash, String settings) {
+		String value = entries.getProperty(key(feature));
+		if (value == null)
+			return false;
+		String[] fields = value.split("\\" + SEPARATOR, 3); //$NON-NLS-1$
+		return fields.length == 3 && fields[0].equals(hash) && fields[1].equals(settings) && new File(fields[2]).isFile();
+	}
+
+	/**
+	 * Records that the given feature has been generated to the given file.
+	 */
+	synchronized void update(File feature, String hash, String settings, File output) {
+		entries.setProperty(key(feature), hash + SEPARATOR + settings + SEPARATOR + output.getAbsolutePath());
+		dirty = true;
+	}
+
+	/**
+	 * Forgets the features that are not in the given set.
+	 */
+	synchronized void retain(Set<File> features) {
+		Set<String> keys = new HashSet<>();
+		for (File feature : features) {
+			keys.add(key(feature));
+		}
+		if (entries.keySet().retainAll(keys))
+			dirty = true;
+	}
+
+	void save() throws IOException {
+		if (!dirty)
+			return;
+		File parent = file.getAbsoluteFile().getParentFile();
+		if (parent != null)
+			parent.mkdirs();
+		try (OutputStream out = new BufferedOutputStream(new FileOutputStream(file))) {
+			entries.store(out, null);
+		}
+		dirty = false;
+	}
+
+	private static String key(File feature) {
+		return feature.getAbsolutePath();
+	}
+
+	/**
+	 * Returns the hash of a feature archive, or of the <code>feature.xml</code>
+	 * and properties files of a feature directory.
+	 */
+	static String hash(File feature) throws IOException {
+		MessageDigest digest = newDigest();
+		if (feature.isFile()) {
+			update(digest, feature);
+		} else {
+			File[] files = feature.listFiles((dir, name) -> name.equals("feature.xml") || name.endsWith(".properties")); //$NON-NLS-1$ //$NON-NLS-2$
+			if (files != null) {
+				Arrays.sort(files);
+				for (File file : files) {
+					digest.update(file.getName().getBytes(StandardCharsets.UTF_8));
+					update(digest, file);
+				}
+			}
+		}
+		return HexFormat.of().formatHex(digest.digest());
+	}
+
+	/**
+	 * Returns the hash of the given generator settings.
+	 */
+	static String settingsHash(String... settings) {
+		MessageDigest digest = newDigest();
+		for (String setting : settings) {
+			digest.update(String.valueOf(setting).getBytes(StandardCharsets.UTF_8));
+			digest.update((byte) 0);
+		}
+		return HexFormat.of().formatHex(digest.digest());
+	}
+
+	private static void update(MessageDigest digest, File file) throws IOException {
+		try (InputStream in = new DigestInputStream(new FileInputStream(file), digest)) {
+			in.transferTo(OutputStream.nullOutputStream());
+		}
+	}
+
+	private static MessageDigest newDigest() {
+		try {
+			return MessageDigest.getInstance("SHA-256"); //$NON-NLS-1$
+		} catch (NoSuchAlgorithmException e) {
+			// every Java platform supports SHA-256
+			throw new IllegalStateException(e);
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2005, 2021 IBM Corporation and others.
+ *  Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -66,6 +66,7 @@ public class JNLPGenerator extends DefaultHandler {
 	 * feature.plugin = jar
 	 */
 	private PrintWriter out;
+	private File output;
 	private String destination;
 	private String provider;
 	private String label;
@@ -115,10 +116,15 @@ public class JNLPGenerator extends DefaultHandler {
 	}
 
 	/**
-	 * Parses the specified url and constructs a feature
+	 * Parses the specified url and constructs a feature. A jnlp file that could
+	 * not be completed is deleted.
+	 *
+	 * @return <code>true</code> if the feature was read and its jnlp file
+	 *         written without errors
 	 */
-	public void process() {
+	public boolean process() {
 		final String FEATURE_XML = "feature.xml"; //$NON-NLS-1$
+		boolean success = false;
 		try {
 			ZipFile featureArchive;
 			InputStream nlsStream;
@@ -145,6 +151,8 @@ public class JNLPGenerator extends DefaultHandler {
 					parser.parse(new InputSource(in), this);
 					writeResourceEpilogue();
 					writeEpilogue();
+					// the writer does not throw, check that everything was written
+					success = out == null || !out.checkError();
 				} catch (SAXException e) {
 					//Ignore the exception
 				}
@@ -155,6 +163,20 @@ public class JNLPGenerator extends DefaultHandler {
 		} catch (IOException e) {
 			//Ignore the exception
 		}
+		if (!success && output != null) {
+			// do not leave a truncated jnlp file behind
+			output.delete();
+			output = null;
+		}
+		return success;
+	}
+
+	/**
+	 * Returns the jnlp file written by {@link #process()}, or <code>null</code>
+	 * if nothing was written.
+	 */
+	public File getOutput() {
+		return output;
 	}
 
 	/**
@@ -435,7 +457,8 @@ public class JNLPGenerator extends DefaultHandler {
 		}
 		if (destination.endsWith("/") || destination.endsWith("\\")) //$NON-NLS-1$  //$NON-NLS-2$
 			destination = new File(featureRoot.getParentFile(), id + "_" + version + ".jnlp").getAbsolutePath(); //$NON-NLS-1$ //$NON-NLS-2$
-		out = new PrintWriter(new BufferedOutputStream(new FileOutputStream(destination)));
+		output = new File(destination);
+		out = new PrintWriter(new BufferedOutputStream(new FileOutputStream(output)));
 		writePrologue();
 		out.println("<?xml version=\"1.0\" encoding=\"UTF-8\"?>"); //$NON-NLS-1$
 		out.print("<jnlp spec=\"1.0+\" "); //$NON-NLS-1$
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2005, 2013 IBM Corporation and others.
+ *  Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -14,9 +14,21 @@
  *******************************************************************************/
 package org.eclipse.pde.internal.build.tasks;
 
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.tools.ant.BuildException;
+import org.apache.tools.ant.Project;
 import org.apache.tools.ant.Task;
 
 public class JNLPGeneratorTask extends Task {
@@ -28,6 +40,9 @@ public class JNLPGeneratorTask extends Task {
 	private Locale locale = Locale.getDefault();
 	private boolean generateOfflineAllowed = true;
 	private String configs = null;
+	private String features = null;
+	private boolean incremental = false;
+	private String stateFile = null;
 
 	/**
 	 * The URL location of a feature.xml file.  This can be either a jar: URL to the feature.xml,
@@ -37,6 +52,32 @@ public class JNLPGeneratorTask extends Task {
 		feature = value;
 	}
 
+	/**
+	 * A directory containing feature archives or feature directories, a jnlp file
+	 * is generated for each of them. The features are processed concurrently.
+	 * Used instead of {@link #setFeature(String)}.
+	 */
+	public void setFeatures(String value) {
+		features = value;
+	}
+
+	/**
+	 * Whether the features whose content and generation settings did not change
+	 * since the last run are skipped. The state of the last run is kept in a
+	 * <code>jnlpGenerator.state</code> file beside the generated files.
+	 */
+	public void setIncremental(boolean value) {
+		incremental = value;
+	}
+
+	/**
+	 * The file in which the state of incremental runs is kept, the default is
+	 * <code>jnlpGenerator.state</code> beside the generated files.
+	 */
+	public void setStateFile(String value) {
+		stateFile = value;
+	}
+
 	/**
 	 * The location the output jnlp file.  The value may be null (or simply not set).  If it is
 	 * null then the output file will be placed beside the feature dir or jar (as appropriate)
@@ -96,8 +137,88 @@ public class JNLPGeneratorTask extends Task {
 
 	@Override
 	public void execute() throws BuildException {
-		JNLPGenerator generator = new JNLPGenerator(feature, jnlp, codebase, j2se, locale, generateOfflineAllowed, configs);
-		generator.process();
+		if (features == null && !incremental) {
+			JNLPGenerator generator = new JNLPGenerator(feature, jnlp, codebase, j2se, locale, generateOfflineAllowed, configs);
+			generator.process();
+			return;
+		}
+
+		Set<File> toProcess = new LinkedHashSet<>();
+		File outputFolder;
+		if (features != null) {
+			if (jnlp != null && !isFolder(jnlp))
+				throw new BuildException("The jnlp attribute must be a folder when several features are processed", getLocation()); //$NON-NLS-1$
+			File folder = new File(features);
+			File[] children = folder.listFiles((dir, name) -> name.endsWith(".jar") || new File(dir, name + "/feature.xml").isFile()); //$NON-NLS-1$ //$NON-NLS-2$
+			if (children == null)
+				throw new BuildException("Not a folder: " + features, getLocation()); //$NON-NLS-1$
+			for (File child : children) {
+				toProcess.add(child.getAbsoluteFile());
+			}
+			outputFolder = folder;
+		} else {
+			File featureFile = new File(feature).getAbsoluteFile();
+			toProcess.add(featureFile);
+			outputFolder = featureFile.getParentFile();
+		}
+		if (jnlp != null && !isFolder(jnlp))
+			outputFolder = new File(jnlp).getAbsoluteFile().getParentFile();
+
+		JNLPGenerationState state = null;
+		if (incremental) {
+			state = JNLPGenerationState.load(stateFile != null ? new File(stateFile) : new File(outputFolder, JNLPGenerationState.STATE_FILE));
+			if (features != null)
+				state.retain(toProcess);
+		}
+		process(toProcess, state);
+		if (state != null) {
+			try {
+				state.save();
+			} catch (IOException e) {
+				log("Could not save the jnlp generation state: " + e.getMessage(), Project.MSG_WARN); //$NON-NLS-1$
+			}
+		}
+	}
+
+	private static boolean isFolder(String location) {
+		return location.endsWith("/") || location.endsWith("\\"); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	private void process(Set<File> toProcess, JNLPGenerationState state) {
+		String settings = JNLPGenerationState.settingsHash(jnlp, codebase, j2se, locale.toString(), String.valueOf(generateOfflineAllowed), configs);
+		AtomicInteger skipped = new AtomicInteger();
+		ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(toProcess.size(), Runtime.getRuntime().availableProcessors())));
+		try {
+			List<Future<?>> results = new ArrayList<>(toProcess.size());
+			for (File featureFile : toProcess) {
+				results.add(executor.submit(() -> {
+					String hash = state != null ? JNLPGenerationState.hash(featureFile) : null;
+					if (state != null && state.isUpToDate(featureFile, hash, settings)) {
+						skipped.incrementAndGet();
+						return null;
+					}
+					JNLPGenerator generator = new JNLPGenerator(featureFile.getPath(), jnlp, codebase, j2se, locale, generateOfflineAllowed, configs);
+					boolean written = generator.process();
+					// only remember features whose jnlp file has been written completely
+					File output = generator.getOutput();
+					if (state != null && written && output != null && output.isFile())
+						state.update(featureFile, hash, settings, output);
+					return null;
+				}));
+			}
+			for (Future<?> result : results) {
+				result.get();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new BuildException(e, getLocation());
+		} catch (ExecutionException e) {
+			throw new BuildException(e.getCause(), getLocation());
+		} finally {
+			executor.shutdownNow();
+		}
+		if (state != null)
+			log("Generated jnlp files for " + (toProcess.size() - skipped.get()) + " features, " + skipped.get() + " unchanged", Project.MSG_VERBOSE); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
 	}
 
 	public void setGenerateOfflineAllowed(String generateOfflineAllowed) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2013 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -112,6 +112,14 @@ public class PackagerTask extends Task {
 		if (Boolean.valueOf(value).booleanValue())
 			properties.put(IBuildPropertiesConstants.PROPERTY_ALLOW_BINARY_CYCLES, "true"); //$NON-NLS-1$
 
+		value = getProject().getProperty(IBuildPropertiesConstants.PROPERTY_PERSIST_FEATURE_CACHE);
+		if (Boolean.valueOf(value).booleanValue())
+			properties.put(IBuildPropertiesConstants.PROPERTY_PERSIST_FEATURE_CACHE, "true"); //$NON-NLS-1$
+
+		value = getProject().getProperty(IBuildPropertiesConstants.PROPERTY_IN_PROCESS_ARCHIVER);
+		if (Boolean.valueOf(value).booleanValue())
+			properties.put(IBuildPropertiesConstants.PROPERTY_IN_PROCESS_ARCHIVER, "true"); //$NON-NLS-1$
+
 		ProfileManager manager = new ProfileManager(null, true);
 		manager.copyEEProfileProperties(getProject().getProperties(), antProperties);
 	}
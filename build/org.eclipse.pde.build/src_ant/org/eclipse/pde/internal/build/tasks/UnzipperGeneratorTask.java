@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2006 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -72,4 +72,12 @@ public class UnzipperGeneratorTask extends Task {
 	public void setPackagePropertyFile(String propertyFile) {
 		generator.setPropertyFile(propertyFile);
 	}
+
+	/**
+	 * Set whether zip archives are extracted in process instead of by the unzip command.
+	 * @param inProcess <code>true</code> to extract zip archives in process
+	 */
+	public void setInProcessArchiver(boolean inProcess) {
+		generator.setInProcessArchiver(inProcess);
+	}
 }
@@ -35,7 +35,7 @@ public class XmlParserFactory {
 		return f;
 	}
 
-	public static SAXParser createNsAwareSAXParserWithErrorOnDOCTYPE() throws ParserConfigurationException, SAXException {
+	public static synchronized SAXParser createNsAwareSAXParserWithErrorOnDOCTYPE() throws ParserConfigurationException, SAXException {
 		return SAX_FACTORY_ERROR_ON_DOCTYPE_NS.newSAXParser();
 	}
 
@@ -39,6 +39,7 @@ public class Messages extends NLS {
 	public static String ModelEditorPreferencePage_ShowID;
 	public static String ModelMoveParticipant_CreatingChange;
 	public static String RedoAction_Redo;
+	public static String TypeNameIndex_Refresh;
 	public static String UndoAction_Undo;
 	static {
 		// initialize resource bundle
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2023 BestSolution.at and others.
+ * Copyright (c) 2010, 2026 BestSolution.at and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,31 +17,39 @@ package org.eclipse.e4.tools.emf.editor3x;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.ILog;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.e4.tools.emf.editor3x.TypeNameIndex.Type;
 import org.eclipse.e4.tools.emf.ui.common.IClassContributionProvider;
 import org.eclipse.e4.tools.emf.ui.common.ResourceSearchScope;
-import org.eclipse.jdt.core.IJavaProject;
-import org.eclipse.jdt.core.IPackageFragmentRoot;
-import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.JavaModelException;
-import org.eclipse.jdt.core.search.IJavaSearchConstants;
-import org.eclipse.jdt.core.search.IJavaSearchScope;
-import org.eclipse.jdt.core.search.SearchEngine;
-import org.eclipse.jdt.core.search.SearchPattern;
-import org.eclipse.jdt.core.search.TypeNameRequestor;
-import org.eclipse.pde.internal.core.util.PDEJavaHelper;
-
-@SuppressWarnings("restriction")
+
 public class PDEClassContributionProvider implements IClassContributionProvider {
-	private final SearchEngine searchEngine;
+	private final TypeNameIndex typeNameIndex = new TypeNameIndex();
+	private final Map<IProject, BundleName> bundleNames = new ConcurrentHashMap<>();
+
+	/**
+	 * The symbolic name read from the manifest of a project, with the
+	 * modification stamp of the manifest.
+	 */
+	private record BundleName(long stamp, String name) {
+	}
+
+	public void activate() {
+		typeNameIndex.start();
+	}
 
-	public PDEClassContributionProvider() {
-		searchEngine = new SearchEngine();
+	public void deactivate() {
+		typeNameIndex.stop();
+		bundleNames.clear();
 	}
 
 	@Override
@@ -52,22 +60,9 @@ public class PDEClassContributionProvider implements IClassContributionProvider
 			followReferences = false;
 		}
 
-		IJavaSearchScope scope = null;
-		if (followReferences == false) {
-			final IJavaProject javaProject = JavaCore.create(filter.project);
-			IPackageFragmentRoot[] roots;
-			try {
-				roots = javaProject.getPackageFragmentRoots();
-				scope = SearchEngine.createJavaSearchScope(roots, false);
-			} catch (final JavaModelException e) {
-				e.printStackTrace();
-			}
-		} else {
-			// filter.project may be null in the live editor
-			scope = filter.project != null ? PDEJavaHelper
-					.getSearchScope(filter.project) : SearchEngine
-					.createWorkspaceScope();
-		}
+		// filter.project may be null in the live editor
+		final TypeNameIndex.Key key = new TypeNameIndex.Key(filter.project, followReferences);
+
 		char[] packageName = null;
 		char[] typeName = null;
 		String currentContent = filter.namePattern;
@@ -102,80 +97,64 @@ public class PDEClassContributionProvider implements IClassContributionProvider
 			packageName = currentContent.substring(0, index).toCharArray();
 		}
 
-		// char[] packageName = "at.bestsolution.e4.handlers".toCharArray();
-		// char[] typeName = "*".toCharArray();
-
-		final TypeNameRequestor req = new TypeNameRequestor() {
-			@Override
-			public void acceptType(int modifiers, char[] packageName, char[] simpleTypeName,
-					char[][] enclosingTypeNames, String path) {
-				// 474841 compute name considering inner classes
-				final boolean isEnclosed = enclosingTypeNames != null && enclosingTypeNames.length > 0;
-				final String ePrefix = isEnclosed ? new String(enclosingTypeNames[0]) + "$" : ""; //$NON-NLS-1$//$NON-NLS-2$
-				// Accept search results from the JDT SearchEngine
-				final String cName = ePrefix + new String(simpleTypeName);
-				final String pName = new String(packageName);
-				//				String label = cName + " - " + pName; //$NON-NLS-1$
-				final String content = pName.length() == 0 ? cName : pName + "." + cName; //$NON-NLS-1$
-
-				// System.err.println("Found: " + label + " => " + pName + " => " + path);
-
-				final IResource resource = ResourcesPlugin.getWorkspace().getRoot().findMember(path);
-
-				if (resource != null) {
-					final IProject project = resource.getProject();
-					final IFile f = project.getFile("/META-INF/MANIFEST.MF"); //$NON-NLS-1$
-
-					if (f != null && f.exists()) {
-						try (BufferedReader r = new BufferedReader(new InputStreamReader(f.getContents()))) {
-							String line;
-							while ((line = r.readLine()) != null) {
-								if (line.startsWith("Bundle-SymbolicName:")) { //$NON-NLS-1$
-									final int start = line.indexOf(':');
-									int end = line.indexOf(';');
-									if (end == -1) {
-										end = line.length();
-									}
-									final ContributionData data = new ContributionData(line.substring(start + 1, end)
-											.trim(), content, "Java", null); //$NON-NLS-1$
-									handler.result(data);
-									break;
-								}
-							}
-
-						} catch (final CoreException e) {
-							// TODO Auto-generated catch block
-							e.printStackTrace();
-						} catch (final IOException e) {
-							// TODO Auto-generated catch block
-							e.printStackTrace();
-						}
-					}
-				}
-
-				// Image image = (Flags.isInterface(modifiers)) ?
-				// PDEPluginImages.get(PDEPluginImages.OBJ_DESC_GENERATE_INTERFACE) :
-				// PDEPluginImages.get(PDEPluginImages.OBJ_DESC_GENERATE_CLASS);
-				// addProposalToCollection(c, startOffset, length, label, content, image);
-			}
-		};
-
 		try {
-			searchEngine.searchAllTypeNames(
-					packageName,
-					SearchPattern.R_PATTERN_MATCH,
-					typeName,
-					SearchPattern.R_PATTERN_MATCH | SearchPattern.R_CAMELCASE_MATCH,
-					IJavaSearchConstants.CLASS,
-					scope,
-					req,
-					IJavaSearchConstants.WAIT_UNTIL_READY_TO_SEARCH, null);
+			typeNameIndex.search(key, packageName, typeName, type -> accept(type, handler),
+					filter.getProgressMonitor());
+		} catch (final OperationCanceledException e) {
+			handler.moreResults(ContributionResultHandler.MORE_CANCELED, filter);
+			return;
 		} catch (final JavaModelException e) {
-			// TODO Auto-generated catch block
-			e.printStackTrace();
+			ILog.get().error("Failed to search for classes", e); //$NON-NLS-1$
 		}
 
 		handler.moreResults(0, filter);
 	}
 
+	private void accept(Type type, ContributionResultHandler handler) {
+		final IResource resource = ResourcesPlugin.getWorkspace().getRoot().findMember(type.path());
+		if (resource != null) {
+			final String bundleName = getBundleName(resource.getProject());
+			if (bundleName != null) {
+				handler.result(new ContributionData(bundleName, type.className(), "Java", null)); //$NON-NLS-1$
+			}
+		}
+	}
+
+	/**
+	 * Returns the symbolic name of the given project, or <code>null</code> if
+	 * it has no manifest. The name is read again only when the manifest
+	 * changed.
+	 */
+	private String getBundleName(IProject project) {
+		final IFile f = project.getFile("/META-INF/MANIFEST.MF"); //$NON-NLS-1$
+		if (f == null || !f.exists()) {
+			return null;
+		}
+		final long stamp = f.getModificationStamp();
+		final BundleName cached = bundleNames.get(project);
+		if (cached != null && cached.stamp() == stamp) {
+			return cached.name();
+		}
+		String name = null;
+		try (BufferedReader r = new BufferedReader(new InputStreamReader(f.getContents()))) {
+			String line;
+			while ((line = r.readLine()) != null) {
+				if (line.startsWith("Bundle-SymbolicName:")) { //$NON-NLS-1$
+					final int start = line.indexOf(':');
+					int end = line.indexOf(';');
+					if (end == -1) {
+						end = line.length();
+					}
+					name = line.substring(start + 1, end).trim();
+					break;
+				}
+			}
+		} catch (final CoreException | IOException e) {
+			ILog.get().error("Failed to read the manifest of " + project.getName(), e); //$NON-NLS-1$
+			return null;
+		}
+		bundleNames.put(project, new BundleName(stamp, name));
+		return name;
+	}
+
 }
@@ -0,0 +1,502 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ * Eclipse contributors - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.e4.tools.emf.editor3x;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.compiler.CharOperation;
+import org.eclipse.jdt.core.search.IJavaSearchConstants;
+import org.eclipse.jdt.core.search.IJavaSearchScope;
+import org.eclipse.jdt.core.search.SearchEngine;
+import org.eclipse.jdt.core.search.SearchPattern;
+import org.eclipse.jdt.core.search.TypeNameRequestor;
+import org.eclipse.pde.internal.core.util.PDEJavaHelper;
+
+/**
+ * An in-memory index of the names of the Java classes visible from a project,
+ * which answers the queries of the class pickers of the model editor without
+ * searching the Java model for every keystroke.
+ * <p>
+ * The names of a search scope are collected once, the first time the scope is
+ * queried, and sorted by simple name so that a query only matches the names
+ * starting with the same character as its pattern. The names are kept up to
+ * date by a background job, queries are answered from the previous names
+ * meanwhile: the compilation units and source packages reported by the Java
+ * element deltas only replace their own names, the scopes are only collected
+ * again when package fragment roots or the classpath of a project change.
+ * Only the {@link #MAX_SCOPES} scopes queried last are kept.
+ * </p>
+ */
+@SuppressWarnings("restriction")
+final class TypeNameIndex implements IElementChangedListener {
+
+	/**
+	 * A search scope: the package fragment roots of a project, or of the
+	 * project and the projects and libraries it references. The project is
+	 * <code>null</code> for the workspace.
+	 */
+	record Key(IProject project, boolean followReferences) {
+	}
+
+	/**
+	 * A class of a search scope. The class name is qualified and separates an
+	 * enclosing type with <code>$</code>.
+	 */
+	record Type(char[] packageName, char[] simpleName, String className, String path) {
+	}
+
+	private static final long REFRESH_DELAY = 500;
+
+	private static final int MAX_SCOPES = 8;
+
+	private static final Comparator<Type> ORDER = Comparator
+			.comparingInt((Type type) -> fold(type.simpleName()[0]))
+			.thenComparing(type -> new String(type.simpleName()), String.CASE_INSENSITIVE_ORDER);
+
+	/**
+	 * The scopes in access order, the scope queried least recently is dropped
+	 * when there are more than {@link #MAX_SCOPES}. Guarded by itself.
+	 */
+	private final Map<Key, Types> fTypes = new LinkedHashMap<>(16, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Key, Types> eldest) {
+			return size() > MAX_SCOPES;
+		}
+	};
+
+	/**
+	 * The compilation units and source packages added, removed or changed
+	 * since the last run of the refresh job.
+	 */
+	private final Set<IJavaElement> fChangedElements = ConcurrentHashMap.newKeySet();
+
+	/**
+	 * Whether the scopes must be collected again by the next run of the
+	 * refresh job.
+	 */
+	private final AtomicBoolean fCollectAgain = new AtomicBoolean();
+
+	private final Job fRefreshJob = Job.createSystem(Messages.TypeNameIndex_Refresh, (IProgressMonitor monitor) -> {
+		return refresh(monitor);
+	});
+
+	/**
+	 * The sorted classes of a search scope, <code>null</code> until the scope
+	 * is queried.
+	 */
+	private static final class Types {
+		private final Key key;
+		private volatile Type[] sorted;
+		private IJavaSearchScope scope;
+
+		Types(Key key) {
+			this.key = key;
+		}
+
+		Type[] get(IProgressMonitor monitor) throws JavaModelException {
+			final Type[] result = sorted;
+			if (result != null) {
+				return result;
+			}
+			synchronized (this) {
+				if (sorted == null) {
+					collect(monitor);
+				}
+				return sorted;
+			}
+		}
+
+		synchronized void refresh(IProgressMonitor monitor) throws JavaModelException {
+			if (sorted != null) {
+				collect(monitor);
+			}
+		}
+
+		private void collect(IProgressMonitor monitor) throws JavaModelException {
+			scope = createScope(key);
+			sorted = TypeNameIndex.collect(scope, monitor);
+		}
+
+		/**
+		 * Replaces the classes of the given compilation units which are in the
+		 * scope, and removes the classes of the given removed source packages.
+		 */
+		synchronized void update(Map<ICompilationUnit, List<Type>> units, List<IPackageFragment> removedPackages) {
+			final Type[] current = sorted;
+			if (current == null) {
+				return;
+			}
+			final Map<String, List<Type>> byPath = new HashMap<>();
+			units.forEach((unit, types) -> {
+				if (scope.encloses(unit)) {
+					byPath.put(unit.getPath().toString(), types);
+				}
+			});
+			final List<Type> result = new ArrayList<>(current.length);
+			final Set<String> removed = new HashSet<>();
+			for (final Type type : current) {
+				if (byPath.containsKey(type.path()) || inPackage(type, removedPackages)) {
+					removed.add(type.path() + '|' + type.className());
+				} else {
+					result.add(type);
+				}
+			}
+			final Set<String> added = new HashSet<>();
+			for (final List<Type> types : byPath.values()) {
+				for (final Type type : types) {
+					added.add(type.path() + '|' + type.className());
+				}
+				result.addAll(types);
+			}
+			// a save usually keeps the classes of the unit
+			if (!removed.equals(added)) {
+				final Type[] newSorted = result.toArray(new Type[result.size()]);
+				Arrays.sort(newSorted, ORDER);
+				sorted = newSorted;
+			}
+		}
+
+		private static boolean inPackage(Type type, List<IPackageFragment> packages) {
+			for (final IPackageFragment fragment : packages) {
+				final String folder = fragment.getPath().toString() + '/';
+				if (type.path().startsWith(folder) && type.path().indexOf('/', folder.length()) < 0
+						&& fragment.getElementName().equals(new String(type.packageName()))) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		void clear() {
+			sorted = null;
+		}
+	}
+
+	public void start() {
+		JavaCore.addElementChangedListener(this, ElementChangedEvent.POST_CHANGE);
+	}
+
+	public void stop() {
+		JavaCore.removeElementChangedListener(this);
+		fRefreshJob.cancel();
+		synchronized (fTypes) {
+			fTypes.clear();
+		}
+		fChangedElements.clear();
+		fCollectAgain.set(false);
+	}
+
+	private List<Types> getScopes() {
+		synchronized (fTypes) {
+			return new ArrayList<>(fTypes.values());
+		}
+	}
+
+	private Types getScope(Key key) {
+		synchronized (fTypes) {
+			return fTypes.computeIfAbsent(key, Types::new);
+		}
+	}
+
+	private IStatus refresh(IProgressMonitor monitor) {
+		final boolean collectAgain = fCollectAgain.getAndSet(false);
+		final List<IJavaElement> changed = new ArrayList<>(fChangedElements);
+		fChangedElements.removeAll(changed);
+		final List<Types> scopes = getScopes();
+		if (collectAgain) {
+			for (final Types types : scopes) {
+				if (monitor.isCanceled()) {
+					fCollectAgain.set(true);
+					return Status.CANCEL_STATUS;
+				}
+				try {
+					types.refresh(monitor);
+				} catch (JavaModelException e) {
+					// the scope is collected again when it is queried
+					types.clear();
+				} catch (OperationCanceledException e) {
+					fCollectAgain.set(true);
+					return Status.CANCEL_STATUS;
+				}
+			}
+			return Status.OK_STATUS;
+		}
+		final Map<ICompilationUnit, List<Type>> units = new LinkedHashMap<>();
+		final List<IPackageFragment> removedPackages = new ArrayList<>();
+		try {
+			for (final IJavaElement element : changed) {
+				if (element instanceof ICompilationUnit unit) {
+					units.put(unit, typesOf(unit));
+				} else if (element instanceof IPackageFragment fragment) {
+					if (!fragment.exists()) {
+						removedPackages.add(fragment);
+						continue;
+					}
+					for (final ICompilationUnit unit : fragment.getCompilationUnits()) {
+						units.put(unit, typesOf(unit));
+					}
+				}
+			}
+		} catch (JavaModelException e) {
+			// the names cannot be updated one by one
+			fCollectAgain.set(true);
+			fRefreshJob.schedule();
+			return Status.OK_STATUS;
+		}
+		for (final Types types : scopes) {
+			types.update(units, removedPackages);
+		}
+		return Status.OK_STATUS;
+	}
+
+	/**
+	 * Returns the classes a compilation unit declares, the way
+	 * {@link #collect(IJavaSearchScope, IProgressMonitor)} names them.
+	 */
+	private static List<Type> typesOf(ICompilationUnit unit) throws JavaModelException {
+		if (!unit.exists()) {
+			return List.of();
+		}
+		final String path = unit.getPath().toString();
+		final char[] packageName = unit.getParent().getElementName().toCharArray();
+		final List<Type> types = new ArrayList<>();
+		for (final IType type : unit.getAllTypes()) {
+			if (!type.isClass()) {
+				continue;
+			}
+			IType outermost = type;
+			while (outermost.getDeclaringType() != null) {
+				outermost = outermost.getDeclaringType();
+			}
+			final String simpleName = type.getElementName();
+			final String cName = outermost == type ? simpleName : outermost.getElementName() + "$" + simpleName; //$NON-NLS-1$
+			final String className = packageName.length == 0 ? cName : new String(packageName) + "." + cName; //$NON-NLS-1$
+			types.add(new Type(packageName, simpleName.toCharArray(), className, path));
+		}
+		return types;
+	}
+
+	/**
+	 * Passes the classes of the given scope whose package and simple name
+	 * match the given patterns to the given requestor. The patterns follow the
+	 * rules of {@link SearchPattern#R_PATTERN_MATCH}, a type pattern without
+	 * wildcards also matches as a case insensitive prefix or as a camel case
+	 * pattern. A <code>null</code> or empty pattern matches every name.
+	 *
+	 * @throws OperationCanceledException
+	 *             if the given monitor is canceled
+	 */
+	public void search(Key key, char[] packagePattern, char[] typePattern, Consumer<Type> requestor,
+			IProgressMonitor monitor) throws JavaModelException {
+		final Type[] types = getScope(key).get(monitor);
+		int start = 0;
+		int end = types.length;
+		final boolean anyType = typePattern == null || typePattern.length == 0;
+		if (!anyType && typePattern[0] != '*' && typePattern[0] != '?') {
+			final int first = fold(typePattern[0]);
+			start = lowerBound(types, first);
+			end = lowerBound(types, first + 1);
+		}
+		final boolean anyPackage = packagePattern == null || CharOperation.equals(packagePattern, new char[] { '*' });
+		for (int i = start; i < end; i++) {
+			if ((i & 0xff) == 0 && monitor != null && monitor.isCanceled()) {
+				throw new OperationCanceledException();
+			}
+			final Type type = types[i];
+			if ((anyType || matchesType(typePattern, type.simpleName()))
+					&& (anyPackage || CharOperation.match(packagePattern, type.packageName(), false))) {
+				requestor.accept(type);
+			}
+		}
+	}
+
+	private static boolean matchesType(char[] pattern, char[] name) {
+		if (CharOperation.indexOf('*', pattern) >= 0 || CharOperation.indexOf('?', pattern) >= 0) {
+			return CharOperation.match(pattern, name, false);
+		}
+		return CharOperation.prefixEquals(pattern, name, false) || SearchPattern.camelCaseMatch(pattern, name);
+	}
+
+	/**
+	 * Returns the index of the first type whose folded first character is not
+	 * less than the given one.
+	 */
+	private static int lowerBound(Type[] types, int first) {
+		int low = 0;
+		int high = types.length;
+		while (low < high) {
+			final int mid = (low + high) >>> 1;
+			if (fold(types[mid].simpleName()[0]) < first) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+
+	/**
+	 * Folds the case of a character the way
+	 * {@link String#CASE_INSENSITIVE_ORDER} does.
+	 */
+	private static int fold(char c) {
+		return Character.toLowerCase(Character.toUpperCase(c));
+	}
+
+	private static Type[] collect(IJavaSearchScope scope, IProgressMonitor monitor) throws JavaModelException {
+		final List<Type> types = new ArrayList<>();
+		final TypeNameRequestor requestor = new TypeNameRequestor() {
+			@Override
+			public void acceptType(int modifiers, char[] packageName, char[] simpleTypeName,
+					char[][] enclosingTypeNames, String path) {
+				if (simpleTypeName.length == 0) {
+					return;
+				}
+				// 474841 compute name considering inner classes
+				final boolean isEnclosed = enclosingTypeNames != null && enclosingTypeNames.length > 0;
+				final String ePrefix = isEnclosed ? new String(enclosingTypeNames[0]) + "$" : ""; //$NON-NLS-1$//$NON-NLS-2$
+				final String cName = ePrefix + new String(simpleTypeName);
+				final String className = packageName.length == 0 ? cName : new String(packageName) + "." + cName; //$NON-NLS-1$
+				types.add(new Type(packageName, simpleTypeName, className, path));
+			}
+		};
+		new SearchEngine().searchAllTypeNames(null, SearchPattern.R_PATTERN_MATCH, null,
+				SearchPattern.R_PATTERN_MATCH, IJavaSearchConstants.CLASS, scope, requestor,
+				IJavaSearchConstants.WAIT_UNTIL_READY_TO_SEARCH, monitor);
+		final Type[] sorted = types.toArray(new Type[types.size()]);
+		Arrays.sort(sorted, ORDER);
+		return sorted;
+	}
+
+	private static IJavaSearchScope createScope(Key key) throws JavaModelException {
+		if (key.project() == null) {
+			// the project may be null in the live editor
+			return SearchEngine.createWorkspaceScope();
+		}
+		if (!key.followReferences()) {
+			return SearchEngine.createJavaSearchScope(JavaCore.create(key.project()).getPackageFragmentRoots(),
+					false);
+		}
+		return PDEJavaHelper.getSearchScope(key.project());
+	}
+
+	@Override
+	public void elementChanged(ElementChangedEvent event) {
+		synchronized (fTypes) {
+			if (fTypes.isEmpty()) {
+				return;
+			}
+		}
+		if (collectChanges(event.getDelta())) {
+			fRefreshJob.schedule(REFRESH_DELAY);
+		}
+	}
+
+	/**
+	 * Remembers the compilation units and source packages the given delta
+	 * adds, removes or changes, or that the scopes must be collected again
+	 * when it changes the package fragment roots or the classpath of a
+	 * project. Returns whether the names must be updated.
+	 */
+	private boolean collectChanges(IJavaElementDelta delta) {
+		final int kind = delta.getKind();
+		final int flags = delta.getFlags();
+		final IJavaElement element = delta.getElement();
+		switch (element.getElementType()) {
+		case IJavaElement.JAVA_MODEL:
+			break;
+		case IJavaElement.JAVA_PROJECT:
+			if (kind == IJavaElementDelta.REMOVED) {
+				synchronized (fTypes) {
+					fTypes.keySet().removeIf(key -> element.getResource().equals(key.project()));
+				}
+			}
+			if (kind != IJavaElementDelta.CHANGED || (flags & (IJavaElementDelta.F_OPENED
+					| IJavaElementDelta.F_CLOSED | IJavaElementDelta.F_CLASSPATH_CHANGED
+					| IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED)) != 0) {
+				fCollectAgain.set(true);
+				return true;
+			}
+			break;
+		case IJavaElement.PACKAGE_FRAGMENT_ROOT:
+			if (kind != IJavaElementDelta.CHANGED || (flags & (IJavaElementDelta.F_ADDED_TO_CLASSPATH
+					| IJavaElementDelta.F_REMOVED_FROM_CLASSPATH | IJavaElementDelta.F_ARCHIVE_CONTENT_CHANGED)) != 0) {
+				fCollectAgain.set(true);
+				return true;
+			}
+			break;
+		case IJavaElement.PACKAGE_FRAGMENT:
+			if (kind != IJavaElementDelta.CHANGED) {
+				if (((IPackageFragmentRoot) element.getParent()).isArchive()) {
+					fCollectAgain.set(true);
+				} else {
+					fChangedElements.add(element);
+				}
+				return true;
+			}
+			break;
+		case IJavaElement.COMPILATION_UNIT:
+			// a save or a rename only replaces the names of the unit
+			if (kind != IJavaElementDelta.CHANGED || (flags & (IJavaElementDelta.F_CONTENT
+					| IJavaElementDelta.F_CHILDREN)) != 0) {
+				fChangedElements.add(element);
+				return true;
+			}
+			return false;
+		case IJavaElement.CLASS_FILE:
+			// the class files of class folders are not in the source packages
+			if (kind != IJavaElementDelta.CHANGED) {
+				fCollectAgain.set(true);
+				return true;
+			}
+			return false;
+		default:
+			return false;
+		}
+		boolean changed = false;
+		for (final IJavaElementDelta child : delta.getAffectedChildren()) {
+			changed |= collectChanges(child);
+		}
+		return changed;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2022 BestSolution.at and others.
+ * Copyright (c) 2010, 2026 BestSolution.at and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -1057,10 +1057,13 @@ public class ModelEditor implements IGotoObject {
 					SWT.MULTI | SWT.FULL_SELECTION | SWT.H_SCROLL | SWT.V_SCROLL, new PatternFilter(true));
 			tempViewer = viewParent.getViewer();
 		} else {
-			tempViewer = new TreeViewerEx(treeArea, SWT.MULTI | SWT.FULL_SELECTION | SWT.H_SCROLL | SWT.V_SCROLL,
-					emfDocumentProvider, modelProvider);
+			// items are only created for visible nodes
+			tempViewer = new TreeViewerEx(treeArea,
+					SWT.MULTI | SWT.FULL_SELECTION | SWT.H_SCROLL | SWT.V_SCROLL | SWT.VIRTUAL, emfDocumentProvider,
+					modelProvider);
 		}
 		final TreeViewer viewer = tempViewer;
+		viewer.setUseHashlookup(true);
 
 		final FontDescriptor fontDescriptor = FontDescriptor.createFrom(viewer.getControl().getFont())
 				.setStyle(SWT.NORMAL);
@@ -1068,6 +1071,21 @@ public class ModelEditor implements IGotoObject {
 				new ComponentLabelProvider(this, messages, fontDescriptor)));
 		final ObservableListTreeContentProvider<Object> contentProvider = new ObservableListTreeContentProvider<>(
 				new ObservableFactoryImpl(), new TreeStructureAdvisor<>() {
+					@Override
+					public Boolean hasChildren(Object element) {
+						// avoid observing the children of collapsed virtual entries, an empty
+						// entry is observed to learn about added children and a collapsed
+						// entry is refreshed when its children may have been removed
+						if (element instanceof VirtualEntry<?, ?> && ((VirtualEntry<?, ?>) element)
+								.hasChildren(() -> {
+									if (!viewer.getControl().isDisposed()) {
+										viewer.refresh(element);
+									}
+								})) {
+							return Boolean.TRUE;
+						}
+						return null;
+					}
 				});
 		viewer.setContentProvider(contentProvider);
 
@@ -2122,7 +2140,7 @@ public class ModelEditor implements IGotoObject {
 				// make sure tree node has been instantiated
 				final ObservableListTreeContentProvider<?> provider = (ObservableListTreeContentProvider<?>) viewer
 				.getContentProvider();
-				getFirstMatchingItem(object, provider, provider.getChildren(viewer.getInput()));
+				TreeViewerEx.getFirstMatchingItem(object, provider, provider.getChildren(viewer.getInput()));
 
 				viewer.reveal(object);
 				viewer.setSelection(new StructuredSelection(object));
@@ -2152,22 +2170,6 @@ public class ModelEditor implements IGotoObject {
 		}
 	}
 
-	// This will ensure the provider has created the tree node (so we can reveal
-	// it).
-	private static Object getFirstMatchingItem(EObject target, ObservableListTreeContentProvider<?> provider,
-			Object[] items) {
-		for (int i = 0; i < items.length; i++) {
-			if (items[i] == target) {
-				return items[i];
-			}
-			final Object found = getFirstMatchingItem(target, provider, provider.getChildren(items[i]));
-			if (found != null) {
-				return found;
-			}
-		}
-		return null;
-	}
-
 	public void refreshViewer() {
 		viewer.refresh(true);
 	}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2014 TwelveTone LLC and others.
+ * Copyright (c) 2014, 2026 TwelveTone LLC and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,6 +15,7 @@
 package org.eclipse.e4.tools.emf.ui.internal.common;
 
 import java.util.ArrayList;
+import java.util.LinkedList;
 import java.util.List;
 
 import org.eclipse.e4.tools.emf.ui.common.IModelResource;
@@ -111,14 +112,58 @@ public class TreeViewerEx extends TreeViewer {
 	}
 
 	// This will ensure the provider has created the tree node (so we can reveal
-	// it).
+	// it). Only the nodes on the path of containers of the target are created,
+	// the whole tree is searched if the target is not below its containers.
 	static public Object getFirstMatchingItem(EObject target, ObservableListTreeContentProvider<?> provider,
 			Object[] items) {
+		final LinkedList<EObject> path = new LinkedList<>();
+		for (EObject o = target; o != null; o = o.eContainer()) {
+			path.addFirst(o);
+		}
+		Object[] children = items;
+		boolean found = false;
+		for (EObject element : path) {
+			if (findSiblings(element, provider, children) != null) {
+				if (element == target) {
+					return target;
+				}
+				found = true;
+				children = provider.getChildren(element);
+			} else if (found) {
+				break;
+			}
+		}
+		return searchTree(target, provider, items);
+	}
+
+	/**
+	 * Returns the given items or the children of one of their virtual entries
+	 * if they contain the given element.
+	 */
+	private static Object[] findSiblings(EObject element, ObservableListTreeContentProvider<?> provider,
+			Object[] items) {
+		for (Object item : items) {
+			if (item == element) {
+				return items;
+			}
+		}
+		for (Object item : items) {
+			if (item instanceof VirtualEntry<?, ?> && ((VirtualEntry<?, ?>) item).containsChild(element)) {
+				Object[] siblings = findSiblings(element, provider, provider.getChildren(item));
+				if (siblings != null) {
+					return siblings;
+				}
+			}
+		}
+		return null;
+	}
+
+	private static Object searchTree(EObject target, ObservableListTreeContentProvider<?> provider, Object[] items) {
 		for (int i = 0; i < items.length; i++) {
 			if (items[i] == target) {
 				return items[i];
 			}
-			Object found = getFirstMatchingItem(target, provider, provider.getChildren(items[i]));
+			Object found = searchTree(target, provider, provider.getChildren(items[i]));
 			if (found != null) {
 				return found;
 			}
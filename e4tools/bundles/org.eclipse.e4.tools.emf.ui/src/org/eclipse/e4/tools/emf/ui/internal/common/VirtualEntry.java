@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2017 BestSolution.at and others.
+ * Copyright (c) 2010, 2026 BestSolution.at and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -24,6 +24,12 @@ import org.eclipse.core.databinding.observable.list.WritableList;
 import org.eclipse.core.databinding.property.list.IListProperty;
 
 /**
+ * A node of the model editor tree grouping the children of a parent by one of
+ * its list properties. The children are only observed when the list of the
+ * entry is first requested, typically when the node is expanded or revealed.
+ * Until then, only the list of the parent is observed to learn whether the
+ * entry has children.
+ *
  * @param <P> type of the parent object
  * @param <E> type of the child elements of the parent
  */
@@ -31,27 +37,47 @@ public class VirtualEntry<P, E> {
 	private final String id;
 	private final P originalParent;
 	private final String label;
-	private final IObservableList<E> list;
 	private final IListProperty<? super P, E> property;
+	private IObservableList<E> list;
+	private IObservableList<E> origList;
+	private Boolean hasChildren;
+	private Runnable childrenChanged;
 
 	public VirtualEntry(String id, IListProperty<? super P, E> property, P originalParent, String label) {
 		this.id = id;
 		this.originalParent = originalParent;
 		this.label = label;
 		this.property = property;
-		this.list = new WritableList<>();
-		final IObservableList<E> origList = property.observe(originalParent);
-		list.addAll(cleanedList(origList));
+	}
+
+	private IObservableList<E> createList() {
+		final IObservableList<E> children = new WritableList<>();
+		final IObservableList<E> origList = observeOrigList();
+		children.addAll(cleanedList(origList));
 
 		final IListChangeListener<E> listener = event -> {
-			if (!VirtualEntry.this.list.isDisposed()) {
+			if (!children.isDisposed()) {
 				List<E> clean = cleanedList(event.getObservableList());
-				ListDiff<E> diff = Diffs.computeListDiff(VirtualEntry.this.list, clean);
-				diff.applyTo(VirtualEntry.this.list);
+				ListDiff<E> diff = Diffs.computeListDiff(children, clean);
+				diff.applyTo(children);
 			}
 		};
 
 		origList.addListChangeListener(listener);
+		return children;
+	}
+
+	private IObservableList<E> observeOrigList() {
+		if (origList == null) {
+			origList = property.observe(originalParent);
+			origList.addListChangeListener(event -> {
+				hasChildren = null;
+				if (list == null && childrenChanged != null) {
+					childrenChanged.run();
+				}
+			});
+		}
+		return origList;
 	}
 
 	public IListProperty<? super P, E> getProperty() {
@@ -78,9 +104,51 @@ public class VirtualEntry<P, E> {
 	}
 
 	public IObservableList<E> getList() {
+		if (list == null) {
+			list = createList();
+		}
 		return list;
 	}
 
+	/**
+	 * Returns whether the entry has children, without observing them if they
+	 * are not observed yet. The answer is then kept until the list of the
+	 * parent changes.
+	 *
+	 * @param changed
+	 *            run when the list of the parent changes while the children are
+	 *            not observed, so that the caller can ask again, may be
+	 *            <code>null</code>
+	 */
+	public boolean hasChildren(Runnable changed) {
+		if (list != null) {
+			return !list.isEmpty();
+		}
+		childrenChanged = changed;
+		if (hasChildren == null) {
+			hasChildren = Boolean.FALSE;
+			for (final E o : observeOrigList()) {
+				if (accepted(o)) {
+					hasChildren = Boolean.TRUE;
+					break;
+				}
+			}
+		}
+		return hasChildren.booleanValue();
+	}
+
+	/**
+	 * Returns whether the given element is a child of the parent in the
+	 * property of the entry, without observing the children if they are not
+	 * observed yet. The element may still be filtered from the children.
+	 */
+	public boolean containsChild(Object element) {
+		if (list != null) {
+			return list.contains(element);
+		}
+		return property.getList(originalParent).contains(element);
+	}
+
 	public P getOriginalParent() {
 		return originalParent;
 	}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2014, 2020 TwelveTone LLC and others.
+ * Copyright (c) 2014, 2026 TwelveTone LLC and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -99,6 +99,11 @@ import org.eclipse.swt.widgets.Text;
 public abstract class FilteredContributionDialog extends SaveDialogBoundsSettingsDialog {
 
 	private static final int MAX_RESULTS = 500;
+	/**
+	 * Delay before a search starts, a search scheduled while typing is canceled
+	 * by the next keystroke before it runs.
+	 */
+	private static final long SEARCH_DELAY = 150;
 	private static final int DIALOG_MINIMUM_WIDTH = 600;
 	private static final int DIALOG_MINIMUM_HEIGHT = 350;
 
@@ -422,7 +427,7 @@ public abstract class FilteredContributionDialog extends SaveDialogBoundsSetting
 				}
 
 			};
-			currentSearchThread.schedule();
+			currentSearchThread.schedule(SEARCH_DELAY);
 
 		});
 
@@ -996,7 +1001,9 @@ public abstract class FilteredContributionDialog extends SaveDialogBoundsSetting
 
 	public void stopSearchThread(boolean bJoin) {
 		if (currentSearchThread != null) {
-			currentResultHandler.cancled = true;
+			if (currentResultHandler != null) {
+				currentResultHandler.cancled = true;
+			}
 			currentSearchThread.cancel();
 			if (bJoin) {
 				try {
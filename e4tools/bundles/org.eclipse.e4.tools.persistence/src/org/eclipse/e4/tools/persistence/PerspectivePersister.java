@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021 EclipseSource GmbH and others.
+ * Copyright (c) 2021, 2026 EclipseSource GmbH and others.
  *
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,18 +13,27 @@
  ******************************************************************************/
 package org.eclipse.e4.tools.persistence;
 
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.Reader;
 import java.io.StringReader;
 import java.io.StringWriter;
 import java.io.Writer;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 import org.eclipse.e4.tools.internal.persistence.IPartMemento;
 import org.eclipse.e4.tools.internal.persistence.IPersistenceFactory;
@@ -53,6 +62,7 @@ import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.resource.ResourceSet;
 import org.eclipse.emf.ecore.resource.URIConverter;
+import org.eclipse.emf.ecore.resource.impl.BinaryResourceImpl;
 import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
 import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.jface.resource.JFaceResources;
@@ -83,22 +93,46 @@ public final class PerspectivePersister {
 	 * @return the serialized WorkbenchState
 	 */
 	public static String serializePerspectiveAndPartStates(final String perspectiveId) {
-		final MWindow mWindow = CommonUtil.getCurrentMainWindow();
-		final MPerspective perspective = CommonUtil.getMainPerspectiveFromWindow(mWindow, perspectiveId);
-		final IWorkbenchState workbenchState = CommonUtil.createWorkbenchState(mWindow, perspective);
+		final IWorkbenchState workbenchState = createWorkbenchState(perspectiveId);
 		final String xml = serialize(workbenchState);
 		return xml;
 	}
 
+	/**
+	 * Serialize a specific perspective from the running application in the EMF
+	 * binary format, which is smaller and faster to read and write than XMI.
+	 *
+	 * @param perspectiveId The id of the perspective to extract and serialize
+	 * @return the serialized WorkbenchState
+	 * @see #readWorkbenchState(InputStream)
+	 */
+	public static byte[] serializePerspectiveAndPartStatesBinary(final String perspectiveId) {
+		final IWorkbenchState workbenchState = createWorkbenchState(perspectiveId);
+		try (ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+			writeWorkbenchState(workbenchState, out, true);
+			return out.toByteArray();
+		} catch (final IOException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Extract a specific perspective and its part states from the running
+	 * application.
+	 *
+	 * @param perspectiveId The id of the perspective to extract
+	 * @return the WorkbenchState of the perspective
+	 */
+	public static IWorkbenchState createWorkbenchState(final String perspectiveId) {
+		final MWindow mWindow = CommonUtil.getCurrentMainWindow();
+		final MPerspective perspective = CommonUtil.getMainPerspectiveFromWindow(mWindow, perspectiveId);
+		return CommonUtil.createWorkbenchState(mWindow, perspective);
+	}
+
 	private static String serialize(final EObject eObject) {
-		final EObject copy = EcoreUtil.copy(eObject);
-		final ResourceSet resourceSet = new ResourceSetImpl();
-		final Resource resource = resourceSet.createResource(URI.createURI("virtualUri")); //$NON-NLS-1$
-		// changes containment, therefore we use a copy
-		resource.getContents().add(copy);
 		try (Writer writer = new StringWriter()) {
 			final URIConverter.WriteableOutputStream uws = new URIConverter.WriteableOutputStream(writer, "UTF-8"); //$NON-NLS-1$
-			resource.save(uws, null);
+			save(eObject, uws, false);
 			final String xml = writer.toString().trim();
 			writer.close();
 			return xml;
@@ -108,6 +142,148 @@ public final class PerspectivePersister {
 		}
 	}
 
+	/**
+	 * Write the WorkbenchState to a stream, as XMI or in the EMF binary format.
+	 * The stream is not closed.
+	 *
+	 * @param workbenchState The WorkbenchState to write
+	 * @param out            The stream to write to
+	 * @param binary         Whether to use the EMF binary format
+	 * @throws IOException if the stream cannot be written
+	 */
+	public static void writeWorkbenchState(final IWorkbenchState workbenchState, final OutputStream out,
+			final boolean binary) throws IOException {
+		save(workbenchState, out, binary);
+	}
+
+	/**
+	 * Read a WorkbenchState written as XMI or in the EMF binary format, the
+	 * format is detected from the content. The stream is not closed.
+	 *
+	 * @param in The stream to read from
+	 * @return the WorkbenchState
+	 * @throws IOException if the stream cannot be read
+	 */
+	public static IWorkbenchState readWorkbenchState(final InputStream in) throws IOException {
+		final InputStream buffered = in.markSupported() ? in : new BufferedInputStream(in);
+		buffered.mark(1);
+		final int first = buffered.read();
+		buffered.reset();
+		// XMI starts with a tag, possibly after a byte order mark or white space
+		final boolean xml = first == '<' || first == 0xEF || Character.isWhitespace(first);
+		final Resource resource = createResource(!xml);
+		resource.load(buffered, null);
+		return getWorkbenchState(resource);
+	}
+
+	private static void save(final EObject eObject, final OutputStream out, final boolean binary)
+			throws IOException {
+		// adding to a resource changes containment, therefore we use a copy of an
+		// object that is already contained
+		final boolean contained = eObject.eContainer() != null || eObject.eResource() != null;
+		final EObject content = contained ? EcoreUtil.copy(eObject) : eObject;
+		final Resource resource = createResource(binary);
+		resource.getContents().add(content);
+		try {
+			resource.save(out, null);
+		} finally {
+			if (!contained) {
+				resource.getContents().remove(content);
+			}
+		}
+	}
+
+	private static Resource createResource(final boolean binary) {
+		final ResourceSet resourceSet = new ResourceSetImpl();
+		final URI uri = URI.createURI("virtualUri"); //$NON-NLS-1$
+		if (!binary) {
+			return resourceSet.createResource(uri);
+		}
+		final Resource resource = new BinaryResourceImpl(uri);
+		resourceSet.getResources().add(resource);
+		return resource;
+	}
+
+	private static IWorkbenchState getWorkbenchState(final Resource resource) {
+		final EObject eObject = resource.getContents().isEmpty() ? null : resource.getContents().get(0);
+		if (!(eObject instanceof IWorkbenchState)) {
+			throw new IllegalStateException("Corrupted Perspective File"); //$NON-NLS-1$
+		}
+		return (IWorkbenchState) eObject;
+	}
+
+	/**
+	 * Create a differential WorkbenchState, which contains the perspective, the
+	 * editor area and the trim bars of the current state, but only the part
+	 * states that were added or changed since the base state.
+	 *
+	 * @param base    The last snapshot of the WorkbenchState
+	 * @param current The current WorkbenchState
+	 * @return the differential WorkbenchState
+	 * @see #applyDifferentialState(IWorkbenchState, IWorkbenchState)
+	 */
+	public static IWorkbenchState createDifferentialState(final IWorkbenchState base, final IWorkbenchState current) {
+		final Map<String, IPartMemento> baseSettings = getViewSettings(base);
+		final IWorkbenchState differential = EcoreUtil.copy(current);
+		for (final Iterator<IPartMemento> it = differential.getViewSettings().iterator(); it.hasNext();) {
+			final IPartMemento viewSetting = it.next();
+			final IPartMemento baseSetting = baseSettings.get(viewSetting.getPartId());
+			if (baseSetting != null && Objects.equals(baseSetting.getMemento(), viewSetting.getMemento())) {
+				it.remove();
+			}
+		}
+		return differential;
+	}
+
+	/**
+	 * Apply a differential WorkbenchState to the snapshot it was created from.
+	 * The part states of the result are those of the differential state, and
+	 * those of the base state for the other parts of the perspective, in the
+	 * order of the parts in the perspective.
+	 *
+	 * @param base         The snapshot the differential state was created from
+	 * @param differential The differential WorkbenchState
+	 * @return the complete WorkbenchState
+	 * @see #createDifferentialState(IWorkbenchState, IWorkbenchState)
+	 */
+	public static IWorkbenchState applyDifferentialState(final IWorkbenchState base,
+			final IWorkbenchState differential) {
+		final Map<String, IPartMemento> baseSettings = getViewSettings(base);
+		final IWorkbenchState result = EcoreUtil.copy(differential);
+		final Map<String, IPartMemento> changedSettings = getViewSettings(result);
+		final List<IPartMemento> viewSettings = new ArrayList<>();
+		final Set<String> partIds = new HashSet<>();
+		for (final Iterator<EObject> it = ((EObject) result.getPerspective()).eAllContents(); it.hasNext();) {
+			final EObject eObject = it.next();
+			final String partId = eObject instanceof MPlaceholder ? ((MPlaceholder) eObject).getElementId() : null;
+			if (partId != null && partIds.add(partId)) {
+				final IPartMemento changed = changedSettings.get(partId);
+				if (changed != null) {
+					viewSettings.add(changed);
+				} else if (baseSettings.containsKey(partId)) {
+					viewSettings.add(EcoreUtil.copy(baseSettings.get(partId)));
+				}
+			}
+		}
+		// keep the part states of parts which are not in the perspective
+		for (final IPartMemento changed : result.getViewSettings()) {
+			if (!partIds.contains(changed.getPartId())) {
+				viewSettings.add(changed);
+			}
+		}
+		result.getViewSettings().clear();
+		result.getViewSettings().addAll(viewSettings);
+		return result;
+	}
+
+	private static Map<String, IPartMemento> getViewSettings(final IWorkbenchState workbenchState) {
+		final Map<String, IPartMemento> viewSettings = new HashMap<>();
+		for (final IPartMemento viewSetting : workbenchState.getViewSettings()) {
+			viewSettings.putIfAbsent(viewSetting.getPartId(), viewSetting);
+		}
+		return viewSettings;
+	}
+
 	/**
 	 * Deserialize and restore the WorkbenchState.
 	 *
@@ -118,6 +294,18 @@ public final class PerspectivePersister {
 		restoreWorkbenchState(toBeMerged);
 	}
 
+	/**
+	 * Read and restore a WorkbenchState written as XMI or in the EMF binary
+	 * format.
+	 *
+	 * @param in The stream to read the WorkbenchState from
+	 * @throws IOException if the stream cannot be read
+	 * @see #readWorkbenchState(InputStream)
+	 */
+	public static void restoreWorkbenchState(final InputStream in) throws IOException {
+		restoreWorkbenchState(readWorkbenchState(in));
+	}
+
 	/**
 	 * Restore the WorkbenchState.
 	 *
@@ -334,11 +522,7 @@ public final class PerspectivePersister {
 		try (Reader reader = new StringReader(serializedState)) {
 			final URIConverter.ReadableInputStream is = new URIConverter.ReadableInputStream(reader, "UTF-8"); //$NON-NLS-1$
 			resource.load(is, null);
-			final EObject eObject = resource.getContents().get(0);
-			if (!(eObject instanceof IWorkbenchState)) {
-				throw new IllegalStateException("Corrupted Perspective File"); //$NON-NLS-1$
-			}
-			return (IWorkbenchState) eObject;
+			return getWorkbenchState(resource);
 		} catch (final IOException e) {
 			throw new IllegalStateException(e);
 		}
@@ -0,0 +1,167 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ * Eclipse contributors - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.e4.tools.emf.editor3x;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IFolder;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IProjectDescription;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.e4.tools.emf.editor3x.TypeNameIndex.Key;
+import org.eclipse.jdt.core.IClasspathEntry;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.JavaCore;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class TypeNameIndexTest {
+
+	private static final long TIMEOUT = 10000;
+
+	private IProject project;
+	private TypeNameIndex index;
+	private Key key;
+
+	@Before
+	public void setUp() throws CoreException {
+		project = ResourcesPlugin.getWorkspace().getRoot().getProject("TypeNameIndexTest"); //$NON-NLS-1$
+		project.create(null);
+		project.open(null);
+		final IProjectDescription description = project.getDescription();
+		description.setNatureIds(new String[] { JavaCore.NATURE_ID });
+		project.setDescription(description, null);
+		final IFolder src = project.getFolder("src"); //$NON-NLS-1$
+		src.create(true, true, null);
+		final IJavaProject javaProject = JavaCore.create(project);
+		javaProject.setRawClasspath(new IClasspathEntry[] { JavaCore.newSourceEntry(src.getFullPath()) },
+				project.getFolder("bin").getFullPath(), null); //$NON-NLS-1$
+
+		createClass("a", "Alpha", "public class Alpha { public static class Inner {} }"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		createClass("a", "AlphaBeta", "public class AlphaBeta {}"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		createClass("a", "MyCamelCaseThing", "public class MyCamelCaseThing {}"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		createClass("a", "Listener", "public interface Listener {}"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		createClass("b", "ApiHelper", "public class ApiHelper {}"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+
+		index = new TypeNameIndex();
+		index.start();
+		key = new Key(project, false);
+	}
+
+	@After
+	public void tearDown() throws CoreException {
+		index.stop();
+		project.delete(true, true, null);
+	}
+
+	private IFile createClass(String packageName, String name, String body) throws CoreException {
+		final IFolder folder = project.getFolder("src").getFolder(packageName); //$NON-NLS-1$
+		if (!folder.exists()) {
+			folder.create(true, true, null);
+		}
+		final IFile file = folder.getFile(name + ".java"); //$NON-NLS-1$
+		final String content = "package " + packageName + ";\n" + body + "\n"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		file.create(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), true, null);
+		return file;
+	}
+
+	private List<String> search(String packagePattern, String typePattern) throws CoreException {
+		final List<String> result = new ArrayList<>();
+		index.search(key, packagePattern == null ? null : packagePattern.toCharArray(),
+				typePattern == null ? null : typePattern.toCharArray(), type -> result.add(type.className()), null);
+		Collections.sort(result);
+		return result;
+	}
+
+	/**
+	 * Waits until the index has applied the pending deltas and the given
+	 * search returns the expected classes
+	 */
+	private void assertEventually(List<String> expected, String typePattern) throws Exception {
+		final long end = System.currentTimeMillis() + TIMEOUT;
+		List<String> actual = search(null, typePattern);
+		while (!expected.equals(actual) && System.currentTimeMillis() < end) {
+			Thread.sleep(100);
+			actual = search(null, typePattern);
+		}
+		assertEquals(expected, actual);
+	}
+
+	@Test
+	public void testPrefixMatch() throws CoreException {
+		assertEquals(List.of("a.Alpha", "a.AlphaBeta"), search(null, "Alpha")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		// the prefix is case insensitive
+		assertEquals(List.of("a.Alpha", "a.AlphaBeta"), search(null, "alp")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		assertEquals(List.of(), search(null, "Beta")); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testCamelCaseMatch() throws CoreException {
+		assertEquals(List.of("a.MyCamelCaseThing"), search(null, "MCCT")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals(List.of("a.AlphaBeta"), search(null, "AB")); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	@Test
+	public void testPatternMatch() throws CoreException {
+		assertEquals(List.of("b.ApiHelper"), search(null, "*Helper")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals(List.of("a.Alpha"), search(null, "Alph?")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals(List.of("b.ApiHelper"), search("b", "A")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+	}
+
+	@Test
+	public void testAllClasses() throws CoreException {
+		// interfaces are not classes, member classes are named with $
+		assertEquals(List.of("a.Alpha", "a.Alpha$Inner", "a.AlphaBeta", "a.MyCamelCaseThing", "b.ApiHelper"), //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$
+				search(null, null));
+		assertEquals(List.of("a.Alpha$Inner"), search(null, "Inn")); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	@Test
+	public void testAddAndRemoveUnit() throws Exception {
+		assertEquals(List.of(), search(null, "Gamma")); //$NON-NLS-1$
+
+		final IFile file = createClass("c", "Gamma", "public class Gamma {}"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		assertEventually(List.of("c.Gamma"), "Gamma"); //$NON-NLS-1$ //$NON-NLS-2$
+
+		file.delete(true, null);
+		assertEventually(List.of(), "Gamma"); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testChangeUnit() throws Exception {
+		final IFile file = project.getFile("src/a/AlphaBeta.java"); //$NON-NLS-1$
+		final String content = "package a;\npublic class AlphaBeta {}\nclass AlphaGamma {}\n"; //$NON-NLS-1$
+		file.setContents(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), true, false, null);
+
+		assertEventually(List.of("a.Alpha", "a.AlphaBeta", "a.AlphaGamma"), "Alpha"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+	}
+
+	@Test
+	public void testRemovePackage() throws Exception {
+		assertEquals(List.of("b.ApiHelper"), search(null, "Api")); //$NON-NLS-1$ //$NON-NLS-2$
+
+		project.getFolder("src/b").delete(true, null); //$NON-NLS-1$
+		assertEventually(List.of(), "Api"); //$NON-NLS-1$
+	}
+}
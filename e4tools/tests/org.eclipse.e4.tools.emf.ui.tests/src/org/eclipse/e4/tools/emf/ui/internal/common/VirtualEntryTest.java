@@ -0,0 +1,177 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ * Eclipse contributors - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.e4.tools.emf.ui.internal.common;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.core.databinding.observable.Realm;
+import org.eclipse.core.databinding.observable.list.IObservableList;
+import org.eclipse.core.databinding.observable.list.WritableList;
+import org.eclipse.core.databinding.property.list.IListProperty;
+import org.eclipse.e4.tools.emf.ui.internal.E4Properties;
+import org.eclipse.e4.ui.model.application.MApplication;
+import org.eclipse.e4.ui.model.application.MApplicationFactory;
+import org.eclipse.e4.ui.model.application.commands.MCommand;
+import org.eclipse.e4.ui.model.application.commands.MCommandsFactory;
+import org.eclipse.e4.ui.model.application.commands.MHandler;
+import org.eclipse.e4.ui.model.application.ui.basic.MBasicFactory;
+import org.eclipse.e4.ui.model.application.ui.basic.MWindow;
+import org.eclipse.jface.databinding.swt.DisplayRealm;
+import org.eclipse.jface.databinding.viewers.ObservableListTreeContentProvider;
+import org.eclipse.swt.widgets.Display;
+import org.junit.Test;
+
+/**
+ * Tests that the entries of a large model are only observed when their
+ * children are requested.
+ */
+public class VirtualEntryTest {
+
+	private static final int SIZE = 1000;
+
+	/**
+	 * An entry counting the children it looks at.
+	 */
+	private static class CountingEntry<P, E> extends VirtualEntry<P, E> {
+		int accepted;
+
+		CountingEntry(IListProperty<? super P, E> property, P parent) {
+			super("test", property, parent, "Test"); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+
+		@Override
+		protected boolean accepted(E o) {
+			accepted++;
+			return true;
+		}
+	}
+
+	private static void runWithRealm(Runnable runnable) {
+		Realm.runWithDefault(DisplayRealm.getRealm(Display.getDefault()), runnable);
+	}
+
+	private static MApplication createApplication(int commands) {
+		final MApplication application = MApplicationFactory.INSTANCE.createApplication();
+		for (int i = 0; i < commands; i++) {
+			final MCommand command = MCommandsFactory.INSTANCE.createCommand();
+			command.setElementId("command" + i); //$NON-NLS-1$
+			application.getCommands().add(command);
+		}
+		return application;
+	}
+
+	@Test
+	public void testLazyList() {
+		runWithRealm(() -> {
+			final MApplication application = createApplication(SIZE);
+			final CountingEntry<MApplication, MCommand> entry = new CountingEntry<>(
+					E4Properties.applicationCommands(), application);
+
+			// stops at the first child
+			assertTrue(entry.hasChildren(null));
+			assertEquals(1, entry.accepted);
+			assertTrue(entry.containsChild(application.getCommands().get(SIZE / 2)));
+			assertFalse(entry.containsChild(MCommandsFactory.INSTANCE.createCommand()));
+			assertEquals(1, entry.accepted);
+
+			final IObservableList<MCommand> list = entry.getList();
+			assertEquals(SIZE, list.size());
+			assertEquals(SIZE + 1, entry.accepted);
+			assertSame(list, entry.getList());
+			assertEquals(SIZE + 1, entry.accepted);
+		});
+	}
+
+	@Test
+	public void testHasChildrenInvalidated() {
+		runWithRealm(() -> {
+			final MApplication application = createApplication(1);
+			final CountingEntry<MApplication, MCommand> entry = new CountingEntry<>(
+					E4Properties.applicationCommands(), application);
+			final int[] changes = new int[1];
+			final Runnable changed = () -> changes[0]++;
+
+			assertTrue(entry.hasChildren(changed));
+			// the answer is kept while the list does not change
+			assertTrue(entry.hasChildren(changed));
+			assertEquals(1, entry.accepted);
+
+			final MCommand command = application.getCommands().remove(0);
+			assertEquals(1, changes[0]);
+			assertFalse(entry.hasChildren(changed));
+
+			application.getCommands().add(command);
+			assertEquals(2, changes[0]);
+			assertTrue(entry.hasChildren(changed));
+
+			// observed children answer themselves
+			entry.getList();
+			application.getCommands().clear();
+			assertEquals(2, changes[0]);
+			assertFalse(entry.hasChildren(changed));
+		});
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testFirstMatchingItem() {
+		runWithRealm(() -> {
+			final MApplication application = createApplication(SIZE);
+			for (int i = 0; i < 100; i++) {
+				final MWindow window = MBasicFactory.INSTANCE.createTrimmedWindow();
+				for (int j = 0; j < 100; j++) {
+					window.getHandlers().add(MCommandsFactory.INSTANCE.createHandler());
+				}
+				application.getChildren().add(window);
+			}
+			final MHandler target = application.getChildren().get(50).getHandlers().get(50);
+
+			final List<Object> observed = new ArrayList<>();
+			final ObservableListTreeContentProvider<Object> provider = new ObservableListTreeContentProvider<>(
+					element -> {
+						observed.add(element);
+						if (element instanceof MApplication) {
+							return new WritableList<>(List.of(
+									new VirtualEntry<>("commands", E4Properties.applicationCommands(), //$NON-NLS-1$
+											(MApplication) element, "Commands"), //$NON-NLS-1$
+									new VirtualEntry<>("windows", E4Properties.<MWindow> children(), //$NON-NLS-1$
+											(MApplication) element, "Windows")), //$NON-NLS-1$
+									Object.class);
+						} else if (element instanceof MWindow) {
+							return new WritableList<>(List.of(new VirtualEntry<>("handlers", //$NON-NLS-1$
+									E4Properties.handlers(), (MWindow) element, "Handlers")), Object.class); //$NON-NLS-1$
+						} else if (element instanceof VirtualEntry) {
+							return ((VirtualEntry<?, Object>) element).getList();
+						}
+						return null;
+					}, null);
+			try {
+				assertSame(target, TreeViewerEx.getFirstMatchingItem(target, provider, new Object[] { application }));
+				// only the nodes along the containers of the target are created
+				assertEquals(4, observed.size());
+				assertSame(application, observed.get(0));
+				assertSame(application.getChildren().get(50), observed.get(2));
+			} finally {
+				provider.dispose();
+			}
+		});
+	}
+}
@@ -0,0 +1,96 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.e4.tools.persistence.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+
+import org.eclipse.e4.tools.internal.persistence.IWorkbenchState;
+import org.eclipse.e4.tools.persistence.PerspectivePersister;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks that the binary and differential WorkbenchStates round-trip to the
+ * same XMI as the WorkbenchState they were created from.
+ */
+class WorkbenchStateFormatTest {
+
+	private IWorkbenchState state;
+
+	@BeforeEach
+	void setUp() {
+		final ResourceSet resourceSet = new ResourceSetImpl();
+		final Resource resource = resourceSet.getResource(URI.createURI(Paths.get("resources/workbench_restore.persistence").toUri().toString()), true); //$NON-NLS-1$
+		state = (IWorkbenchState) resource.getContents().get(0);
+	}
+
+	private static byte[] write(IWorkbenchState workbenchState, boolean binary) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		PerspectivePersister.writeWorkbenchState(workbenchState, out, binary);
+		return out.toByteArray();
+	}
+
+	private static IWorkbenchState read(byte[] bytes) throws IOException {
+		return PerspectivePersister.readWorkbenchState(new ByteArrayInputStream(bytes));
+	}
+
+	private static String toXMI(IWorkbenchState workbenchState) throws IOException {
+		return new String(write(workbenchState, false), StandardCharsets.UTF_8);
+	}
+
+	@Test
+	void testBinaryRoundTrip() throws IOException {
+		byte[] binary = write(state, true);
+		assertNotEquals('<', binary[0]);
+		assertEquals(toXMI(state), toXMI(read(binary)));
+	}
+
+	@Test
+	void testXMIRoundTrip() throws IOException {
+		assertEquals(toXMI(state), toXMI(read(write(state, false))));
+	}
+
+	@Test
+	void testDifferentialUnchanged() throws IOException {
+		IWorkbenchState differential = PerspectivePersister.createDifferentialState(state, EcoreUtil.copy(state));
+		assertEquals(0, differential.getViewSettings().size());
+
+		IWorkbenchState restored = PerspectivePersister.applyDifferentialState(state, read(write(differential, true)));
+		assertEquals(toXMI(state), toXMI(restored));
+	}
+
+	@Test
+	void testDifferentialChanged() throws IOException {
+		IWorkbenchState current = EcoreUtil.copy(state);
+		current.getViewSettings().get(0).setMemento(current.getViewSettings().get(0).getMemento().replace("RESTORED TEXT!", "CHANGED TEXT!")); //$NON-NLS-1$ //$NON-NLS-2$
+
+		IWorkbenchState differential = PerspectivePersister.createDifferentialState(state, current);
+		assertEquals(1, differential.getViewSettings().size());
+
+		IWorkbenchState restored = PerspectivePersister.applyDifferentialState(state, read(write(differential, true)));
+		assertEquals(toXMI(current), toXMI(restored));
+	}
+}
@@ -0,0 +1,131 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.ua.core;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.pde.internal.core.PDECore;
+import org.xml.sax.SAXParseException;
+
+/**
+ * Manages the problem markers of the xml parse errors of the TOC and context
+ * help models.
+ */
+public class HelpMarkerManager {
+
+	/**
+	 * The number of parse errors a model keeps, a document with more errors
+	 * only gets markers for the first ones.
+	 */
+	public static final int MAX_ERRORS = 100;
+
+	/**
+	 * The line and message of a parse error, all a marker needs.
+	 */
+	private record Problem(int line, String message) {
+	}
+
+	/**
+	 * Replaces the markers of the resource by markers for the given errors.
+	 * The markers are replaced by a background job, so that a large document
+	 * with many errors does not hold the thread that parsed it.
+	 *
+	 * @param errors the parse errors of the model, may be <code>null</code>
+	 * @param jobName the name of the job replacing the markers
+	 */
+	public static void refreshMarkers(IResource resource, Collection<Exception> errors, String jobName) {
+		List<Problem> problems = getProblems(errors);
+		Job job = new Job(jobName) {
+			@Override
+			protected IStatus run(IProgressMonitor monitor) {
+				deleteMarkers(resource);
+				if (!monitor.isCanceled()) {
+					createMarkers(resource, problems);
+				}
+				return Status.OK_STATUS;
+			}
+
+			@Override
+			public boolean belongsTo(Object family) {
+				return family == resource;
+			}
+		};
+		job.setSystem(true);
+		job.setRule(ResourcesPlugin.getWorkspace().getRuleFactory().markerRule(resource));
+		// a newer refresh replaces the markers anyway
+		Job.getJobManager().cancel(resource);
+		job.schedule();
+	}
+
+	/**
+	 * Deletes the markers of the resource and cancels a pending refresh.
+	 */
+	public static void deleteMarkers(IResource resource) {
+		Job.getJobManager().cancel(resource);
+		try {
+			IMarker[] problems = resource.findMarkers(IMarker.PROBLEM, true, IResource.DEPTH_INFINITE);
+			for (IMarker problem : problems) {
+				problem.delete();
+			}
+		} catch (CoreException e) {
+			PDECore.log(e);
+		}
+	}
+
+	/**
+	 * Creates markers for the given errors in the calling thread.
+	 *
+	 * @param errors the parse errors of the model, may be <code>null</code>
+	 */
+	public static void createMarkers(IResource resource, Collection<Exception> errors) {
+		createMarkers(resource, getProblems(errors));
+	}
+
+	private static void createMarkers(IResource resource, List<Problem> problems) {
+		for (Problem problem : problems) {
+			try {
+				Map<String, Object> attributes = Map.of(IMarker.LINE_NUMBER, problem.line(),//
+						IMarker.SEVERITY, IMarker.SEVERITY_ERROR,//
+						IMarker.MESSAGE, problem.message());
+				resource.createMarker(IMarker.PROBLEM, attributes);
+			} catch (CoreException e) {
+				PDECore.log(e);
+			}
+		}
+	}
+
+	private static List<Problem> getProblems(Collection<Exception> errors) {
+		if (errors == null || errors.isEmpty()) {
+			return List.of();
+		}
+		List<Problem> problems = new ArrayList<>(errors.size());
+		for (Exception exception : errors) {
+			if (exception instanceof SAXParseException parseException) {
+				problems.add(new Problem(parseException.getLineNumber(), exception.getLocalizedMessage()));
+			}
+		}
+		return problems;
+	}
+}
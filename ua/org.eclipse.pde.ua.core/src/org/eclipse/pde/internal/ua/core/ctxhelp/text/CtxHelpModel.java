@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2017 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,15 +13,16 @@
  *******************************************************************************/
 package org.eclipse.pde.internal.ua.core.ctxhelp.text;
 
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.List;
+import java.util.LinkedHashSet;
+import java.util.Set;
 
 import org.eclipse.jface.text.IDocument;
 import org.eclipse.pde.core.IModel;
 import org.eclipse.pde.core.IWritable;
 import org.eclipse.pde.internal.core.NLResourceHelper;
 import org.eclipse.pde.internal.core.text.XMLEditingModel;
+import org.eclipse.pde.internal.ua.core.HelpMarkerManager;
 import org.xml.sax.helpers.DefaultHandler;
 
 /**
@@ -37,7 +38,7 @@ public class CtxHelpModel extends XMLEditingModel {
 	private CtxHelpDocumentHandler fHandler;
 	private CtxHelpDocumentFactory fFactory;
 	private CtxHelpRoot fRoot;
-	private List<Exception> fErrors;
+	private Set<Exception> fErrors;
 	private boolean fMarkerRefreshNeeded;
 
 	public CtxHelpModel(IDocument document, boolean isReconciling) {
@@ -79,11 +80,13 @@ public class CtxHelpModel extends XMLEditingModel {
 
 	public void addError(Exception e) {
 		if (fErrors == null) {
-			fErrors = new ArrayList<>(1);
+			fErrors = new LinkedHashSet<>();
 		}
-		if (!fErrors.contains(e)) {
-			fErrors.add(e);
+		// a document with many errors does not need a marker for each
+		if (fErrors.size() >= HelpMarkerManager.MAX_ERRORS) {
+			return;
 		}
+		fErrors.add(e);
 	}
 
 	public Collection<Exception> getErrors() {
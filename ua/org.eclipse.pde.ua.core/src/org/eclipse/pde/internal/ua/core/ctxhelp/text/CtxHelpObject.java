@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2017 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -53,21 +53,33 @@ public abstract class CtxHelpObject extends DocumentObject implements
 		// Create a copy of the child list instead of
 		// returning the list itself. That way, our list
 		// of children cannot be altered from outside
-		List<CtxHelpObject> list = new ArrayList<>();
+		int count = getChildCount();
+		List<CtxHelpObject> list = new ArrayList<>(count);
 
 		// Add children of this topic
-		IDocumentElementNode[] childNodes = getChildNodes();
-		if (childNodes.length > 0) {
-			for (IDocumentElementNode childNode : childNodes) {
-				if (childNode instanceof CtxHelpObject) {
-					list.add((CtxHelpObject) childNode);
-				}
+		for (int i = 0; i < count; i++) {
+			IDocumentElementNode childNode = getChildAt(i);
+			if (childNode instanceof CtxHelpObject) {
+				list.add((CtxHelpObject) childNode);
 			}
 		}
 
 		return list;
 	}
 
+	/**
+	 * @return true iff the object has children, without copying them like
+	 *         {@link #getChildren()} does
+	 */
+	public boolean hasChildren() {
+		for (int i = 0, count = getChildCount(); i < count; i++) {
+			if (getChildAt(i) instanceof CtxHelpObject) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	@Override
 	protected String getAttributeIndent() {
 		return " "; //$NON-NLS-1$
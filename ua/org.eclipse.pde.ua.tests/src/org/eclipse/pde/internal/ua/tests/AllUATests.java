@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2018 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,10 +14,11 @@
 package org.eclipse.pde.internal.ua.tests;
 
 import org.eclipse.pde.internal.ua.tests.cheatsheet.AllCheatSheetModelTests;
+import org.eclipse.pde.internal.ua.tests.help.AllHelpModelTests;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 
 @RunWith(Suite.class)
-@Suite.SuiteClasses({ AllCheatSheetModelTests.class })
+@Suite.SuiteClasses({ AllCheatSheetModelTests.class, AllHelpModelTests.class })
 public class AllUATests {
 }
@@ -0,0 +1,102 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.ua.tests.help;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.jface.text.Document;
+import org.eclipse.jface.text.IDocument;
+import org.junit.After;
+import org.junit.Before;
+import org.xml.sax.SAXParseException;
+
+/**
+ * Loads help documents from a file of a workspace project, so that the models
+ * can create problem markers on it.
+ */
+public abstract class AbstractHelpModelTestCase {
+
+	protected static final String LF = "\n"; //$NON-NLS-1$
+
+	protected IProject fProject;
+	protected IFile fFile;
+	protected IDocument fDocument;
+
+	@Before
+	public void setUp() throws CoreException {
+		fProject = ResourcesPlugin.getWorkspace().getRoot().getProject(getClass().getSimpleName());
+		if (!fProject.exists()) {
+			fProject.create(null);
+		}
+		fProject.open(null);
+		fFile = fProject.getFile(getFileName());
+		fDocument = new Document();
+	}
+
+	@After
+	public void tearDown() throws CoreException, InterruptedException {
+		joinMarkerRefresh();
+		fProject.delete(true, true, null);
+	}
+
+	protected abstract String getFileName();
+
+	protected void setContents(String contents) throws CoreException {
+		fDocument.set(contents);
+		ByteArrayInputStream source = new ByteArrayInputStream(contents.getBytes(StandardCharsets.UTF_8));
+		if (fFile.exists()) {
+			fFile.setContents(source, true, false, null);
+		} else {
+			fFile.create(source, true, null);
+		}
+	}
+
+	/**
+	 * Waits for the background job refreshing the markers of the file.
+	 */
+	protected void joinMarkerRefresh() throws InterruptedException {
+		Job.getJobManager().join(fFile, null);
+	}
+
+	/**
+	 * Asserts that the file has one error marker for each of the given parse
+	 * errors, at the line of the error.
+	 */
+	protected void assertMarkers(Collection<Exception> errors) throws CoreException {
+		List<Exception> expected = errors == null ? List.of() : List.copyOf(errors);
+		IMarker[] markers = fFile.findMarkers(IMarker.PROBLEM, true, IResource.DEPTH_INFINITE);
+		assertEquals("Wrong number of markers", expected.size(), markers.length);
+		int[] expectedLines = expected.stream().mapToInt(e -> ((SAXParseException) e).getLineNumber()).sorted()
+				.toArray();
+		int[] lines = Arrays.stream(markers).mapToInt(marker -> marker.getAttribute(IMarker.LINE_NUMBER, -1))
+				.sorted().toArray();
+		assertEquals(Arrays.toString(expectedLines), Arrays.toString(lines));
+		for (IMarker marker : markers) {
+			assertEquals(IMarker.SEVERITY_ERROR, marker.getAttribute(IMarker.SEVERITY, -1));
+		}
+	}
+}
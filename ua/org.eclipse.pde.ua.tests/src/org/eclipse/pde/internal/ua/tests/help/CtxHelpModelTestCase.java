@@ -0,0 +1,126 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.ua.tests.help;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.pde.internal.ua.core.ctxhelp.text.CtxHelpModel;
+import org.eclipse.pde.internal.ua.core.ctxhelp.text.CtxHelpObject;
+import org.eclipse.pde.internal.ua.core.ctxhelp.text.CtxHelpRoot;
+import org.junit.Test;
+
+public class CtxHelpModelTestCase extends AbstractHelpModelTestCase {
+
+	private static final String VALID_CONTEXTS = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>" + LF //$NON-NLS-1$
+			+ "<contexts>" + LF //$NON-NLS-1$
+			+ "<context id=\"full\">" + LF //$NON-NLS-1$
+			+ "<description>Some description</description>" + LF //$NON-NLS-1$
+			+ "<topic href=\"topic.html\" label=\"Topic\"/>" + LF //$NON-NLS-1$
+			+ "<command serialization=\"org.eclipse.ui.help.helpContents\"/>" + LF //$NON-NLS-1$
+			+ "</context>" + LF //$NON-NLS-1$
+			+ "<context id=\"empty\"/>" + LF //$NON-NLS-1$
+			+ "<context id=\"unknown\"><unknown/></context>" + LF //$NON-NLS-1$
+			+ "</contexts>" + LF; //$NON-NLS-1$
+
+	@Override
+	protected String getFileName() {
+		return "contexts.xml"; //$NON-NLS-1$
+	}
+
+	private CtxHelpModel load() {
+		CtxHelpModel model = new CtxHelpModel(fDocument, false);
+		model.setUnderlyingResource(fFile);
+		model.setMarkerRefreshNeeded(true);
+		try {
+			model.load();
+		} catch (CoreException e) {
+			// the errors of the model are checked
+		}
+		return model;
+	}
+
+	@Test
+	public void testHasChildren() throws CoreException {
+		setContents(VALID_CONTEXTS);
+		CtxHelpModel model = load();
+		assertTrue(model.isLoaded());
+
+		CtxHelpRoot root = model.getCtxHelpRoot();
+		assertHasChildren(root);
+
+		List<CtxHelpObject> contexts = root.getChildren();
+		assertEquals(3, contexts.size());
+		assertTrue(contexts.get(0).hasChildren());
+		// the text of a description is not a child
+		assertFalse(contexts.get(0).getChildren().get(0).hasChildren());
+		assertFalse(contexts.get(1).hasChildren());
+		// elements of other types are not children
+		assertFalse(contexts.get(2).hasChildren());
+	}
+
+	private static void assertHasChildren(CtxHelpObject object) {
+		List<CtxHelpObject> children = object.getChildren();
+		assertEquals(object.getName(), !children.isEmpty(), object.hasChildren());
+		for (CtxHelpObject child : children) {
+			assertHasChildren(child);
+		}
+	}
+
+	@Test
+	public void testMarkersOfErrors() throws Exception {
+		setContents("<?xml version=\"1.0\" encoding=\"UTF-8\"?>" + LF //$NON-NLS-1$
+				+ "<contexts>" + LF //$NON-NLS-1$
+				+ "<context id=\"unclosed\">" + LF //$NON-NLS-1$
+				+ "</contexts>" + LF); //$NON-NLS-1$
+		CtxHelpModel model = load();
+		assertNotNull(model.getErrors());
+		assertEquals(1, model.getErrors().size());
+		joinMarkerRefresh();
+		assertMarkers(model.getErrors());
+
+		// fixing the document removes the errors and their markers
+		setContents(VALID_CONTEXTS);
+		model = load();
+		assertTrue(model.getErrors() == null || model.getErrors().isEmpty());
+		joinMarkerRefresh();
+		assertMarkers(model.getErrors());
+	}
+
+	@Test
+	public void testNewerRefreshReplacesMarkers() throws Exception {
+		setContents("<contexts>" + LF + "<context>" + LF); //$NON-NLS-1$ //$NON-NLS-2$
+		load();
+		// the refresh of the erroneous document may still be pending
+		setContents(VALID_CONTEXTS);
+		CtxHelpModel model = load();
+		joinMarkerRefresh();
+		assertMarkers(model.getErrors());
+	}
+
+	@Test
+	public void testNoMarkersWithoutErrors() throws Exception {
+		setContents(VALID_CONTEXTS);
+		CtxHelpModel model = load();
+		assertNull(model.getErrors());
+		joinMarkerRefresh();
+		assertMarkers(model.getErrors());
+	}
+}
@@ -0,0 +1,138 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.ua.tests.help;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.pde.internal.ua.core.HelpMarkerManager;
+import org.eclipse.pde.internal.ua.core.toc.text.Toc;
+import org.eclipse.pde.internal.ua.core.toc.text.TocModel;
+import org.eclipse.pde.internal.ua.core.toc.text.TocObject;
+import org.junit.Test;
+import org.xml.sax.SAXParseException;
+
+public class TocModelTestCase extends AbstractHelpModelTestCase {
+
+	private static final String VALID_TOC = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>" + LF //$NON-NLS-1$
+			+ "<toc label=\"Sample\">" + LF //$NON-NLS-1$
+			+ "<topic label=\"Parent\" href=\"parent.html\">" + LF //$NON-NLS-1$
+			+ "<topic label=\"Child\" href=\"child.html\">" + LF //$NON-NLS-1$
+			+ "<anchor id=\"more\"/>" + LF //$NON-NLS-1$
+			+ "</topic>" + LF //$NON-NLS-1$
+			+ "<link toc=\"other.xml\"/>" + LF //$NON-NLS-1$
+			+ "</topic>" + LF //$NON-NLS-1$
+			+ "<topic label=\"Empty\"/>" + LF //$NON-NLS-1$
+			+ "<topic label=\"Unknown\"><unknown/></topic>" + LF //$NON-NLS-1$
+			+ "</toc>" + LF; //$NON-NLS-1$
+
+	@Override
+	protected String getFileName() {
+		return "toc.xml"; //$NON-NLS-1$
+	}
+
+	private TocModel load() {
+		TocModel model = new TocModel(fDocument, false);
+		model.setUnderlyingResource(fFile);
+		model.setMarkerRefreshNeeded(true);
+		try {
+			model.load();
+		} catch (CoreException e) {
+			// the errors of the model are checked
+		}
+		return model;
+	}
+
+	@Test
+	public void testHasChildren() throws CoreException {
+		setContents(VALID_TOC);
+		TocModel model = load();
+		assertTrue(model.isLoaded());
+
+		Toc toc = model.getToc();
+		assertHasChildren(toc);
+
+		List<TocObject> topics = toc.getChildren();
+		assertEquals(3, topics.size());
+		assertTrue(topics.get(0).hasChildren());
+		assertTrue(topics.get(0).getChildren().get(0).hasChildren());
+		assertFalse(topics.get(0).getChildren().get(1).hasChildren());
+		assertFalse(topics.get(1).hasChildren());
+		// elements of other types are not children
+		assertFalse(topics.get(2).hasChildren());
+	}
+
+	private static void assertHasChildren(TocObject object) {
+		List<TocObject> children = object.getChildren();
+		assertEquals(object.getName(), !children.isEmpty(), object.hasChildren());
+		for (TocObject child : children) {
+			assertHasChildren(child);
+		}
+	}
+
+	@Test
+	public void testMarkersOfErrors() throws Exception {
+		setContents("<?xml version=\"1.0\" encoding=\"UTF-8\"?>" + LF //$NON-NLS-1$
+				+ "<toc label=\"Sample\">" + LF //$NON-NLS-1$
+				+ "<topic label=\"Unclosed\">" + LF //$NON-NLS-1$
+				+ "</toc>" + LF); //$NON-NLS-1$
+		TocModel model = load();
+		assertNotNull(model.getErrors());
+		assertEquals(1, model.getErrors().size());
+		joinMarkerRefresh();
+		assertMarkers(model.getErrors());
+
+		// fixing the document removes the errors and their markers
+		setContents(VALID_TOC);
+		model = load();
+		assertTrue(model.getErrors() == null || model.getErrors().isEmpty());
+		joinMarkerRefresh();
+		assertMarkers(model.getErrors());
+	}
+
+	@Test
+	public void testErrorsAreCapped() {
+		TocModel model = new TocModel(fDocument, false);
+		for (int i = 0; i < HelpMarkerManager.MAX_ERRORS * 2; i++) {
+			model.addError(new SAXParseException("error " + i, null, null, i + 1, 1)); //$NON-NLS-1$
+		}
+		assertEquals(HelpMarkerManager.MAX_ERRORS, model.getErrors().size());
+	}
+
+	@Test
+	public void testNewerRefreshReplacesMarkers() throws Exception {
+		setContents("<toc label=\"Sample\">" + LF + "<topic>" + LF); //$NON-NLS-1$ //$NON-NLS-2$
+		load();
+		// the refresh of the erroneous document may still be pending
+		setContents(VALID_TOC);
+		TocModel model = load();
+		joinMarkerRefresh();
+		assertMarkers(model.getErrors());
+	}
+
+	@Test
+	public void testNoMarkersWithoutErrors() throws Exception {
+		setContents(VALID_TOC);
+		TocModel model = load();
+		assertNull(model.getErrors());
+		joinMarkerRefresh();
+		assertMarkers(model.getErrors());
+	}
+}
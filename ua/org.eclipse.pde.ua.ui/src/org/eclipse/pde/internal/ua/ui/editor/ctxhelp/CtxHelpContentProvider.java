@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2017 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -50,6 +50,10 @@ public class CtxHelpContentProvider implements ITreeContentProvider {
 
 	@Override
 	public boolean hasChildren(Object element) {
+		if (element instanceof CtxHelpObject) {
+			// only the children of expanded objects are needed
+			return ((CtxHelpObject) element).hasChildren();
+		}
 		return (getChildren(element).length > 0);
 	}
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2017 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -71,6 +71,14 @@ public class CtxHelpFormOutlinePage extends FormOutlinePage {
 		return super.getChildren(parent);
 	}
 
+	@Override
+	protected boolean hasChildren(Object parent) {
+		if (parent instanceof CtxHelpObject) {
+			return ((CtxHelpObject) parent).hasChildren();
+		}
+		return super.hasChildren(parent);
+	}
+
 	@Override
 	public ILabelProvider createLabelProvider() {
 		return new CtxHelpLabelProvider(PDEUserAssistanceUIPlugin.getDefault().getLabelProvider());
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2017 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -67,6 +67,14 @@ public class TocFormOutlinePage extends FormOutlinePage {
 		return super.getChildren(parent);
 	}
 
+	@Override
+	protected boolean hasChildren(Object parent) {
+		if (parent instanceof TocObject) {
+			return ((TocObject) parent).hasChildren();
+		}
+		return super.hasChildren(parent);
+	}
+
 	@Override
 	public ILabelProvider createLabelProvider() {
 		return new TocLabelProvider(PDEUserAssistanceUIPlugin.getDefault().getLabelProvider());
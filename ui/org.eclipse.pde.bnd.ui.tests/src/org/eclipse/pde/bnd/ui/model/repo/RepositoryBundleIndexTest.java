@@ -0,0 +1,188 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+*******************************************************************************/
+package org.eclipse.pde.bnd.ui.model.repo;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+import org.junit.After;
+import org.junit.Test;
+
+import aQute.bnd.service.RepositoryPlugin;
+
+public class RepositoryBundleIndexTest {
+
+	private static final List<String>					NAMES	= List.of("org.example.foo", "org.example.foobar",
+		"org.example.bar", "com.acme.Foo");
+
+	private final List<String>							filters	= Collections.synchronizedList(new ArrayList<>());
+	private final BlockingQueue<RepositoryBundleIndex>	changes	= new LinkedBlockingQueue<>();
+	private RepositoryBundleIndex						index;
+
+	@After
+	public void tearDown() {
+		if (index != null) {
+			index.dispose();
+		}
+	}
+
+	/**
+	 * Creates a repository answering list(String) with the given function and
+	 * recording the filters it is called with.
+	 */
+	private RepositoryPlugin createRepository(Function<String, List<String>> list) {
+		return (RepositoryPlugin) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] {
+			RepositoryPlugin.class
+		}, (proxy, method, args) -> switch (method.getName()) {
+			case "list" -> {
+				filters.add(String.valueOf(args[0]));
+				yield list.apply((String) args[0]);
+			}
+			case "getName" -> "test";
+			case "hashCode" -> System.identityHashCode(proxy);
+			case "equals" -> proxy == args[0];
+			case "toString" -> "test";
+			default -> null;
+		});
+	}
+
+	private void awaitChange() throws InterruptedException {
+		assertNotNull(changes.poll(10, TimeUnit.SECONDS));
+	}
+
+	private static List<String> bsns(Object[] elements) {
+		List<String> result = new ArrayList<>();
+		for (Object element : elements) {
+			result.add(element instanceof RepositoryBundle bundle ? bundle.getBsn() : "loading");
+		}
+		return result;
+	}
+
+	@Test
+	public void testToPattern() {
+		Pattern pattern = RepositoryBundleIndex.toPattern("*foo*");
+		assertTrue(pattern.matcher("org.example.foo")
+			.matches());
+		assertTrue(pattern.matcher("com.acme.FOO")
+			.matches());
+		assertFalse(pattern.matcher("org.example.bar")
+			.matches());
+
+		pattern = RepositoryBundleIndex.toPattern("org.?oo");
+		assertTrue(pattern.matcher("org.foo")
+			.matches());
+		assertFalse(pattern.matcher("org.fooo")
+			.matches());
+		// everything but the wildcards is literal
+		assertFalse(pattern.matcher("orgxfoo")
+			.matches());
+		assertTrue(RepositoryBundleIndex.toPattern("*[a]+*")
+			.matcher("x[a]+y")
+			.matches());
+		assertFalse(RepositoryBundleIndex.toPattern("*[a]+*")
+			.matcher("xaay")
+			.matches());
+	}
+
+	@Test
+	public void testNarrows() {
+		assertTrue(RepositoryBundleIndex.narrows("*foo*", null));
+		assertTrue(RepositoryBundleIndex.narrows("*foob*", "*foo*"));
+		assertTrue(RepositoryBundleIndex.narrows("*xfoo*", "*foo*"));
+		assertTrue(RepositoryBundleIndex.narrows("*FOOB*", "*foo*"));
+		assertFalse(RepositoryBundleIndex.narrows(null, "*foo*"));
+		assertFalse(RepositoryBundleIndex.narrows("*fo*", "*foo*"));
+		assertFalse(RepositoryBundleIndex.narrows("*fo?b*", "*fo*"));
+		assertFalse(RepositoryBundleIndex.narrows("*foob*", "*f*o*"));
+	}
+
+	@Test
+	public void testListInBackground() throws Exception {
+		CountDownLatch release = new CountDownLatch(1);
+		index = new RepositoryBundleIndex(createRepository(filter -> {
+			try {
+				release.await(10, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread()
+					.interrupt();
+			}
+			return NAMES;
+		}), changes::add, true);
+
+		// does not wait for the repository
+		assertFalse(index.isListed());
+		assertNull(index.getBundles(null));
+		release.countDown();
+		awaitChange();
+
+		assertTrue(index.isListed());
+		assertEquals(List.of("com.acme.Foo", "org.example.bar", "org.example.foo", "org.example.foobar"),
+			bsns(index.getBundles(null)));
+	}
+
+	@Test
+	public void testLocalSearch() throws Exception {
+		index = new RepositoryBundleIndex(createRepository(filter -> NAMES), changes::add, true);
+		index.isListed();
+		awaitChange();
+
+		assertEquals(List.of("com.acme.Foo", "org.example.foo", "org.example.foobar"),
+			bsns(index.getBundles("*foo*")));
+		// narrowed to the previous matches
+		assertEquals(List.of("org.example.foobar"), bsns(index.getBundles("*foob*")));
+		assertEquals(List.of("org.example.bar", "org.example.foobar"), bsns(index.getBundles("*bar*")));
+		assertEquals(Arrays.asList("null"), filters);
+	}
+
+	@Test
+	public void testDelegatedSearch() throws Exception {
+		CountDownLatch release = new CountDownLatch(1);
+		// a repository matching more than the names
+		index = new RepositoryBundleIndex(createRepository(filter -> {
+			if (filter == null) {
+				return NAMES;
+			}
+			try {
+				release.await(10, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread()
+					.interrupt();
+			}
+			return List.of("org.example.bar");
+		}), changes::add, false);
+		index.isListed();
+		awaitChange();
+
+		assertEquals(List.of("loading"), bsns(index.getBundles("*widget*")));
+		release.countDown();
+		awaitChange();
+		assertEquals(List.of("org.example.bar"), bsns(index.getBundles("*widget*")));
+		assertEquals(List.of("null", "*widget*"), filters);
+	}
+}
@@ -0,0 +1,348 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+*******************************************************************************/
+package org.eclipse.pde.bnd.ui.model.repo;
+
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import org.eclipse.core.runtime.ILog;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.IJobFunction;
+import org.eclipse.core.runtime.jobs.Job;
+
+import aQute.bnd.service.RepositoryPlugin;
+
+/**
+ * The bundle symbolic names of a repository, listed once in the background and
+ * searched in memory for the filters of the repositories tree.
+ * <p>
+ * A search that narrows the previous one, because its filter contains the
+ * previous filter and neither has wildcards, only looks at the previous
+ * matches. Large searches run in a job that publishes its matches while it
+ * runs and is canceled by the next search.
+ * </p>
+ * <p>
+ * Only repositories known to match the filter of
+ * {@link RepositoryPlugin#list(String)} against the bundle symbolic names are
+ * searched in memory. Other repositories may match more than the names, so
+ * their filtered searches are passed to the repository in a job.
+ * </p>
+ */
+final class RepositoryBundleIndex {
+
+	/**
+	 * Searches over at most this many names run in the calling thread.
+	 */
+	private static final int	SYNC_SEARCH_LIMIT	= 5000;
+
+	/**
+	 * Number of names a search job matches before it publishes its matches.
+	 */
+	private static final int	PUBLISH_INTERVAL	= 20000;
+
+	/**
+	 * The repositories whose list(String) matches a glob against the bundle
+	 * symbolic names only.
+	 */
+	private static final Set<String>	LOCAL_SEARCH_REPOSITORIES	= Set.of("aQute.bnd.build.WorkspaceRepository",
+		"org.eclipse.pde.internal.core.bnd.TargetRepository");
+
+	/**
+	 * Called when the names of the repository have been listed, or when a
+	 * search has published new matches.
+	 */
+	interface Listener {
+		void changed(RepositoryBundleIndex index);
+	}
+
+	private final RepositoryPlugin	repo;
+	private final Listener			listener;
+	private final boolean			localSearch;
+
+	private volatile String[]		bsns;
+	private Job						listJob;
+	private volatile Search			search;
+
+	private final class Search {
+		final String				filter;
+		final Pattern				pattern;
+		volatile RepositoryBundle[]	matches;
+		volatile boolean			done;
+		Job							job;
+
+		Search(String filter) {
+			this.filter = filter;
+			this.pattern = filter == null ? null : toPattern(filter);
+		}
+
+		boolean matches(String bsn) {
+			return pattern == null || pattern.matcher(bsn)
+				.matches();
+		}
+
+		/**
+		 * Matches the given names, publishing the matches found so far every
+		 * {@link #PUBLISH_INTERVAL} names if a monitor is given.
+		 */
+		IStatus run(String[] candidates, IProgressMonitor monitor) {
+			List<RepositoryBundle> result = new ArrayList<>();
+			for (int i = 0; i < candidates.length; i++) {
+				if (matches(candidates[i])) {
+					result.add(new RepositoryBundle(repo, candidates[i]));
+				}
+				if (monitor != null && (i + 1) % PUBLISH_INTERVAL == 0) {
+					if (monitor.isCanceled()) {
+						return Status.CANCEL_STATUS;
+					}
+					matches = result.toArray(new RepositoryBundle[0]);
+					listener.changed(RepositoryBundleIndex.this);
+				}
+			}
+			matches = result.toArray(new RepositoryBundle[0]);
+			done = true;
+			return Status.OK_STATUS;
+		}
+
+		/**
+		 * Passes the filter to the repository.
+		 */
+		IStatus query(IProgressMonitor monitor) {
+			List<String> list;
+			try {
+				list = repo.list(filter);
+			} catch (Exception e) {
+				String message = MessageFormat.format("Error querying repository {0}.", repo.getName());
+				ILog.get()
+					.error(message, e);
+				matches = new RepositoryBundle[0];
+				done = true;
+				return Status.error(message, e);
+			}
+			if (monitor.isCanceled()) {
+				return Status.CANCEL_STATUS;
+			}
+			String[] names = list == null ? new String[0] : list.toArray(new String[0]);
+			Arrays.sort(names);
+			RepositoryBundle[] result = new RepositoryBundle[names.length];
+			for (int i = 0; i < names.length; i++) {
+				result[i] = new RepositoryBundle(repo, names[i]);
+			}
+			matches = result;
+			done = true;
+			return Status.OK_STATUS;
+		}
+	}
+
+	RepositoryBundleIndex(RepositoryPlugin repo, Listener listener) {
+		this(repo, listener, LOCAL_SEARCH_REPOSITORIES.contains(repo.getClass()
+			.getName()));
+	}
+
+	/**
+	 * @param localSearch whether filters are matched against the listed names
+	 *            instead of being passed to the repository
+	 */
+	RepositoryBundleIndex(RepositoryPlugin repo, Listener listener, boolean localSearch) {
+		this.repo = repo;
+		this.listener = listener;
+		this.localSearch = localSearch;
+	}
+
+	/**
+	 * Returns whether the names of the repository have been listed, starts
+	 * listing them in the background otherwise. The listener is called once
+	 * they are listed.
+	 */
+	boolean isListed() {
+		if (bsns != null) {
+			return true;
+		}
+		synchronized (this) {
+			if (listJob == null) {
+				listJob = Job.create(MessageFormat.format("Loading {0} content...", repo.getName()), this::list);
+				listJob.schedule();
+			}
+		}
+		return bsns != null;
+	}
+
+	private IStatus list(IProgressMonitor monitor) {
+		try {
+			List<String> list = repo.list(null);
+			String[] sorted = list == null ? new String[0] : list.toArray(new String[0]);
+			Arrays.sort(sorted);
+			bsns = sorted;
+		} catch (Exception e) {
+			String message = MessageFormat.format("Error querying repository {0}.", repo.getName());
+			ILog.get()
+				.error(message, e);
+			synchronized (this) {
+				// list again when the repository is shown again
+				listJob = null;
+			}
+			return Status.error(message, e);
+		}
+		listener.changed(this);
+		return Status.OK_STATUS;
+	}
+
+	/**
+	 * Returns the bundles of the repository matching the given wildcard filter,
+	 * or <code>null</code> if the names are not listed yet. While a search job
+	 * runs, the matches found so far are returned followed by a loading
+	 * element.
+	 */
+	Object[] getBundles(String filter) {
+		String[] names = bsns;
+		if (names == null) {
+			return null;
+		}
+		Search current = search;
+		if (current == null || !Objects.equals(current.filter, filter)) {
+			current = startSearch(filter, names, current);
+		}
+		RepositoryBundle[] matches = current.matches;
+		if (current.done) {
+			return matches;
+		}
+		Object[] result = new Object[(matches == null ? 0 : matches.length) + 1];
+		if (matches != null) {
+			System.arraycopy(matches, 0, result, 0, matches.length);
+		}
+		result[result.length - 1] = new LoadingContentElement();
+		return result;
+	}
+
+	private Search startSearch(String filter, String[] names, Search previous) {
+		Search next = new Search(filter);
+		String[] candidates = names;
+		if (previous != null) {
+			synchronized (this) {
+				if (previous.job != null) {
+					previous.job.cancel();
+				}
+			}
+		}
+		search = next;
+		if (filter != null && !localSearch) {
+			schedule(next, next::query);
+			return next;
+		}
+		if (previous != null && previous.done && narrows(filter, previous.filter)) {
+			candidates = new String[previous.matches.length];
+			for (int i = 0; i < candidates.length; i++) {
+				candidates[i] = previous.matches[i].getBsn();
+			}
+		}
+		if (candidates.length <= SYNC_SEARCH_LIMIT) {
+			next.run(candidates, null);
+			return next;
+		}
+		String[] searched = candidates;
+		schedule(next, monitor -> next.run(searched, monitor));
+		return next;
+	}
+
+	private void schedule(Search next, IJobFunction function) {
+		Job job = Job.create(MessageFormat.format("Searching {0}...", repo.getName()), monitor -> {
+			IStatus status = function.run(monitor);
+			if (status.getSeverity() != IStatus.CANCEL) {
+				listener.changed(this);
+			}
+			return status;
+		});
+		job.setSystem(true);
+		synchronized (this) {
+			next.job = job;
+		}
+		job.schedule();
+	}
+
+	/**
+	 * Cancels a running search, the next search starts over.
+	 */
+	synchronized void cancelSearch() {
+		Search current = search;
+		if (current != null && !current.done) {
+			if (current.job != null) {
+				current.job.cancel();
+			}
+			search = null;
+		}
+	}
+
+	/**
+	 * Cancels the jobs of the index.
+	 */
+	synchronized void dispose() {
+		if (listJob != null) {
+			listJob.cancel();
+		}
+		cancelSearch();
+	}
+
+	/**
+	 * Returns whether every name matching the given filter matches the
+	 * previous filter.
+	 */
+	static boolean narrows(String filter, String previous) {
+		if (previous == null) {
+			return true;
+		}
+		if (filter == null) {
+			return false;
+		}
+		String core = strip(filter);
+		String previousCore = strip(previous);
+		return !hasWildcards(core) && !hasWildcards(previousCore) && core.toLowerCase()
+			.contains(previousCore.toLowerCase());
+	}
+
+	private static String strip(String filter) {
+		return filter.substring(1, filter.length() - 1);
+	}
+
+	private static boolean hasWildcards(String s) {
+		return s.indexOf('*') >= 0 || s.indexOf('?') >= 0;
+	}
+
+	/**
+	 * Converts a glob to a case insensitive pattern.
+	 */
+	static Pattern toPattern(String glob) {
+		StringBuilder regex = new StringBuilder();
+		int start = 0;
+		for (int i = 0; i < glob.length(); i++) {
+			char c = glob.charAt(i);
+			if (c == '*' || c == '?') {
+				if (i > start) {
+					regex.append(Pattern.quote(glob.substring(start, i)));
+				}
+				regex.append(c == '*' ? ".*" : ".");
+				start = i + 1;
+			}
+		}
+		if (start < glob.length()) {
+			regex.append(Pattern.quote(glob.substring(start)));
+		}
+		return Pattern.compile(regex.toString(), Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+	}
+}
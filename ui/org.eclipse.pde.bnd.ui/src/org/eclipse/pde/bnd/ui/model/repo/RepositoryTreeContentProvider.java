@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2024 bndtools project and others.
+ * Copyright (c) 2010, 2026 bndtools project and others.
  *
 * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -26,21 +26,17 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.EnumSet;
-import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 import java.util.SortedSet;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
 
 import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.ILog;
-import org.eclipse.core.runtime.IProgressMonitor;
-import org.eclipse.core.runtime.IStatus;
-import org.eclipse.core.runtime.Status;
-import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.jface.viewers.ITreeContentProvider;
 import org.eclipse.jface.viewers.StructuredViewer;
 import org.eclipse.jface.viewers.Viewer;
@@ -72,7 +68,7 @@ public class RepositoryTreeContentProvider implements ITreeContentProvider {
 
 	private Requirement											requirementFilter		= null;
 
-	private final Map<RepositoryPlugin, Map<String, Object[]>>	repoPluginListResults	= new HashMap<>();
+	private final Map<RepositoryPlugin, RepositoryBundleIndex>	repoPluginIndexes		= new ConcurrentHashMap<>();
 	private StructuredViewer									structuredViewer;
 
 	public RepositoryTreeContentProvider() {
@@ -98,6 +94,8 @@ public class RepositoryTreeContentProvider implements ITreeContentProvider {
 			wildcardFilter = null;
 		else
 			wildcardFilter = "*" + filter.trim() + "*";
+		repoPluginIndexes.values()
+			.forEach(RepositoryBundleIndex::cancelSearch);
 	}
 
 	public void setRequirementFilter(Requirement requirement) {
@@ -134,7 +132,9 @@ public class RepositoryTreeContentProvider implements ITreeContentProvider {
 	}
 
 	@Override
-	public void dispose() {}
+	public void dispose() {
+		clearIndexes();
+	}
 
 	@Override
 	public void inputChanged(Viewer viewer, Object oldInput, Object newInput) {
@@ -143,11 +143,47 @@ public class RepositoryTreeContentProvider implements ITreeContentProvider {
 
 			// only clear during subsequent updates
 			if (oldInput != null) {
-				repoPluginListResults.clear();
+				clearIndexes();
 			}
 		}
 	}
 
+	/**
+	 * Forgets the bundles listed for the given repository, they are listed
+	 * again the next time the repository is shown.
+	 */
+	public void invalidate(RepositoryPlugin repoPlugin) {
+		RepositoryBundleIndex index = repoPluginIndexes.remove(repoPlugin);
+		if (index != null) {
+			index.dispose();
+		}
+	}
+
+	private void clearIndexes() {
+		repoPluginIndexes.values()
+			.forEach(RepositoryBundleIndex::dispose);
+		repoPluginIndexes.clear();
+	}
+
+	private void indexChanged(RepositoryBundleIndex index, RepositoryPlugin repoPlugin) {
+		StructuredViewer viewer = structuredViewer;
+		if (viewer == null) {
+			return;
+		}
+		Display.getDefault()
+			.asyncExec(() -> {
+				// ignore an index replaced in the meantime
+				if (viewer.getControl()
+					.isDisposed() || repoPluginIndexes.get(repoPlugin) != index)
+					return;
+				// without repository nodes the bundles are top level elements
+				if (showRepos)
+					viewer.refresh(repoPlugin, true);
+				else
+					viewer.refresh(true);
+			});
+	}
+
 	@Override
 	public Object[] getChildren(Object parentElement) {
 		Object[] result = null;
@@ -298,78 +334,22 @@ public class RepositoryTreeContentProvider implements ITreeContentProvider {
 
 		/*
 		 * We can't directly call repoPlugin.list() since we are on the UI
-		 * thread so the plan is to first check to see if we have cached the
-		 * list results already from a previous job, if so, return those results
-		 * directly If not, then we need to create a background job that will
-		 * call list() and once it is finished, we tell the Viewer to refresh
-		 * this node and the next time this method gets called the 'results'
-		 * will be available in the cache
+		 * thread, so the names of the repository are listed once by a
+		 * background job and searched in memory for every filter. Until the
+		 * names are listed, or while a search job is running, a loading element
+		 * is shown and the viewer refreshes this node when the index reports
+		 * new results. A new filter cancels the running search.
 		 */
-		Map<String, Object[]> listResults = repoPluginListResults.computeIfAbsent(repoPlugin, p -> new HashMap<>());
-
-		result = listResults.get(wildcardFilter);
+		RepositoryBundleIndex index = repoPluginIndexes.computeIfAbsent(repoPlugin,
+			p -> new RepositoryBundleIndex(p, changed -> indexChanged(changed, p)));
 
+		if (index.isListed()) {
+			result = index.getBundles(wildcardFilter);
+		}
 		if (result == null) {
-			Job job = new Job("Loading " + repoPlugin.getName() + " content...") {
-
-				@Override
-				protected IStatus run(IProgressMonitor monitor) {
-					IStatus status = Status.OK_STATUS;
-					Object[] jobresult;
-					List<String> bsns = null;
-
-					try {
-						bsns = repoPlugin.list(wildcardFilter);
-					} catch (Exception e) {
-						String message = MessageFormat.format("Error querying repository {0}.", repoPlugin.getName());
-						ILog.get().error(message, e);
-						status = Status.error(message, e);
-					}
-					if (bsns != null) {
-						Collections.sort(bsns);
-						jobresult = new RepositoryBundle[bsns.size()];
-						int i = 0;
-						for (String bsn : bsns) {
-							jobresult[i++] = new RepositoryBundle(repoPlugin, bsn);
-						}
-
-						Map<String, Object[]> listResults = repoPluginListResults.computeIfAbsent(repoPlugin,
-							p -> new HashMap<>());
-						listResults.put(wildcardFilter, jobresult);
-
-						Display.getDefault()
-							.asyncExec(() -> {
-								if (!structuredViewer.getControl()
-									.isDisposed())
-									structuredViewer.refresh(repoPlugin, true);
-							});
-					}
-
-					return status;
-				}
+			result = new Object[] {
+				new LoadingContentElement()
 			};
-			job.schedule();
-
-			// wait 100 ms and see if the job will complete fast (likely already
-			// cached)
-			try {
-				Thread.sleep(100);
-			} catch (InterruptedException e) {}
-
-			IStatus status = job.getResult();
-
-			if (status != null && status.isOK()) {
-				Map<String, Object[]> fastResults = repoPluginListResults.computeIfAbsent(repoPlugin,
-					p -> new HashMap<>());
-				result = fastResults.get(wildcardFilter);
-			} else {
-				Object[] loading = new Object[] {
-					new LoadingContentElement()
-				};
-
-				listResults.put(wildcardFilter, loading);
-				result = loading;
-			}
 		}
 
 		return result;
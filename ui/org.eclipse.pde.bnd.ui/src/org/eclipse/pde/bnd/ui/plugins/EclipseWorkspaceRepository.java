@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020, 2024 bndtools project and others.
+ * Copyright (c) 2020, 2026 bndtools project and others.
  *
 * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -76,6 +76,8 @@ public class EclipseWorkspaceRepository extends AbstractIndexingRepository<IProj
 				}, Collections.emptyList()));
 			}
 		}
+		// the workspace bundles are now known to searches
+		RepositorySearchIndex.invalidate();
 	}
 
 	@Override
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2015, 2024 bndtools project and others.
+ * Copyright (c) 2015, 2026 bndtools project and others.
  *
 * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -41,6 +41,7 @@ import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.jface.viewers.TreePath;
 import org.eclipse.jface.viewers.TreeViewer;
+import org.eclipse.pde.bnd.ui.model.repo.RepositoryTreeContentProvider;
 import org.eclipse.swt.widgets.Display;
 import org.osgi.service.component.annotations.Component;
 
@@ -112,6 +113,18 @@ public class RepositoriesViewRefresher implements RepositoryListenerPlugin {
 							viewer.getControl()
 							.getDisplay()
 							.asyncExec(() -> {
+								if (viewer.getControl()
+									.isDisposed())
+									return;
+								// a single repository is refreshed on its own
+								if (target != null
+									&& viewer.getContentProvider() instanceof RepositoryTreeContentProvider contentProvider
+									&& entryRepos.get(entry)
+										.contains(target)) {
+									contentProvider.invalidate(target);
+									viewer.refresh(target);
+									return;
+								}
 								TreePath[] expandedTreePaths = viewer.getExpandedTreePaths();
 
 								viewer.setInput(entryRepos.get(entry));
@@ -179,21 +192,25 @@ public class RepositoriesViewRefresher implements RepositoryListenerPlugin {
 
 	@Override
 	public void bundleAdded(final RepositoryPlugin repository, Jar jar, File file) {
+		RepositorySearchIndex.invalidate();
 		refreshRepositories(repository);
 	}
 
 	@Override
 	public void bundleRemoved(final RepositoryPlugin repository, Jar jar, File file) {
+		RepositorySearchIndex.invalidate();
 		refreshRepositories(repository);
 	}
 
 	@Override
 	public void repositoryRefreshed(final RepositoryPlugin repository) {
+		RepositorySearchIndex.invalidate();
 		refreshRepositories(repository);
 	}
 
 	@Override
 	public void repositoriesRefreshed() {
+		RepositorySearchIndex.invalidate();
 		refreshRepositories(null);
 	}
 
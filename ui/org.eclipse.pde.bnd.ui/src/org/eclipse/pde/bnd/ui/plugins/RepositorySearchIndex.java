@@ -0,0 +1,88 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+*******************************************************************************/
+package org.eclipse.pde.bnd.ui.plugins;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import aQute.bnd.build.Workspace;
+import aQute.bnd.osgi.BundleId;
+import aQute.bnd.result.Result;
+
+/**
+ * Remembers which bundles of the repositories of a workspace provide the
+ * classes and packages looked up by {@link Workspace#search(String)} and
+ * {@link Workspace#search(String, String)}, so that repeated lookups do not
+ * search the repositories again.
+ * <p>
+ * The lookups are forgotten when a repository reports a change to the
+ * {@link RepositoriesViewRefresher}, or when the
+ * {@link EclipseWorkspaceRepository} indexes the workspace projects. Failed
+ * lookups, and lookups that found no bundle, are not remembered: a quick fix
+ * looks them up again, so a class that a project builds or a repository
+ * receives later is found without waiting for an invalidation.
+ * </p>
+ */
+public final class RepositorySearchIndex {
+
+	private static final Map<Workspace, RepositorySearchIndex>	indexes			= new ConcurrentHashMap<>();
+
+	private final Workspace										workspace;
+	private final Map<String, Result<Map<String, List<BundleId>>>>	classResults	= new ConcurrentHashMap<>();
+	private final Map<String, Result<Map<String, List<BundleId>>>>	packageResults	= new ConcurrentHashMap<>();
+
+	private RepositorySearchIndex(Workspace workspace) {
+		this.workspace = workspace;
+	}
+
+	public static RepositorySearchIndex get(Workspace workspace) {
+		return indexes.computeIfAbsent(workspace, RepositorySearchIndex::new);
+	}
+
+	/**
+	 * Forgets the lookups of every workspace.
+	 */
+	public static void invalidate() {
+		indexes.clear();
+	}
+
+	/**
+	 * @see Workspace#search(String)
+	 */
+	public Result<Map<String, List<BundleId>>> search(String partialFqn) {
+		return lookup(classResults, partialFqn, workspace::search);
+	}
+
+	/**
+	 * @see Workspace#search(String, String)
+	 */
+	public Result<Map<String, List<BundleId>>> search(String packageName, String className) {
+		String key = (packageName == null ? "" : packageName) + '/' + className;
+		return lookup(packageResults, key, k -> workspace.search(packageName, className));
+	}
+
+	private static Result<Map<String, List<BundleId>>> lookup(Map<String, Result<Map<String, List<BundleId>>>> results,
+		String key, Function<String, Result<Map<String, List<BundleId>>>> search) {
+		Result<Map<String, List<BundleId>>> result = results.get(key);
+		if (result == null) {
+			result = search.apply(key);
+			if (result.isOk() && !result.unwrap().isEmpty()) {
+				results.put(key, result);
+			}
+		}
+		return result;
+	}
+}
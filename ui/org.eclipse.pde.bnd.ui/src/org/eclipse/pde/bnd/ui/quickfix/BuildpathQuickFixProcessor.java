@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020, 2021 bndtools project and others.
+ * Copyright (c) 2020, 2026 bndtools project and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -69,6 +69,7 @@ import org.eclipse.jdt.ui.text.java.IJavaCompletionProposal;
 import org.eclipse.jdt.ui.text.java.IProblemLocation;
 import org.eclipse.jdt.ui.text.java.IQuickFixProcessor;
 import org.eclipse.pde.bnd.ui.autocomplete.AddBundleCompletionProposal;
+import org.eclipse.pde.bnd.ui.plugins.RepositorySearchIndex;
 
 import aQute.bnd.build.Container;
 import aQute.bnd.build.Project;
@@ -339,9 +340,13 @@ public class BuildpathQuickFixProcessor implements IQuickFixProcessor {
 	Project								project;
 	IInvocationContext					context;
 	private boolean						test;
-	private Workspace					workspace;
+	private RepositorySearchIndex		searchIndex;
+	private ProjectBuilder				projectBuilder;
 	Map<BundleId, Map<String, Boolean>>	proposals;
 	Set<ITypeBinding>					visited;
+	// searches and classes already handled for the current locations
+	private Set<String>					searched;
+	private Map<String, Boolean>		onBuildOrTestPath;
 	IProblemLocation					location;
 	final ASTVisitor					TYPE_VISITOR	= new ASTVisitor() {
 															@Override
@@ -373,6 +378,8 @@ public class BuildpathQuickFixProcessor implements IQuickFixProcessor {
 			this.context = context;
 			proposals = new HashMap<>();
 			visited = new HashSet<>();
+			searched = new HashSet<>();
+			onBuildOrTestPath = new HashMap<>();
 
 			ICompilationUnit compUnit = context.getCompilationUnit();
 			IJavaProject java = compUnit.getJavaProject();
@@ -384,9 +391,14 @@ public class BuildpathQuickFixProcessor implements IQuickFixProcessor {
 				return null;
 
 			test = isInDir(project.getTestSrc(), compUnit.getResource());
-			workspace = project.getWorkspace();
+			Workspace workspace = project.getWorkspace();
+			searchIndex = RepositorySearchIndex.get(workspace);
 
+			Set<String> handledLocations = new HashSet<>();
 			for (IProblemLocation location : locations) {
+				// the same problem can be reported more than once
+				if (!handledLocations.add(location.getProblemId() + ":" + location.getOffset() + ":" + location.getLength()))
+					continue;
 				this.location = location;
 				switch (location.getProblemId()) {
 					case IProblem.DiscouragedReference : {
@@ -684,6 +696,15 @@ public class BuildpathQuickFixProcessor implements IQuickFixProcessor {
 
 		Exception e) {
 			throw Exceptions.duck(e);
+		} finally {
+			if (projectBuilder != null) {
+				try {
+					projectBuilder.close();
+				} catch (Exception e) {
+					// nothing to release
+				}
+				projectBuilder = null;
+			}
 		}
 	}
 
@@ -762,7 +783,9 @@ public class BuildpathQuickFixProcessor implements IQuickFixProcessor {
 				.filter(Objects::nonNull)
 				.map(IPackageDeclaration::getElementName)
 				.anyMatch(packageName::equals)) {
-				doAddProposals(workspace.search(packageName, className), true);
+				if (searched.add(packageName + '/' + className + "/true")) {
+					doAddProposals(searchIndex.search(packageName, className), true);
+				}
 				return;
 			}
 		}
@@ -800,36 +823,47 @@ public class BuildpathQuickFixProcessor implements IQuickFixProcessor {
 	}
 
 	private void addProposals(String partialClassName) throws CoreException, Exception {
+		if (!searched.add(partialClassName)) {
+			return;
+		}
 		boolean doImport = Descriptors.determine(partialClassName)
 			.map(sa -> sa[0] == null)
 			.orElse(false);
-		doAddProposals(workspace.search(partialClassName), doImport);
+		doAddProposals(searchIndex.search(partialClassName), doImport);
 	}
 
 	private void addProposals(String packageName, String className) throws CoreException, Exception {
-		doAddProposals(workspace.search(packageName, className), packageName == null || packageName.length() == 0);
+		boolean doImport = packageName == null || packageName.length() == 0;
+		if (searched.add(packageName + '/' + className + '/' + doImport)) {
+			doAddProposals(searchIndex.search(packageName, className), doImport);
+		}
 	}
 
 	private void doAddProposals(Result<Map<String, List<BundleId>>> wrappedResult, boolean doImport)
 		throws CoreException, Exception {
-		try (ProjectBuilder pb = new ProjectBuilder(project)) {
+		Map<String, List<BundleId>> result = wrappedResult
+			.orElseThrow(s -> new CoreException(new Status(IStatus.ERROR, getClass(), s)));
+		if (result.isEmpty()) {
+			return;
+		}
 
+		// the class path of the project is computed once for all locations
+		if (projectBuilder == null) {
+			projectBuilder = new ProjectBuilder(project);
 			if (test)
-				pb.includeTestpath();
-
-			Map<String, List<BundleId>> result = wrappedResult
-				.orElseThrow(s -> new CoreException(new Status(IStatus.ERROR, getClass(), s)));
-
-			result.entrySet()
-				.stream()
-				.filter(e -> !isOnBuildOrTestPath(pb, e.getKey()))
-				.forEach(e -> {
-					for (BundleId id : e.getValue()) {
-						proposals.computeIfAbsent(id, newBundleId -> new HashMap<>())
-							.merge(e.getKey(), doImport, (oldVal, newVal) -> oldVal || newVal);
-					}
-				});
+				projectBuilder.includeTestpath();
 		}
+		ProjectBuilder pb = projectBuilder;
+
+		result.entrySet()
+			.stream()
+			.filter(e -> !onBuildOrTestPath.computeIfAbsent(e.getKey(), fqn -> isOnBuildOrTestPath(pb, fqn)))
+			.forEach(e -> {
+				for (BundleId id : e.getValue()) {
+					proposals.computeIfAbsent(id, newBundleId -> new HashMap<>())
+						.merge(e.getKey(), doImport, (oldVal, newVal) -> oldVal || newVal);
+				}
+			});
 	}
 
 	private boolean isOnBuildOrTestPath(ProjectBuilder pb, String fqn) {
@@ -0,0 +1,125 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core.plugin;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.net.URL;
+import java.nio.file.Files;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.eclipse.pde.internal.core.NLResourceHelper;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ExternalModelCacheTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private Supplier<NLResourceHelper> loader;
+
+	@Before
+	public void setUp() throws Exception {
+		File location = folder.newFolder("bundle");
+		Files.writeString(new File(location, "plugin.properties").toPath(), "name=Localized Name\n");
+		URL[] locations = new URL[] { location.toURI().toURL() };
+		loader = () -> new NLResourceHelper("plugin", locations);
+	}
+
+	@Test
+	public void testEvictedHelperStillInUse() {
+		ExternalModelCache cache = new ExternalModelCache(1);
+		ExternalPluginModel model = new ExternalPluginModel();
+		NLResourceHelper helper = cache.getNLResourceHelper(model, loader);
+		assertSame(helper, cache.getNLResourceHelper(model, loader));
+
+		// evicts the helper of the first model
+		cache.getNLResourceHelper(new ExternalPluginModel(), loader);
+		assertEquals(1, cache.getLoadedCount());
+		assertEquals("Localized Name", helper.getResourceString("%name"));
+
+		// the evicted model gets a new helper
+		assertNotSame(helper, cache.getNLResourceHelper(model, loader));
+	}
+
+	@Test
+	public void testClearedHelperStillInUse() {
+		ExternalModelCache cache = new ExternalModelCache(4);
+		NLResourceHelper helper = cache.getNLResourceHelper(new ExternalPluginModel(), loader);
+		cache.clear();
+		assertEquals(0, cache.getLoadedCount());
+		assertEquals("Localized Name", helper.getResourceString("%name"));
+		assertEquals("%missing", helper.getResourceString("%missing"));
+	}
+
+	@Test
+	public void testLoadDoesNotBlockOtherModels() throws Exception {
+		ExternalModelCache cache = new ExternalModelCache(4);
+		CountDownLatch loading = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		ExternalPluginModel slow = new ExternalPluginModel();
+		CompletableFuture<NLResourceHelper> slowHelper = CompletableFuture.supplyAsync(() -> cache.getNLResourceHelper(slow, () -> {
+			loading.countDown();
+			try {
+				release.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return loader.get();
+		}));
+		try {
+			assertTrue(loading.await(10, TimeUnit.SECONDS));
+			// another model is served while the slow one is loading
+			CompletableFuture<NLResourceHelper> other = CompletableFuture.supplyAsync(() -> cache.getNLResourceHelper(new ExternalPluginModel(), loader));
+			assertEquals("Localized Name", other.get(10, TimeUnit.SECONDS).getResourceString("%name"));
+		} finally {
+			release.countDown();
+		}
+		assertEquals("Localized Name", slowHelper.get(10, TimeUnit.SECONDS).getResourceString("%name"));
+	}
+
+	@Test
+	public void testConcurrentRequestsLoadOnce() throws Exception {
+		ExternalModelCache cache = new ExternalModelCache(4);
+		ExternalPluginModel model = new ExternalPluginModel();
+		AtomicInteger loads = new AtomicInteger();
+		CountDownLatch release = new CountDownLatch(1);
+		Supplier<NLResourceHelper> counting = () -> {
+			loads.incrementAndGet();
+			try {
+				release.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return loader.get();
+		};
+		CompletableFuture<NLResourceHelper> first = CompletableFuture.supplyAsync(() -> cache.getNLResourceHelper(model, counting));
+		CompletableFuture<NLResourceHelper> second = CompletableFuture.supplyAsync(() -> cache.getNLResourceHelper(model, counting));
+		release.countDown();
+
+		assertSame(first.get(10, TimeUnit.SECONDS), second.get(10, TimeUnit.SECONDS));
+		assertEquals(1, loads.get());
+	}
+}
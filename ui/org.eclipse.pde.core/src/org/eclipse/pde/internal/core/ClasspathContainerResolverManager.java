@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2012 Sonatype, Inc. and others.
+ * Copyright (c) 2011, 2026 Sonatype, Inc. and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -62,4 +62,22 @@ public class ClasspathContainerResolverManager {
 		return result.toArray(new IBundleClasspathResolver[result.size()]);
 	}
 
+	/**
+	 * Returns whether a bundle classpath resolver is contributed for one of
+	 * the natures of the given project, without creating the resolvers.
+	 */
+	public boolean hasBundleClasspathResolvers(IProject project) {
+		IExtensionRegistry registry = Platform.getExtensionRegistry();
+		for (IConfigurationElement element : registry.getConfigurationElementsFor(POINT_ID)) {
+			try {
+				if (project.isNatureEnabled(element.getAttribute(ATT_NATURE))) {
+					return true;
+				}
+			} catch (CoreException e) {
+				PDECore.log(e.getStatus());
+			}
+		}
+		return false;
+	}
+
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2003, 2024 IBM Corporation and others.
+ * Copyright (c) 2003, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,8 +17,10 @@
 package org.eclipse.pde.internal.core;
 
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -93,6 +95,13 @@ public class ClasspathHelper {
 			if (directory != null && (!directory.exists() || directory.isFile())) {
 				directory.mkdirs();
 			}
+		} else if (properties.equals(readDevEntries(file))) {
+			// keep the file of the previous launch, nothing changed
+			try {
+				return new URL("file:" + fileName).toString(); //$NON-NLS-1$
+			} catch (IOException e) {
+				throw new CoreException(Status.error("Failed to create dev.properties file", e)); //$NON-NLS-1$
+			}
 		}
 		try (FileOutputStream stream = new FileOutputStream(fileName)) {
 			properties.store(stream, ""); //$NON-NLS-1$
@@ -103,12 +112,27 @@ public class ClasspathHelper {
 		}
 	}
 
+	private static Properties readDevEntries(File file) {
+		Properties properties = new Properties();
+		try (InputStream stream = new FileInputStream(file)) {
+			properties.load(stream);
+			return properties;
+		} catch (IOException | IllegalArgumentException e) {
+			return null;
+		}
+	}
+
 	public static Properties getDevEntriesProperties(Map<String, List<IPluginModelBase>> bundlesMap,
 			boolean checkExcluded) {
 
 		Set<IPluginModelBase> launchedPlugins = bundlesMap.values().stream().flatMap(Collection::stream)
 				.collect(Collectors.toCollection(LinkedHashSet::new));
 
+		// the dev classpath of the workspace projects are independent of each other
+		Map<IPluginModelBase, String> devEntries = launchedPlugins.parallelStream()
+				.filter(m -> m.getUnderlyingResource() != null)
+				.collect(Collectors.toConcurrentMap(m -> m, m -> formatEntry(getDevPaths(m, checkExcluded, launchedPlugins))));
+
 		Map<IPluginModelBase, String> modelEntries = new LinkedHashMap<>();
 		// account for cascading workspaces
 		TargetWeaver.weaveRunningPlatformDevProperties(modelEntries, launchedPlugins);
@@ -116,7 +140,7 @@ public class ClasspathHelper {
 		for (List<IPluginModelBase> models : bundlesMap.values()) {
 			for (IPluginModelBase model : models) {
 				if (model.getUnderlyingResource() != null) {
-					String entry = formatEntry(getDevPaths(model, checkExcluded, launchedPlugins));
+					String entry = devEntries.get(model);
 					if (!entry.isEmpty()) {
 						// overwrite entry, if plug-in from primary Eclipse is
 						// also imported into workspace of secondary eclipse
@@ -262,6 +286,15 @@ public class ClasspathHelper {
 	}
 
 	private static Set<IPath> getDevPaths(IPluginModelBase model, boolean checkExcluded, Set<IPluginModelBase> plugins) {
+		IProject project = model.getUnderlyingResource().getProject();
+		Set<IPath> paths = PDECore.getDefault().getDevClasspathCache().getDevPaths(project, checkExcluded,
+				() -> computeDevPaths(model, checkExcluded, null));
+		// paths found in fragments depend on the launched plug-ins and are not cached
+		return paths != null ? paths : computeDevPaths(model, checkExcluded, plugins);
+	}
+
+	// returns null if plugins is null and the paths of fragments are needed
+	private static Set<IPath> computeDevPaths(IPluginModelBase model, boolean checkExcluded, Set<IPluginModelBase> plugins) {
 		IProject project = model.getUnderlyingResource().getProject();
 		if (PluginProject.isJavaProject(project)) {
 			try {
@@ -285,16 +318,19 @@ public class ClasspathHelper {
 						for (int i = 0; i < libraries.length; i++) {
 							List<IPath> paths = findLibrary(libraries[i].getName(), project, classpathMap, build);
 							if (paths.isEmpty() && !libraries[i].getName().equals(DOT)) {
+								if (plugins == null) {
+									return null;
+								}
 								paths = findLibraryFromFragments(libraries[i].getName(), model, checkExcluded, plugins);
 							}
 							addPaths(paths, project, result);
 						}
 					}
-					return result;
+					return Collections.unmodifiableSet(result);
 				}
 				// if no build.properties, add all output folders
 				classpathMap.values().forEach(l -> addPaths(l, project, result));
-				return result;
+				return Collections.unmodifiableSet(result);
 			} catch (CoreException e) {
 			}
 		}
@@ -0,0 +1,126 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IFolder;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceChangeListener;
+import org.eclipse.core.resources.IResourceDelta;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+
+/**
+ * Caches the dev classpath computed by {@link ClasspathHelper} for each
+ * workspace project, so that launches do not read the Java classpath and the
+ * <code>build.properties</code> of every project again.
+ * <p>
+ * The entry of a project is discarded when its <code>.classpath</code>,
+ * <code>build.properties</code>, manifest, project description or PDE
+ * preferences change, or when any file or folder is added to or removed from
+ * it, for example when a library or an output folder is created.
+ * </p>
+ * <p>
+ * Projects with a contributed {@link org.eclipse.pde.core.IBundleClasspathResolver}
+ * are not cached, as the inputs of the resolvers are not known.
+ * </p>
+ */
+class DevClasspathCache implements IResourceChangeListener {
+
+	private static final Set<String> RELEVANT_FILES = Set.of(".classpath", ".project", //$NON-NLS-1$ //$NON-NLS-2$
+			ICoreConstants.BUILD_FILENAME_DESCRIPTOR, ICoreConstants.MANIFEST_FILENAME,
+			ICoreConstants.PLUGIN_FILENAME_DESCRIPTOR, ICoreConstants.FRAGMENT_FILENAME_DESCRIPTOR,
+			PDECore.PLUGIN_ID + ".prefs"); //$NON-NLS-1$
+
+	private record Key(IProject project, boolean checkExcluded) {
+	}
+
+	private final Map<Key, Set<IPath>> fEntries = new ConcurrentHashMap<>();
+	private volatile boolean fActive = false;
+
+	public void start() {
+		PDECore.getWorkspace().addResourceChangeListener(this, IResourceChangeEvent.POST_CHANGE);
+		fActive = true;
+	}
+
+	public void stop() {
+		fActive = false;
+		PDECore.getWorkspace().removeResourceChangeListener(this);
+		fEntries.clear();
+	}
+
+	/**
+	 * Returns the cached dev classpath of the given project, computing it if
+	 * it is not cached. The computation returns <code>null</code> if its result
+	 * depends on other projects, such a result is computed again every time.
+	 */
+	Set<IPath> getDevPaths(IProject project, boolean checkExcluded, Supplier<Set<IPath>> computation) {
+		if (!fActive || PDECore.getDefault().getClasspathContainerResolverManager().hasBundleClasspathResolvers(project)) {
+			return computation.get();
+		}
+		Key key = new Key(project, checkExcluded);
+		Set<IPath> paths = fEntries.get(key);
+		if (paths == null) {
+			paths = computation.get();
+			if (paths == null) {
+				return null;
+			}
+			fEntries.put(key, paths);
+		}
+		return paths;
+	}
+
+	@Override
+	public void resourceChanged(IResourceChangeEvent event) {
+		IResourceDelta delta = event.getDelta();
+		if (delta == null || fEntries.isEmpty()) {
+			return;
+		}
+		try {
+			delta.accept(child -> {
+				IResource resource = child.getResource();
+				if (resource instanceof IProject project) {
+					if (child.getKind() != IResourceDelta.CHANGED || (child.getFlags() & (IResourceDelta.OPEN | IResourceDelta.DESCRIPTION)) != 0) {
+						invalidate(project);
+						return false;
+					}
+				} else if (resource instanceof IFolder) {
+					if (child.getKind() != IResourceDelta.CHANGED) {
+						invalidate(resource.getProject());
+						return false;
+					}
+				} else if (resource instanceof IFile) {
+					if (child.getKind() != IResourceDelta.CHANGED || RELEVANT_FILES.contains(resource.getName())) {
+						invalidate(resource.getProject());
+					}
+				}
+				return true;
+			});
+		} catch (CoreException e) {
+			fEntries.clear();
+		}
+	}
+
+	private void invalidate(IProject project) {
+		fEntries.remove(new Key(project, true));
+		fEntries.remove(new Key(project, false));
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2021 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -21,10 +21,15 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -71,10 +76,23 @@ public class ExternalFeatureModelManager {
 		}
 	}
 
+	/**
+	 * A feature model parsed from a feature.xml, reusable as long as the file
+	 * has the same size and modification time
+	 */
+	private record CachedModel(long size, long lastModified, IFeatureModel model) {
+	}
+
 	private final ListenerList<IModelProviderListener> fListeners = new ListenerList<>();
 
 	private IFeatureModel[] fModels;
 
+	/**
+	 * Models parsed for the previous target, keyed by the absolute manifest
+	 * path, so that unchanged features are not parsed again on reload
+	 */
+	private Map<String, CachedModel> fModelCache = new ConcurrentHashMap<>();
+
 	public void addModelProviderListener(IModelProviderListener listener) {
 		fListeners.add(listener);
 	}
@@ -132,20 +150,30 @@ public class ExternalFeatureModelManager {
 			return new IFeatureModel[0];
 		}
 
-		List<IFeatureModel> result = new ArrayList<>();
 		TargetFeature[] features = target.getAllFeatures();
-		if (features != null) {
-			for (TargetFeature feature : features) {
-				IFeatureModel model = getFreshFeatureModel(feature);
-				if (model.isLoaded()) {
-					result.add(model);
-				}
-			}
+		if (features == null) {
+			fModelCache = new ConcurrentHashMap<>();
+			return new IFeatureModel[0];
 		}
+		// parse the features in parallel, entries of features no longer in the target are dropped
+		Map<String, CachedModel> oldCache = fModelCache;
+		Map<String, CachedModel> newCache = new ConcurrentHashMap<>();
+		List<IFeatureModel> result = Arrays.stream(features).parallel()
+				.map(feature -> getFreshFeatureModel(feature, oldCache, newCache)).filter(IFeatureModel::isLoaded)
+				.toList();
+		fModelCache = newCache;
 		return result.toArray(new IFeatureModel[result.size()]);
 	}
 
 	private void notifyListeners(IFeatureModel[] oldModels, IFeatureModel[] newFeatureModels) {
+		// models reused from the previous target are neither removed nor added
+		Set<IFeatureModel> reused = Collections.newSetFromMap(new IdentityHashMap<>());
+		reused.addAll(Arrays.asList(oldModels));
+		reused.retainAll(Arrays.asList(newFeatureModels));
+		if (!reused.isEmpty()) {
+			oldModels = Arrays.stream(oldModels).filter(m -> !reused.contains(m)).toArray(IFeatureModel[]::new);
+			newFeatureModels = Arrays.stream(newFeatureModels).filter(m -> !reused.contains(m)).toArray(IFeatureModel[]::new);
+		}
 		if (oldModels.length > 0 || newFeatureModels.length > 0) {
 			int type = 0;
 			if (oldModels.length > 0) {
@@ -170,19 +198,37 @@ public class ExternalFeatureModelManager {
 
 	/**
 	 * Loads the model freshly from the location if it is is a valid file and
-	 * can be read, otherwise returns the internal model
+	 * can be read, otherwise returns the internal model. A model parsed for
+	 * the previous target is reused if the file has not changed since.
 	 *
 	 * @param feature
 	 *            the feature to load the model for
+	 * @param oldCache
+	 *            the models parsed for the previous target
+	 * @param newCache
+	 *            receives the models parsed or reused for the current target
 	 * @return the (possibly refreshed) model for this feature
 	 */
-	private static IFeatureModel getFreshFeatureModel(TargetFeature feature) {
+	private static IFeatureModel getFreshFeatureModel(TargetFeature feature, Map<String, CachedModel> oldCache,
+			Map<String, CachedModel> newCache) {
 		String location = feature.getLocation();
 		if (location != null) {
 			File manifest = new File(location, ICoreConstants.FEATURE_FILENAME_DESCRIPTOR);
 			if (manifest.exists() && manifest.isFile()) {
+				String key = manifest.getAbsolutePath();
+				long size = manifest.length();
+				long lastModified = manifest.lastModified();
+				CachedModel cached = oldCache.get(key);
+				if (cached != null && cached.size() == size && cached.lastModified() == lastModified) {
+					newCache.put(key, cached);
+					return cached.model();
+				}
 				try {
-					return createModel(manifest);
+					IFeatureModel model = createModel(manifest);
+					if (model.isLoaded()) {
+						newCache.put(key, new CachedModel(size, lastModified, model));
+					}
+					return model;
 				} catch (CoreException e) {
 					PDECore.log(e);
 				}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2000, 2017 IBM Corporation and others.
+ *  Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -14,7 +14,6 @@
 package org.eclipse.pde.internal.core;
 
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
@@ -49,7 +48,7 @@ public class FeatureModelManager {
 	 * All models in workspace, and those external models that have no
 	 * corresponding workspace model with the same id and version
 	 */
-	private FeatureTable fActiveModels;
+	private volatile FeatureTable fActiveModels;
 
 	/**
 	 * External models masked by workspace models with the same id and version.
@@ -58,7 +57,13 @@ public class FeatureModelManager {
 
 	private ExternalFeatureModelManager fExternalManager;
 
-	private boolean fReloadExternalNeeded = false;
+	private volatile boolean fReloadExternalNeeded = false;
+
+	/**
+	 * Whether the tables have been populated, allows lookups to skip the lock
+	 * once the manager is initialized
+	 */
+	private volatile boolean fInitialized = false;
 
 	private final WorkspaceFeatureModelManager fWorkspaceManager;
 
@@ -87,7 +92,14 @@ public class FeatureModelManager {
 		return (fActiveModels != null && !fReloadExternalNeeded);
 	}
 
-	private synchronized void init() {
+	private void init() {
+		if (fInitialized && !fReloadExternalNeeded) {
+			return;
+		}
+		initModels();
+	}
+
+	private synchronized void initModels() {
 		if (fActiveModels != null) {
 			if (fReloadExternalNeeded) {
 				fReloadExternalNeeded = false;
@@ -132,7 +144,7 @@ public class FeatureModelManager {
 		} else {
 			fExternalManager.initialize();
 		}
-
+		fInitialized = true;
 	}
 
 	/*
@@ -219,12 +231,14 @@ public class FeatureModelManager {
 		return fActiveModels.getAllValidFeatures(id);
 	}
 
-	private static final Comparator<IFeatureModel> FEATURE_VERSION = Comparator
-			.comparing(f -> Version.parseVersion(f.getFeature().getVersion()));
-
+	/**
+	 * Finds the active model with the given id and the highest version
+	 *
+	 * @return IFeatureModel or null
+	 */
 	public IFeatureModel findFeatureModel(String id) {
-		List<IFeatureModel> models = findFeatureModels(id);
-		return models.stream().max(FEATURE_VERSION).orElse(null);
+		init();
+		return fActiveModels.getNewestValidFeature(id);
 	}
 
 	private void handleModelsChanged(IModelProviderEvent e) {
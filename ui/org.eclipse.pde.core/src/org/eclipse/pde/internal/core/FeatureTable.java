@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2005, 2017 IBM Corporation and others.
+ *  Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -14,7 +14,9 @@
 package org.eclipse.pde.internal.core;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -22,18 +24,30 @@ import java.util.StringJoiner;
 
 import org.eclipse.pde.internal.core.ifeature.IFeature;
 import org.eclipse.pde.internal.core.ifeature.IFeatureModel;
+import org.osgi.framework.Version;
 
 /**
  * Stores IFeatureModels. Models are indexed by id and id with version for fast
  * retrieval. Given id or version may have more than one corresponding model. A
  * model has only one id and version that can be null. When models changes, its
  * Idver stays unchanged until the models reinserted.
+ * <p>
+ * Lookups of the newest model for an id are answered without locking from an
+ * immutable snapshot that maps ids to models sorted by their parsed version.
+ * The snapshot is rebuilt on the first lookup after the table was modified.
+ * </p>
  */
 class FeatureTable {
 
 	static record Idver(String id, String version) {
 	}
 
+	private static record VersionedModel(IFeatureModel model, Version version) {
+	}
+
+	private static final Comparator<VersionedModel> NEWEST_FIRST = Comparator.comparing(VersionedModel::version)
+			.reversed();
+
 	/**
 	 * Map of IFeatureModel to Idver
 	 */
@@ -49,6 +63,12 @@ class FeatureTable {
 	 */
 	private final Map<String, List<Idver>> fId2idvers = new HashMap<>();
 
+	/**
+	 * Map of Id to models sorted by descending version, <code>null</code> if
+	 * the table was modified since the snapshot was taken
+	 */
+	private volatile Map<String, List<VersionedModel>> fSnapshot;
+
 	public synchronized Idver get(IFeatureModel model) {
 		return fModel2idver.get(model);
 	}
@@ -75,6 +95,63 @@ class FeatureTable {
 				.filter(IFeatureModel::isValid).toList();
 	}
 
+	/**
+	 * Returns the valid model with the highest version for the given id. On
+	 * equal versions the model added first is returned.
+	 *
+	 * @return the newest valid model or <code>null</code>
+	 */
+	public IFeatureModel getNewestValidFeature(String id) {
+		List<VersionedModel> models = getSnapshot().get(id);
+		if (models != null) {
+			for (VersionedModel model : models) {
+				if (model.model().isValid()) {
+					return model.model();
+				}
+			}
+		}
+		return null;
+	}
+
+	private Map<String, List<VersionedModel>> getSnapshot() {
+		Map<String, List<VersionedModel>> snapshot = fSnapshot;
+		if (snapshot == null) {
+			synchronized (this) {
+				snapshot = fSnapshot;
+				if (snapshot == null) {
+					snapshot = createSnapshot();
+					fSnapshot = snapshot;
+				}
+			}
+		}
+		return snapshot;
+	}
+
+	private Map<String, List<VersionedModel>> createSnapshot() {
+		Map<String, List<VersionedModel>> snapshot = new HashMap<>();
+		fId2idvers.forEach((id, idvers) -> {
+			List<VersionedModel> models = new ArrayList<>();
+			for (Idver idver : new LinkedHashSet<>(idvers)) {
+				Version version = parseVersion(idver.version());
+				for (IFeatureModel model : fIdver2models.getOrDefault(idver, List.of())) {
+					models.add(new VersionedModel(model, version));
+				}
+			}
+			// stable sort, keeps insertion order for equal versions
+			models.sort(NEWEST_FIRST);
+			snapshot.put(id, List.copyOf(models));
+		});
+		return Map.copyOf(snapshot);
+	}
+
+	private static Version parseVersion(String version) {
+		try {
+			return Version.parseVersion(version);
+		} catch (IllegalArgumentException e) {
+			return Version.emptyVersion;
+		}
+	}
+
 	public synchronized IFeatureModel[] getAllValidFeatures() {
 		return fModel2idver.keySet().stream().filter(IFeatureModel::isValid).toArray(IFeatureModel[]::new);
 	}
@@ -93,6 +170,7 @@ class FeatureTable {
 		if (idver == null) {
 			return null;
 		}
+		fSnapshot = null;
 		if (removeValueFromMultimap(fIdver2models, idver, model)) {
 			removeValueFromMultimap(fId2idvers, idver.id(), idver);
 		}
@@ -131,6 +209,7 @@ class FeatureTable {
 
 		List<Idver> idvers = fId2idvers.computeIfAbsent(id, i -> new ArrayList<>(1));
 		idvers.add(idver);
+		fSnapshot = null;
 
 		return idver;
 	}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -27,7 +27,7 @@ import org.eclipse.core.runtime.Platform;
 public class NLResourceHelper {
 	public static final String KEY_PREFIX = "%"; //$NON-NLS-1$
 	public static final String KEY_DOUBLE_PREFIX = "%%"; //$NON-NLS-1$
-	private PropertyResourceBundle bundle = null;
+	private volatile PropertyResourceBundle bundle = null;
 	private String fNLFileBasePath;
 
 	public NLResourceHelper(String name, URL[] locations) {
@@ -86,29 +86,48 @@ public class NLResourceHelper {
 		String key = ix == -1 ? s : s.substring(0, ix);
 		String dflt = ix == -1 ? s : s.substring(ix + 1);
 
-		if (bundle == null) {
+		PropertyResourceBundle current = bundle;
+		if (current == null) {
 			return dflt;
 		}
 
 		try {
-			return bundle.getString(key.substring(1));
+			return current.getString(key.substring(1));
 		} catch (MissingResourceException e) {
 			return dflt;
 		}
 	}
 
 	public boolean resourceExists(String value) {
-		if (bundle == null) {
+		PropertyResourceBundle current = bundle;
+		if (current == null) {
 			return false;
 		}
 		try {
-			bundle.getString(value.trim().substring(1));
+			current.getString(value.trim().substring(1));
 			return true;
 		} catch (MissingResourceException e) {
 			return false;
 		}
 	}
 
+	/**
+	 * Returns an estimate in bytes of the heap retained by the loaded
+	 * properties.
+	 */
+	public long getRetainedSize() {
+		PropertyResourceBundle current = bundle;
+		if (current == null) {
+			return 0;
+		}
+		long size = 0;
+		for (String key : current.keySet()) {
+			Object value = current.handleGetObject(key);
+			size += 2L * key.length() + (value instanceof String s ? 2L * s.length() : 0) + 64;
+		}
+		return size;
+	}
+
 	public String getNLFileBasePath() {
 		return fNLFileBasePath;
 	}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -189,6 +189,8 @@ public class PDECore extends Plugin implements DebugOptionsListener {
 
 	private PluginRebuilder fPluginRebuilder;
 
+	private DevClasspathCache fDevClasspathCache;
+
 	/**
 	 * Target platform service.
 	 */
@@ -295,6 +297,10 @@ public class PDECore extends Plugin implements DebugOptionsListener {
 		return fClasspathContainerResolverManager;
 	}
 
+	DevClasspathCache getDevClasspathCache() {
+		return fDevClasspathCache;
+	}
+
 	public synchronized JavadocLocationManager getJavadocLocationManager() {
 		if (fJavadocLocationManager == null) {
 			fJavadocLocationManager = new JavadocLocationManager();
@@ -331,6 +337,8 @@ public class PDECore extends Plugin implements DebugOptionsListener {
 		fPluginRebuilder.start();
 		fFeatureRebuilder = new FeatureRebuilder();
 		fFeatureRebuilder.start();
+		fDevClasspathCache = new DevClasspathCache();
+		fDevClasspathCache.start();
 
 		fTargetPlatformService = context.registerService(ITargetPlatformService.class,
 				TargetPlatformService.getDefault(), new Hashtable<>());
@@ -386,6 +394,7 @@ public class PDECore extends Plugin implements DebugOptionsListener {
 		fJavaElementChangeListener.shutdown();
 		fPluginRebuilder.stop();
 		fFeatureRebuilder.stop();
+		fDevClasspathCache.stop();
 
 		if (fSchemaRegistry != null) {
 			fSchemaRegistry.shutdown();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2021 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -114,6 +114,8 @@ public class PDECoreMessages extends NLS {
 	public static String SchemaCompositor_group;
 	public static String SchemaCompositor_sequence;
 
+	public static String SchemaRegistry_preloadingSchemas;
+
 	static {
 		// load message values from bundle file
 		NLS.initializeMessages(BUNDLE_NAME, PDECoreMessages.class);
@@ -294,6 +296,10 @@ public class PDECoreMessages extends NLS {
 
 	public static String FeatureExportOperation_CompilationErrors;
 
+	public static String FeatureExportOperation_assemblyFailed;
+
+	public static String FeatureExportOperation_configurationFailed;
+
 	public static String FeatureExportOperation_runningAssemblyScript;
 
 	public static String FeatureExportOperation_publishingMetadata;
@@ -216,6 +216,42 @@ public class PDEExtensionRegistry {
 		return list.toArray(new IPluginExtensionPoint[list.size()]);
 	}
 
+	/*
+	 * Returns the ids of the extension points contributed by the given model without creating
+	 * model objects for them, so the plug-in model itself does not need to be loaded. Returns null
+	 * if the model is not in the registry, for example a non-singleton bundle
+	 */
+	public String[] findExtensionPointIdsForPlugin(IPluginModelBase base) {
+		IContributor contributor = fStrategy.createContributor(base);
+		if (contributor == null) {
+			return null;
+		}
+		IExtensionPoint[] points = getRegistry().getExtensionPoints(contributor);
+		String[] ids = new String[points.length];
+		for (int i = 0; i < points.length; i++) {
+			ids[i] = points[i].getUniqueIdentifier();
+		}
+		return ids;
+	}
+
+	/*
+	 * Returns the ids of the extension points the given model contributes extensions to without
+	 * creating model objects for them, so the plug-in model itself does not need to be loaded.
+	 * Returns null if the model is not in the registry, for example a non-singleton bundle
+	 */
+	public String[] findExtensionPointReferencesForPlugin(IPluginModelBase base) {
+		IContributor contributor = fStrategy.createContributor(base);
+		if (contributor == null) {
+			return null;
+		}
+		IExtension[] extensions = getRegistry().getExtensions(contributor);
+		String[] ids = new String[extensions.length];
+		for (int i = 0; i < extensions.length; i++) {
+			ids[i] = extensions[i].getExtensionPointUniqueIdentifier();
+		}
+		return ids;
+	}
+
 	private ISharedPluginModel getExtensionsModel(IPluginModelBase base) {
 		if (base instanceof IBundlePluginModelBase) {
 			return ((IBundlePluginModelBase) base).getExtensionsModel();
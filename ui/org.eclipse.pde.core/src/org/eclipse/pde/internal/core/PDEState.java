@@ -37,6 +37,7 @@ import org.eclipse.osgi.service.resolver.State;
 import org.eclipse.pde.core.plugin.IPluginModelBase;
 import org.eclipse.pde.core.target.LoadTargetDefinitionJob;
 import org.eclipse.pde.internal.core.plugin.ExternalFragmentModel;
+import org.eclipse.pde.internal.core.plugin.ExternalModelCache;
 import org.eclipse.pde.internal.core.plugin.ExternalPluginModel;
 import org.eclipse.pde.internal.core.plugin.ExternalPluginModelBase;
 import org.eclipse.pde.internal.core.util.CoreUtility;
@@ -68,6 +69,7 @@ public class PDEState extends MinimalState {
 		}
 
 		initializePlatformProperties();
+		ExternalModelCache.getDefault().clear();
 		createTargetModels(fState.getBundles());
 		clearOldCache();
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2022 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -53,6 +53,7 @@ import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.MultiStatus;
 import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubMonitor;
@@ -114,7 +115,7 @@ public class FeatureExportOperation extends Job {
 	protected String fBuildTempLocation;
 	protected String fBuildTempMetadataLocation;
 	private String fDevProperties;
-	private static boolean fHasErrors;
+	private static volatile boolean fHasErrors;
 	protected HashMap<String, String> fAntBuildProperties;
 	protected WorkspaceExportHelper fWorkspaceExportHelper;
 
@@ -329,21 +330,162 @@ public class FeatureExportOperation extends Job {
 		}
 
 		subMonitor.setTaskName(PDECoreMessages.FeatureExportOperation_runningAssemblyScript);
-		for (String[] config : configs) {
-			setArchiveLocation(properties, config[0], config[1], config[2]);
-			runScript(getAssemblyScriptName(featureID, config[0], config[1], config[2], featureLocation), new String[] {"main"}, //$NON-NLS-1$
-					properties, subMonitor.split(2));
-		}
+		if (configs.length > 1) {
+			// the configurations are independent once compiled, assemble and package them concurrently
+			runParallelAssembly(featureID, featureLocation, configs, properties, subMonitor.split(configs.length * 4));
+		} else {
+			for (String[] config : configs) {
+				setArchiveLocation(properties, config[0], config[1], config[2]);
+				runScript(getAssemblyScriptName(featureID, config[0], config[1], config[2], featureLocation), new String[] {"main"}, //$NON-NLS-1$
+						properties, subMonitor.split(2));
+			}
 
-		subMonitor.setTaskName(PDECoreMessages.FeatureExportOperation_runningPackagerScript);
-		for (String[] config : configs) {
-			setArchiveLocation(properties, config[0], config[1], config[2]);
-			runScript(getPackagerScriptName(featureID, config[0], config[1], config[2], featureLocation), null, properties, subMonitor.split(2));
+			subMonitor.setTaskName(PDECoreMessages.FeatureExportOperation_runningPackagerScript);
+			for (String[] config : configs) {
+				setArchiveLocation(properties, config[0], config[1], config[2]);
+				runScript(getPackagerScriptName(featureID, config[0], config[1], config[2], featureLocation), null, properties, subMonitor.split(2));
+			}
 		}
 		properties.put("destination.temp.folder", fBuildTempLocation + "/pde.logs"); //$NON-NLS-1$ //$NON-NLS-2$
 		runScript(getBuildScriptName(featureLocation), new String[] {"gather.logs"}, properties, subMonitor.split(2)); //$NON-NLS-1$
 	}
 
+	/**
+	 * Assembles and packages all configurations concurrently. Only one Ant build
+	 * may run at a time in this VM, so a driver script is generated that calls
+	 * the assemble and package scripts of every configuration from an Ant
+	 * <code>parallel</code> task. Each configuration gets its own assembly
+	 * temp location and its own logs in the <code>pde.logs</code> folder.
+	 * <p>
+	 * Running the configurations on several threads of one Ant build is safe
+	 * because nothing mutable is shared between them:
+	 * </p>
+	 * <ul>
+	 * <li>every <code>ant</code> call creates its own Ant project, so
+	 * properties, references and targets are private to a configuration;</li>
+	 * <li>the export build listener is stateless and reports errors through
+	 * {@link #errorFound()}, which only sets a volatile flag;</li>
+	 * <li>the assemble and package scripts use the core Ant file tasks plus
+	 * <code>eclipse.brand</code> and <code>eclipse.archiver</code>, which keep
+	 * their state in the task instance;</li>
+	 * <li>the p2 tasks only run when metadata is published, and then the
+	 * configurations are grouped into one and this method is not used.</li>
+	 * </ul>
+	 * <p>
+	 * The <code>parallel</code> task only reports the first failure, so every
+	 * configuration writes a marker file once it is packaged. A configuration
+	 * without a marker has failed and is reported in its own child status, and
+	 * its logs are kept in the log archive of the export.
+	 * </p>
+	 *
+	 * @param featureID the feature being exported
+	 * @param featureLocation location of the generated scripts
+	 * @param configs the configurations to assemble
+	 * @param properties map of user properties
+	 * @param monitor progress monitor
+	 */
+	private void runParallelAssembly(String featureID, String featureLocation, String[][] configs,
+			Map<String, String> properties, IProgressMonitor monitor) throws CoreException {
+		// properties given on the command line cannot be overridden by nested <property>
+		// elements of the <ant> task, so the per configuration values must not be passed down
+		Map<String, String> driverProperties = new HashMap<>(properties);
+		driverProperties.remove(IXMLConstants.PROPERTY_ARCHIVE_FULLPATH);
+		driverProperties.remove(IXMLConstants.PROPERTY_ASSEMBLY_TMP);
+
+		String logLocation = fBuildTempLocation + "/pde.logs"; //$NON-NLS-1$
+		new File(logLocation).mkdirs();
+		File[] markers = new File[configs.length];
+		File scriptFile = new File(featureLocation, "assemble." + featureID + ".parallel.xml"); //$NON-NLS-1$ //$NON-NLS-2$
+		try {
+			@SuppressWarnings("restriction")
+			Document doc = org.eclipse.core.internal.runtime.XmlProcessorFactory.newDocumentWithErrorOnDOCTYPE();
+			Element root = doc.createElement("project"); //$NON-NLS-1$
+			root.setAttribute("name", "parallel.assembly"); //$NON-NLS-1$ //$NON-NLS-2$
+			root.setAttribute("default", "main"); //$NON-NLS-1$ //$NON-NLS-2$
+			root.setAttribute("basedir", "."); //$NON-NLS-1$ //$NON-NLS-2$
+			doc.appendChild(root);
+
+			Element target = doc.createElement("target"); //$NON-NLS-1$
+			target.setAttribute("name", "main"); //$NON-NLS-1$ //$NON-NLS-2$
+			root.appendChild(target);
+
+			Element parallel = doc.createElement("parallel"); //$NON-NLS-1$
+			parallel.setAttribute("threadCount", Integer.toString(Math.min(configs.length, Runtime.getRuntime().availableProcessors()))); //$NON-NLS-1$
+			parallel.setAttribute("failonany", "false"); //$NON-NLS-1$ //$NON-NLS-2$
+			target.appendChild(parallel);
+
+			for (int i = 0; i < configs.length; i++) {
+				String[] config = configs[i];
+				Map<String, String> configProperties = new HashMap<>();
+				setArchiveLocation(configProperties, config[0], config[1], config[2]);
+				if (!fInfo.toDirectory) {
+					configProperties.put(IXMLConstants.PROPERTY_ASSEMBLY_TMP, fBuildTempLocation + "/tmp." + config[0] + '.' + config[1] + '.' + config[2]); //$NON-NLS-1$
+				}
+				String configName = config[0] + '.' + config[1] + '.' + config[2];
+
+				Element sequential = doc.createElement("sequential"); //$NON-NLS-1$
+				sequential.appendChild(createAntCall(doc, getAssemblyScriptName(featureID, config[0], config[1], config[2], featureLocation), "main", //$NON-NLS-1$
+						logLocation + "/assemble." + configName + ".log", configProperties)); //$NON-NLS-1$ //$NON-NLS-2$
+				sequential.appendChild(createAntCall(doc, getPackagerScriptName(featureID, config[0], config[1], config[2], featureLocation), null,
+						logLocation + "/package." + configName + ".log", configProperties)); //$NON-NLS-1$ //$NON-NLS-2$
+				markers[i] = new File(logLocation, configName + ".done"); //$NON-NLS-1$
+				markers[i].delete();
+				Element touch = doc.createElement("touch"); //$NON-NLS-1$
+				touch.setAttribute("file", markers[i].getAbsolutePath()); //$NON-NLS-1$
+				sequential.appendChild(touch);
+				parallel.appendChild(sequential);
+			}
+			XMLPrintHandler.writeFile(doc, scriptFile);
+		} catch (FactoryConfigurationError | ParserConfigurationException | IOException e) {
+			throw new CoreException(Status.error(PDECoreMessages.FeatureBasedExportOperation_ProblemDuringExport, e));
+		}
+
+		CoreException failure = null;
+		try {
+			runScript(scriptFile.getAbsolutePath(), new String[] {"main"}, driverProperties, monitor); //$NON-NLS-1$
+		} catch (CoreException e) {
+			failure = e;
+		} finally {
+			scriptFile.delete();
+		}
+
+		MultiStatus status = new MultiStatus(PDECore.PLUGIN_ID, 0, PDECoreMessages.FeatureExportOperation_assemblyFailed);
+		for (int i = 0; i < configs.length; i++) {
+			if (!markers[i].delete()) {
+				String configName = configs[i][0] + '.' + configs[i][1] + '.' + configs[i][2];
+				status.add(Status.error(NLS.bind(PDECoreMessages.FeatureExportOperation_configurationFailed, configName, fInfo.destinationDirectory + logName(null))));
+			}
+		}
+		if (!status.isOK()) {
+			// make the cleanup keep the logs of the failed configurations
+			errorFound();
+			if (failure != null) {
+				status.add(failure.getStatus());
+			}
+			throw new CoreException(status);
+		}
+		if (failure != null) {
+			throw failure;
+		}
+	}
+
+	private Element createAntCall(Document doc, String script, String target, String log, Map<String, String> properties) {
+		Element ant = doc.createElement("ant"); //$NON-NLS-1$
+		ant.setAttribute("antfile", script); //$NON-NLS-1$
+		if (target != null) {
+			ant.setAttribute("target", target); //$NON-NLS-1$
+		}
+		ant.setAttribute("inheritAll", "true"); //$NON-NLS-1$ //$NON-NLS-2$
+		ant.setAttribute("output", log); //$NON-NLS-1$
+		for (Map.Entry<String, String> entry : properties.entrySet()) {
+			Element property = doc.createElement("property"); //$NON-NLS-1$
+			property.setAttribute("name", entry.getKey()); //$NON-NLS-1$
+			property.setAttribute("value", entry.getValue()); //$NON-NLS-1$
+			ant.appendChild(property);
+		}
+		return ant;
+	}
+
 	protected boolean groupedConfigurations() {
 		//feature export with p2 metadata results in a grouped repo
 		return publishingP2Metadata();
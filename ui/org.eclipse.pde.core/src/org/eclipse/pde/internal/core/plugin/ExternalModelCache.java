@@ -0,0 +1,149 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core.plugin;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import org.eclipse.pde.internal.core.NLResourceHelper;
+import org.eclipse.pde.internal.core.PDECore;
+
+/**
+ * A bounded cache shared by all external plug-in models for the content they
+ * load on demand from their install location. Least recently used content is
+ * released when the cache is full and read again from disk the next time it
+ * is needed, so the heap retained by the models of a large target platform
+ * stays bounded.
+ * <p>
+ * Released helpers are not disposed, as callers may still hold and use them.
+ * They are only dropped from the cache and reclaimed once no caller refers to
+ * them any more.
+ * </p>
+ * <p>
+ * Content is loaded outside of the cache lock, so that a slow disk does not
+ * block the requests for other models. Concurrent requests for the same model
+ * wait for the one load in progress.
+ * </p>
+ * <p>
+ * The extensions and extension points of external models are not kept in
+ * the models either, they are served from the PDE extension registry on each
+ * request.
+ * </p>
+ */
+public class ExternalModelCache {
+
+	private static final int MAX_ENTRIES = Integer.getInteger("pde.externalModelCacheSize", 4096); //$NON-NLS-1$
+
+	private static final ExternalModelCache INSTANCE = new ExternalModelCache(MAX_ENTRIES);
+
+	private final Map<ExternalPluginModelBase, CompletableFuture<NLResourceHelper>> fHelpers;
+	private long fLoadCount;
+
+	/**
+	 * @param maxEntries
+	 *            the number of models whose content is kept
+	 */
+	ExternalModelCache(int maxEntries) {
+		fHelpers = new LinkedHashMap<>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<ExternalPluginModelBase, CompletableFuture<NLResourceHelper>> eldest) {
+				return size() > maxEntries;
+			}
+		};
+	}
+
+	public static ExternalModelCache getDefault() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Returns the resource helper of the given model, creating it if it is not
+	 * cached. The result may be <code>null</code> if the model has no
+	 * localization.
+	 */
+	NLResourceHelper getNLResourceHelper(ExternalPluginModelBase model, Supplier<NLResourceHelper> loader) {
+		CompletableFuture<NLResourceHelper> helper;
+		CompletableFuture<NLResourceHelper> load = null;
+		synchronized (this) {
+			helper = fHelpers.get(model);
+			if (helper == null) {
+				helper = load = new CompletableFuture<>();
+				fHelpers.put(model, load);
+				fLoadCount++;
+			}
+		}
+		if (load != null) {
+			try {
+				load.complete(loader.get());
+			} catch (RuntimeException | Error e) {
+				synchronized (this) {
+					fHelpers.remove(model, load);
+				}
+				load.completeExceptionally(e);
+				throw e;
+			}
+		}
+		return helper.join();
+	}
+
+	synchronized void release(ExternalPluginModelBase model) {
+		fHelpers.remove(model);
+	}
+
+	/**
+	 * Releases all cached content, for example when the target platform is
+	 * reloaded.
+	 */
+	public synchronized void clear() {
+		trace();
+		fHelpers.clear();
+	}
+
+	/**
+	 * Returns the number of models whose content is currently loaded.
+	 */
+	synchronized int getLoadedCount() {
+		return fHelpers.size();
+	}
+
+	/**
+	 * Returns an estimate in bytes of the heap retained by the loaded content.
+	 */
+	public synchronized long getRetainedSize() {
+		long size = 0;
+		for (CompletableFuture<NLResourceHelper> future : fHelpers.values()) {
+			// content still being loaded is not counted
+			NLResourceHelper helper = future.getNow(null);
+			if (helper != null) {
+				size += helper.getRetainedSize();
+			}
+		}
+		return size;
+	}
+
+	/**
+	 * Prints the cache statistics if model tracing is enabled.
+	 */
+	public synchronized void trace() {
+		if (PDECore.DEBUG_MODEL) {
+			System.out.println("External model content: " + getLoadedCount() + " loaded, " + fLoadCount //$NON-NLS-1$ //$NON-NLS-2$
+					+ " loads, ~" + (getRetainedSize() / 1024) + " KB retained"); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+	}
+
+}
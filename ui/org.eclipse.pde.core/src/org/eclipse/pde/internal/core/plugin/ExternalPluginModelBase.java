@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2013 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -46,6 +46,35 @@ public abstract class ExternalPluginModelBase extends AbstractPluginModelBase {
 		return (fLocalization == null) ? null : new NLResourceHelper(fLocalization, PDEManager.getNLLookupLocations(this));
 	}
 
+	/*
+	 * The resource helper of external models is held by the shared external model cache
+	 * instead of the model, so that it can be released and reloaded from disk on demand.
+	 */
+	@Override
+	public NLResourceHelper getNLResourceHelper() {
+		return ExternalModelCache.getDefault().getNLResourceHelper(this, this::createNLResourceHelper);
+	}
+
+	@Override
+	public void resetNLResourceHelper() {
+		ExternalModelCache.getDefault().release(this);
+	}
+
+	@Override
+	public String getResourceString(String key) {
+		if (key == null) {
+			return ""; //$NON-NLS-1$
+		}
+		NLResourceHelper helper = getNLResourceHelper();
+		return helper != null ? helper.getResourceString(key) : key;
+	}
+
+	@Override
+	public void dispose() {
+		ExternalModelCache.getDefault().release(this);
+		super.dispose();
+	}
+
 	@Override
 	@Deprecated
 	public URL getNLLookupLocation() {
@@ -78,7 +78,7 @@ public class SchemaDescriptor implements ISchemaDescriptor {
 	}
 
 	@Override
-	public ISchema getSchema(boolean abbreviated) {
+	public synchronized ISchema getSchema(boolean abbreviated) {
 		if (fSchema == null && fSchemaURL != null) {
 			if (fEditable) {
 				fSchema = new EditableSchema(this, fSchemaURL, abbreviated);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2013 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,17 +16,27 @@ package org.eclipse.pde.internal.core.schema;
 import java.io.File;
 import java.net.MalformedURLException;
 import java.net.URL;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
 
 import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.SubMonitor;
+import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.pde.core.plugin.IFragment;
 import org.eclipse.pde.core.plugin.IFragmentModel;
 import org.eclipse.pde.core.plugin.IPluginBase;
+import org.eclipse.pde.core.plugin.IPluginExtension;
 import org.eclipse.pde.core.plugin.IPluginExtensionPoint;
 import org.eclipse.pde.core.plugin.IPluginModelBase;
 import org.eclipse.pde.core.plugin.ModelEntry;
 import org.eclipse.pde.core.plugin.PluginRegistry;
 import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.PDECoreMessages;
 import org.eclipse.pde.internal.core.SourceLocationManager;
 import org.eclipse.pde.internal.core.ischema.ISchema;
 import org.eclipse.pde.internal.core.ischema.ISchemaDescriptor;
@@ -35,13 +45,44 @@ import org.eclipse.pde.internal.core.util.CoreUtility;
 
 public class SchemaRegistry {
 
-	private final HashMap<String, ISchemaDescriptor> fRegistry = new HashMap<>();
+	/**
+	 * Maximum number of schema descriptors and of jar lookups kept, the least
+	 * recently used entries are released first
+	 */
+	private static final int MAX_ENTRIES = 1000;
+
+	/**
+	 * Result of looking up a schema inside a jar, valid as long as the jar
+	 * has the same modification stamp
+	 */
+	private record JarResource(long stamp, URL url) {
+	}
+
+	private final Map<String, JarResource> fJarResources = new LinkedHashMap<>(64, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, JarResource> eldest) {
+			return size() > MAX_ENTRIES;
+		}
+	};
+
+	private final Map<String, ISchemaDescriptor> fRegistry = new LinkedHashMap<>(64, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, ISchemaDescriptor> eldest) {
+			return size() > MAX_ENTRIES;
+		}
+	};
+
+	private Job fPreloadJob;
 
 	public ISchema getSchema(String extPointID) {
 		IPluginExtensionPoint point = PDECore.getDefault().getExtensionsRegistry().findExtensionPoint(extPointID);
 		if (point == null) {
 			// if there is an old schema associated with this extension point, release it.
-			if (fRegistry.containsKey(extPointID)) {
+			synchronized (fRegistry) {
 				fRegistry.remove(extPointID);
 			}
 			return null;
@@ -52,12 +93,16 @@ public class SchemaRegistry {
 			return null;
 		}
 
-		ISchemaDescriptor desc = getExistingDescriptor(extPointID, url);
-		if (desc == null) {
-			desc = new SchemaDescriptor(extPointID, url);
-			fRegistry.put(extPointID, desc);
+		ISchemaDescriptor desc;
+		synchronized (fRegistry) {
+			desc = getExistingDescriptor(extPointID, url);
+			if (desc == null) {
+				desc = new SchemaDescriptor(extPointID, url);
+				fRegistry.put(extPointID, desc);
+			}
 		}
 
+		// parse outside of the registry lock, the descriptor guards its own schema
 		return desc.getSchema(true);
 	}
 
@@ -68,10 +113,13 @@ public class SchemaRegistry {
 				return null;
 			}
 
-			ISchemaDescriptor desc = getExistingDescriptor(url.toString(), url);
-			if (desc == null) {
-				desc = new IncludedSchemaDescriptor(url);
-				fRegistry.put(url.toString(), desc);
+			ISchemaDescriptor desc;
+			synchronized (fRegistry) {
+				desc = getExistingDescriptor(url.toString(), url);
+				if (desc == null) {
+					desc = new IncludedSchemaDescriptor(url);
+					fRegistry.put(url.toString(), desc);
+				}
 			}
 			return desc.getSchema(true);
 		} catch (MalformedURLException e) {
@@ -80,16 +128,50 @@ public class SchemaRegistry {
 	}
 
 	private ISchemaDescriptor getExistingDescriptor(String key, URL url) {
-		ISchemaDescriptor desc = null;
-		if (fRegistry.containsKey(key)) {
-			desc = fRegistry.get(key);
-			if (hasSchemaChanged(desc, url)) {
-				desc = null;
-			}
+		ISchemaDescriptor desc = fRegistry.get(key);
+		if (desc != null && hasSchemaChanged(desc, url)) {
+			desc = null;
 		}
 		return desc;
 	}
 
+	/**
+	 * Loads the schemas of all extension points referenced by workspace
+	 * plug-ins in a background job, so they do not have to be parsed while
+	 * the user browses the extensions of a plug-in. Only the first call
+	 * schedules the job.
+	 */
+	public synchronized void preloadSchemas() {
+		if (fPreloadJob != null) {
+			return;
+		}
+		fPreloadJob = Job.create(PDECoreMessages.SchemaRegistry_preloadingSchemas, this::loadReferencedSchemas);
+		fPreloadJob.setSystem(true);
+		fPreloadJob.setPriority(Job.DECORATE);
+		fPreloadJob.schedule();
+	}
+
+	private IStatus loadReferencedSchemas(IProgressMonitor monitor) {
+		Set<String> points = new LinkedHashSet<>();
+		for (IPluginModelBase model : PluginRegistry.getWorkspaceModels()) {
+			for (IPluginExtension extension : model.getPluginBase().getExtensions()) {
+				String point = extension.getPoint();
+				if (point != null) {
+					points.add(point);
+				}
+			}
+		}
+		SubMonitor subMonitor = SubMonitor.convert(monitor, points.size());
+		for (String point : points) {
+			if (subMonitor.isCanceled()) {
+				return Status.CANCEL_STATUS;
+			}
+			getSchema(point);
+			subMonitor.worked(1);
+		}
+		return Status.OK_STATUS;
+	}
+
 	public static URL getSchemaURL(IPluginExtensionPoint point, IPluginModelBase base) {
 		URL url = getSchemaURL(point);
 		if (url != null) {
@@ -166,14 +248,38 @@ public class SchemaRegistry {
 				if (schemaFile.exists()) {
 					return schemaFile.toURI().toURL();
 				}
-			} else if (CoreUtility.jarContainsResource(file, schema, false)) {
-				return new URL("jar:file:" + file.getAbsolutePath() + "!/" + schema); //$NON-NLS-1$ //$NON-NLS-2$
+			} else {
+				return PDECore.getDefault().getSchemaRegistry().getJarResourceURL(file, schema);
 			}
 		} catch (MalformedURLException e) {
 		}
 		return null;
 	}
 
+	/*
+	 * Looking up an entry requires opening the jar, remember the result until the jar changes
+	 */
+	private URL getJarResourceURL(File file, String schema) throws MalformedURLException {
+		String key = file.getAbsolutePath() + "!/" + schema; //$NON-NLS-1$
+		long stamp = file.lastModified();
+		JarResource resource;
+		synchronized (fJarResources) {
+			resource = fJarResources.get(key);
+		}
+		if (resource == null || resource.stamp() != stamp) {
+			// open the jar outside of the lock
+			URL url = null;
+			if (CoreUtility.jarContainsResource(file, schema, false)) {
+				url = new URL("jar:file:" + key); //$NON-NLS-1$
+			}
+			resource = new JarResource(stamp, url);
+			synchronized (fJarResources) {
+				fJarResources.put(key, resource);
+			}
+		}
+		return resource.url();
+	}
+
 	private boolean hasSchemaChanged(ISchemaDescriptor desc, URL url) {
 		if (!desc.getSchemaURL().toExternalForm().equals(url.toExternalForm())) {
 			return true;
@@ -183,7 +289,17 @@ public class SchemaRegistry {
 	}
 
 	public void shutdown() {
-		fRegistry.clear();
+		synchronized (this) {
+			if (fPreloadJob != null) {
+				fPreloadJob.cancel();
+			}
+		}
+		synchronized (fRegistry) {
+			fRegistry.clear();
+		}
+		synchronized (fJarResources) {
+			fJarResources.clear();
+		}
 	}
 
 	private static String getId(IPluginExtensionPoint point, IPluginModelBase base) {
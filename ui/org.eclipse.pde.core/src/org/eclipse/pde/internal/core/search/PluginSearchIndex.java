@@ -0,0 +1,188 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core.search;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.osgi.service.resolver.BundleSpecification;
+import org.eclipse.osgi.service.resolver.HostSpecification;
+import org.eclipse.pde.core.plugin.IPluginModelBase;
+import org.eclipse.pde.core.plugin.ModelEntry;
+import org.eclipse.pde.internal.core.IExtensionDeltaEvent;
+import org.eclipse.pde.internal.core.IExtensionDeltaListener;
+import org.eclipse.pde.internal.core.IPluginModelListener;
+import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.PDEExtensionRegistry;
+import org.eclipse.pde.internal.core.PluginModelDelta;
+
+/**
+ * Index of the identifiers a plug-in search can match in a plug-in model:
+ * the plug-in id, the host of a fragment, required plug-ins, declared
+ * extension points and referenced extension points.
+ * <p>
+ * The identifiers are taken from the resolver state and the PDE extension
+ * registry, which are both cached on disk, so testing a model against a
+ * search pattern does not load its plug-in and extension content. Only the
+ * models that can match are loaded to create the actual search results.
+ * Entries are dropped when the plug-in models or their extensions change and
+ * are recomputed on the next search. Models that are not in the extension
+ * registry, like non-singleton bundles, are not indexed and always searched.
+ * </p>
+ */
+public class PluginSearchIndex implements IPluginModelListener, IExtensionDeltaListener {
+
+	private record ModelSummary(String id, boolean fragment, String hostId, String[] requiredIds,
+			String[] extensionPointIds, String[] extensionPointReferences) {
+	}
+
+	private static PluginSearchIndex fInstance;
+
+	private final Map<IPluginModelBase, ModelSummary> fSummaries = new ConcurrentHashMap<>();
+
+	private PluginSearchIndex() {
+	}
+
+	public static synchronized PluginSearchIndex getDefault() {
+		if (fInstance == null) {
+			fInstance = new PluginSearchIndex();
+			PDECore.getDefault().getModelManager().addPluginModelListener(fInstance);
+			// editing the plugin.xml of a bundle only changes its extensions
+			PDECore.getDefault().getModelManager().addExtensionDeltaListener(fInstance);
+		}
+		return fInstance;
+	}
+
+	@Override
+	public void modelsChanged(PluginModelDelta delta) {
+		removeAll(delta.getAddedEntries());
+		removeAll(delta.getChangedEntries());
+		removeAll(delta.getRemovedEntries());
+	}
+
+	@Override
+	public void extensionsChanged(IExtensionDeltaEvent event) {
+		removeAll(event.getAddedModels());
+		removeAll(event.getChangedModels());
+		removeAll(event.getRemovedModels());
+	}
+
+	private void removeAll(IPluginModelBase[] models) {
+		for (IPluginModelBase model : models) {
+			fSummaries.remove(model);
+		}
+	}
+
+	private void removeAll(ModelEntry[] entries) {
+		for (ModelEntry entry : entries) {
+			for (IPluginModelBase model : entry.getWorkspaceModels()) {
+				fSummaries.remove(model);
+			}
+			for (IPluginModelBase model : entry.getExternalModels()) {
+				fSummaries.remove(model);
+			}
+		}
+	}
+
+	/**
+	 * Returns whether the given model may contain a match for the search.
+	 * A return value of <code>false</code> guarantees that the model does not
+	 * contain a match, <code>true</code> means the model has to be searched.
+	 *
+	 * @param model the model to test
+	 * @param element the kind of element searched for, one of the
+	 *            <code>PluginSearchInput.ELEMENT_*</code> constants
+	 * @param limit the search limit, one of the
+	 *            <code>PluginSearchInput.LIMIT_*</code> constants
+	 * @param pattern the search pattern
+	 */
+	public boolean mayMatch(IPluginModelBase model, int element, int limit, Pattern pattern) {
+		ModelSummary summary = getSummary(model);
+		if (summary == null) {
+			// not indexed, the model has to be searched
+			return true;
+		}
+		switch (element) {
+			case PluginSearchInput.ELEMENT_PLUGIN :
+				if (limit != PluginSearchInput.LIMIT_REFERENCES && !summary.fragment() && matches(pattern, summary.id())) {
+					return true;
+				}
+				if (limit != PluginSearchInput.LIMIT_DECLARATIONS) {
+					return matches(pattern, summary.hostId()) || matchesAny(pattern, summary.requiredIds());
+				}
+				return false;
+			case PluginSearchInput.ELEMENT_FRAGMENT :
+				return summary.fragment() && matches(pattern, summary.id());
+			case PluginSearchInput.ELEMENT_EXTENSION_POINT :
+				if (limit != PluginSearchInput.LIMIT_REFERENCES && matchesAny(pattern, summary.extensionPointIds())) {
+					return true;
+				}
+				if (limit != PluginSearchInput.LIMIT_DECLARATIONS) {
+					return matchesAny(pattern, summary.extensionPointReferences());
+				}
+				return false;
+			default :
+				return true;
+		}
+	}
+
+	private ModelSummary getSummary(IPluginModelBase model) {
+		ModelSummary summary = fSummaries.get(model);
+		if (summary == null) {
+			summary = createSummary(model);
+			if (summary != null) {
+				fSummaries.put(model, summary);
+			}
+		}
+		return summary;
+	}
+
+	private ModelSummary createSummary(IPluginModelBase model) {
+		BundleDescription description = model.getBundleDescription();
+		if (description == null || description.getSymbolicName() == null) {
+			return null;
+		}
+		HostSpecification host = description.getHost();
+		BundleSpecification[] required = description.getRequiredBundles();
+		String[] requiredIds = new String[required.length];
+		for (int i = 0; i < required.length; i++) {
+			requiredIds[i] = required[i].getName();
+		}
+		PDEExtensionRegistry registry = PDECore.getDefault().getExtensionsRegistry();
+		String[] extensionPointIds = registry.findExtensionPointIdsForPlugin(model);
+		String[] extensionPointReferences = registry.findExtensionPointReferencesForPlugin(model);
+		if (extensionPointIds == null || extensionPointReferences == null) {
+			// not in the registry, its extensions are only known by loading it
+			return null;
+		}
+		return new ModelSummary(description.getSymbolicName(), host != null, host != null ? host.getName() : null,
+				requiredIds, extensionPointIds, extensionPointReferences);
+	}
+
+	private static boolean matches(Pattern pattern, String id) {
+		return id != null && pattern.matcher(id).matches();
+	}
+
+	private static boolean matchesAny(Pattern pattern, String[] ids) {
+		for (String id : ids) {
+			if (matches(pattern, id)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+}
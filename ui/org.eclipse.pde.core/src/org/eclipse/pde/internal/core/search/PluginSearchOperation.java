@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -48,8 +48,14 @@ public class PluginSearchOperation {
 		IFeatureModel[] features = fInput.getSearchScope().getMatchingFeatureModels();
 		SubMonitor subMonitor = SubMonitor.convert(monitor, plugins.length + features.length);
 
+		// only load the content of plug-ins that can contain a match
+		PluginSearchIndex index = PluginSearchIndex.getDefault();
+		int element = fInput.getSearchElement();
+		int limit = fInput.getSearchLimit();
 		for (IPluginModelBase candidate : plugins) {
-			visit(candidate);
+			if (index.mayMatch(candidate, element, limit, fPattern)) {
+				visit(candidate);
+			}
 			subMonitor.split(1);
 		}
 
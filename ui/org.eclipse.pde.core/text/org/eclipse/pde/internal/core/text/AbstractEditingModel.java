@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2017 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -146,7 +146,7 @@ public abstract class AbstractEditingModel extends PlatformObject implements IEd
 					adjustOffsets(document);
 					setStale(false);
 				} else {
-					reload(getInputStream(document), false);
+					reconcile(document);
 				}
 			} catch (CoreException e) {
 			}
@@ -156,6 +156,14 @@ public abstract class AbstractEditingModel extends PlatformObject implements IEd
 		}
 	}
 
+	/**
+	 * Updates the model from the text of the document after it was edited.
+	 * Reloads the whole model by default.
+	 */
+	protected void reconcile(IDocument document) throws CoreException {
+		reload(getInputStream(document), false);
+	}
+
 	public abstract void adjustOffsets(IDocument document) throws CoreException;
 
 	protected InputStream getInputStream(IDocument document) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2003, 2017 IBM Corporation and others.
+ * Copyright (c) 2003, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -38,16 +38,45 @@ public abstract class DocumentHandler extends DefaultHandler {
 	private Locator fLocator;
 	private IDocumentElementNode fLastError;
 	private final boolean fReconciling;
+	private IDocumentElementNode fSubtreeParent;
+	private int fSubtreeOffset;
 
 	public DocumentHandler(boolean reconciling) {
 		fReconciling = reconciling;
 	}
 
+	/**
+	 * Restricts the next parse to a single element of the document. The
+	 * parsed input only contains the text of the element, preceded by as many
+	 * line delimiters as there are lines before the element in the document,
+	 * and the element becomes a child of the given parent.
+	 *
+	 * @param parent the parent of the element, or <code>null</code> to parse
+	 *            the whole document
+	 * @param offset the document offset of the element
+	 */
+	void setSubtree(IDocumentElementNode parent, int offset) {
+		fSubtreeParent = parent;
+		fSubtreeOffset = offset;
+	}
+
+	/**
+	 * @return whether the current parse only covers a single element of the
+	 *         document, see {@link #setSubtree(IDocumentElementNode, int)}
+	 */
+	protected boolean isParsingSubtree() {
+		return fSubtreeParent != null;
+	}
+
 	@Override
 	public void startDocument() throws SAXException {
 		fDocumentNodeStack.clear();
 		fHighestOffset = 0;
 		fLastError = null;
+		if (fSubtreeParent != null) {
+			fDocumentNodeStack.push(fSubtreeParent);
+			fHighestOffset = fSubtreeOffset - 1;
+		}
 	}
 
 	protected IDocumentElementNode getLastParsedDocumentNode() {
@@ -258,6 +287,10 @@ public abstract class DocumentHandler extends DefaultHandler {
 
 	@Override
 	public void fatalError(SAXParseException e) throws SAXException {
+		if (isParsingSubtree()) {
+			// the whole document is parsed instead
+			throw e;
+		}
 		generateErrorElementHierarchy();
 	}
 
@@ -275,6 +308,9 @@ public abstract class DocumentHandler extends DefaultHandler {
 
 	@Override
 	public void error(SAXParseException e) throws SAXException {
+		if (isParsingSubtree()) {
+			throw e;
+		}
 		generateErrorElementHierarchy();
 	}
 
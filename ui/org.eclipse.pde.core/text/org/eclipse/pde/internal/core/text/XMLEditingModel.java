@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2017 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,6 +18,7 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.PrintWriter;
+import java.io.StringReader;
 import java.io.StringWriter;
 import java.nio.charset.StandardCharsets;
 
@@ -28,11 +29,17 @@ import org.eclipse.core.resources.IFile;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
+import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.DocumentEvent;
 import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IDocumentListener;
 import org.eclipse.pde.core.IModel;
+import org.eclipse.pde.core.IModelChangedEvent;
 import org.eclipse.pde.core.IWritable;
+import org.eclipse.pde.core.ModelChangedEvent;
 import org.eclipse.pde.internal.core.NLResourceHelper;
 import org.eclipse.pde.internal.core.PDECore;
+import org.xml.sax.InputSource;
 import org.xml.sax.SAXException;
 import org.xml.sax.helpers.DefaultHandler;
 
@@ -40,18 +47,42 @@ public abstract class XMLEditingModel extends AbstractEditingModel {
 
 	private IStatus status;
 
+	private final DocumentDamage fDamage = new DocumentDamage();
+
+	/**
+	 * Whether the offsets of the nodes match the document, apart from the
+	 * region edited since the last parse.
+	 */
+	private boolean fParsed;
+
 	public XMLEditingModel(IDocument document, boolean isReconciling) {
 		super(document, isReconciling);
+		if (document != null && isReconciling) {
+			document.addDocumentListener(fDamage);
+		}
+	}
+
+	@Override
+	public void dispose() {
+		if (getDocument() != null) {
+			getDocument().removeDocumentListener(fDamage);
+		}
+		super.dispose();
 	}
 
 	@Override
 	@SuppressWarnings("restriction")
 	public void load(InputStream source, boolean outOfSync) {
+		// a full parse covers all pending edits
+		long stamp = fDamage.take().stamp();
+		fParsed = false;
 		try {
 			fLoaded = true;
 			status = Status.OK_STATUS;
+			DefaultHandler handler = createDocumentHandler(this, true);
 			org.eclipse.core.internal.runtime.XmlProcessorFactory.createSAXParserWithErrorOnDOCTYPE().parse(source,
-					createDocumentHandler(this, true));
+					handler);
+			fParsed = isClean(handler) && !fDamage.isModifiedSince(stamp);
 		} catch (SAXException e) {
 			fLoaded = false;
 			status = Status.error(e.getMessage(), e);
@@ -67,16 +98,226 @@ public abstract class XMLEditingModel extends AbstractEditingModel {
 
 	protected abstract DefaultHandler createDocumentHandler(IModel model, boolean reconciling);
 
+	@Override
+	protected void reconcile(IDocument document) throws CoreException {
+		if (reconcileElement(document, fDamage.take(), true)) {
+			fireModelChanged(new ModelChangedEvent(this, IModelChangedEvent.WORLD_CHANGED, new Object[] {this}, null));
+		} else {
+			super.reconcile(document);
+		}
+	}
+
 	@Override
 	@SuppressWarnings("restriction")
 	public void adjustOffsets(IDocument document) {
+		DocumentDamage.Damage damage = fDamage.take();
+		if (reconcileElement(document, damage, false)) {
+			return;
+		}
+		fParsed = false;
 		try {
+			DefaultHandler handler = createDocumentHandler(this, false);
 			org.eclipse.core.internal.runtime.XmlProcessorFactory.createSAXParserWithErrorOnDOCTYPE()
-					.parse(getInputStream(document), createDocumentHandler(this, false));
+					.parse(getInputStream(document), handler);
+			fParsed = isClean(handler) && !fDamage.isModifiedSince(damage.stamp());
 		} catch (SAXException | IOException | ParserConfigurationException | FactoryConfigurationError e) {
 		}
 	}
 
+	/**
+	 * Returns the root of the nodes created by the last parse, without loading
+	 * the model.
+	 */
+	protected IWritable getParsedRoot() {
+		return getRoot();
+	}
+
+	private static boolean isClean(DefaultHandler handler) {
+		return handler instanceof DocumentHandler documentHandler && documentHandler.getLastErrorNode() == null;
+	}
+
+	/**
+	 * Parses again only the smallest element enclosing the region edited since
+	 * the last parse, and moves the nodes after it by the length of the edit.
+	 *
+	 * @return <code>false</code> if the edit could not be localized and the
+	 *         whole document must be parsed
+	 */
+	@SuppressWarnings("restriction")
+	private boolean reconcileElement(IDocument document, DocumentDamage.Damage damage, boolean reconciling) {
+		if (!fParsed || damage.start() < 0 || document != getDocument() || !(getParsedRoot() instanceof IDocumentElementNode root)
+				|| !(createDocumentHandler(this, reconciling) instanceof DocumentHandler handler)) {
+			return false;
+		}
+		fParsed = false;
+		IDocumentElementNode node = findEnclosingElement(root, damage.start(), damage.oldEnd());
+		if (node == null || !isPositioned(root, node)) {
+			return false;
+		}
+		IDocumentElementNode parent = node.getParentNode();
+		int offset = node.getOffset();
+		int oldEnd = offset + node.getLength();
+		int delta = damage.delta();
+		try {
+			// keep the line numbers of the document for the handler
+			String input = "\n".repeat(document.getLineOfOffset(offset)) //$NON-NLS-1$
+					+ document.get(offset, node.getLength() + delta);
+			node.setOffset(-1);
+			handler.setSubtree(parent, offset);
+			try {
+				org.eclipse.core.internal.runtime.XmlProcessorFactory.createSAXParserWithErrorOnDOCTYPE()
+						.parse(new InputSource(new StringReader(input)), handler);
+			} finally {
+				handler.setSubtree(null, 0);
+			}
+			IDocumentElementNode element = null;
+			for (IDocumentElementNode child : parent.getChildNodes()) {
+				if (child.getOffset() == offset) {
+					element = child;
+				}
+			}
+			if (node.getOffset() < 0) {
+				// the element was replaced by one with another name
+				if (!reconciling) {
+					if (element != null) {
+						parent.removeChildNode(element);
+					}
+					return false;
+				}
+				parent.removeChildNode(node);
+			}
+			if (element == null || element.getLength() != oldEnd - offset + delta) {
+				return false;
+			}
+			for (IDocumentElementNode ancestor = parent; ancestor != null; ancestor = ancestor.getParentNode()) {
+				ancestor.setLength(ancestor.getLength() + delta);
+				for (IDocumentElementNode child : ancestor.getChildNodes()) {
+					if (child.getOffset() >= oldEnd) {
+						move(child, delta, document);
+					}
+				}
+			}
+		} catch (SAXException | IOException | ParserConfigurationException | FactoryConfigurationError
+				| BadLocationException e) {
+			return false;
+		}
+		fLoaded = true;
+		status = Status.OK_STATUS;
+		fParsed = !fDamage.isModifiedSince(damage.stamp());
+		return true;
+	}
+
+	/**
+	 * Returns the deepest element below the root whose tags strictly enclose
+	 * the given region, or <code>null</code> if there is none or an ancestor
+	 * has mixed content.
+	 */
+	private static IDocumentElementNode findEnclosingElement(IDocumentElementNode root, int start, int end) {
+		IDocumentElementNode enclosing = root;
+		IDocumentElementNode next = root;
+		while (next != null) {
+			enclosing = next;
+			next = null;
+			for (IDocumentElementNode child : enclosing.getChildNodes()) {
+				if (child.getOffset() < start && end < child.getOffset() + child.getLength()) {
+					if (enclosing.getTextNode() != null) {
+						return null;
+					}
+					next = child;
+					break;
+				}
+			}
+		}
+		return enclosing == root ? null : enclosing;
+	}
+
+	/**
+	 * Returns whether all elements but the given one and its children have
+	 * their offsets from the last parse.
+	 */
+	private static boolean isPositioned(IDocumentElementNode node, IDocumentElementNode excluded) {
+		if (node == excluded) {
+			return true;
+		}
+		if (node.getOffset() < 0 || node.getLength() < 0) {
+			return false;
+		}
+		for (IDocumentElementNode child : node.getChildNodes()) {
+			if (!isPositioned(child, excluded)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static void move(IDocumentElementNode node, int delta, IDocument document) throws BadLocationException {
+		int offset = node.getOffset() + delta;
+		node.setOffset(offset);
+		node.setLineIndent(offset - document.getLineOffset(document.getLineOfOffset(offset)));
+		for (IDocumentAttributeNode attribute : node.getNodeAttributes()) {
+			if (attribute.getNameOffset() >= 0) {
+				attribute.setNameOffset(attribute.getNameOffset() + delta);
+				attribute.setValueOffset(attribute.getValueOffset() + delta);
+			}
+		}
+		IDocumentTextNode textNode = node.getTextNode();
+		if (textNode != null && textNode.getOffset() >= 0) {
+			textNode.setOffset(textNode.getOffset() + delta);
+		}
+		for (IDocumentElementNode child : node.getChildNodes()) {
+			move(child, delta, document);
+		}
+	}
+
+	/**
+	 * Collects the region of the document edited since the last parse.
+	 */
+	private static final class DocumentDamage implements IDocumentListener {
+
+		/**
+		 * The edited region, in offsets of the document at the last parse, and
+		 * the difference of length of the document since then.
+		 */
+		record Damage(int start, int oldEnd, int delta, long stamp) {
+		}
+
+		private int fStart = -1;
+		private int fEnd;
+		private int fDelta;
+		private long fStamp;
+
+		@Override
+		public void documentAboutToBeChanged(DocumentEvent event) {
+		}
+
+		@Override
+		public synchronized void documentChanged(DocumentEvent event) {
+			int removed = event.getLength();
+			int inserted = event.getText() != null ? event.getText().length() : 0;
+			if (fStart < 0) {
+				fStart = event.getOffset();
+				fEnd = event.getOffset() + inserted;
+			} else {
+				fStart = Math.min(fStart, event.getOffset());
+				fEnd = Math.max(fEnd, event.getOffset() + removed) + inserted - removed;
+			}
+			fDelta += inserted - removed;
+			fStamp++;
+		}
+
+		synchronized Damage take() {
+			Damage damage = new Damage(fStart, fEnd - fDelta, fDelta, fStamp);
+			fStart = -1;
+			fEnd = 0;
+			fDelta = 0;
+			return damage;
+		}
+
+		synchronized boolean isModifiedSince(long stamp) {
+			return fStamp != stamp;
+		}
+	}
+
 	private boolean isResourceFile() {
 		if (getUnderlyingResource() == null) {
 			return false;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2000, 2014 IBM Corporation and others.
+ *  Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -70,6 +70,11 @@ public abstract class PluginModelBase extends XMLEditingModel implements IPlugin
 		return getPluginBase();
 	}
 
+	@Override
+	protected IWritable getParsedRoot() {
+		return fPluginBase;
+	}
+
 	@Override
 	public IPluginBase createPluginBase() {
 		return createPluginBase(isFragmentModel());
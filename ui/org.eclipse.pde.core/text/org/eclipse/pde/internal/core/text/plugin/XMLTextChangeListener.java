@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2005, 2018 IBM Corporation and others.
+ *  Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -13,8 +13,14 @@
  *******************************************************************************/
 package org.eclipse.pde.internal.core.text.plugin;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 
 import org.eclipse.jface.text.BadLocationException;
 import org.eclipse.jface.text.IDocument;
@@ -32,13 +38,15 @@ import org.eclipse.text.edits.DeleteEdit;
 import org.eclipse.text.edits.InsertEdit;
 import org.eclipse.text.edits.MoveSourceEdit;
 import org.eclipse.text.edits.MoveTargetEdit;
+import org.eclipse.text.edits.MultiTextEdit;
 import org.eclipse.text.edits.ReplaceEdit;
 import org.eclipse.text.edits.TextEdit;
 
 public class XMLTextChangeListener extends AbstractTextChangeListener {
 
-	private final ArrayList<TextEdit> fOperationList = new ArrayList<>();
+	private final LinkedHashSet<TextEdit> fOperationList = new LinkedHashSet<>();
 	private HashMap<TextEdit, String> fReadableNames = null;
+	private DocumentSnapshot fSnapshot;
 
 	public XMLTextChangeListener(IDocument document) {
 		this(document, false);
@@ -61,6 +69,51 @@ public class XMLTextChangeListener extends AbstractTextChangeListener {
 		return fOperationList.toArray(new TextEdit[fOperationList.size()]);
 	}
 
+	/**
+	 * Starts collecting the changes of the model in bulk. Until
+	 * {@link #endTransaction()} is called, the document must not be modified:
+	 * the operations are computed from a single copy of its text and of its
+	 * line offsets.
+	 */
+	public void beginTransaction() {
+		fSnapshot = new DocumentSnapshot(fDocument.get());
+	}
+
+	/**
+	 * Ends the transaction started by {@link #beginTransaction()} and returns
+	 * all the pending operations merged into one edit, nested where an
+	 * operation covers others. The returned edit is the parent of the
+	 * operations returned by {@link #getTextOperations()}.
+	 *
+	 * @return the edit applying all the changes of the model to the document
+	 */
+	public MultiTextEdit endTransaction() {
+		fSnapshot = null;
+		List<TextEdit> edits = new ArrayList<>(fOperationList.size());
+		for (TextEdit op : fOperationList) {
+			if (op != null) {
+				edits.add(op);
+				if (op instanceof MoveSourceEdit source && source.getTargetEdit() != null) {
+					edits.add(source.getTargetEdit());
+				}
+			}
+		}
+		// the enclosing edits come first, insertions at the same offset keep their order
+		edits.sort(Comparator.comparingInt(TextEdit::getOffset).thenComparing(TextEdit::getLength, Comparator.reverseOrder()));
+		MultiTextEdit root = new MultiTextEdit();
+		Deque<TextEdit> parents = new ArrayDeque<>();
+		for (TextEdit edit : edits) {
+			while (!parents.isEmpty() && !covers(parents.peek(), edit)) {
+				parents.pop();
+			}
+			(parents.isEmpty() ? root : parents.peek()).addChild(edit);
+			if (edit.getLength() > 0) {
+				parents.push(edit);
+			}
+		}
+		return root;
+	}
+
 	protected static void insert(TextEdit parent, TextEdit edit) {
 		if (!parent.hasChildren()) {
 			parent.addChild(edit);
@@ -183,7 +236,7 @@ public class XMLTextChangeListener extends AbstractTextChangeListener {
 
 	private InsertEdit insertAsFirstChild(IDocumentElementNode node) {
 		int offset = node.getParentNode().getOffset();
-		int length = getNextPosition(fDocument, offset, '>');
+		int length = getNextPosition(offset, '>');
 		node.setLineIndent(node.getParentNode().getLineIndent() + 3);
 		return new InsertEdit(offset + length + 1, fSep + node.write(true));
 	}
@@ -224,7 +277,7 @@ public class XMLTextChangeListener extends AbstractTextChangeListener {
 		int i = 1;
 		try {
 			for (;; i++) {
-				char ch = fDocument.get(offset - i, 1).toCharArray()[0];
+				char ch = getChar(offset - i);
 				if (!Character.isWhitespace(ch)) {
 					i -= 1;
 					break;
@@ -260,8 +313,8 @@ public class XMLTextChangeListener extends AbstractTextChangeListener {
 			IDocumentElementNode node = attr.getEnclosingElement();
 			if (node.getOffset() > -1) {
 				changedObject = node;
-				int len = getNextPosition(fDocument, node.getOffset(), '>');
-				op = new ReplaceEdit(node.getOffset(), len + 1, node.writeShallow(shouldTerminateElement(fDocument, node.getOffset() + len)));
+				int len = getNextPosition(node.getOffset(), '>');
+				op = new ReplaceEdit(node.getOffset(), len + 1, node.writeShallow(shouldTerminateElement(node.getOffset() + len)));
 				if (fReadableNames != null) {
 					name = NLS.bind(PDECoreMessages.XMLTextChangeListener_editNames_addAttribute, new String[] {attr.getAttributeName(), attr.getEnclosingElement().getXMLTagName()});
 				}
@@ -287,7 +340,7 @@ public class XMLTextChangeListener extends AbstractTextChangeListener {
 			IDocumentElementNode parent = textNode.getEnclosingElement();
 			if (parent.getOffset() > -1) {
 				try {
-					String endChars = fDocument.get(parent.getOffset() + parent.getLength() - 2, 2);
+					String endChars = getText(parent.getOffset() + parent.getLength() - 2, 2);
 					if ("/>".equals(endChars)) { //$NON-NLS-1$
 						// parent element is of the form <element/>, rewrite it
 						insertNode(parent);
@@ -303,7 +356,7 @@ public class XMLTextChangeListener extends AbstractTextChangeListener {
 				}
 				buffer.append("   " + getWritableString(textNode.getText())); //$NON-NLS-1$
 				int offset = parent.getOffset();
-				int length = getNextPosition(fDocument, offset, '>');
+				int length = getNextPosition(offset, '>');
 				op = new InsertEdit(offset + length + 1, buffer.toString());
 			} else {
 				insertNode(parent);
@@ -317,19 +370,20 @@ public class XMLTextChangeListener extends AbstractTextChangeListener {
 		}
 	}
 
-	private boolean shouldTerminateElement(IDocument doc, int offset) {
+	private boolean shouldTerminateElement(int offset) {
 		try {
-			return doc.get(offset - 1, 1).toCharArray()[0] == '/';
+			return getChar(offset - 1) == '/';
 		} catch (BadLocationException e) {
 		}
 		return false;
 	}
 
-	private int getNextPosition(IDocument doc, int offset, char ch) {
+	private int getNextPosition(int offset, char ch) {
 		int i = 0;
 		try {
-			for (i = 0; i + offset < doc.getLength(); i++) {
-				if (ch == doc.get(offset + i, 1).toCharArray()[0]) {
+			int length = fSnapshot != null ? fSnapshot.getLength() : fDocument.getLength();
+			for (i = 0; i + offset < length; i++) {
+				if (ch == getChar(offset + i)) {
 					break;
 				}
 			}
@@ -338,10 +392,34 @@ public class XMLTextChangeListener extends AbstractTextChangeListener {
 		return i;
 	}
 
+	private char getChar(int offset) throws BadLocationException {
+		return fSnapshot != null ? fSnapshot.getChar(offset) : fDocument.getChar(offset);
+	}
+
+	private String getText(int offset, int length) throws BadLocationException {
+		return fSnapshot != null ? fSnapshot.get(offset, length) : fDocument.get(offset, length);
+	}
+
+	private int getLineOfOffset(int offset) throws BadLocationException {
+		return fSnapshot != null ? fSnapshot.getLineOfOffset(offset) : fDocument.getLineOfOffset(offset);
+	}
+
+	private int getLineOffset(int line) throws BadLocationException {
+		return fSnapshot != null ? fSnapshot.getLineOffset(line) : fDocument.getLineOffset(line);
+	}
+
+	private int getLineDelimiterLength(int line) throws BadLocationException {
+		if (fSnapshot != null) {
+			return fSnapshot.getLineDelimiterLength(line);
+		}
+		String delimiter = fDocument.getLineDelimiter(line);
+		return delimiter != null ? delimiter.length() : 0;
+	}
+
 	private DeleteEdit getAttributeDeleteEditOperation(int offset, int length) {
 		try {
 			for (;;) {
-				char ch = fDocument.get(offset + length, 1).toCharArray()[0];
+				char ch = getChar(offset + length);
 				if (!Character.isWhitespace(ch)) {
 					break;
 				}
@@ -358,14 +436,14 @@ public class XMLTextChangeListener extends AbstractTextChangeListener {
 		int length = node.getLength();
 		try {
 			// node starts on this line:
-			int startLine = fDocument.getLineOfOffset(offset);
+			int startLine = getLineOfOffset(offset);
 			// 1st char on startLine has this offset:
-			int startLineOffset = fDocument.getLineOffset(startLine);
+			int startLineOffset = getLineOffset(startLine);
 			// hunt down 1st whitespace/start of line with startOffset:
 			int startOffset;
 			// loop backwards to the beginning of the line, stop if we find non-whitespace
 			for (startOffset = offset - 1; startOffset >= startLineOffset; startOffset -= 1) {
-				if (!Character.isWhitespace(fDocument.getChar(startOffset))) {
+				if (!Character.isWhitespace(getChar(startOffset))) {
 					break;
 				}
 			}
@@ -374,19 +452,19 @@ public class XMLTextChangeListener extends AbstractTextChangeListener {
 			startOffset += 1;
 
 			// node ends on this line:
-			int endLine = fDocument.getLineOfOffset(offset + length);
+			int endLine = getLineOfOffset(offset + length);
 			// length of last line's delimiter:
-			int endLineDelimLength = fDocument.getLineDelimiter(endLine).length();
+			int endLineDelimLength = getLineDelimiterLength(endLine);
 			// hunt last whitespace/end of line with extraLength:
 			int extraLength = length;
 			while (true) {
 				extraLength += 1;
-				if (!Character.isWhitespace(fDocument.getChar(offset + extraLength))) {
+				if (!Character.isWhitespace(getChar(offset + extraLength))) {
 					// found non-white space, move back one
 					extraLength -= 1;
 					break;
 				}
-				if (fDocument.getLineOfOffset(offset + extraLength) > endLine) {
+				if (getLineOfOffset(offset + extraLength) > endLine) {
 					// don't want to touch the lineDelimeters
 					extraLength -= endLineDelimLength;
 					break;
@@ -395,7 +473,7 @@ public class XMLTextChangeListener extends AbstractTextChangeListener {
 
 			// if we reached start of line, remove newline
 			if (startOffset == startLineOffset) {
-				startOffset -= fDocument.getLineDelimiter(startLine).length();
+				startOffset -= getLineDelimiterLength(startLine);
 			}
 
 			// add difference of new offset
@@ -447,7 +525,7 @@ public class XMLTextChangeListener extends AbstractTextChangeListener {
 		}
 		if (parent.getOffset() > -1) {
 			try {
-				String endChars = fDocument.get(parent.getOffset() + parent.getLength() - 2, 2);
+				String endChars = getText(parent.getOffset() + parent.getLength() - 2, 2);
 				return ("/>".equals(endChars)) ? parent : node; //$NON-NLS-1$
 			} catch (BadLocationException e) {
 				return node;
@@ -506,4 +584,77 @@ public class XMLTextChangeListener extends AbstractTextChangeListener {
 		}
 		return null;
 	}
+
+	/**
+	 * A copy of the text of the document with a table of its line offsets.
+	 */
+	private static final class DocumentSnapshot {
+		private final String fText;
+		private final int[] fLineOffsets;
+		private final int fLineCount;
+
+		DocumentSnapshot(String text) {
+			fText = text;
+			int[] lineOffsets = new int[64];
+			int count = 1;
+			for (int i = 0; i < text.length(); i++) {
+				char c = text.charAt(i);
+				if (c == '\r' || c == '\n') {
+					if (c == '\r' && i + 1 < text.length() && text.charAt(i + 1) == '\n') {
+						i++;
+					}
+					if (count == lineOffsets.length) {
+						lineOffsets = Arrays.copyOf(lineOffsets, count * 2);
+					}
+					lineOffsets[count++] = i + 1;
+				}
+			}
+			fLineOffsets = lineOffsets;
+			fLineCount = count;
+		}
+
+		int getLength() {
+			return fText.length();
+		}
+
+		char getChar(int offset) throws BadLocationException {
+			if (offset < 0 || offset >= fText.length()) {
+				throw new BadLocationException();
+			}
+			return fText.charAt(offset);
+		}
+
+		String get(int offset, int length) throws BadLocationException {
+			if (offset < 0 || length < 0 || offset + length > fText.length()) {
+				throw new BadLocationException();
+			}
+			return fText.substring(offset, offset + length);
+		}
+
+		int getLineOfOffset(int offset) throws BadLocationException {
+			if (offset < 0 || offset > fText.length()) {
+				throw new BadLocationException();
+			}
+			int index = Arrays.binarySearch(fLineOffsets, 0, fLineCount, offset);
+			return index >= 0 ? index : -index - 2;
+		}
+
+		int getLineOffset(int line) throws BadLocationException {
+			if (line < 0 || line >= fLineCount) {
+				throw new BadLocationException();
+			}
+			return fLineOffsets[line];
+		}
+
+		int getLineDelimiterLength(int line) throws BadLocationException {
+			if (line < 0 || line >= fLineCount) {
+				throw new BadLocationException();
+			}
+			if (line == fLineCount - 1) {
+				return 0;
+			}
+			int next = fLineOffsets[line + 1];
+			return next >= 2 && fText.charAt(next - 1) == '\n' && fText.charAt(next - 2) == '\r' ? 2 : 1;
+		}
+	}
 }
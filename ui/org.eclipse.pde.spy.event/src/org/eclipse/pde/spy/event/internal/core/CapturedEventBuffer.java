@@ -0,0 +1,136 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.spy.event.internal.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.eclipse.pde.spy.event.internal.model.CapturedEvent;
+
+/**
+ * A bounded buffer of captured events, written by the publishing threads
+ * without locking and drained by a single reader. When the reader falls behind
+ * by more than the capacity, the oldest events are overwritten.
+ */
+public class CapturedEventBuffer {
+
+	private record Slot(long sequence, CapturedEvent event) {
+	}
+
+	private final AtomicReferenceArray<Slot> slots;
+
+	private final int mask;
+
+	/** The sequence of the next event written */
+	private final AtomicLong head = new AtomicLong();
+
+	/** The sequence of the next event read, only used by the reader */
+	private long tail;
+
+	private long dropped;
+
+	/**
+	 * @param capacity
+	 *            the number of events kept, rounded up to a power of two
+	 */
+	public CapturedEventBuffer(int capacity) {
+		int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+		slots = new AtomicReferenceArray<>(size);
+		mask = size - 1;
+	}
+
+	public void add(CapturedEvent event) {
+		write(claim(), event);
+	}
+
+	/**
+	 * Reserves the slot of the next event. Together with
+	 * {@link #write(long, CapturedEvent)} this is {@link #add(CapturedEvent)},
+	 * split so that a writer can be observed between both steps.
+	 *
+	 * @return the sequence of the reserved slot
+	 */
+	public long claim() {
+		return head.getAndIncrement();
+	}
+
+	/**
+	 * Writes an event to the slot reserved by {@link #claim()}, unless a
+	 * writer a lap ahead already wrote a newer event to it.
+	 */
+	public void write(long sequence, CapturedEvent event) {
+		int index = (int) (sequence & mask);
+		Slot slot = new Slot(sequence, event);
+		Slot current;
+		do {
+			current = slots.get(index);
+			if (current != null && current.sequence() > sequence) {
+				// too late, the reader counts the event as dropped
+				return;
+			}
+		} while (!slots.compareAndSet(index, current, slot));
+	}
+
+	/**
+	 * Removes the events written so far, oldest first. An event whose writer
+	 * has not finished yet is left for the next call.
+	 */
+	public List<CapturedEvent> drain() {
+		long end = head.get();
+		if (end - tail > slots.length()) {
+			// overwritten before they were read
+			dropped += end - tail - slots.length();
+			tail = end - slots.length();
+		}
+		List<CapturedEvent> events = new ArrayList<>((int) (end - tail));
+		while (tail < end) {
+			Slot slot = slots.get((int) (tail & mask));
+			if (slot == null || slot.sequence() < tail) {
+				// claimed but not written yet
+				break;
+			}
+			if (slot.sequence() == tail) {
+				events.add(slot.event());
+			} else {
+				// overwritten by a writer that is a lap ahead
+				dropped++;
+			}
+			tail++;
+		}
+		return events;
+	}
+
+	/**
+	 * Discards the events written so far without reading them, and resets the
+	 * dropped count. Only called by the reader.
+	 */
+	public void clear() {
+		tail = head.get();
+		dropped = 0;
+	}
+
+	/**
+	 * @return the number of events overwritten before they were drained,
+	 *         since the buffer was created or cleared
+	 */
+	public long getDroppedCount() {
+		return dropped;
+	}
+
+	public int getCapacity() {
+		return slots.length();
+	}
+}
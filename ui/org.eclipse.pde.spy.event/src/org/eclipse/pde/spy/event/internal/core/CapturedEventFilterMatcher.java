@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2013, 2022 IBM Corporation and others.
+ * Copyright (c) 2013, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,8 +13,9 @@
  *******************************************************************************/
 package org.eclipse.pde.spy.event.internal.core;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Collection;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
 import org.eclipse.pde.spy.event.internal.model.CapturedEvent;
 import org.eclipse.pde.spy.event.internal.model.CapturedEventFilter;
@@ -24,87 +25,99 @@ import org.eclipse.pde.spy.event.internal.model.Parameter;
 import org.eclipse.pde.spy.event.internal.model.SpecialValue;
 
 public class CapturedEventFilterMatcher {
-	public boolean matches(CapturedEvent event, CapturedEventFilter filter) {
-		Object value = getItemToFilterValue(event, filter.getItemToFilter());
-
-		if (value instanceof List) {
-			List<?> list = (List<?>) value;
-			for (Object item : list) {
-				if (matches(filter.getValue(), item, filter.getOperator())) {
-					return true;
-				}
+	/**
+	 * Compiles the given filters into a single predicate accepting the events
+	 * matching all of them. The operators, expected values and items to filter
+	 * are resolved once instead of for every event.
+	 */
+	public Predicate<CapturedEvent> compile(Collection<CapturedEventFilter> filters) {
+		Predicate<CapturedEvent> result = null;
+		if (filters != null) {
+			for (CapturedEventFilter filter : filters) {
+				Predicate<CapturedEvent> predicate = compile(filter);
+				result = result == null ? predicate : result.and(predicate);
 			}
-			return false;
 		}
-		return matches(filter.getValue(), value, filter.getOperator());
+		return result == null ? event -> true : result;
 	}
 
-	private Object getItemToFilterValue(CapturedEvent event, ItemToFilter itemToFilter) {
+	private Predicate<CapturedEvent> compile(CapturedEventFilter filter) {
+		Predicate<Object> matcher = compile(filter.getValue(), filter.getOperator());
+		ItemToFilter itemToFilter = filter.getItemToFilter();
 		if (itemToFilter.equals(ItemToFilter.Topic)) {
-			return event.getTopic();
+			return event -> matcher.test(event.getTopic());
 		}
 		if (itemToFilter.equals(ItemToFilter.Publisher)) {
-			return event.getPublisherClassName();
+			return event -> matcher.test(event.getPublisherClassName());
 		}
 		if (itemToFilter.equals(ItemToFilter.ChangedElement)) {
-			return event.getChangedElementClassName();
+			return event -> matcher.test(event.getChangedElementClassName());
 		}
 		if (itemToFilter.equals(ItemToFilter.ParameterName)) {
-			List<String> names = new ArrayList<>();
-			for (Parameter parameter : event.getParameters()) {
-				names.add(parameter.getName());
-			}
-			return names;
+			return anyParameter(Parameter::getName, matcher);
 		}
 		if (itemToFilter.equals(ItemToFilter.ParameterValue)) {
-			List<Object> values = new ArrayList<>();
-			for (Parameter parameter : event.getParameters()) {
-				values.add(parameter.getValue());
-			}
-			return values;
+			return anyParameter(Parameter::getValue, matcher);
 		}
 		if (itemToFilter.equals(ItemToFilter.ParameterNameAndValue)) {
-			List<String> nameAndValues = new ArrayList<>();
-			for (Parameter parameter : event.getParameters()) {
-				String nameAndValue = String.format(SpecialValue.NameAndValue.toString(), parameter.getName().trim(),
-						(parameter.getValue() == null ? SpecialValue.Null : parameter.getValue().toString().trim()));
-				nameAndValues.add(nameAndValue);
-			}
-			return nameAndValues;
+			return anyParameter(CapturedEventFilterMatcher::getNameAndValue, matcher);
 		}
 
 		throw new IllegalArgumentException(Messages.CapturedEventFilterMatcher_NoSupportedItem + itemToFilter.toString());
 	}
 
-	private boolean matches(String expected, Object current, Operator operator) {
+	private static Predicate<CapturedEvent> anyParameter(Function<Parameter, Object> item, Predicate<Object> matcher) {
+		return event -> {
+			for (Parameter parameter : event.getParameters()) {
+				if (matcher.test(item.apply(parameter))) {
+					return true;
+				}
+			}
+			return false;
+		};
+	}
+
+	private Predicate<Object> compile(String expected, Operator operator) {
 		if (SpecialValue.Null.toString().equalsIgnoreCase(expected)) {
-			return operator.isPositive() ? matchesToNull(current) : !matchesToNull(current);
+			Predicate<Object> matchesToNull = this::matchesToNull;
+			return operator.isPositive() ? matchesToNull : matchesToNull.negate();
 		}
 		if (SpecialValue.EmptyString.toString().equalsIgnoreCase(expected)) {
-			return operator.isPositive() ? matchesToEmptyString(current) : !matchesToEmptyString(current);
+			Predicate<Object> matchesToEmptyString = this::matchesToEmptyString;
+			return operator.isPositive() ? matchesToEmptyString : matchesToEmptyString.negate();
 		}
+		String lowerCaseExpected = expected.toLowerCase();
 		if (Operator.Equals.equals(operator)) {
-			return equalsTo(expected, current);
+			return current -> equalsTo(expected, current);
 		}
 		if (Operator.NotEquals.equals(operator)) {
-			return !equalsTo(expected, current);
+			return current -> !equalsTo(expected, current);
 		}
 		if (Operator.Contains.equals(operator)) {
-			return contains(expected, current);
+			return current -> current != null && current.toString().toLowerCase().contains(lowerCaseExpected);
 		}
 		if (Operator.NotContains.equals(operator)) {
-			return !contains(expected, current);
+			return current -> !(current != null && current.toString().toLowerCase().contains(lowerCaseExpected));
 		}
 		if (Operator.StartsWith.equals(operator)) {
-			return startsWith(expected, current);
+			return current -> current != null && current.toString().toLowerCase().startsWith(lowerCaseExpected);
 		}
 		if (Operator.NotStartsWith.equals(operator)) {
-			return !startsWith(expected, current);
+			return current -> !(current != null && current.toString().toLowerCase().startsWith(lowerCaseExpected));
 		}
 
 		throw new IllegalArgumentException(Messages.CapturedEventFilterMatcher_NoSupportedOperator + operator);
 	}
 
+	private static String getNameAndValue(Parameter parameter) {
+		return String.format(SpecialValue.NameAndValue.toString(), parameter.getName().trim(),
+				(parameter.getValue() == null ? SpecialValue.Null : parameter.getValue().toString().trim()));
+	}
+
+	public boolean matches(CapturedEvent event, CapturedEventFilter filter) {
+		return compile(filter).test(event);
+	}
+
 	private boolean matchesToEmptyString(Object current) {
 		return current instanceof String && current.toString().isEmpty();
 	}
@@ -116,12 +129,4 @@ public class CapturedEventFilterMatcher {
 	private boolean equalsTo(String expected, Object current) {
 		return current != null && expected.equalsIgnoreCase(current.toString());
 	}
-
-	private boolean contains(String expected, Object current) {
-		return current != null && current.toString().toLowerCase().contains(expected.toLowerCase());
-	}
-
-	private boolean startsWith(String expected, Object current) {
-		return current != null && current.toString().toLowerCase().startsWith(expected.toLowerCase());
-	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2013, 2022 IBM Corporation and others.
+ * Copyright (c) 2013, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,9 +13,15 @@
  *******************************************************************************/
 package org.eclipse.pde.spy.event.internal.core;
 
+import java.lang.StackWalker.StackFrame;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
 
 import org.eclipse.e4.core.services.events.IEventBroker;
 import org.eclipse.e4.ui.internal.workbench.UIEventPublisher;
@@ -23,34 +29,84 @@ import org.eclipse.e4.ui.services.internal.events.EventBroker;
 import org.eclipse.e4.ui.workbench.UIEvents;
 import org.eclipse.pde.spy.event.internal.model.CapturedEvent;
 import org.eclipse.pde.spy.event.internal.model.CapturedEventFilter;
+import org.eclipse.pde.spy.event.internal.model.ItemToFilter;
 import org.osgi.service.event.EventHandler;
 
+/**
+ * Captures the events of the event broker. The events are kept in a bounded
+ * buffer and handed to the listener in batches by the given executor, so that
+ * the publishers only pay for building and filtering the captured events.
+ */
 @SuppressWarnings("restriction")
 public class EventMonitor {
 
 	public interface NewEventListener {
-		void newEvent(CapturedEvent event);
+		/**
+		 * Called by the batch executor with the events captured since the
+		 * previous call, oldest first.
+		 */
+		void newEvents(List<CapturedEvent> events);
+
+		/**
+		 * Called by the batch executor when captured events were overwritten
+		 * before they could be handed to the listener, because they were
+		 * published faster than the batch executor ran.
+		 *
+		 * @param count
+		 *            the number of events lost since the previous call
+		 */
+		default void eventsDropped(long count) {
+		}
 	}
 
-	private static Set<Integer> EVENT_HELPER_CLASSES = Set.of(UIEvents.class.getName().hashCode(),
-			UIEventPublisher.class.getName().hashCode());
+	/**
+	 * The number of captured events kept until they are handed to the
+	 * listener.
+	 */
+	private static final int BUFFER_CAPACITY = 4096;
+
+	private static final String EVENT_BROKER_CLASS = EventBroker.class.getName();
 
-	private Collection<CapturedEventFilter> filters;
+	private static final Set<String> EVENT_HELPER_CLASSES = Set.of(UIEvents.class.getName(),
+			UIEventPublisher.class.getName());
+
+	private static final StackWalker STACK_WALKER = StackWalker.getInstance();
 
 	private final IEventBroker eventBroker;
 
-	private NewEventListener listener;
+	private final Executor batchExecutor;
+
+	private final CapturedEventBuffer buffer = new CapturedEventBuffer(BUFFER_CAPACITY);
+
+	private final AtomicBoolean flushScheduled = new AtomicBoolean();
+
+	/**
+	 * Incremented when capturing starts or stops, a flush scheduled before
+	 * does not hand its events to the listener.
+	 */
+	private final AtomicInteger generation = new AtomicInteger();
+
+	/** The dropped count of the buffer already reported, guarded by the buffer */
+	private long reportedDropped;
 
-	private CapturedEventFilterMatcher eventFilterMatcher;
+	private volatile boolean capturing;
+
+	private volatile NewEventListener listener;
+
+	private volatile Predicate<CapturedEvent> filter = event -> true;
+
+	private volatile boolean capturePublisher = true;
 
 	private final EventHandler eventHandler = event -> {
-		if (listener == null) {
+		if (listener == null || !capturing) {
 			return;
 		}
 
 		CapturedEvent capturedEvent = new CapturedEvent();
 		capturedEvent.setTopic(event.getTopic());
-		capturedEvent.setPublisherClassName(getPublisherClassName());
+		if (capturePublisher) {
+			capturedEvent.setPublisherClassName(getPublisherClassName());
+		}
 
 		for (String propertyName : event.getPropertyNames()) {
 			Object value = event.getProperty(propertyName);
@@ -60,59 +116,131 @@ public class EventMonitor {
 			}
 		}
 
-		if (shouldBeCaptured(capturedEvent)) {
-			listener.newEvent(capturedEvent);
+		if (filter.test(capturedEvent)) {
+			buffer.add(capturedEvent);
+			if (flushScheduled.compareAndSet(false, true)) {
+				int scheduledGeneration = generation.get();
+				batchExecutor.execute(() -> flush(scheduledGeneration));
+			}
 		}
 	};
 
-	public EventMonitor(IEventBroker eventBroker) {
+	/**
+	 * @param batchExecutor
+	 *            runs the delivery of the captured events to the listener, for
+	 *            example a little later in the UI thread
+	 */
+	public EventMonitor(IEventBroker eventBroker, Executor batchExecutor) {
 		this.eventBroker = eventBroker;
+		this.batchExecutor = batchExecutor;
 	}
 
-	public void start(String baseTopic, Collection<CapturedEventFilter> filters) {
-		this.filters = filters;
+	/**
+	 * Starts capturing the events of the given topic that match all the given
+	 * filters.
+	 *
+	 * @param showPublisher
+	 *            whether the publishers of the events are shown, they are
+	 *            looked up in the stack of the publishing thread only if they
+	 *            are shown or filtered on
+	 */
+	public void start(String baseTopic, Collection<CapturedEventFilter> filters, boolean showPublisher) {
+		this.filter = new CapturedEventFilterMatcher().compile(filters);
+		this.capturePublisher = showPublisher || filtersPublisher(filters);
+		discard();
+		capturing = true;
 		eventBroker.subscribe(baseTopic, eventHandler);
 	}
 
+	/**
+	 * Stops capturing events. The events captured but not handed to the
+	 * listener yet are discarded.
+	 */
 	public void stop() {
+		capturing = false;
 		eventBroker.unsubscribe(eventHandler);
+		discard();
+	}
+
+	/**
+	 * Empties the buffer and cancels the pending flush.
+	 */
+	private void discard() {
+		synchronized (buffer) {
+			generation.incrementAndGet();
+			flushScheduled.set(false);
+			buffer.clear();
+			reportedDropped = 0;
+		}
 	}
 
 	public void setNewEventListener(NewEventListener listener) {
 		this.listener = listener;
 	}
 
-	private boolean shouldBeCaptured(CapturedEvent event) {
-		if (filters != null) {
-			Iterator<CapturedEventFilter> iter = filters.iterator();
-			while (iter.hasNext()) {
-				if (!getEventFilterMatcher().matches(event, iter.next())) {
-					return false;
-				}
+	/**
+	 * Hands the events captured so far to the listener. Called by the batch
+	 * executor, one call at a time.
+	 *
+	 * @param scheduledGeneration
+	 *            the generation in which the flush was scheduled
+	 */
+	private void flush(int scheduledGeneration) {
+		List<CapturedEvent> events;
+		long dropped;
+		synchronized (buffer) {
+			if (scheduledGeneration != generation.get() || !capturing) {
+				// discarded by stop() or start()
+				return;
+			}
+			// events added from now on schedule another flush
+			flushScheduled.set(false);
+			events = buffer.drain();
+			dropped = buffer.getDroppedCount() - reportedDropped;
+			reportedDropped += dropped;
+		}
+		NewEventListener current = listener;
+		if (current != null) {
+			if (dropped > 0) {
+				current.eventsDropped(dropped);
+			}
+			if (!events.isEmpty()) {
+				current.newEvents(events);
 			}
 		}
-		return true;
 	}
 
-	private String getPublisherClassName() {
-		StackTraceElement[] items = Thread.currentThread().getStackTrace();
-		boolean foundEventBroker = false;
-
-		for (int i = 0; i < items.length; i++) {
-			String clsName = items[i].getClassName();
-			if (!foundEventBroker && clsName.equals(EventBroker.class.getName())) {
-				foundEventBroker = true;
-			} else if (foundEventBroker && !EVENT_HELPER_CLASSES.contains(clsName.hashCode())) {
-				return String.format("%s (%s:%d)", clsName, items[i].getMethodName(), items[i].getLineNumber()); //$NON-NLS-1$
+	private static boolean filtersPublisher(Collection<CapturedEventFilter> filters) {
+		if (filters != null) {
+			for (CapturedEventFilter filter : filters) {
+				if (ItemToFilter.Publisher.equals(filter.getItemToFilter())) {
+					return true;
+				}
 			}
 		}
-		return ""; //$NON-NLS-1$
+		return false;
 	}
 
-	private CapturedEventFilterMatcher getEventFilterMatcher() {
-		if (eventFilterMatcher == null) {
-			eventFilterMatcher = new CapturedEventFilterMatcher();
-		}
-		return eventFilterMatcher;
+	/**
+	 * Walks the stack of the publishing thread up to the first frame calling
+	 * the event broker that is not an event helper class. Unlike
+	 * {@link Thread#getStackTrace()} this neither captures nor resolves the
+	 * frames below it.
+	 */
+	private static String getPublisherClassName() {
+		return STACK_WALKER.walk(frames -> {
+			boolean foundEventBroker = false;
+			Iterator<StackFrame> iter = frames.iterator();
+			while (iter.hasNext()) {
+				StackFrame frame = iter.next();
+				String clsName = frame.getClassName();
+				if (!foundEventBroker && clsName.equals(EVENT_BROKER_CLASS)) {
+					foundEventBroker = true;
+				} else if (foundEventBroker && !EVENT_HELPER_CLASSES.contains(clsName)) {
+					return String.format("%s (%s:%d)", clsName, frame.getMethodName(), frame.getLineNumber()); //$NON-NLS-1$
+				}
+			}
+			return ""; //$NON-NLS-1$
+		});
 	}
 }
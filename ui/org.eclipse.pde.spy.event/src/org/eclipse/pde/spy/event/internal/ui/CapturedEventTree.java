@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2013, 2022 IBM Corporation and others.
+ * Copyright (c) 2013, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,6 +14,7 @@
 package org.eclipse.pde.spy.event.internal.ui;
 
 import java.util.ArrayList;
+import java.util.List;
 
 import org.eclipse.core.databinding.beans.typed.PojoProperties;
 import org.eclipse.core.databinding.observable.IObservable;
@@ -59,6 +60,8 @@ import org.eclipse.swt.widgets.TreeItem;
 public class CapturedEventTree extends TreeViewer {
 	private ICapturedEventTreeListener listener;
 
+	private static final int PUBLISHER_COLUMN_INDEX = 1;
+
 	private final WritableList<CapturedEvent> capturedEvents;
 
 	private final Clipboard clipboard;
@@ -353,6 +356,20 @@ public class CapturedEventTree extends TreeViewer {
 		capturedEvents.add(event);
 	}
 
+	/**
+	 * Adds the given events with a single change of the tree input.
+	 */
+	public void addEvents(List<CapturedEvent> events) {
+		capturedEvents.addAll(events);
+	}
+
+	/**
+	 * @return whether the publisher column has not been collapsed
+	 */
+	public boolean isPublisherColumnShown() {
+		return getTree().getColumn(PUBLISHER_COLUMN_INDEX).getWidth() > 0;
+	}
+
 	public void setListener(ICapturedEventTreeListener listener) {
 		this.listener = listener;
 	}
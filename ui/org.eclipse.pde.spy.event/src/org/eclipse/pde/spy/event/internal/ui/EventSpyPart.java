@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2013, 2022 IBM Corporation and others.
+ * Copyright (c) 2013, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,6 +18,7 @@
 package org.eclipse.pde.spy.event.internal.ui;
 
 import java.util.Collection;
+import java.util.List;
 
 import org.eclipse.e4.core.contexts.IEclipseContext;
 import org.eclipse.e4.core.di.annotations.Optional;
@@ -34,6 +35,8 @@ import org.eclipse.swt.layout.GridLayout;
 import org.eclipse.swt.layout.RowData;
 import org.eclipse.swt.layout.RowLayout;
 import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Label;
 
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
@@ -41,6 +44,12 @@ import jakarta.inject.Inject;
 
 public class EventSpyPart implements EventMonitor.NewEventListener {
 
+	/**
+	 * Milliseconds the captured events are collected before they are added to
+	 * the tree.
+	 */
+	private static final int EVENT_BATCH_DELAY = 100;
+
 	private static final String[] SHOW_FILTER_LINK_TEXT = new String[] { Messages.EventSpyPart_ShowFilters, Messages.EventSpyPart_HideFilters };
 
 	private CapturedEventTree capturedEventTree;
@@ -53,6 +62,11 @@ public class EventSpyPart implements EventMonitor.NewEventListener {
 
 	private ToggleLink showFiltersLink;
 
+	private Label droppedEventsLabel;
+
+	/** The number of events lost since capturing started */
+	private long droppedEvents;
+
 	@Inject
 	private LoggerWrapper logger;
 
@@ -141,6 +155,8 @@ public class EventSpyPart implements EventMonitor.NewEventListener {
 		showFiltersLink.setText(new String[] { SHOW_FILTER_LINK_TEXT[0], SHOW_FILTER_LINK_TEXT[1] });
 		showFiltersLink.getControl().setLayoutData(new RowData(130, SWT.DEFAULT));
 		showFiltersLink.setClickListener(this::showFilters);
+
+		droppedEventsLabel = new Label(actionBar, SWT.NONE);
 	}
 
 	private void createFilters(SpyPartMemento memento) {
@@ -166,11 +182,21 @@ public class EventSpyPart implements EventMonitor.NewEventListener {
 
 	public void captureEvents() {
 		capturedEventTree.removeAll();
+		droppedEvents = 0;
+		droppedEventsLabel.setText(""); //$NON-NLS-1$
+		droppedEventsLabel.getParent().layout();
 		if (eventMonitor == null) {
-			eventMonitor = new EventMonitor(eventBroker);
+			Display display = outer.getDisplay();
+			eventMonitor = new EventMonitor(eventBroker, runnable -> display.asyncExec(
+					() -> display.timerExec(EVENT_BATCH_DELAY, () -> {
+						if (!outer.isDisposed()) {
+							runnable.run();
+						}
+					})));
 			eventMonitor.setNewEventListener(this);
 		}
-		eventMonitor.start(capturedEventFilters.getBaseTopic(), capturedEventFilters.getFilters());
+		eventMonitor.start(capturedEventFilters.getBaseTopic(), capturedEventFilters.getFilters(),
+				capturedEventTree.isPublisherColumnShown());
 		// getShell().setText(DIALOG_TITLE + " - capturing...");
 	}
 
@@ -182,8 +208,15 @@ public class EventSpyPart implements EventMonitor.NewEventListener {
 	}
 
 	@Override
-	public void newEvent(CapturedEvent event) {
-		capturedEventTree.addEvent(event);
+	public void newEvents(List<CapturedEvent> events) {
+		capturedEventTree.addEvents(events);
+	}
+
+	@Override
+	public void eventsDropped(long count) {
+		droppedEvents += count;
+		droppedEventsLabel.setText(String.format(Messages.EventSpyPart_DroppedEvents, droppedEvents));
+		droppedEventsLabel.getParent().layout();
 	}
 
 	@SuppressWarnings("restriction")
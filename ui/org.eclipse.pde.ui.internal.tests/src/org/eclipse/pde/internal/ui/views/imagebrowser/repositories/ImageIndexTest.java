@@ -0,0 +1,120 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 Eclipse contributors and others.
+ *
+ *  This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.pde.internal.ui.views.imagebrowser.repositories;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+
+import org.eclipse.pde.internal.ui.views.imagebrowser.repositories.ImageIndex.ImageEntry;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ImageIndexTest {
+
+	private static final List<ImageEntry> IMAGES = List.of(new ImageEntry("icons/a.png", 16, 16), //$NON-NLS-1$
+			new ImageEntry("icons/b.gif", -1, -1)); //$NON-NLS-1$
+
+	@Rule
+	public final TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testStampCheck() throws IOException {
+		ImageIndex index = new ImageIndex(new File(folder.getRoot(), "index")); //$NON-NLS-1$
+		File bundle = new File(folder.getRoot(), "a.jar"); //$NON-NLS-1$
+		index.putImages(bundle, 1, "A", IMAGES); //$NON-NLS-1$
+
+		assertEquals(IMAGES, index.getImages(bundle, 1));
+		assertEquals("A", index.getPluginName(bundle, 1)); //$NON-NLS-1$
+		// a changed bundle evicts its entry
+		assertNull(index.getImages(bundle, 2));
+		assertNull(index.getImages(bundle, 1));
+	}
+
+	@Test
+	public void testStampOfJar() throws IOException {
+		File jar = folder.newFile("a.jar"); //$NON-NLS-1$
+		Files.write(jar.toPath(), new byte[] {1});
+		long stamp = ImageIndex.getStamp(jar);
+		assertEquals(stamp, ImageIndex.getStamp(jar));
+
+		Files.write(jar.toPath(), new byte[] {1, 2});
+		assertNotEquals(stamp, ImageIndex.getStamp(jar));
+	}
+
+	@Test
+	public void testStampOfDirectory() throws IOException {
+		File bundle = folder.newFolder("a", "icons"); //$NON-NLS-1$ //$NON-NLS-2$
+		File image = new File(bundle, "a.png"); //$NON-NLS-1$
+		Files.write(image.toPath(), new byte[] {1});
+		File root = bundle.getParentFile();
+		long stamp = ImageIndex.getStamp(root);
+		assertEquals(stamp, ImageIndex.getStamp(root));
+
+		// nested changes do not touch the modification time of the root
+		Files.write(image.toPath(), new byte[] {1, 2});
+		assertNotEquals(stamp, ImageIndex.getStamp(root));
+		stamp = ImageIndex.getStamp(root);
+
+		Files.write(new File(bundle, "b.png").toPath(), new byte[] {1}); //$NON-NLS-1$
+		assertNotEquals(stamp, ImageIndex.getStamp(root));
+	}
+
+	@Test
+	public void testHitAfterRestart() throws IOException {
+		File file = new File(folder.getRoot(), "index"); //$NON-NLS-1$
+		File bundle = new File(folder.getRoot(), "a.jar"); //$NON-NLS-1$
+		ImageIndex index = new ImageIndex(file);
+		index.putImages(bundle, 1, "A", IMAGES); //$NON-NLS-1$
+		index.save();
+
+		ImageIndex restarted = new ImageIndex(file);
+		assertEquals(IMAGES, restarted.getImages(bundle, 1));
+		assertEquals("A", restarted.getPluginName(bundle, 1)); //$NON-NLS-1$
+		assertNull(restarted.getImages(new File(folder.getRoot(), "b.jar"), 1)); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testRetainPerRepository() throws IOException {
+		File file = new File(folder.getRoot(), "index"); //$NON-NLS-1$
+		File a = new File(folder.getRoot(), "a.jar"); //$NON-NLS-1$
+		File b = new File(folder.getRoot(), "b.jar"); //$NON-NLS-1$
+		File c = new File(folder.getRoot(), "c.jar"); //$NON-NLS-1$
+		ImageIndex index = new ImageIndex(file);
+		index.putImages(a, 1, "A", IMAGES); //$NON-NLS-1$
+		index.putImages(b, 1, "B", IMAGES); //$NON-NLS-1$
+		index.putImages(c, 1, "C", IMAGES); //$NON-NLS-1$
+
+		index.retainBundles("target", List.of(a)); //$NON-NLS-1$
+		index.retainBundles("running", List.of(b)); //$NON-NLS-1$
+		// the bundles of the other repository are kept
+		assertEquals(IMAGES, index.getImages(a, 1));
+		assertEquals(IMAGES, index.getImages(b, 1));
+		assertNull(index.getImages(c, 1));
+		index.save();
+
+		// the repositories are remembered across restarts
+		ImageIndex restarted = new ImageIndex(file);
+		restarted.retainBundles("target", List.of()); //$NON-NLS-1$
+		assertNull(restarted.getImages(a, 1));
+		assertEquals(IMAGES, restarted.getImages(b, 1));
+	}
+}
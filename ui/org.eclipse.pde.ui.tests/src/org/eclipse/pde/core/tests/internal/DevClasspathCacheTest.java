@@ -0,0 +1,132 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IFolder;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.jdt.core.IClasspathEntry;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.pde.core.plugin.IPluginModelBase;
+import org.eclipse.pde.core.plugin.PluginRegistry;
+import org.eclipse.pde.core.project.IBundleClasspathEntry;
+import org.eclipse.pde.core.project.IBundleProjectDescription;
+import org.eclipse.pde.internal.core.ClasspathHelper;
+import org.eclipse.pde.ui.tests.runtime.TestUtils;
+import org.eclipse.pde.ui.tests.util.ProjectUtils;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+
+/**
+ * Tests that the cached dev classpath of a workspace project is computed
+ * again when the files it is computed from change.
+ */
+public class DevClasspathCacheTest {
+
+	@ClassRule
+	public static final TestRule CLEAR_WORKSPACE = ProjectUtils.DELETE_ALL_WORKSPACE_PROJECTS_BEFORE_AND_AFTER;
+
+	@Rule
+	public final TestRule deleteCreatedTestProjectsAfter = ProjectUtils.DELETE_CREATED_WORKSPACE_PROJECTS_AFTER;
+
+	/**
+	 * Creates a bundle whose library "." is compiled from <code>src</code> to
+	 * <code>bin</code> and from <code>src2</code> to <code>bin2</code>
+	 */
+	private static IProject createBundle(String id) throws CoreException {
+		IProject project = ProjectUtils.createPluginProject(id, id, "1.0.0", (description, service) -> { //$NON-NLS-1$
+			description.setNatureIds(new String[] { IBundleProjectDescription.PLUGIN_NATURE, JavaCore.NATURE_ID });
+			description.setBundleClasspath(new IBundleClasspathEntry[] {
+					service.newBundleClasspathEntry(IPath.fromOSString("src"), IPath.fromOSString("bin"), //$NON-NLS-1$ //$NON-NLS-2$
+							IPath.fromOSString(".")), //$NON-NLS-1$
+					service.newBundleClasspathEntry(IPath.fromOSString("src2"), IPath.fromOSString("bin2"), //$NON-NLS-1$ //$NON-NLS-2$
+							IPath.fromOSString(".")) }); //$NON-NLS-1$
+		});
+		for (String name : new String[] { "src", "src2", "bin", "bin2" }) { //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+			IFolder folder = project.getFolder(name);
+			if (!folder.exists()) {
+				folder.create(true, true, null);
+			}
+		}
+		TestUtils.waitForJobs("DevClasspathCacheTest.createBundle", 100, 10000); //$NON-NLS-1$
+		return project;
+	}
+
+	private static String getDevEntry(IProject project) {
+		IPluginModelBase model = PluginRegistry.findModel(project);
+		assertNotNull(model);
+		String id = model.getPluginBase().getId();
+		return (String) ClasspathHelper.getDevEntriesProperties(Map.of(id, List.of(model)), false).get(id);
+	}
+
+	@Test
+	public void testBuildPropertiesChange() throws CoreException {
+		IProject project = createBundle("org.example.devcp.build"); //$NON-NLS-1$
+		assertEquals("bin,bin2", getDevEntry(project)); //$NON-NLS-1$
+		assertEquals("bin,bin2", getDevEntry(project)); //$NON-NLS-1$
+
+		String content = "source.. = src/\noutput.. = bin/\nbin.includes = META-INF/,.\n"; //$NON-NLS-1$
+		IFile file = project.getFile("build.properties"); //$NON-NLS-1$
+		file.setContents(new ByteArrayInputStream(content.getBytes(StandardCharsets.ISO_8859_1)), true, false, null);
+		TestUtils.waitForJobs("DevClasspathCacheTest.testBuildPropertiesChange", 100, 10000); //$NON-NLS-1$
+
+		assertEquals("bin", getDevEntry(project)); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testSourceFolderRemovedFromClasspath() throws CoreException {
+		IProject project = createBundle("org.example.devcp.classpath"); //$NON-NLS-1$
+		assertEquals("bin,bin2", getDevEntry(project)); //$NON-NLS-1$
+
+		IJavaProject javaProject = JavaCore.create(project);
+		IClasspathEntry[] classpath = Arrays.stream(javaProject.getRawClasspath())
+				.filter(entry -> !entry.getPath().lastSegment().equals("src2")) //$NON-NLS-1$
+				.toArray(IClasspathEntry[]::new);
+		javaProject.setRawClasspath(classpath, null);
+		TestUtils.waitForJobs("DevClasspathCacheTest.testSourceFolderRemovedFromClasspath", 100, 10000); //$NON-NLS-1$
+
+		assertEquals("bin", getDevEntry(project)); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testSourceFileAdded() throws CoreException {
+		IProject project = createBundle("org.example.devcp.source"); //$NON-NLS-1$
+		project.getFolder("src2").delete(true, null); //$NON-NLS-1$
+		TestUtils.waitForJobs("DevClasspathCacheTest.testSourceFileAdded", 100, 10000); //$NON-NLS-1$
+		// build.properties refers to src2, but only existing source folders count
+		assertEquals("bin", getDevEntry(project)); //$NON-NLS-1$
+
+		IFolder folder = project.getFolder("src2"); //$NON-NLS-1$
+		folder.create(true, true, null);
+		folder.getFile("A.java").create(new ByteArrayInputStream("class A {}".getBytes(StandardCharsets.UTF_8)), //$NON-NLS-1$ //$NON-NLS-2$
+				true, null);
+		TestUtils.waitForJobs("DevClasspathCacheTest.testSourceFileAdded", 100, 10000); //$NON-NLS-1$
+
+		assertEquals("bin,bin2", getDevEntry(project)); //$NON-NLS-1$
+	}
+}
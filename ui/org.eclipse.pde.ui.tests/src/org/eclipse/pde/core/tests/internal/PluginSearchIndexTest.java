@@ -0,0 +1,123 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.pde.core.plugin.IPluginModelBase;
+import org.eclipse.pde.core.plugin.PluginRegistry;
+import org.eclipse.pde.internal.core.search.PluginSearchIndex;
+import org.eclipse.pde.internal.core.search.PluginSearchInput;
+import org.eclipse.pde.internal.core.util.PatternConstructor;
+import org.eclipse.pde.ui.tests.runtime.TestUtils;
+import org.eclipse.pde.ui.tests.util.ProjectUtils;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+
+public class PluginSearchIndexTest {
+
+	@ClassRule
+	public static final TestRule CLEAR_WORKSPACE = ProjectUtils.DELETE_ALL_WORKSPACE_PROJECTS_BEFORE_AND_AFTER;
+
+	@Rule
+	public final TestRule deleteCreatedTestProjectsAfter = ProjectUtils.DELETE_CREATED_WORKSPACE_PROJECTS_AFTER;
+
+	private static IProject createBundle(String id, boolean singleton) throws CoreException {
+		IProject project = ProjectUtils.createPluginProject(id, id, "1.0.0", //$NON-NLS-1$
+				(description, service) -> description.setSingleton(singleton));
+		TestUtils.waitForJobs("PluginSearchIndexTest.createBundle", 100, 10000); //$NON-NLS-1$
+		return project;
+	}
+
+	private static void setPluginXml(IProject project, String extensionPoint) throws CoreException {
+		String content = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<?eclipse version=\"3.4\"?>\n<plugin>\n" //$NON-NLS-1$
+				+ "<extension-point id=\"" + extensionPoint + "\" name=\"" + extensionPoint + "\"/>\n</plugin>\n"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		IFile file = project.getFile("plugin.xml"); //$NON-NLS-1$
+		ByteArrayInputStream source = new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+		if (file.exists()) {
+			file.setContents(source, true, false, null);
+		} else {
+			file.create(source, true, null);
+		}
+		TestUtils.waitForJobs("PluginSearchIndexTest.setPluginXml", 100, 10000); //$NON-NLS-1$
+	}
+
+	private static IPluginModelBase findModel(IProject project) {
+		IPluginModelBase model = PluginRegistry.findModel(project);
+		assertNotNull(model);
+		return model;
+	}
+
+	private static boolean mayMatch(IPluginModelBase model, int element, int limit, String pattern) {
+		return PluginSearchIndex.getDefault().mayMatch(model, element, limit,
+				PatternConstructor.createPattern(pattern, true));
+	}
+
+	@Test
+	public void testPluginIdMatch() throws CoreException {
+		IPluginModelBase model = findModel(createBundle("org.example.search.id", true)); //$NON-NLS-1$
+
+		assertTrue(mayMatch(model, PluginSearchInput.ELEMENT_PLUGIN, PluginSearchInput.LIMIT_DECLARATIONS,
+				"org.example.search.id")); //$NON-NLS-1$
+		assertTrue(mayMatch(model, PluginSearchInput.ELEMENT_PLUGIN, PluginSearchInput.LIMIT_DECLARATIONS,
+				"org.example.search.*")); //$NON-NLS-1$
+		assertFalse(mayMatch(model, PluginSearchInput.ELEMENT_PLUGIN, PluginSearchInput.LIMIT_DECLARATIONS,
+				"org.example.other")); //$NON-NLS-1$
+		// the declaration of a plug-in is not a reference to it
+		assertFalse(mayMatch(model, PluginSearchInput.ELEMENT_PLUGIN, PluginSearchInput.LIMIT_REFERENCES,
+				"org.example.search.id")); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testModelWithoutContributorIsSearched() throws CoreException {
+		IProject project = createBundle("org.example.search.nonsingleton", false); //$NON-NLS-1$
+		setPluginXml(project, "point"); //$NON-NLS-1$
+		IPluginModelBase model = findModel(project);
+
+		// a non-singleton bundle is not in the extension registry
+		assertTrue(mayMatch(model, PluginSearchInput.ELEMENT_EXTENSION_POINT,
+				PluginSearchInput.LIMIT_DECLARATIONS, "org.example.search.nonsingleton.point")); //$NON-NLS-1$
+		assertTrue(mayMatch(model, PluginSearchInput.ELEMENT_EXTENSION_POINT,
+				PluginSearchInput.LIMIT_REFERENCES, "org.example.search.nonsingleton.point")); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testPluginXmlChangeEvictsModel() throws CoreException {
+		IProject project = createBundle("org.example.search.extensions", true); //$NON-NLS-1$
+		setPluginXml(project, "first"); //$NON-NLS-1$
+		IPluginModelBase model = findModel(project);
+		assertTrue(mayMatch(model, PluginSearchInput.ELEMENT_EXTENSION_POINT,
+				PluginSearchInput.LIMIT_DECLARATIONS, "org.example.search.extensions.first")); //$NON-NLS-1$
+		assertFalse(mayMatch(model, PluginSearchInput.ELEMENT_EXTENSION_POINT,
+				PluginSearchInput.LIMIT_DECLARATIONS, "org.example.search.extensions.second")); //$NON-NLS-1$
+
+		// only the extensions of the bundle change, not its manifest
+		setPluginXml(project, "second"); //$NON-NLS-1$
+		model = findModel(project);
+		assertTrue(mayMatch(model, PluginSearchInput.ELEMENT_EXTENSION_POINT,
+				PluginSearchInput.LIMIT_DECLARATIONS, "org.example.search.extensions.second")); //$NON-NLS-1$
+		assertFalse(mayMatch(model, PluginSearchInput.ELEMENT_EXTENSION_POINT,
+				PluginSearchInput.LIMIT_DECLARATIONS, "org.example.search.extensions.first")); //$NON-NLS-1$
+	}
+}
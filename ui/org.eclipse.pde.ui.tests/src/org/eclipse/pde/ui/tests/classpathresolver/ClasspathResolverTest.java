@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2021 Sonatype, Inc. and others.
+ * Copyright (c) 2011, 2026 Sonatype, Inc. and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -142,6 +142,24 @@ public class ClasspathResolverTest {
 		assertEquals(expectedDevCP, properties.get(bundleName + ";1.0.0.qualifier"));
 	}
 
+	/**
+	 * Checks that an up-to-date dev properties file is not written again
+	 */
+	@Test
+	public void testGetDevProperties_unchanged_fileNotRewritten() throws Exception {
+		mockTPWithRunningPlatformAndBundles(); // running-platform only
+
+		File devProperties = tempFolder.newFile("dev.properties").getCanonicalFile();
+		String devPropertiesURL = ClasspathHelper.getDevEntriesProperties(devProperties.getPath(), false);
+		long lastModified = devProperties.lastModified() - 10000;
+		devProperties.setLastModified(lastModified);
+
+		assertEquals(devPropertiesURL, ClasspathHelper.getDevEntriesProperties(devProperties.getPath(), false));
+		assertEquals(lastModified, devProperties.lastModified());
+		Properties properties = loadProperties(devPropertiesURL);
+		assertEquals(project.getFolder("cpe").getLocation().toPortableString(), properties.get(bundleName));
+	}
+
 	/**
 	 * Checks that the source lookup path of a project is updated from the API
 	 */
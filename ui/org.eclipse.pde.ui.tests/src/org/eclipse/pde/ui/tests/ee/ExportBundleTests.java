@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2023 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,6 +15,7 @@ package org.eclipse.pde.ui.tests.ee;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
@@ -33,8 +34,11 @@ import org.eclipse.jdt.internal.compiler.classfmt.ClassFileConstants;
 import org.eclipse.jdt.launching.JavaRuntime;
 import org.eclipse.jdt.launching.environments.IExecutionEnvironment;
 import org.eclipse.pde.core.plugin.PluginRegistry;
+import org.eclipse.pde.internal.core.PDECore;
 import org.eclipse.pde.internal.core.exports.FeatureExportInfo;
+import org.eclipse.pde.internal.core.exports.FeatureExportOperation;
 import org.eclipse.pde.internal.core.exports.PluginExportOperation;
+import org.eclipse.pde.internal.core.ifeature.IFeatureModel;
 import org.eclipse.pde.ui.tests.PDETestCase;
 import org.eclipse.pde.ui.tests.runtime.TestUtils;
 import org.eclipse.pde.ui.tests.util.ProjectUtils;
@@ -240,6 +244,64 @@ public class ExportBundleTests extends PDETestCase {
 		}
 	}
 
+	/**
+	 * Exports a feature for several configurations, which assembles and
+	 * packages them concurrently, and validates that every configuration got
+	 * its bundle.
+	 */
+	@Test
+	public void testExportMultipleConfigurations() throws Exception {
+		try {
+			IExecutionEnvironment env = JavaRuntime.getExecutionEnvironmentsManager().getEnvironment("JavaSE-1.8");
+			IJavaProject project = ProjectUtils.createPluginProject("multi.config.export", env);
+			assertTrue("Project was not created", project.exists());
+			ProjectUtils.createFeatureProject("multi.config.feature", "1.0.0",
+					f -> ProjectUtils.addIncludedPlugin(f, "multi.config.export", "1.0.0"));
+			IFeatureModel feature = PDECore.getDefault().getFeatureModelManager().findFeatureModel("multi.config.feature");
+			assertNotNull("Feature was not created", feature);
+
+			final FeatureExportInfo info = new FeatureExportInfo();
+			info.toDirectory = true;
+			info.useJarFormat = true;
+			info.exportSource = false;
+			info.allowBinaryCycles = false;
+			info.useWorkspaceCompiledClasses = false;
+			info.destinationDirectory = EXPORT_PATH.toString();
+			info.zipFileName = null;
+			info.items = new Object[] { feature };
+			info.signingInfo = null;
+			info.qualifier = "vXYZ";
+			info.targets = new String[][] { { "linux", "gtk", "x86_64", "" }, { "win32", "win32", "x86_64", "" },
+					{ "macosx", "cocoa", "aarch64", "" } };
+
+			FeatureExportOperation job = new FeatureExportOperation(info, "Test-Export");
+			job.schedule();
+			job.join();
+			if (job.hasAntErrors()) {
+				fail("Export job had ant errors");
+			}
+			IStatus result = job.getResult();
+			assertTrue("Export job had errors: " + result, result.isOK());
+
+			TestUtils.processUIEvents(100);
+			TestUtils.waitForJobs(name.getMethodName(), 100, 10000);
+
+			for (String[] config : info.targets) {
+				Path root = EXPORT_PATH.resolve(config[0] + '.' + config[1] + '.' + config[2]);
+				Path path = root.resolve("plugins/multi.config.export_1.0.0.jar");
+				assertTrue("Missing exported bundle for " + root.getFileName(), Files.exists(path));
+				validateTargetLevel(path.toString(), "multi/config/export/Activator.class", ClassFileConstants.MAJOR_VERSION_1_8);
+				assertTrue("Missing exported feature for " + root.getFileName(),
+						Files.exists(root.resolve("features/multi.config.feature_1.0.0.jar")));
+			}
+		} finally {
+			TestUtils.waitForJobs(name.getMethodName(), 10, 5000);
+			deleteProject("multi.config.feature_1_0_0");
+			deleteProject("multi.config.export");
+			delete(EXPORT_PATH.toFile());
+		}
+	}
+
 	private void printContents(File dir) {
 		System.out.println("First 2 levels of: " + dir);
 		File[] children = dir.listFiles();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2017 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -20,6 +20,8 @@ import org.eclipse.pde.core.plugin.IExtensionsModelFactory;
 import org.eclipse.pde.core.plugin.IPluginElement;
 import org.eclipse.pde.core.plugin.IPluginExtension;
 import org.eclipse.pde.internal.core.text.IDocumentElementNode;
+import org.eclipse.pde.internal.core.text.plugin.XMLTextChangeListener;
+import org.eclipse.text.edits.MultiTextEdit;
 import org.junit.Test;
 
 public class BasicXMLTestCase extends XMLModelTestCase {
@@ -131,6 +133,43 @@ public class BasicXMLTestCase extends XMLModelTestCase {
 		assertEquals(child2, result);
 	}
 
+	@Test
+	public void testBulkChangesInTransaction() throws Exception {
+		StringBuilder sb = new StringBuilder();
+		sb.append("<extension point=\"a\"><sample /></extension>" + LF);
+		sb.append("<extension point=\"b\"><sample /></extension>" + LF);
+		sb.append("<extension point=\"c\"><sample /></extension>");
+		setXMLContents(sb, LF);
+		load(true);
+
+		XMLTextChangeListener listener = (XMLTextChangeListener) fListener;
+		listener.beginTransaction();
+		IExtensionsModelFactory factory = fModel.getFactory();
+		IPluginExtension[] extensions = fModel.getPluginBase().getExtensions();
+		fModel.getPluginBase().remove(extensions[0]);
+		extensions[1].setPoint("b2");
+		for (int i = 0; i < 50; i++) {
+			IPluginExtension ext = factory.createExtension();
+			ext.setPoint("new" + i);
+			IPluginElement obj = factory.createElement(ext);
+			obj.setName("sample");
+			ext.add(obj);
+			fModel.getPluginBase().add(ext);
+		}
+		MultiTextEdit edit = listener.endTransaction();
+		edit.apply(fDocument);
+		load();
+
+		extensions = fModel.getPluginBase().getExtensions();
+		assertEquals(52, extensions.length);
+		assertEquals("b2", extensions[0].getPoint());
+		assertEquals("c", extensions[1].getPoint());
+		for (int i = 0; i < 50; i++) {
+			assertEquals("new" + i, extensions[i + 2].getPoint());
+			assertEquals(1, extensions[i + 2].getChildCount());
+		}
+	}
+
 	//bug 285134
 	@Test
 	public void testSingleQuoteAttribute() {
@@ -0,0 +1,131 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.ui.tests.model.xml;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import org.eclipse.jface.text.Document;
+import org.eclipse.pde.core.plugin.IPluginExtension;
+import org.eclipse.pde.internal.core.text.IDocumentAttributeNode;
+import org.eclipse.pde.internal.core.text.IDocumentElementNode;
+import org.eclipse.pde.internal.core.text.plugin.PluginModel;
+import org.junit.Test;
+
+/**
+ * Checks that reconciling the model after editing the document gives the same
+ * nodes as loading the edited document.
+ */
+public class ReconcileXMLModelTestCase extends XMLModelTestCase {
+
+	private void setExtensions() {
+		StringBuilder sb = new StringBuilder();
+		sb.append("<extension point=\"a\">" + LF);
+		sb.append("\t<sample id=\"a1\" />" + LF);
+		sb.append("</extension>" + LF);
+		sb.append("<extension point=\"b\">" + LF);
+		sb.append("\t<sample id=\"b1\">" + LF);
+		sb.append("\t\t<child name=\"x\"/>" + LF);
+		sb.append("\t</sample>" + LF);
+		sb.append("</extension>" + LF);
+		sb.append("<extension point=\"c\"><sample id=\"c1\" /></extension>");
+		setXMLContents(sb, LF);
+	}
+
+	private void replace(String text, String replacement) throws Exception {
+		fDocument.replace(fDocument.get().indexOf(text), text.length(), replacement);
+	}
+
+	private void assertReconciled() throws Exception {
+		fModel.reconciled(fDocument);
+		PluginModel expected = new PluginModel(new Document(fDocument.get()), true);
+		expected.load();
+		assertSameNodes((IDocumentElementNode) expected.getPluginBase(), (IDocumentElementNode) fModel.getPluginBase());
+	}
+
+	private static void assertSameNodes(IDocumentElementNode expected, IDocumentElementNode actual) {
+		assertEquals(expected.getXMLTagName(), actual.getXMLTagName());
+		assertEquals(expected.getXMLTagName(), expected.getOffset(), actual.getOffset());
+		assertEquals(expected.getXMLTagName(), expected.getLength(), actual.getLength());
+		assertEquals(expected.getXMLTagName(), expected.getLineIndent(), actual.getLineIndent());
+		IDocumentAttributeNode[] expectedAttributes = expected.getNodeAttributes();
+		assertEquals(expectedAttributes.length, actual.getNodeAttributes().length);
+		for (IDocumentAttributeNode expectedAttribute : expectedAttributes) {
+			IDocumentAttributeNode attribute = actual.getDocumentAttribute(expectedAttribute.getAttributeName());
+			assertEquals(expectedAttribute.getAttributeValue(), attribute.getAttributeValue());
+			assertEquals(expectedAttribute.getNameOffset(), attribute.getNameOffset());
+			assertEquals(expectedAttribute.getValueOffset(), attribute.getValueOffset());
+		}
+		IDocumentElementNode[] expectedChildren = expected.getChildNodes();
+		IDocumentElementNode[] children = actual.getChildNodes();
+		assertEquals(expected.getXMLTagName(), expectedChildren.length, children.length);
+		for (int i = 0; i < children.length; i++) {
+			assertSameNodes(expectedChildren[i], children[i]);
+		}
+	}
+
+	@Test
+	public void testReconcileAttributeValue() throws Exception {
+		setExtensions();
+		load();
+		IPluginExtension last = fModel.getPluginBase().getExtensions()[2];
+
+		replace("name=\"x\"", "name=\"a longer name\"");
+		assertReconciled();
+
+		assertSame(last, fModel.getPluginBase().getExtensions()[2]);
+	}
+
+	@Test
+	public void testReconcileSeveralEdits() throws Exception {
+		setExtensions();
+		load();
+
+		replace("id=\"b1\"", "id=\"b\"");
+		replace("<child name=\"x\"/>", "<child name=\"x\"/>" + LF + "\t\t<child name=\"y\"/>");
+		assertReconciled();
+		assertEquals(2, fModel.getPluginBase().getExtensions()[1].getChildren()[0].getChildCount());
+	}
+
+	@Test
+	public void testReconcileRenamedElement() throws Exception {
+		setExtensions();
+		load();
+
+		replace("<child name=\"x\"/>", "<other name=\"x\"/>");
+		assertReconciled();
+	}
+
+	@Test
+	public void testReconcileAfterError() throws Exception {
+		setExtensions();
+		load();
+
+		replace("<child name=\"x\"/>", "<child name=\"x\">");
+		fModel.reconciled(fDocument);
+		replace("<child name=\"x\">", "<child name=\"z\"/>");
+		assertReconciled();
+	}
+
+	@Test
+	public void testReconcileNewExtension() throws Exception {
+		setExtensions();
+		load();
+
+		replace("</extension>" + LF + "<extension point=\"b\">",
+				"</extension>" + LF + "<extension point=\"new\"/>" + LF + "<extension point=\"b\">");
+		assertReconciled();
+		assertEquals(4, fModel.getPluginBase().getExtensions().length);
+	}
+}
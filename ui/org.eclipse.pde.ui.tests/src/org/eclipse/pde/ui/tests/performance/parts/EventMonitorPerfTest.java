@@ -0,0 +1,100 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.ui.tests.performance.parts;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.e4.core.services.events.IEventBroker;
+import org.eclipse.pde.spy.event.internal.core.EventMonitor;
+import org.eclipse.pde.spy.event.internal.model.CapturedEventFilter;
+import org.eclipse.pde.spy.event.internal.model.ItemToFilter;
+import org.eclipse.pde.spy.event.internal.model.Operator;
+import org.eclipse.test.performance.Dimension;
+import org.eclipse.test.performance.PerformanceTestCase;
+import org.eclipse.ui.PlatformUI;
+
+/**
+ * Measures the overhead the event spy adds to every event sent while it
+ * captures, with and without looking up the publishers of the events.
+ */
+public class EventMonitorPerfTest extends PerformanceTestCase {
+
+	private static final String TOPIC = "org/eclipse/pde/ui/tests/EventMonitorPerfTest"; //$NON-NLS-1$
+	private static final int EVENTS = 20000;
+	private static final int BATCH_SIZE = 1000;
+
+	private IEventBroker fEventBroker;
+	private final List<Runnable> fBatches = new ArrayList<>();
+	private int fCapturedEvents;
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		fEventBroker = PlatformUI.getWorkbench().getService(IEventBroker.class);
+	}
+
+	private EventMonitor startMonitor(boolean showPublisher) {
+		EventMonitor monitor = new EventMonitor(fEventBroker, fBatches::add);
+		monitor.setNewEventListener(events -> fCapturedEvents += events.size());
+		monitor.start(TOPIC + "/*", List.of( //$NON-NLS-1$
+				new CapturedEventFilter(ItemToFilter.Topic, Operator.StartsWith, TOPIC),
+				new CapturedEventFilter(ItemToFilter.ParameterName, Operator.Contains, "index"), //$NON-NLS-1$
+				new CapturedEventFilter(ItemToFilter.ParameterValue, Operator.NotEquals, "skipped")), //$NON-NLS-1$
+				showPublisher);
+		return monitor;
+	}
+
+	private void sendEvents() {
+		for (int i = 0; i < EVENTS; i++) {
+			fEventBroker.send(TOPIC + "/event", Map.of("index", Integer.valueOf(i))); //$NON-NLS-1$ //$NON-NLS-2$
+			if ((i + 1) % BATCH_SIZE == 0) {
+				// deliver the batches as the UI thread would
+				List<Runnable> batches = new ArrayList<>(fBatches);
+				fBatches.clear();
+				batches.forEach(Runnable::run);
+			}
+		}
+	}
+
+	private void measure(boolean showPublisher) {
+		for (int i = 0; i < 5; i++) {
+			fCapturedEvents = 0;
+			EventMonitor monitor = startMonitor(showPublisher);
+			try {
+				startMeasuring();
+				sendEvents();
+				stopMeasuring();
+			} finally {
+				monitor.stop();
+			}
+			fBatches.forEach(Runnable::run);
+			fBatches.clear();
+			assertEquals(EVENTS, fCapturedEvents);
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	public void testCaptureEvents() throws Exception {
+		tagAsSummary("Capture events with the event spy", Dimension.ELAPSED_PROCESS); //$NON-NLS-1$
+		measure(false);
+	}
+
+	public void testCaptureEventsWithPublisher() throws Exception {
+		tagAsSummary("Capture events and their publishers with the event spy", Dimension.ELAPSED_PROCESS); //$NON-NLS-1$
+		measure(true);
+	}
+}
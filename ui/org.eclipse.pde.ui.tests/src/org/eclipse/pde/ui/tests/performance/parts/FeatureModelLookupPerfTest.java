@@ -0,0 +1,85 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.ui.tests.performance.parts;
+
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.eclipse.pde.internal.core.FeatureModelManager;
+import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.ifeature.IFeatureModel;
+import org.eclipse.test.performance.Dimension;
+import org.eclipse.test.performance.PerformanceTestCase;
+import org.osgi.framework.Version;
+
+/**
+ * Compares looking up the newest feature model for an id through the list of
+ * all models of that id, which parses and compares the versions on every
+ * call, with the version sorted snapshot of the feature model manager.
+ */
+public class FeatureModelLookupPerfTest extends PerformanceTestCase {
+
+	private static final int ITERATIONS = 200;
+
+	private static final Comparator<IFeatureModel> FEATURE_VERSION = Comparator
+			.comparing(f -> Version.parseVersion(f.getFeature().getVersion()));
+
+	private FeatureModelManager fManager;
+	private Set<String> fIds;
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		fManager = PDECore.getDefault().getFeatureModelManager();
+		fIds = new LinkedHashSet<>();
+		for (IFeatureModel model : fManager.getModels()) {
+			fIds.add(model.getFeature().getId());
+		}
+	}
+
+	public void testFindNewestByVersionSort() throws Exception {
+		tagAsSummary("Find newest feature model by sorting versions", Dimension.ELAPSED_PROCESS); //$NON-NLS-1$
+		for (int i = 0; i < 5; i++) {
+			startMeasuring();
+			for (int j = 0; j < ITERATIONS; j++) {
+				for (String id : fIds) {
+					fManager.findFeatureModels(id).stream().max(FEATURE_VERSION).orElse(null);
+				}
+			}
+			stopMeasuring();
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	public void testFindNewestFromSnapshot() throws Exception {
+		tagAsSummary("Find newest feature model from snapshot", Dimension.ELAPSED_PROCESS); //$NON-NLS-1$
+		for (String id : fIds) {
+			IFeatureModel expected = fManager.findFeatureModels(id).stream().max(FEATURE_VERSION).orElse(null);
+			assertSame(expected, fManager.findFeatureModel(id));
+		}
+		for (int i = 0; i < 5; i++) {
+			startMeasuring();
+			for (int j = 0; j < ITERATIONS; j++) {
+				for (String id : fIds) {
+					fManager.findFeatureModel(id);
+				}
+			}
+			stopMeasuring();
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+}
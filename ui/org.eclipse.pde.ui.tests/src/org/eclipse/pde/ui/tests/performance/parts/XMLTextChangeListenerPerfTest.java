@@ -0,0 +1,107 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.ui.tests.performance.parts;
+
+import org.eclipse.jface.text.Document;
+import org.eclipse.pde.core.plugin.IExtensionsModelFactory;
+import org.eclipse.pde.core.plugin.IPluginBase;
+import org.eclipse.pde.core.plugin.IPluginElement;
+import org.eclipse.pde.core.plugin.IPluginExtension;
+import org.eclipse.pde.internal.core.text.plugin.PluginModel;
+import org.eclipse.pde.internal.core.text.plugin.XMLTextChangeListener;
+import org.eclipse.test.performance.Dimension;
+import org.eclipse.test.performance.PerformanceTestCase;
+import org.eclipse.text.edits.MultiTextEdit;
+
+/**
+ * Measures the text edits generated for bulk changes of a large
+ * <code>plugin.xml</code>, one operation at a time and in a transaction of the
+ * {@link XMLTextChangeListener}.
+ */
+public class XMLTextChangeListenerPerfTest extends PerformanceTestCase {
+
+	private static final int EXISTING_EXTENSIONS = 2000;
+	private static final int CHANGES = 500;
+
+	private Document fDocument;
+	private PluginModel fModel;
+	private XMLTextChangeListener fListener;
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		StringBuilder sb = new StringBuilder();
+		sb.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<?eclipse version=\"3.4\"?>\n<plugin>\n");
+		for (int i = 0; i < EXISTING_EXTENSIONS; i++) {
+			sb.append("   <extension\n         point=\"org.eclipse.ui.views\">\n");
+			sb.append("      <view\n            id=\"view").append(i).append("\"\n            name=\"View\">\n");
+			sb.append("      </view>\n   </extension>\n");
+		}
+		sb.append("</plugin>\n");
+		fDocument = new Document(sb.toString());
+	}
+
+	private void loadModel() throws Exception {
+		fModel = new PluginModel(new Document(fDocument.get()), true);
+		fModel.load();
+		fListener = new XMLTextChangeListener(fModel.getDocument());
+		fModel.addModelChangedListener(fListener);
+	}
+
+	private void changeModel() throws Exception {
+		IPluginBase plugin = fModel.getPluginBase();
+		IPluginExtension[] extensions = plugin.getExtensions();
+		IExtensionsModelFactory factory = fModel.getFactory();
+		for (int i = 0; i < CHANGES; i++) {
+			((IPluginElement) extensions[i * 2].getChildren()[0]).setAttribute("name", "Renamed " + i); //$NON-NLS-1$ //$NON-NLS-2$
+			plugin.remove(extensions[i * 2 + 1]);
+			IPluginExtension extension = factory.createExtension();
+			extension.setPoint("org.eclipse.ui.commands"); //$NON-NLS-1$
+			IPluginElement element = factory.createElement(extension);
+			element.setName("command"); //$NON-NLS-1$
+			element.setAttribute("id", "command" + i); //$NON-NLS-1$ //$NON-NLS-2$
+			extension.add(element);
+			plugin.add(extension);
+		}
+	}
+
+	public void testBulkChangesPerOperation() throws Exception {
+		tagAsSummary("Bulk plugin.xml changes, one operation at a time", Dimension.ELAPSED_PROCESS); //$NON-NLS-1$
+		for (int i = 0; i < 5; i++) {
+			loadModel();
+			startMeasuring();
+			changeModel();
+			MultiTextEdit edit = new MultiTextEdit();
+			edit.addChildren(fListener.getTextOperations());
+			edit.apply(fModel.getDocument());
+			stopMeasuring();
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	public void testBulkChangesInTransaction() throws Exception {
+		tagAsSummary("Bulk plugin.xml changes in a transaction", Dimension.ELAPSED_PROCESS); //$NON-NLS-1$
+		for (int i = 0; i < 5; i++) {
+			loadModel();
+			startMeasuring();
+			fListener.beginTransaction();
+			changeModel();
+			fListener.endTransaction().apply(fModel.getDocument());
+			stopMeasuring();
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+}
@@ -0,0 +1,142 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.ui.tests.spy;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.eclipse.pde.spy.event.internal.core.CapturedEventBuffer;
+import org.eclipse.pde.spy.event.internal.model.CapturedEvent;
+import org.junit.Test;
+
+public class CapturedEventBufferTest {
+
+	private static CapturedEvent event(int index) {
+		CapturedEvent event = new CapturedEvent();
+		event.setTopic("topic/" + index); //$NON-NLS-1$
+		return event;
+	}
+
+	private static void add(CapturedEventBuffer buffer, int from, int to) {
+		for (int i = from; i < to; i++) {
+			buffer.add(event(i));
+		}
+	}
+
+	private static List<String> topics(List<CapturedEvent> events) {
+		return events.stream().map(CapturedEvent::getTopic).toList();
+	}
+
+	private static List<String> topics(int from, int to) {
+		return IntStream.range(from, to).mapToObj(i -> "topic/" + i).toList(); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testCapacity() {
+		assertEquals(4, new CapturedEventBuffer(3).getCapacity());
+		assertEquals(4, new CapturedEventBuffer(4).getCapacity());
+		assertEquals(8, new CapturedEventBuffer(5).getCapacity());
+		assertEquals(4096, new CapturedEventBuffer(4096).getCapacity());
+	}
+
+	@Test
+	public void testDrainOldestFirst() {
+		CapturedEventBuffer buffer = new CapturedEventBuffer(4);
+		add(buffer, 0, 3);
+		assertEquals(topics(0, 3), topics(buffer.drain()));
+		assertTrue(buffer.drain().isEmpty());
+		assertEquals(0, buffer.getDroppedCount());
+	}
+
+	@Test
+	public void testWrapAround() {
+		CapturedEventBuffer buffer = new CapturedEventBuffer(4);
+		add(buffer, 0, 3);
+		assertEquals(topics(0, 3), topics(buffer.drain()));
+		// the slots of the next events wrap around the end of the buffer
+		add(buffer, 3, 7);
+		assertEquals(topics(3, 7), topics(buffer.drain()));
+		add(buffer, 7, 9);
+		assertEquals(topics(7, 9), topics(buffer.drain()));
+		assertEquals(0, buffer.getDroppedCount());
+	}
+
+	@Test
+	public void testOverwrite() {
+		CapturedEventBuffer buffer = new CapturedEventBuffer(4);
+		add(buffer, 0, 10);
+		// only the newest events are kept
+		assertEquals(topics(6, 10), topics(buffer.drain()));
+		assertEquals(6, buffer.getDroppedCount());
+
+		add(buffer, 10, 12);
+		assertEquals(topics(10, 12), topics(buffer.drain()));
+		assertEquals(6, buffer.getDroppedCount());
+	}
+
+	@Test
+	public void testPartiallyWrittenSlot() {
+		CapturedEventBuffer buffer = new CapturedEventBuffer(4);
+		long sequence = buffer.claim();
+		add(buffer, 1, 3);
+		// the events after a slot that is not written yet are left for later
+		assertTrue(buffer.drain().isEmpty());
+
+		buffer.write(sequence, event(0));
+		assertEquals(topics(0, 3), topics(buffer.drain()));
+		assertEquals(0, buffer.getDroppedCount());
+	}
+
+	@Test
+	public void testPartiallyWrittenSlotAfterDrain() {
+		CapturedEventBuffer buffer = new CapturedEventBuffer(4);
+		add(buffer, 0, 2);
+		long sequence = buffer.claim();
+		add(buffer, 3, 4);
+		assertEquals(topics(0, 2), topics(buffer.drain()));
+
+		buffer.write(sequence, event(2));
+		assertEquals(topics(2, 4), topics(buffer.drain()));
+	}
+
+	@Test
+	public void testLateWriterDoesNotOverwriteNewerEvent() {
+		CapturedEventBuffer buffer = new CapturedEventBuffer(4);
+		long sequence = buffer.claim();
+		// a lap ahead, the last event uses the slot claimed first
+		add(buffer, 1, 5);
+		buffer.write(sequence, event(0));
+		assertEquals(topics(1, 5), topics(buffer.drain()));
+		assertEquals(1, buffer.getDroppedCount());
+	}
+
+	@Test
+	public void testClear() {
+		CapturedEventBuffer buffer = new CapturedEventBuffer(4);
+		add(buffer, 0, 10);
+		long sequence = buffer.claim();
+		buffer.clear();
+		assertEquals(0, buffer.getDroppedCount());
+		// an event written after the clear is discarded as well
+		buffer.write(sequence, event(10));
+		assertTrue(buffer.drain().isEmpty());
+
+		add(buffer, 11, 13);
+		assertEquals(topics(11, 13), topics(buffer.drain()));
+		assertEquals(0, buffer.getDroppedCount());
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -60,7 +60,7 @@ public class FormOutlinePage extends PDEOutlinePage implements IModelChangedList
 
 		@Override
 		public boolean hasChildren(Object obj) {
-			return getChildren(obj).length > 0;
+			return FormOutlinePage.this.hasChildren(obj);
 		}
 
 		@Override
@@ -200,6 +200,14 @@ public class FormOutlinePage extends PDEOutlinePage implements IModelChangedList
 		return new Object[0];
 	}
 
+	/**
+	 * Returns whether the given element has children. Subclasses whose
+	 * elements can tell this without computing their children should override.
+	 */
+	protected boolean hasChildren(Object parent) {
+		return getChildren(parent).length > 0;
+	}
+
 	public void selectionChanged(Object item) {
 		IFormPage page = fEditor.getActivePageInstance();
 		String id = getParentPageId(item);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -777,6 +777,8 @@ public class ExtensionsSection extends TreeSection implements IPropertyChangeLis
 		treePart.setButtonEnabled(BUTTON_MOVE_UP, false);
 		treePart.setButtonEnabled(BUTTON_MOVE_DOWN, false);
 		model.addModelChangedListener(this);
+		// the tree and the details resolve the schemas of all extensions
+		getSchemaRegistry().preloadSchemas();
 	}
 
 	private void selectFirstExtension() {
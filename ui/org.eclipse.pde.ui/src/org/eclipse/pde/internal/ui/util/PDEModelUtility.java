@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2018 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -340,16 +340,26 @@ public class PDEModelUtility {
 			else
 				editModel = prepareAbstractEditingModel(files[0], documents[0], !performEdits);
 
+			IModelTextChangeListener[] listeners = gatherListeners(editModel);
+			for (IModelTextChangeListener listener : listeners) {
+				if (listener instanceof XMLTextChangeListener xmlListener)
+					xmlListener.beginTransaction();
+			}
+
 			modification.modifyModel(editModel, monitor);
 
-			IModelTextChangeListener[] listeners = gatherListeners(editModel);
 			for (int i = 0; i < listeners.length; i++) {
 				if (listeners[i] == null)
 					continue;
 				TextEdit[] currentEdits = listeners[i].getTextOperations();
-				if (currentEdits.length > 0) {
-					MultiTextEdit multi = new MultiTextEdit();
+				MultiTextEdit multi;
+				if (listeners[i] instanceof XMLTextChangeListener xmlListener) {
+					multi = xmlListener.endTransaction();
+				} else {
+					multi = new MultiTextEdit();
 					multi.addChildren(currentEdits);
+				}
+				if (currentEdits.length > 0) {
 					if (performEdits) {
 						multi.apply(documents[i]);
 						buffers[i].commit(monitor, true);
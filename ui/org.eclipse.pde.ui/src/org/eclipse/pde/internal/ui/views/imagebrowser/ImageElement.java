@@ -31,12 +31,24 @@ public class ImageElement {
 	private final Callable<ImageData> mImageProvider;
 	private final String mPlugin;
 	private final String mPath;
+	private final int mWidth;
+	private final int mHeight;
 
 	public ImageElement(final Callable<ImageData> imageProvider, final String plugin, final String path) {
+		this(imageProvider, plugin, path, -1, -1);
+	}
+
+	/**
+	 * Creates an image element whose dimensions are already known, so that
+	 * size queries do not need to decode the image.
+	 */
+	public ImageElement(final Callable<ImageData> imageProvider, final String plugin, final String path, final int width, final int height) {
 		mImageData = new SoftReference<>(null);
 		mImageProvider = imageProvider;
 		mPlugin = plugin;
 		mPath = path;
+		mWidth = width;
+		mHeight = height;
 	}
 
 	public String getFullPlugin() {
@@ -72,6 +84,14 @@ public class ImageElement {
 		return imageData;
 	}
 
+	public int getWidth() {
+		return mWidth >= 0 ? mWidth : getImageData().width;
+	}
+
+	public int getHeight() {
+		return mHeight >= 0 ? mHeight : getImageData().height;
+	}
+
 	public String getFileName() {
 		return IPath.fromOSString(mPath).lastSegment();
 	}
@@ -36,19 +36,20 @@ public class SizeFilter implements IFilter {
 
 	@Override
 	public boolean accept(final ImageElement element) {
-
+		final int width = element.getWidth();
+		final int height = element.getHeight();
 
 		boolean accept = switch (mWidthType) {
-			case TYPE_EXACT -> element.getImageData().width == mWidth;
-			case TYPE_BIGGER_EQUALS -> element.getImageData().width >= mWidth;
-			case TYPE_SMALLER_EQUALS -> element.getImageData().width <= mWidth;
+			case TYPE_EXACT -> width == mWidth;
+			case TYPE_BIGGER_EQUALS -> width >= mWidth;
+			case TYPE_SMALLER_EQUALS -> width <= mWidth;
 			default -> true;
 		};
 
 		accept &= switch (mHeightType) {
-			case TYPE_EXACT -> (element.getImageData().height == mHeight);
-			case TYPE_BIGGER_EQUALS -> (element.getImageData().height >= mHeight);
-			case TYPE_SMALLER_EQUALS -> (element.getImageData().height <= mHeight);
+			case TYPE_EXACT -> (height == mHeight);
+			case TYPE_BIGGER_EQUALS -> (height >= mHeight);
+			case TYPE_SMALLER_EQUALS -> (height <= mHeight);
 			default -> accept;
 		};
 
@@ -0,0 +1,289 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 Eclipse contributors and others.
+ *
+ *  This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.pde.internal.ui.views.imagebrowser.repositories;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.pde.internal.ui.PDEPlugin;
+
+/**
+ * Persistent index of the images contained in target bundles. Entries are
+ * keyed by bundle location and invalidated by the bundle stamp, so unchanged
+ * bundles do not need to be opened and scanned again. Image dimensions are
+ * read from the image headers, which allows size based filtering without
+ * decoding the images.
+ * <p>
+ * Every repository using the index records the bundles it contains, an entry
+ * is kept as long as one of the repositories contains its bundle.
+ * </p>
+ */
+public class ImageIndex {
+
+	private static final int VERSION = 3;
+	private static final String INDEX_FILE = "imagebrowser.index"; //$NON-NLS-1$
+
+	private static ImageIndex fInstance;
+
+	/**
+	 * An image contained in a bundle. Width and height are <code>-1</code>
+	 * when the header could not be interpreted.
+	 */
+	public record ImageEntry(String path, int width, int height) {
+	}
+
+	private record BundleEntry(long stamp, String pluginName, List<ImageEntry> images) {
+	}
+
+	private final Map<String, BundleEntry> fBundles = new ConcurrentHashMap<>();
+	/**
+	 * The bundle locations of each repository, guarded by itself
+	 */
+	private final Map<String, Set<String>> fRepositories = new HashMap<>();
+	private final File fFile;
+	private volatile boolean fDirty;
+
+	/**
+	 * Creates an index stored in the given file and loads its entries.
+	 */
+	ImageIndex(File file) {
+		fFile = file;
+		load();
+	}
+
+	public static synchronized ImageIndex getDefault() {
+		if (fInstance == null) {
+			fInstance = new ImageIndex(PDEPlugin.getDefault().getStateLocation().append(INDEX_FILE).toFile());
+		}
+		return fInstance;
+	}
+
+	/**
+	 * Returns the stamp used to detect changes of the given bundle location.
+	 * A jar is stamped by its size and modification time. A directory is
+	 * stamped by the names, sizes and modification times of all the files and
+	 * folders it contains, as its own modification time does not change when
+	 * nested files do.
+	 */
+	public static long getStamp(File location) {
+		if (!location.isDirectory()) {
+			return location.lastModified() * 31 + location.length();
+		}
+		int rootPathLength = location.getAbsolutePath().length();
+		long stamp = 0;
+		Deque<File> folders = new ArrayDeque<>();
+		folders.add(location);
+		while (!folders.isEmpty()) {
+			File[] children = folders.remove().listFiles();
+			if (children == null) {
+				continue;
+			}
+			for (File child : children) {
+				if (child.isDirectory()) {
+					folders.add(child);
+				}
+				// order independent, listFiles does not sort
+				String path = child.getAbsolutePath().substring(rootPathLength);
+				stamp += (path.hashCode() * 31L + child.lastModified()) * 31 + child.length();
+			}
+		}
+		return stamp;
+	}
+
+	/**
+	 * Returns the plug-in name recorded for the given bundle or
+	 * <code>null</code> if the bundle is not indexed or has changed.
+	 *
+	 * @param stamp the current {@link #getStamp(File) stamp} of the bundle
+	 */
+	public String getPluginName(File location, long stamp) {
+		BundleEntry entry = getEntry(location, stamp);
+		return entry != null ? entry.pluginName() : null;
+	}
+
+	/**
+	 * Returns the indexed images of the given bundle or <code>null</code> if
+	 * the bundle is not indexed or has changed since it was indexed.
+	 *
+	 * @param stamp the current {@link #getStamp(File) stamp} of the bundle
+	 */
+	public List<ImageEntry> getImages(File location, long stamp) {
+		BundleEntry entry = getEntry(location, stamp);
+		return entry != null ? entry.images() : null;
+	}
+
+	private BundleEntry getEntry(File location, long stamp) {
+		BundleEntry entry = fBundles.get(location.getAbsolutePath());
+		if (entry != null && entry.stamp() != stamp) {
+			fBundles.remove(location.getAbsolutePath());
+			fDirty = true;
+			return null;
+		}
+		return entry;
+	}
+
+	/**
+	 * Records the images of the given bundle.
+	 *
+	 * @param stamp the {@link #getStamp(File) stamp} of the bundle taken
+	 *            before it was scanned
+	 */
+	public void putImages(File location, long stamp, String pluginName, List<ImageEntry> images) {
+		fBundles.put(location.getAbsolutePath(), new BundleEntry(stamp, pluginName, List.copyOf(images)));
+		fDirty = true;
+	}
+
+	/**
+	 * Records the bundles of the given repository and removes the entries of
+	 * the bundles no repository contains any more, so that the index does not
+	 * keep the bundles of former targets.
+	 *
+	 * @param repository the id of the repository
+	 * @param locations all the bundles of the repository
+	 */
+	public void retainBundles(String repository, Collection<File> locations) {
+		Set<String> paths = new HashSet<>();
+		for (File location : locations) {
+			paths.add(location.getAbsolutePath());
+		}
+		Set<String> retained = new HashSet<>();
+		boolean changed;
+		synchronized (fRepositories) {
+			changed = !paths.equals(fRepositories.put(repository, paths));
+			fRepositories.values().forEach(retained::addAll);
+		}
+		if (fBundles.keySet().retainAll(retained) || changed) {
+			fDirty = true;
+		}
+	}
+
+	/**
+	 * Reads the dimensions of a GIF or PNG image from its header.
+	 *
+	 * @param stream stream positioned at the beginning of the image
+	 * @return <code>{width, height}</code> or <code>null</code> if the format
+	 *         is not recognized
+	 */
+	public static int[] readImageSize(InputStream stream) throws IOException {
+		byte[] header = stream.readNBytes(24);
+		if (header.length >= 10 && header[0] == 'G' && header[1] == 'I' && header[2] == 'F') {
+			int width = (header[6] & 0xff) | (header[7] & 0xff) << 8;
+			int height = (header[8] & 0xff) | (header[9] & 0xff) << 8;
+			return new int[] {width, height};
+		}
+		if (header.length >= 24 && (header[0] & 0xff) == 0x89 && header[1] == 'P' && header[2] == 'N' && header[3] == 'G') {
+			int width = (header[16] & 0xff) << 24 | (header[17] & 0xff) << 16 | (header[18] & 0xff) << 8 | (header[19] & 0xff);
+			int height = (header[20] & 0xff) << 24 | (header[21] & 0xff) << 16 | (header[22] & 0xff) << 8 | (header[23] & 0xff);
+			return new int[] {width, height};
+		}
+		return null;
+	}
+
+	private void load() {
+		if (!fFile.isFile()) {
+			return;
+		}
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(fFile)))) {
+			if (in.readInt() != VERSION) {
+				return;
+			}
+			int bundles = in.readInt();
+			for (int i = 0; i < bundles; i++) {
+				String location = in.readUTF();
+				long stamp = in.readLong();
+				String pluginName = in.readUTF();
+				int count = in.readInt();
+				List<ImageEntry> images = new ArrayList<>(count);
+				for (int j = 0; j < count; j++) {
+					images.add(new ImageEntry(in.readUTF(), in.readInt(), in.readInt()));
+				}
+				fBundles.put(location, new BundleEntry(stamp, pluginName, images));
+			}
+			int repositories = in.readInt();
+			for (int i = 0; i < repositories; i++) {
+				String repository = in.readUTF();
+				int count = in.readInt();
+				Set<String> locations = new HashSet<>(count);
+				for (int j = 0; j < count; j++) {
+					locations.add(in.readUTF());
+				}
+				fRepositories.put(repository, locations);
+			}
+		} catch (IOException e) {
+			// corrupt or truncated index, start over
+			fBundles.clear();
+			fRepositories.clear();
+			PDEPlugin.log(e);
+		}
+	}
+
+	/**
+	 * Writes the index to disk if it changed since it was loaded.
+	 */
+	public synchronized void save() {
+		if (!fDirty) {
+			return;
+		}
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(fFile)))) {
+			out.writeInt(VERSION);
+			Map<String, BundleEntry> snapshot = Map.copyOf(fBundles);
+			out.writeInt(snapshot.size());
+			for (Map.Entry<String, BundleEntry> bundle : snapshot.entrySet()) {
+				out.writeUTF(bundle.getKey());
+				out.writeLong(bundle.getValue().stamp());
+				out.writeUTF(bundle.getValue().pluginName());
+				List<ImageEntry> images = bundle.getValue().images();
+				out.writeInt(images.size());
+				for (ImageEntry image : images) {
+					out.writeUTF(image.path());
+					out.writeInt(image.width());
+					out.writeInt(image.height());
+				}
+			}
+			Map<String, Set<String>> repositories;
+			synchronized (fRepositories) {
+				repositories = Map.copyOf(fRepositories);
+			}
+			out.writeInt(repositories.size());
+			for (Map.Entry<String, Set<String>> repository : repositories.entrySet()) {
+				out.writeUTF(repository.getKey());
+				out.writeInt(repository.getValue().size());
+				for (String location : repository.getValue()) {
+					out.writeUTF(location);
+				}
+			}
+			fDirty = false;
+		} catch (IOException e) {
+			PDEPlugin.log(e);
+		}
+	}
+}
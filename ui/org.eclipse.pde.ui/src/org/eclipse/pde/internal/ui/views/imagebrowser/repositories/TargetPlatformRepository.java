@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2012, 2016 Christian Pontesegger and others.
+ *  Copyright (c) 2012, 2026 Christian Pontesegger and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -16,11 +16,27 @@
 package org.eclipse.pde.internal.ui.views.imagebrowser.repositories;
 
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -33,10 +49,35 @@ import org.eclipse.pde.core.target.TargetBundle;
 import org.eclipse.pde.internal.ui.PDEPlugin;
 import org.eclipse.pde.internal.ui.PDEUIMessages;
 import org.eclipse.pde.internal.ui.views.imagebrowser.IImageTarget;
+import org.eclipse.pde.internal.ui.views.imagebrowser.ImageElement;
+import org.eclipse.pde.internal.ui.views.imagebrowser.repositories.ImageIndex.ImageEntry;
 import org.eclipse.ui.PlatformUI;
 
 public class TargetPlatformRepository extends AbstractRepository {
 
+	/**
+	 * Number of bundles scanned concurrently per cache population
+	 */
+	private static final int BATCH_SIZE = Math.max(2, Runtime.getRuntime().availableProcessors());
+
+	/**
+	 * The worker threads scanning bundles, shared by all repositories and
+	 * created on first use. Idle threads terminate after a while.
+	 */
+	private static final class ScanExecutor {
+		static final ExecutorService INSTANCE = createScanExecutor();
+
+		private static ExecutorService createScanExecutor() {
+			ThreadPoolExecutor executor = new ThreadPoolExecutor(BATCH_SIZE, BATCH_SIZE, 30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+				Thread thread = new Thread(runnable, "Image Browser Scanner"); //$NON-NLS-1$
+				thread.setDaemon(true);
+				return thread;
+			});
+			executor.allowCoreThreadTimeOut(true);
+			return executor;
+		}
+	}
+
 	private List<TargetBundle> fBundles = null;
 	private final boolean fUseCurrent;
 
@@ -60,22 +101,151 @@ public class TargetPlatformRepository extends AbstractRepository {
 			initialize(monitor);
 
 		if ((fBundles != null) && (!fBundles.isEmpty())) {
-			TargetBundle bundle = fBundles.remove(fBundles.size() - 1);
-			URI location = bundle.getBundleInfo().getLocation();
-			File file = new File(location);
-			if (isJar(file)) {
-				searchJarFile(file, monitor);
+			List<File> batch = new ArrayList<>(BATCH_SIZE);
+			while (!fBundles.isEmpty() && batch.size() < BATCH_SIZE) {
+				TargetBundle bundle = fBundles.remove(fBundles.size() - 1);
+				URI location = bundle.getBundleInfo().getLocation();
+				if (location != null) {
+					batch.add(new File(location));
+				}
+			}
 
-			} else if (file.isDirectory()) {
-				searchDirectory(file, monitor);
+			// scan the bundles in parallel, but keep their order stable in the view
+			List<Callable<List<ImageElement>>> tasks = new ArrayList<>(batch.size());
+			for (File file : batch) {
+				tasks.add(() -> scanBundle(file, monitor));
+			}
+			try {
+				for (Future<List<ImageElement>> images : ScanExecutor.INSTANCE.invokeAll(tasks)) {
+					try {
+						images.get().forEach(this::addImageElement);
+					} catch (ExecutionException e) {
+						PDEPlugin.log(e.getCause());
+					}
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return false;
 			}
 
 			return true;
 		}
 
+		ImageIndex.getDefault().save();
 		return false;
 	}
 
+	/**
+	 * Collects the images of a bundle, either from the persistent index or by
+	 * scanning the bundle and indexing its images.
+	 */
+	private List<ImageElement> scanBundle(final File file, final IProgressMonitor monitor) {
+		ImageIndex index = ImageIndex.getDefault();
+		long stamp = ImageIndex.getStamp(file);
+		List<ImageEntry> entries = index.getImages(file, stamp);
+		String pluginName = index.getPluginName(file, stamp);
+		if (entries == null) {
+			if (isJar(file)) {
+				pluginName = file.getName();
+				entries = indexJarFile(file, monitor);
+			} else if (file.isDirectory()) {
+				pluginName = readPluginName(file);
+				entries = pluginName != null ? indexDirectory(file, monitor) : null;
+			}
+			if (entries == null) {
+				return Collections.emptyList();
+			}
+			if (!monitor.isCanceled()) {
+				index.putImages(file, stamp, pluginName, entries);
+			}
+		}
+
+		final String plugin = pluginName;
+		List<ImageElement> elements = new ArrayList<>(entries.size());
+		boolean jar = isJar(file);
+		for (ImageEntry entry : entries) {
+			String path = entry.path();
+			if (jar) {
+				elements.add(new ImageElement(() -> createImageData(file, new ZipEntry(path)), plugin, path, entry.width(), entry.height()));
+			} else {
+				elements.add(new ImageElement(() -> createImageData(new File(file, path)), plugin, path, entry.width(), entry.height()));
+			}
+		}
+		return elements;
+	}
+
+	private List<ImageEntry> indexJarFile(final File jarFile, final IProgressMonitor monitor) {
+		List<ImageEntry> entries = new ArrayList<>();
+		try (ZipFile zipFile = new ZipFile(jarFile)) {
+			Enumeration<? extends ZipEntry> zipEntries = zipFile.entries();
+			while ((zipEntries.hasMoreElements()) && (!monitor.isCanceled())) {
+				ZipEntry entry = zipEntries.nextElement();
+				if (isImageName(entry.getName())) {
+					try (InputStream stream = zipFile.getInputStream(entry)) {
+						entries.add(createEntry(entry.getName(), ImageIndex.readImageSize(stream)));
+					}
+				}
+			}
+		} catch (IOException e) {
+			PDEPlugin.log(e);
+			return null;
+		}
+		return entries;
+	}
+
+	private List<ImageEntry> indexDirectory(final File directory, final IProgressMonitor monitor) {
+		List<ImageEntry> entries = new ArrayList<>();
+		int directoryPathLength = directory.getAbsolutePath().length();
+
+		Collection<File> locations = new HashSet<>();
+		locations.add(directory);
+		do {
+			File next = locations.iterator().next();
+			locations.remove(next);
+
+			File[] children = next.listFiles();
+			if (children == null)
+				continue;
+			for (File resource : children) {
+				if (monitor.isCanceled())
+					return entries;
+
+				if (resource.isDirectory()) {
+					locations.add(resource);
+				} else if (isImage(resource)) {
+					String path = resource.getAbsolutePath().substring(directoryPathLength);
+					try (InputStream stream = new FileInputStream(resource)) {
+						entries.add(createEntry(path, ImageIndex.readImageSize(stream)));
+					} catch (IOException e) {
+						PDEPlugin.log(e);
+					}
+				}
+			}
+		} while ((!locations.isEmpty()) && (!monitor.isCanceled()));
+		return entries;
+	}
+
+	private String readPluginName(final File directory) {
+		File manifest = new File(directory, "META-INF/MANIFEST.MF"); //$NON-NLS-1$
+		if (manifest.exists()) {
+			try {
+				Optional<String> name = getPluginName(new FileInputStream(manifest));
+				return name.orElse(null);
+			} catch (IOException e) {
+				// could not read manifest
+				PDEPlugin.log(e);
+			}
+		}
+		return null;
+	}
+
+	private static ImageEntry createEntry(String path, int[] size) {
+		if (size == null) {
+			return new ImageEntry(path, -1, -1);
+		}
+		return new ImageEntry(path, size[0], size[1]);
+	}
+
 	private void initialize(final IProgressMonitor monitor) {
 
 		try {
@@ -102,6 +272,16 @@ public class TargetPlatformRepository extends AbstractRepository {
 					} else {
 						fBundles = Collections.emptyList();
 					}
+
+					// forget the images of bundles no longer in the target
+					List<File> locations = new ArrayList<>(fBundles.size());
+					for (TargetBundle bundle : fBundles) {
+						URI location = bundle.getBundleInfo().getLocation();
+						if (location != null) {
+							locations.add(new File(location));
+						}
+					}
+					ImageIndex.getDefault().retainBundles(fUseCurrent ? "target" : "running", locations); //$NON-NLS-1$ //$NON-NLS-2$
 				}
 
 			} else {
@@ -116,6 +296,7 @@ public class TargetPlatformRepository extends AbstractRepository {
 	@Override
 	protected synchronized IStatus run(IProgressMonitor monitor) {
 		super.run(monitor);
+		ImageIndex.getDefault().save();
 		if (fBundles != null) {
 			fBundles.clear();
 			fBundles = null;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2012 IBM Corporation and others.
+ * Copyright (c) 2011, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -42,6 +42,12 @@ public class TracingComponentTreeViewer extends FilteredTree {
 		return new TreeViewer(treeViewerParentComposite, style | SWT.BORDER | SWT.SINGLE | SWT.H_SCROLL | SWT.V_SCROLL | SWT.FULL_SELECTION);
 	}
 
+	@Override
+	protected long getRefreshJobDelay() {
+		// wait for the user to stop typing before filtering the options of every traced bundle
+		return 300;
+	}
+
 	@Override
 	public void setEnabled(boolean enabled) {
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2012 IBM Corporation and others.
+ * Copyright (c) 2011, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,6 +16,8 @@ package org.eclipse.ui.trace.internal;
 import java.util.HashMap;
 import java.util.Map;
 
+import org.eclipse.jface.viewers.ILabelProvider;
+import org.eclipse.jface.viewers.StructuredViewer;
 import org.eclipse.jface.viewers.Viewer;
 import org.eclipse.jface.viewers.ViewerFilter;
 import org.eclipse.ui.dialogs.PatternFilter;
@@ -24,6 +26,11 @@ import org.eclipse.ui.trace.internal.datamodel.TracingComponentDebugOption;
 
 /**
  * A {@link ViewerFilter} for filtering the contents of the trace component tree viewer.
+ * <p>
+ * The labels of the elements are computed once, and whether an element matches is computed once per
+ * pattern. When a pattern extends the previous one, the elements that did not match the previous pattern are known
+ * not to match it either.
+ * </p>
  */
 public class TracingComponentViewerFilter extends PatternFilter {
 
@@ -34,6 +41,8 @@ public class TracingComponentViewerFilter extends PatternFilter {
 
 		visibleTracingComponentsCache = new HashMap<>();
 		visibleTracingDebugOptions = new HashMap<>();
+		labels = new HashMap<>();
+		leafMatches = new HashMap<>();
 	}
 
 	@Override
@@ -45,6 +54,37 @@ public class TracingComponentViewerFilter extends PatternFilter {
 		 */
 		visibleTracingComponentsCache.clear();
 		visibleTracingDebugOptions.clear();
+		if (narrows(patternString, currentPattern)) {
+			// the elements that did not match still do not match
+			leafMatches.values().removeIf(Boolean::booleanValue);
+		} else {
+			leafMatches.clear();
+		}
+		currentPattern = patternString;
+	}
+
+	/*
+	 * Returns true if every text matching the new pattern matches the old pattern. Matching a pattern means that the
+	 * text, or a word of it, starts with the pattern, so this holds if the new pattern starts with the old one and
+	 * neither has wildcards or word separators.
+	 */
+	private static boolean narrows(final String newPattern, final String oldPattern) {
+
+		return newPattern != null && oldPattern != null && !oldPattern.isEmpty() && newPattern.startsWith(oldPattern)
+				&& newPattern.chars().allMatch(Character::isLetterOrDigit);
+	}
+
+	@Override
+	protected boolean isLeafMatch(final Viewer viewer, final Object element) {
+
+		Boolean matches = leafMatches.get(element);
+		if (matches == null) {
+			String label = labels.computeIfAbsent(element,
+					e -> ((ILabelProvider) ((StructuredViewer) viewer).getLabelProvider()).getText(e));
+			matches = Boolean.valueOf(label != null && wordMatches(label));
+			leafMatches.put(element, matches);
+		}
+		return matches.booleanValue();
 	}
 
 	/*
@@ -99,4 +139,13 @@ public class TracingComponentViewerFilter extends PatternFilter {
 	private final Map<TracingComponent, Boolean> visibleTracingComponentsCache;
 
 	private final Map<TracingComponentDebugOption, Boolean> visibleTracingDebugOptions;
+
+	/** The labels of the elements, they do not change */
+	private final Map<Object, String> labels;
+
+	/** Whether the elements match the current pattern */
+	private final Map<Object, Boolean> leafMatches;
+
+	/** The current pattern */
+	private String currentPattern;
 }
\ No newline at end of file
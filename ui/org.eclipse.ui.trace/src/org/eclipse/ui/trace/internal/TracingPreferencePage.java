@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2018 IBM Corporation and others.
+ * Copyright (c) 2011, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -666,22 +666,8 @@ public class TracingPreferencePage extends PreferencePage implements IWorkbenchP
 		DebugOptionsHandler.setDebugEnabled(enableTracing);
 		DebugOptionsHandler.getDebugOptions().setFile(standardOutputStreamButton.getSelection() ? null : new File(tracingFileText.getText()));
 		if (enableTracing) {
-			Map<String, String> newOptions = new HashMap<>();
-			// get the set of options available
-			Map<String, String> currentOptions = DebugOptionsHandler.getDebugOptions().getOptions();
-			newOptions.putAll(currentOptions);
-			// iterate over the list of added debug options and add them
-			TracingComponentDebugOption[] optionsToAdd = TracingCollections.getInstance().getModifiedDebugOptions().getDebugOptionsToAdd();
-			for (TracingComponentDebugOption element : optionsToAdd) {
-				newOptions.put(element.getOptionPath(), element.getOptionPathValue());
-			}
-			// iterate over the list of removed debug options and remove them
-			TracingComponentDebugOption[] optionsToRemove = TracingCollections.getInstance().getModifiedDebugOptions().getDebugOptionsToRemove();
-			for (TracingComponentDebugOption element : optionsToRemove) {
-				newOptions.remove(element.getOptionPath());
-			}
-			// update the debug options
-			DebugOptionsHandler.getDebugOptions().setOptions(newOptions);
+			// update the debug options that were added or removed, all at once
+			DebugOptionsHandler.setOptions(TracingCollections.getInstance().getModifiedDebugOptions());
 			TracingCollections.getInstance().getModifiedDebugOptions().clear();
 			// save the tracing file options
 			if (DebugOptionsHandler.getDebugOptions().getFile() != null) {
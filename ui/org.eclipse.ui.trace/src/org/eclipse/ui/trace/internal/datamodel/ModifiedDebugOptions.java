@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2012 IBM Corporation and others.
+ * Copyright (c) 2011, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,8 +13,8 @@
  *******************************************************************************/
 package org.eclipse.ui.trace.internal.datamodel;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.LinkedHashSet;
+import java.util.Set;
 
 /**
  * Utility handler for storing the options that were changed
@@ -25,8 +25,8 @@ public class ModifiedDebugOptions {
 	 * Construct a new ModifiedDebugOptions object
 	 */
 	public ModifiedDebugOptions() {
-		debugOptionsToAdd = new ArrayList<>();
-		debugOptionsToRemove = new ArrayList<>();
+		debugOptionsToAdd = new LinkedHashSet<>();
+		debugOptionsToRemove = new LinkedHashSet<>();
 	}
 
 	/**
@@ -59,12 +59,10 @@ public class ModifiedDebugOptions {
 	 */
 	public final void addDebugOption(final TracingComponentDebugOption option) {
 		if (option != null) {
-			boolean isBeingRemoved = debugOptionsToRemove.contains(option);
-			if (isBeingRemoved) {
-				// remove it from the list of debug options to remove
-				debugOptionsToRemove.remove(option);
-			}
-			// add it to the list of debug options to add
+			// remove it from the list of debug options to remove
+			debugOptionsToRemove.remove(option);
+			// add it to the end of the list of debug options to add
+			debugOptionsToAdd.remove(option);
 			debugOptionsToAdd.add(option);
 		}
 	}
@@ -77,12 +75,10 @@ public class ModifiedDebugOptions {
 	 */
 	public final void removeDebugOption(final TracingComponentDebugOption option) {
 		if (option != null) {
-			boolean isBeingAdded = debugOptionsToAdd.contains(option);
-			if (isBeingAdded) {
-				// remove it from the list of debug options to add
-				debugOptionsToAdd.remove(option);
-			}
-			// add it to the list of debug options to remove
+			// remove it from the list of debug options to add
+			debugOptionsToAdd.remove(option);
+			// add it to the end of the list of debug options to remove
+			debugOptionsToRemove.remove(option);
 			debugOptionsToRemove.add(option);
 		}
 	}
@@ -96,12 +92,12 @@ public class ModifiedDebugOptions {
 	}
 
 	/**
-	 * A list of the {@link TracingComponentDebugOption} instances to be added.
+	 * The {@link TracingComponentDebugOption} instances to be added, in the order they were added.
 	 */
-	private List<TracingComponentDebugOption> debugOptionsToAdd = null;
+	private Set<TracingComponentDebugOption> debugOptionsToAdd = null;
 
 	/**
-	 * A list of the {@link TracingComponentDebugOption} instances to be removed.
+	 * The {@link TracingComponentDebugOption} instances to be removed, in the order they were removed.
 	 */
-	private List<TracingComponentDebugOption> debugOptionsToRemove = null;
+	private Set<TracingComponentDebugOption> debugOptionsToRemove = null;
 }
\ No newline at end of file
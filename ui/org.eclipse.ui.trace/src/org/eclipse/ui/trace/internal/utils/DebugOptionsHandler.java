@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2017 IBM Corporation and others.
+ * Copyright (c) 2011, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,8 +13,14 @@
  *******************************************************************************/
 package org.eclipse.ui.trace.internal.utils;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
 import org.eclipse.osgi.service.debug.DebugOptions;
 import org.eclipse.ui.trace.internal.TracingUIActivator;
+import org.eclipse.ui.trace.internal.datamodel.ModifiedDebugOptions;
+import org.eclipse.ui.trace.internal.datamodel.TracingComponentDebugOption;
 import org.osgi.util.tracker.ServiceTracker;
 
 /**
@@ -56,6 +62,35 @@ public class DebugOptionsHandler {
 		DebugOptionsHandler.getDebugOptions().setDebugEnabled(value);
 	}
 
+	/**
+	 * Applies the modified debug options with a single call to {@link DebugOptions#setOptions(Map)}. The call is
+	 * skipped if no option value changes, so that no debug options listener is notified for nothing.
+	 *
+	 * @param modifiedOptions
+	 *            The debug options to add or remove
+	 * @return Returns true if the debug options changed; Otherwise false.
+	 */
+	public static boolean setOptions(ModifiedDebugOptions modifiedOptions) {
+		DebugOptions debugOptions = DebugOptionsHandler.getDebugOptions();
+		Map<String, String> newOptions = new HashMap<>(debugOptions.getOptions());
+		boolean changed = false;
+		for (TracingComponentDebugOption option : modifiedOptions.getDebugOptionsToAdd()) {
+			String value = option.getOptionPathValue();
+			if (!Objects.equals(newOptions.put(option.getOptionPath(), value), value)) {
+				changed = true;
+			}
+		}
+		for (TracingComponentDebugOption option : modifiedOptions.getDebugOptionsToRemove()) {
+			if (newOptions.remove(option.getOptionPath()) != null) {
+				changed = true;
+			}
+		}
+		if (changed) {
+			debugOptions.setOptions(newOptions);
+		}
+		return changed;
+	}
+
 	/**
 	 * @return whether the current debug options were set from trace files rather than preferences
 	 */